@@ -0,0 +1,13 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.service.BoardArchiveProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration de l'archivage des tableaux inactifs (planifié par {@link ChangeTrackingConfig}).
+ */
+@Configuration
+@EnableConfigurationProperties(BoardArchiveProperties.class)
+public class BoardArchiveConfig {
+}
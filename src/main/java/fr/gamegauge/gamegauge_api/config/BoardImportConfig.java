@@ -0,0 +1,13 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.service.BoardImportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration de l'import de tableaux en masse.
+ */
+@Configuration
+@EnableConfigurationProperties(BoardImportProperties.class)
+public class BoardImportConfig {
+}
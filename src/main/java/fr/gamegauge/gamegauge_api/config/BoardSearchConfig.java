@@ -0,0 +1,37 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.gamegauge.gamegauge_api.service.BoardSearchIndex;
+import fr.gamegauge.gamegauge_api.service.BoardSearchProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration de la recherche de tableaux : cache des index de recherche par propriétaire.
+ */
+@Configuration
+@EnableConfigurationProperties(BoardSearchProperties.class)
+public class BoardSearchConfig {
+
+    /**
+     * Index de recherche, par ID de propriétaire. Chaque index porte le numéro de séquence du journal des
+     * modifications jusqu'auquel il est à jour : il est rattrapé à la recherche suivante, sans invalidation.
+     * Taux de succès exposé par les métriques {@code cache.*} (tag {@code cache=boardSearch}).
+     */
+    @Bean
+    public Cache<Long, BoardSearchIndex> boardSearchIndexCache(BoardSearchProperties properties,
+                                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<Long, BoardSearchIndex> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterAccess(properties.getCacheExpireAfterAccess())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "boardSearch"));
+        return cache;
+    }
+}
@@ -0,0 +1,40 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.gamegauge.gamegauge_api.dto.response.BoardStatsResponse;
+import fr.gamegauge.gamegauge_api.service.BoardStatsProperties;
+import fr.gamegauge.gamegauge_api.service.LeaderboardProperties;
+import fr.gamegauge.gamegauge_api.service.OwnerStatsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration des statistiques : cache des statistiques de tableaux, reconstruction des statistiques
+ * par propriétaire et classements globaux.
+ */
+@Configuration
+@EnableConfigurationProperties({BoardStatsProperties.class, OwnerStatsProperties.class, LeaderboardProperties.class})
+public class BoardStatsConfig {
+
+    /**
+     * Cache des statistiques, par ID de tableau. Chaque entrée porte la version du tableau pour laquelle elle a été
+     * calculée : une entrée périmée est simplement recalculée, aucune invalidation n'est nécessaire.
+     * Taux de succès exposé par les métriques {@code cache.*} (tag {@code cache=boardStats}).
+     */
+    @Bean
+    public Cache<Long, BoardStatsResponse> boardStatsCache(BoardStatsProperties properties,
+                                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<Long, BoardStatsResponse> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterAccess(properties.getCacheExpireAfterAccess())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "boardStats"));
+        return cache;
+    }
+}
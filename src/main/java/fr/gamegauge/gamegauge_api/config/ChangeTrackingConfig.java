@@ -0,0 +1,17 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.service.BoardChangeProperties;
+import fr.gamegauge.gamegauge_api.service.ScoreEventProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration des journaux des tableaux : paramètres, planification de la purge du journal des modifications
+ * et des instantanés du journal des scores.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({BoardChangeProperties.class, ScoreEventProperties.class})
+public class ChangeTrackingConfig {
+}
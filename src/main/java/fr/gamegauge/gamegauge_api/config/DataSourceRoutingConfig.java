@@ -0,0 +1,99 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import fr.gamegauge.gamegauge_api.datasource.ReadWriteRoutingDataSource;
+import fr.gamegauge.gamegauge_api.datasource.ReadYourWritesTracker;
+import fr.gamegauge.gamegauge_api.datasource.ReplicaDataSourceProperties;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.Map;
+
+/**
+ * Séparation lecture/écriture : les transactions {@code readOnly} (endpoints GET) sont servies par un réplica,
+ * tout le reste par la base principale.
+ * <p>
+ * Active uniquement si {@code gamegauge.datasource.replica.url} est définie ; sans réplica, la configuration
+ * automatique de Spring Boot (une seule source de données) s'applique. Les deux pools sont des beans Hikari
+ * ({@code primaryDataSource}, {@code replicaDataSource}) et publient donc chacun leurs métriques {@code hikaricp_*}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "gamegauge.datasource.replica", name = "url")
+public class DataSourceRoutingConfig {
+
+    /**
+     * Pool vers la base principale, configuré par {@code spring.datasource.*} et {@code spring.datasource.hikari.*}.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("gamegauge-primary");
+        return dataSource;
+    }
+
+    /**
+     * Pool vers le réplica. Ses connexions sont marquées en lecture seule.
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        dataSource.setPoolName("gamegauge-replica");
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.getStickyWindow(), Clock.systemUTC());
+    }
+
+    /**
+     * Source de données utilisée par JPA, Flyway et {@code JdbcTemplate}. Hors transaction en lecture seule
+     * (migrations, écritures, chargement de l'utilisateur par la sécurité), elle pointe sur la base principale.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadYourWritesTracker tracker) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(tracker);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.Route.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Par défaut, Hibernate garde la connexion jusqu'à la fin de la session, c'est-à-dire de la requête HTTP
+     * (open-session-in-view) : une lecture qui suit une écriture réutiliserait la connexion principale.
+     * On la rend à la fin de chaque transaction pour que chacune soit aiguillée à nouveau.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseHibernateCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,54 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * Encodages binaires des réponses et des requêtes, choisis par les en-têtes {@code Accept} / {@code Content-Type} :
+ * CBOR ({@code application/cbor}) et Smile ({@code application/x-jackson-smile}). Le JSON reste le format
+ * par défaut (ces convertisseurs passent après celui du JSON).
+ * <p>
+ * Les deux convertisseurs partent du {@link Jackson2ObjectMapperBuilder} de Spring Boot : les options
+ * {@code spring.jackson.*} (dates, modules...) s'appliquent comme pour le JSON. La compression des réponses
+ * est réglée par les propriétés {@code server.compression.*}.
+ */
+@Configuration
+public class HttpEncodingConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Met en mémoire les réponses des tableaux avant de les envoyer, ce qui permet :
+     * <ul>
+     *     <li>d'envoyer un {@code Content-Length} : sans lui, Tomcat ne connaît pas la taille de la réponse et la
+     *     compresse quelle qu'elle soit, en ignorant {@code server.compression.min-response-size} ;</li>
+     *     <li>de calculer un {@code ETag} : un client qui renvoie {@code If-None-Match} pour un tableau inchangé
+     *     reçoit un 304 sans corps au lieu du tableau complet.</li>
+     * </ul>
+     * L'ETag est faible ({@code W/"..."}) : Tomcat refuse de compresser une réponse portant un ETag fort,
+     * puisque les octets envoyés ne seraient plus ceux que l'ETag désigne.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> boardEtagFilter() {
+        ShallowEtagHeaderFilter filter = new ShallowEtagHeaderFilter();
+        filter.setWriteWeakETag(true);
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/boards", "/api/boards/*");
+        return registration;
+    }
+}
@@ -0,0 +1,50 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.gamegauge.gamegauge_api.service.IdempotencyProperties;
+import fr.gamegauge.gamegauge_api.service.IdempotencyService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration des clés d'idempotence des écritures sur les tableaux (en-tête {@code Idempotency-Key}).
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    /**
+     * Réponses enregistrées, par utilisateur et clé. Une entrée sortie du cache est relue depuis la table
+     * {@code idempotency_keys}. Taux de succès exposé par les métriques {@code cache.*} (tag {@code cache=idempotency}).
+     */
+    @Bean
+    public Cache<IdempotencyService.Key, IdempotencyService.StoredResponse> idempotencyCache(
+            IdempotencyProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<IdempotencyService.Key, IdempotencyService.StoredResponse> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "idempotency"));
+        return cache;
+    }
+
+    /**
+     * Enregistre le filtre juste après la chaîne de Spring Security : l'utilisateur est alors authentifié.
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyService idempotencyService) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyService));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        registration.addUrlPatterns("/api/boards", "/api/boards/*");
+        return registration;
+    }
+}
@@ -0,0 +1,220 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.service.IdempotencyService;
+import fr.gamegauge.gamegauge_api.service.IdempotencyService.Claim;
+import fr.gamegauge.gamegauge_api.service.IdempotencyService.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Filtre qui rend idempotentes les écritures sur les tableaux portant un en-tête {@value #IDEMPOTENCY_KEY_HEADER}
+ * (voir {@link IdempotencyService}).
+ * <p>
+ * La première requête avec une clé est exécutée et sa réponse enregistrée ; une nouvelle tentative avec la même
+ * clé reçoit la même réponse (statut et corps), marquée par l'en-tête {@value #REPLAYED_HEADER}, sans que le
+ * tableau soit relu ni modifié. Une clé réutilisée pour une autre requête est refusée (422), de même qu'une
+ * tentative arrivée pendant l'exécution de la première (409). Les erreurs serveur (5xx) ne sont pas enregistrées :
+ * la tentative suivante exécute la requête.
+ * <p>
+ * Le filtre passe après Spring Security (la clé est propre à l'utilisateur authentifié). L'import en masse n'est
+ * pas concerné : son corps et son rapport peuvent être très volumineux.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LogManager.getLogger(IdempotencyFilter.class);
+
+    /** Taille de la colonne idempotency_key. */
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+    private static final String BULK_IMPORT_PATH = "/api/boards/import/bulk";
+
+    private final IdempotencyService idempotencyService;
+
+    public IdempotencyFilter(IdempotencyService idempotencyService) {
+        this.idempotencyService = idempotencyService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || SAFE_METHODS.contains(request.getMethod())
+                || request.getRequestURI().startsWith(BULK_IMPORT_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST, "L'en-tête " + IDEMPOTENCY_KEY_HEADER
+                    + " doit contenir entre 1 et " + MAX_KEY_LENGTH + " caractères.");
+            return;
+        }
+
+        String userEmail = authentication.getName();
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = fingerprint(cachedRequest);
+        Claim claim = idempotencyService.claim(userEmail, key, requestHash);
+        switch (claim.outcome()) {
+            case REPLAY -> replay(response, claim.response());
+            case IN_PROGRESS -> reject(response, HttpStatus.CONFLICT,
+                    "Une requête avec cette clé d'idempotence est en cours d'exécution.");
+            case MISMATCH -> reject(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Cette clé d'idempotence a déjà servi pour une autre requête.");
+            case ACQUIRED -> execute(cachedRequest, response, filterChain, userEmail, key, requestHash,
+                    claim.claimedAt());
+        }
+    }
+
+    private void execute(CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String userEmail, String key, String requestHash, Instant claimedAt)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            int status = responseWrapper.getStatus();
+            if (status < 500) {
+                idempotencyService.complete(userEmail, key, claimedAt, new StoredResponse(requestHash, status,
+                        responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyService.release(userEmail, key, claimedAt);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        logger.debug("Réponse {} rejouée pour une clé d'idempotence.", stored.status());
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null && stored.body().length > 0) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        logger.warn("Requête refusée ({}) : {}", status.value(), message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(message);
+    }
+
+    /**
+     * Empreinte SHA-256 de la méthode, de l'URI (paramètres compris) et du corps.
+     */
+    private static String fingerprint(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    /**
+     * Requête dont le corps est lu une fois pour l'empreinte, puis relu par le contrôleur.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Lecture asynchrone non prise en charge");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
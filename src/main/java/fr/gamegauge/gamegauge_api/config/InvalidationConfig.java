@@ -0,0 +1,73 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fr.gamegauge.gamegauge_api.datasource.ShardRoutingDataSource;
+import fr.gamegauge.gamegauge_api.service.ApplicationUserDetailsService;
+import fr.gamegauge.gamegauge_api.service.InMemoryInvalidationTransport;
+import fr.gamegauge.gamegauge_api.service.InvalidationProperties;
+import fr.gamegauge.gamegauge_api.service.InvalidationTransport;
+import fr.gamegauge.gamegauge_api.service.JdbcInvalidationTransport;
+import fr.gamegauge.gamegauge_api.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration du bus d'invalidation des caches entre instances ({@code gamegauge.invalidation.*}) et des caches
+ * de l'authentification qu'il tient à jour.
+ */
+@Configuration
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class InvalidationConfig {
+
+    /**
+     * Transport des invalidations : la table {@code cache_invalidations} (du shard 0 avec le partitionnement), ou
+     * le journal en mémoire de la JVM.
+     */
+    @Bean
+    public InvalidationTransport invalidationTransport(InvalidationProperties properties, DataSource dataSource) {
+        if (properties.getTransport() == InvalidationProperties.Transport.MEMORY) {
+            return new InMemoryInvalidationTransport(InMemoryInvalidationTransport.Hub.SHARED);
+        }
+        DataSource table = dataSource instanceof ShardRoutingDataSource shards ? shards.shard(0) : dataSource;
+        return new JdbcInvalidationTransport(table);
+    }
+
+    /**
+     * Utilisateurs chargés pour l'authentification, par email : évite une requête par requête HTTP authentifiée.
+     * Taux de succès exposé par les métriques {@code cache.*} (tag {@code cache=users}).
+     */
+    @Bean
+    public Cache<String, ApplicationUserDetailsService.CachedUser> userDetailsCache(
+            InvalidationProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<String, ApplicationUserDetailsService.CachedUser> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getUserCacheSize())
+                .expireAfterWrite(properties.getUserCacheTtl())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "users"));
+        return cache;
+    }
+
+    /**
+     * Tokens JWT dont la signature a été vérifiée, avec leur sujet et leur expiration : évite de recalculer la
+     * signature à chaque requête. Taux de succès exposé par les métriques {@code cache.*} (tag {@code cache=jwt}).
+     */
+    @Bean
+    public Cache<String, JwtService.VerifiedToken> jwtVerificationCache(
+            InvalidationProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        Cache<String, JwtService.VerifiedToken> cache = Caffeine.newBuilder()
+                .maximumSize(properties.getTokenCacheSize())
+                .expireAfterWrite(properties.getTokenCacheTtl())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, "jwt"));
+        return cache;
+    }
+}
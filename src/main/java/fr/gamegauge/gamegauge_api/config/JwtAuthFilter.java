@@ -1,5 +1,6 @@
 package fr.gamegauge.gamegauge_api.config;
 
+import fr.gamegauge.gamegauge_api.monitoring.CorrelationIdFilter;
 import fr.gamegauge.gamegauge_api.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,6 +10,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -76,6 +78,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
                 // On met à jour le contexte de sécurité. L'utilisateur est maintenant considéré comme authentifié.
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                // Corrélation des logs : chaque ligne de la requête portera l'utilisateur (nettoyé par CorrelationIdFilter).
+                ThreadContext.put(CorrelationIdFilter.USER_KEY, userEmail);
             } else {
                 logger.warn("Validation du token JWT échouée pour l'utilisateur: {}", userEmail);
             }
@@ -0,0 +1,14 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.service.LiveGameProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration du moteur de partie en direct (la cohérence avec les autres requêtes est assurée par
+ * {@link ScoreWriteBehindBarrier}).
+ */
+@Configuration
+@EnableConfigurationProperties(LiveGameProperties.class)
+public class LiveGameConfig {
+}
@@ -0,0 +1,26 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.monitoring.CorrelationIdFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration de la corrélation des logs (identifiant de requête et utilisateur dans le contexte Log4j2).
+ * La configuration des appenders elle-même se trouve dans {@code log4j2-spring.xml}.
+ */
+@Configuration
+public class LoggingConfig {
+
+    /**
+     * Enregistre le filtre de corrélation en toute première position, pour que toutes les lignes de log
+     * de la requête (sécurité et mesure SQL comprises) portent l'identifiant.
+     */
+    @Bean
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter() {
+        FilterRegistrationBean<CorrelationIdFilter> registration = new FilterRegistrationBean<>(new CorrelationIdFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,33 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+/**
+ * Reconnaît les requêtes arrivées sur le port de gestion ({@code management.server.port}).
+ * <p>
+ * Le port effectif est relevé au démarrage du serveur de gestion (contexte enfant d'espace de noms
+ * {@code management}, dont les événements remontent au contexte principal) : il reste juste avec un port
+ * aléatoire ({@code 0}). Tant que ce serveur n'a pas démarré, ou sans port de gestion dédié, rien ne correspond.
+ */
+public class ManagementPortRequestMatcher implements RequestMatcher, ApplicationListener<WebServerInitializedEvent> {
+
+    private static final String MANAGEMENT_NAMESPACE = "management";
+
+    private volatile int managementPort = -1;
+
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (MANAGEMENT_NAMESPACE.equals(event.getApplicationContext().getServerNamespace())) {
+            managementPort = event.getWebServer().getPort();
+        }
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        int port = managementPort;
+        return port > 0 && request.getLocalPort() == port;
+    }
+}
@@ -0,0 +1,140 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import org.apache.logging.log4j.core.config.plugins.util.PluginRegistry;
+import org.apache.logging.log4j.core.config.plugins.util.PluginType;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.projection.TargetAware;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indications d'accessibilité pour l'image native GraalVM ({@code mvn -Pnative,aot native:compile}) : ce que
+ * l'analyse statique ne voit pas (réflexion, proxys, ressources) doit être déclaré à la compilation.
+ * <p>
+ * Spring en déduit déjà une partie (beans, contrôleurs, dépôts) ; s'y ajoutent ici les DTO sérialisés par Jackson,
+ * les entités Hibernate, les mappers MapStruct, jjwt (implémentations chargées par leur nom) et log4j2 (plugins
+ * chargés depuis leur index et fichiers de configuration). Les paquetages sont parcourus à la compilation : une
+ * nouvelle classe y est couverte sans modifier cette liste.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.GameGaugeRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class GameGaugeRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String BASE_PACKAGE = "fr.gamegauge.gamegauge_api";
+
+        /** Classes de jjwt instanciées par réflexion depuis l'API ({@code Jwts}, {@code Classes.newInstance}). */
+        private static final List<String> JJWT_TYPES = List.of(
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+                "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            registerDtos(hints, classLoader);
+            registerEntities(hints, classLoader);
+            registerMappers(hints, classLoader);
+            registerJjwt(hints);
+            registerLog4j2(hints);
+        }
+
+        /**
+         * DTO lus et écrits par Jackson (JSON, CBOR, Smile, archives) ; les projections en interface sont des
+         * proxys créés par Spring Data.
+         */
+        private void registerDtos(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+            for (Class<?> type : scan(BASE_PACKAGE + ".dto", classLoader)) {
+                if (type.isInterface()) {
+                    hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(type, TargetAware.class));
+                }
+                binding.registerReflectionHints(hints.reflection(), type);
+            }
+        }
+
+        /**
+         * Entités, classes intégrées et énumérations du modèle, dont Hibernate lit et écrit les champs.
+         */
+        private void registerEntities(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> type : scan(BASE_PACKAGE + ".model", classLoader)) {
+                hints.reflection().registerType(type, MemberCategory.DECLARED_FIELDS,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+        }
+
+        /**
+         * Implémentations générées par MapStruct ({@code XxxMapperImpl}). L'annotation {@code @Mapper} n'est pas
+         * conservée dans les classes compilées : on retient les types pour lesquels une implémentation existe.
+         */
+        private void registerMappers(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> mapper : scan(BASE_PACKAGE + ".mapper", classLoader)) {
+                String implementation = mapper.getName() + "Impl";
+                if (ClassUtils.isPresent(implementation, classLoader)) {
+                    hints.reflection().registerType(TypeReference.of(implementation),
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+                }
+            }
+        }
+
+        private void registerJjwt(RuntimeHints hints) {
+            JJWT_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+        }
+
+        /**
+         * Plugins log4j2 (appenders, layouts, filtres, convertisseurs...) instanciés d'après leur index, et les
+         * fichiers de configuration lus au démarrage.
+         */
+        private void registerLog4j2(RuntimeHints hints) {
+            Map<String, List<PluginType<?>>> plugins = PluginRegistry.getInstance().loadFromMainClassLoader();
+            plugins.values().forEach(types -> types.forEach(plugin -> hints.reflection().registerType(
+                    plugin.getPluginClass(), MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS)));
+            hints.reflection().registerType(
+                    TypeReference.of("org.apache.logging.log4j.core.async.AsyncLoggerContextSelector"),
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources()
+                    .registerPattern("META-INF/org/apache/logging/log4j/core/config/plugins/Log4j2Plugins.dat")
+                    .registerPattern("META-INF/services/org.apache.logging.log4j.*")
+                    .registerPattern("log4j2-spring.xml")
+                    .registerPattern("log4j2.component.properties")
+                    .registerPattern("EcsLayout.json");
+        }
+
+        /**
+         * Toutes les classes d'un paquetage et de ses sous-paquetages, interfaces et classes imbriquées comprises.
+         */
+        private static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return true;
+                }
+            };
+            scanner.addIncludeFilter((reader, factory) -> true);
+            return scanner.findCandidateComponents(basePackage).stream()
+                    .<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+                    .toList();
+        }
+    }
+}
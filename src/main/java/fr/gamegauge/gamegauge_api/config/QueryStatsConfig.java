@@ -0,0 +1,66 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.monitoring.JdbcTimingSessionListener;
+import fr.gamegauge.gamegauge_api.monitoring.QueryBudgetFilter;
+import fr.gamegauge.gamegauge_api.monitoring.QueryBudgetProperties;
+import fr.gamegauge.gamegauge_api.monitoring.QueryCountStatementInspector;
+import fr.gamegauge.gamegauge_api.monitoring.QueryStatsEventListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration de la mesure des requêtes SQL par requête HTTP (comptage, temps JDBC, détection de N+1).
+ */
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryStatsConfig {
+
+    /**
+     * Branche l'inspecteur de requêtes et l'écouteur de session dans Hibernate.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+        };
+    }
+
+    /**
+     * Ajoute le compteur d'entités et de collections aux écouteurs d'événements de Hibernate.
+     */
+    @Bean
+    public QueryStatsEventListener queryStatsEventListener(EntityManagerFactory entityManagerFactory) {
+        QueryStatsEventListener listener = new QueryStatsEventListener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, listener);
+        registry.appendListeners(EventType.INIT_COLLECTION, listener);
+        return listener;
+    }
+
+    /**
+     * Enregistre le filtre en tête de chaîne, pour inclure les requêtes faites par la sécurité (chargement de l'utilisateur).
+     */
+    @Bean
+    public FilterRegistrationBean<QueryBudgetFilter> queryBudgetFilter(QueryBudgetProperties properties,
+                                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        FilterRegistrationBean<QueryBudgetFilter> registration =
+                new FilterRegistrationBean<>(new QueryBudgetFilter(properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
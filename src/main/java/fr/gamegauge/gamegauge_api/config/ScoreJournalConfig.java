@@ -0,0 +1,27 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.service.ScoreJournal;
+import fr.gamegauge.gamegauge_api.service.ScoreJournalProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Configuration du journal des scores en attente d'écriture ({@link ScoreJournal}), rejoué au démarrage par
+ * {@code ScoreWriteBehindService}.
+ */
+@Configuration
+@EnableConfigurationProperties(ScoreJournalProperties.class)
+public class ScoreJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "gamegauge.journal", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ScoreJournal scoreJournal(ScoreJournalProperties properties) throws IOException {
+        ScoreJournal journal = ScoreJournal.open(properties.getDirectory(), properties.getSegmentSize().toBytes());
+        journal.startGroupCommit(properties.getSyncInterval());
+        return journal;
+    }
+}
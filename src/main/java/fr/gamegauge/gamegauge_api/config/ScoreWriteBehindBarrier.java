@@ -0,0 +1,114 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.service.LiveGameService;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fait passer les scores en écriture différée avant toute autre requête sur leur tableau : une requête qui vise
+ * un tableau ({@code {boardId}} dans l'URI) attend l'écriture des scores en attente de ce tableau, une requête
+ * sur l'ensemble des tableaux (liste, synchronisation, statistiques...) celle des scores de l'utilisateur.
+ * Seuls les scores envoyés eux-mêmes en écriture différée passent sans attendre.
+ * <p>
+ * Les requêtes du moteur de partie en direct ({@code /api/boards/{boardId}/live}) sont servies depuis la mémoire,
+ * scores en attente compris : elles passent sans attendre. Toute autre écriture sur un tableau le fait sortir de
+ * la mémoire avant son exécution, puis de nouveau après (un chargement fait entre-temps n'aurait pas vu
+ * l'écriture). Sans service d'écriture différée dans le contexte (tests de tranche MVC), l'intercepteur ne fait
+ * rien.
+ */
+public class ScoreWriteBehindBarrier implements HandlerInterceptor {
+
+    private static final String LIVE_PATTERN = "/api/boards/{boardId}/live";
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+
+    private final ObjectProvider<ScoreWriteBehindService> scoreWriteBehindService;
+    private final ObjectProvider<LiveGameService> liveGameService;
+
+    public ScoreWriteBehindBarrier(ObjectProvider<ScoreWriteBehindService> scoreWriteBehindService,
+                                   ObjectProvider<LiveGameService> liveGameService) {
+        this.scoreWriteBehindService = scoreWriteBehindService;
+        this.liveGameService = liveGameService;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        ScoreWriteBehindService writeBehind = scoreWriteBehindService.getIfAvailable();
+        if (writeBehind == null) {
+            return true;
+        }
+        Long boardId = boardId(request);
+        if (boardId != null) {
+            evictLiveBoard(request, boardId);
+            if (!isDeferredScore(request)) {
+                writeBehind.flush(boardId);
+            }
+            return true;
+        }
+        if (isLive(request)) {
+            return true;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            writeBehind.flushUser(authentication.getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        Long boardId = boardId(request);
+        if (boardId != null) {
+            evictLiveBoard(request, boardId);
+        }
+    }
+
+    /**
+     * L'ID du tableau visé par une requête hors partie en direct, ou {@code null}.
+     */
+    private static Long boardId(HttpServletRequest request) {
+        if (isLive(request)) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String boardId = variables != null ? variables.get("boardId") : null;
+        try {
+            return boardId != null ? Long.valueOf(boardId) : null;
+        } catch (NumberFormatException e) {
+            return null; // Identifiant invalide : le contrôleur répondra 400.
+        }
+    }
+
+    private void evictLiveBoard(HttpServletRequest request, Long boardId) {
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            LiveGameService live = liveGameService.getIfAvailable();
+            if (live != null) {
+                live.evict(boardId);
+            }
+        }
+    }
+
+    private static boolean isLive(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String path && path.startsWith(LIVE_PATTERN);
+    }
+
+    private static boolean isDeferredScore(HttpServletRequest request) {
+        String prefer = request.getHeader("Prefer");
+        return "PUT".equals(request.getMethod()) && request.getRequestURI().endsWith("/scores")
+                && prefer != null && prefer.contains(ScoreWriteBehindService.RESPOND_ASYNC);
+    }
+}
@@ -0,0 +1,33 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.service.LiveGameService;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindProperties;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration de l'écriture différée des scores ({@code PUT .../scores} avec {@code Prefer: respond-async}).
+ */
+@Configuration
+@EnableConfigurationProperties(ScoreWriteBehindProperties.class)
+public class ScoreWriteBehindConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<ScoreWriteBehindService> scoreWriteBehindService;
+    private final ObjectProvider<LiveGameService> liveGameService;
+
+    public ScoreWriteBehindConfig(ObjectProvider<ScoreWriteBehindService> scoreWriteBehindService,
+                                  ObjectProvider<LiveGameService> liveGameService) {
+        this.scoreWriteBehindService = scoreWriteBehindService;
+        this.liveGameService = liveGameService;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ScoreWriteBehindBarrier(scoreWriteBehindService, liveGameService))
+                .addPathPatterns("/api/boards", "/api/boards/**", "/api/users/**", "/api/leaderboards/**");
+    }
+}
@@ -3,6 +3,7 @@ package fr.gamegauge.gamegauge_api.config;
 import fr.gamegauge.gamegauge_api.repository.UserRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -42,7 +43,9 @@ public class SecurityConfig {
             "/v3/api-docs/**",
             "/swagger-ui/**",
             "/swagger-ui.html",
-            "/api/auth/**"
+            "/api/auth/**",
+            // -- Actuator : sondes de santé (les autres endpoints ne répondent que sur le port de gestion) --
+            "/actuator/health/**"
     };
 
     // Mettre à jour le constructeur
@@ -84,6 +87,31 @@ public class SecurityConfig {
 
 
     @Bean
+    public ManagementPortRequestMatcher managementPortRequestMatcher() {
+        return new ManagementPortRequestMatcher();
+    }
+
+    /**
+     * Chaîne du port de gestion, évaluée avant celle de l'API. Ce port ne sert que le contexte Actuator et n'est pas
+     * routé publiquement : tout y est ouvert, sans JWT.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http,
+                                                             ManagementPortRequestMatcher managementPort) throws Exception {
+        http
+                .securityMatcher(managementPort)
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().permitAll()
+                )
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtAuthFilter jwtAuthFilter) throws Exception {
         http
                 .cors(withDefaults())
@@ -91,6 +119,8 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(PUBLIC_URLS).permitAll()
+                        // Métriques (Prometheus...) : uniquement sur le port de gestion, non routé publiquement
+                        .requestMatchers("/actuator/**").denyAll()
                         .anyRequest().authenticated()
                 )
                 // Configurer la gestion de session pour qu'elle soit stateless.
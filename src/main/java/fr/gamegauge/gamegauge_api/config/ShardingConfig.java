@@ -0,0 +1,115 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import fr.gamegauge.gamegauge_api.datasource.OwnerShardMigrator;
+import fr.gamegauge.gamegauge_api.datasource.ShardContext;
+import fr.gamegauge.gamegauge_api.datasource.ShardDirectory;
+import fr.gamegauge.gamegauge_api.datasource.ShardIdScheme;
+import fr.gamegauge.gamegauge_api.datasource.ShardRoutingDataSource;
+import fr.gamegauge.gamegauge_api.datasource.ShardingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Partitionnement par propriétaire : un pool Hikari par shard ({@code gamegauge.sharding.shards[i]}), derrière
+ * une source de données qui aiguille chaque connexion vers le shard du propriétaire concerné
+ * ({@link ShardRoutingDataSource}).
+ * <p>
+ * Actif uniquement si {@code gamegauge.sharding.enabled=true} ; remplace alors {@code spring.datasource.*}. Les
+ * migrations Flyway sont appliquées à chaque shard. Ne se combine pas avec le réplica en lecture
+ * ({@link DataSourceRoutingConfig}).
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+@ConditionalOnProperty(prefix = "gamegauge.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardIdScheme shardIdScheme(ShardingProperties properties) {
+        return new ShardIdScheme(properties.getIdStride());
+    }
+
+    /**
+     * Source de données utilisée par JPA, Flyway et {@code JdbcTemplate}.
+     */
+    @Bean
+    @Primary
+    public ShardRoutingDataSource dataSource(ShardingProperties properties, ShardIdScheme idScheme,
+                                             ObjectProvider<MeterRegistry> meterRegistry, Environment environment) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("gamegauge.sharding.enabled=true sans gamegauge.sharding.shards");
+        }
+        if (environment.containsProperty("gamegauge.datasource.replica.url")) {
+            throw new IllegalStateException("Le partitionnement ne se combine pas avec gamegauge.datasource.replica");
+        }
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < properties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = properties.getShards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build();
+            dataSource.setPoolName("gamegauge-shard-" + i);
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            dataSource.setConnectionInitSql(idScheme.connectionInitSql(i, shard.getUrl()));
+            meterRegistry.ifAvailable(registry ->
+                    dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards, properties.getDirectoryCacheSize());
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(ShardRoutingDataSource dataSource) {
+        return dataSource.directory();
+    }
+
+    @Bean
+    public OwnerShardMigrator ownerShardMigrator(ShardRoutingDataSource dataSource, ShardIdScheme idScheme) {
+        return new OwnerShardMigrator(dataSource, dataSource.directory(), idScheme);
+    }
+
+    /**
+     * Applique les migrations à chaque shard, puis fixe la suite des identifiants de chacun.
+     */
+    @Bean
+    public FlywayMigrationStrategy shardedFlywayMigrationStrategy(ShardRoutingDataSource dataSource,
+                                                                  ShardIdScheme idScheme) {
+        return flyway -> {
+            for (int shard = 0; shard < dataSource.shardCount(); shard++) {
+                try (ShardContext.Binding ignored = ShardContext.bind(shard)) {
+                    flyway.migrate();
+                }
+            }
+            idScheme.initialize(dataSource.shards());
+        };
+    }
+
+    /**
+     * Rend la connexion à la fin de chaque transaction (et non de la requête HTTP, avec open-session-in-view) :
+     * chaque transaction est aiguillée vers le shard de son propriétaire.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardConnectionReleaseHibernateCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,110 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.service.ScoreJournal;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Configuration du démarrage : les beans qui ne servent pas au trafic des clients (documentation OpenAPI, envoi
+ * des emails...) ne sont créés qu'à leur première utilisation.
+ * <p>
+ * Les paquetages concernés sont listés par {@code gamegauge.startup.lazy-packages} (profil {@code prod}) : tout
+ * bean dont la classe, ou la classe de configuration qui le déclare, appartient à l'un d'eux devient paresseux.
+ * Avec le traitement AOT, la liste est figée à la compilation de l'image.
+ * <p>
+ * Le traitement AOT fige de même les beans conditionnés par une propriété (réplica en lecture, partitionnement,
+ * journal des scores) : au lancement, une valeur qui contredit ce qui a été compilé arrête le démarrage plutôt
+ * que d'être ignorée.
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final Logger logger = LogManager.getLogger(StartupConfig.class);
+
+    /**
+     * Rend paresseux les beans des paquetages non critiques. Statique : un post-processeur de la fabrique de beans
+     * est créé avant les autres beans de sa classe de configuration.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyPackagesPostProcessor(Environment environment) {
+        List<String> packages = Binder.get(environment)
+                .bind("gamegauge.startup.lazy-packages", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            if (packages.isEmpty()) {
+                return;
+            }
+            int lazy = 0;
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                String origin = origin(definition);
+                if (!definition.isLazyInit() && origin != null
+                        && packages.stream().anyMatch(prefix -> origin.startsWith(prefix + "."))) {
+                    definition.setLazyInit(true);
+                    lazy++;
+                }
+            }
+            logger.info("{} bean(s) créé(s) à la première utilisation (paquetages {}).", lazy, packages);
+        };
+    }
+
+    /**
+     * Avec les définitions de beans pré-calculées ({@code -Dspring.aot.enabled=true}), vérifie que les propriétés
+     * qui conditionnent des beans ont au lancement la valeur retenue à la compilation.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor aotConditionsPostProcessor(Environment environment) {
+        return beanFactory -> {
+            if (!AotDetector.useGeneratedArtifacts()) {
+                return;
+            }
+            checkAotCondition(beanFactory, DataSourceRoutingConfig.class,
+                    environment.containsProperty("gamegauge.datasource.replica.url"),
+                    "gamegauge.datasource.replica.url");
+            checkAotCondition(beanFactory, ShardingConfig.class,
+                    environment.getProperty("gamegauge.sharding.enabled", Boolean.class, false),
+                    "gamegauge.sharding.enabled");
+            checkAotCondition(beanFactory, ScoreJournal.class,
+                    environment.getProperty("gamegauge.journal.enabled", Boolean.class, true),
+                    "gamegauge.journal.enabled");
+        };
+    }
+
+    private static void checkAotCondition(ConfigurableListableBeanFactory beanFactory, Class<?> type,
+                                          boolean expected, String property) {
+        boolean compiled = beanFactory.getBeanNamesForType(type, true, false).length > 0;
+        if (compiled != expected) {
+            throw new IllegalStateException(String.format(
+                    "%s : %s au lancement, mais %s à la compilation AOT. Ajoutez la propriété aux arguments de "
+                            + "process-aot (pom.xml, profil aot) et reconstruisez l'image, ou démarrez sans "
+                            + "-Dspring.aot.enabled=true.",
+                    property, expected ? "activé" : "désactivé", compiled ? "activé" : "désactivé"));
+        }
+    }
+
+    /**
+     * La classe d'un bean, ou celle de la configuration qui le déclare par une méthode {@code @Bean}.
+     */
+    private static String origin(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+}
@@ -1,10 +1,24 @@
 package fr.gamegauge.gamegauge_api.controller;
 
 import fr.gamegauge.gamegauge_api.dto.request.*;
+import fr.gamegauge.gamegauge_api.dto.response.BoardHistoryStateResponse;
+import fr.gamegauge.gamegauge_api.dto.response.BoardImportReport;
+import fr.gamegauge.gamegauge_api.dto.response.BoardMatrixResponse;
 import fr.gamegauge.gamegauge_api.dto.response.BoardResponse;
+import fr.gamegauge.gamegauge_api.dto.response.BoardSearchResponse;
+import fr.gamegauge.gamegauge_api.dto.response.BoardStatsResponse;
+import fr.gamegauge.gamegauge_api.dto.response.ChangeSetResponse;
 import fr.gamegauge.gamegauge_api.dto.response.ParticipantResponse;
 import fr.gamegauge.gamegauge_api.dto.response.ScoreEntryResponse;
+import fr.gamegauge.gamegauge_api.dto.response.ScoreEventResponse;
+import fr.gamegauge.gamegauge_api.service.BoardBulkImportService;
+import fr.gamegauge.gamegauge_api.service.BoardChangeService;
+import fr.gamegauge.gamegauge_api.service.BoardSearchService;
 import fr.gamegauge.gamegauge_api.service.BoardService;
+import fr.gamegauge.gamegauge_api.service.BoardStatsService;
+import fr.gamegauge.gamegauge_api.service.LiveGameService;
+import fr.gamegauge.gamegauge_api.service.ScoreEventService;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,10 +28,18 @@ import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,8 +53,18 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth") // Indique que tous les endpoints de ce contrôleur nécessitent une authentification
 public class BoardController {
 
+    /** Type du corps de l'import en masse : un objet JSON par ligne. */
+    public static final String BULK_IMPORT_MEDIA_TYPE = "application/x-ndjson";
+
     private static final Logger logger = LogManager.getLogger(BoardController.class);
     private final BoardService boardService;
+    private final BoardChangeService boardChangeService;
+    private final ScoreEventService scoreEventService;
+    private final BoardStatsService boardStatsService;
+    private final BoardSearchService boardSearchService;
+    private final BoardBulkImportService boardBulkImportService;
+    private final ScoreWriteBehindService scoreWriteBehindService;
+    private final LiveGameService liveGameService;
 
     /**
      * Endpoint pour récupérer tous les tableaux de scores de l'utilisateur authentifié.
@@ -53,22 +85,185 @@ public class BoardController {
     }
 
     /**
-     * Endpoint pour récupérer un seul tableau par son ID.
-     * Mappé sur GET /api/boards/{boardId}
+     * Endpoint pour chercher parmi les tableaux de l'utilisateur par nom de tableau ou de participant.
+     * Mappé sur GET /api/boards/search?q=&page=0&size=20
      *
-     * @param boardId        L'ID du tableau passé dans l'URL.
+     * @param q              Le texte cherché (casse et accents ignorés).
+     * @param page           Le numéro de la page (à partir de 0).
+     * @param size           La taille de la page.
      * @param authentication Les infos de l'utilisateur connecté.
+     * @return Une page de tableaux trouvés, avec le nombre total de résultats.
+     */
+    @Operation(summary = "Chercher parmi les tableaux de l'utilisateur", description = "Renvoie les tableaux dont le nom, ou le nom d'un participant, contient le texte cherché : noms commençant par le texte, puis mots commençant par le texte, puis autres correspondances.")
+    @GetMapping("/search")
+    public ResponseEntity<BoardSearchResponse> searchBoards(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        logger.info("Requête GET /api/boards/search reçue de l'utilisateur {}", userEmail);
+        return ResponseEntity.ok(boardSearchService.search(q, page, size, userEmail));
+    }
+
+    /**
+     * Endpoint pour récupérer un seul tableau par son ID, en entier ou par fenêtre.
+     * Mappé sur GET /api/boards/{boardId}?participantsOffset=&participantsLimit=&roundsFrom=&roundsTo=
+     * <p>
+     * Sans paramètre de fenêtre, le tableau est renvoyé en entier. Avec au moins un paramètre, seule la fenêtre
+     * est lue et renvoyée ({@link fr.gamegauge.gamegauge_api.dto.response.BoardWindowResponse}) : totaux
+     * et rangs portent toujours sur le tableau entier.
+     *
+     * @param boardId            L'ID du tableau passé dans l'URL.
+     * @param participantsOffset Le nombre de participants à sauter dans l'ordre du classement.
+     * @param participantsLimit  Le nombre maximal de participants renvoyés.
+     * @param roundsFrom         Le premier tour dont les scores sont renvoyés.
+     * @param roundsTo           Le dernier tour dont les scores sont renvoyés.
+     * @param authentication     Les infos de l'utilisateur connecté.
      * @return Le DTO du tableau.
      */
+    @Operation(summary = "Récupérer un tableau", description = "Renvoie le tableau avec ses participants (dans l'ordre du classement) et leurs scores. Pour les grands tableaux, participantsOffset/participantsLimit et roundsFrom/roundsTo limitent la réponse à une fenêtre ; chaque participant porte alors son rang, et la réponse le nombre total de participants et de tours joués.")
     @GetMapping("/{boardId}")
     public ResponseEntity<BoardResponse> getBoardById(
             @PathVariable Long boardId,
+            @RequestParam(required = false) Integer participantsOffset,
+            @RequestParam(required = false) Integer participantsLimit,
+            @RequestParam(required = false) Integer roundsFrom,
+            @RequestParam(required = false) Integer roundsTo,
             Authentication authentication) {
 
         String userEmail = authentication.getName();
         logger.info("Requête GET /api/boards/{} reçue de l'utilisateur {}", boardId, userEmail);
-        BoardResponse board = boardService.getBoardById(boardId, userEmail);
-        return ResponseEntity.ok(board);
+        if (participantsOffset == null && participantsLimit == null && roundsFrom == null && roundsTo == null) {
+            return ResponseEntity.ok(boardService.getBoardById(boardId, userEmail));
+        }
+        BoardResponse window = boardService.getBoardWindow(boardId,
+                participantsOffset != null ? participantsOffset : 0, participantsLimit, roundsFrom, roundsTo,
+                userEmail);
+        return ResponseEntity.ok(window);
+    }
+
+    /**
+     * Endpoint pour récupérer un tableau sous forme de matrice compacte.
+     * Mappé sur GET /api/boards/{boardId}/matrix
+     *
+     * @param boardId        L'ID du tableau passé dans l'URL.
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return La vue matrice du tableau.
+     */
+    @Operation(summary = "Récupérer un tableau en matrice", description = "Renvoie les scores du tableau sous forme de tableaux d'entiers (participants × tours), plus compacts que la vue détaillée.")
+    @GetMapping("/{boardId}/matrix")
+    public ResponseEntity<BoardMatrixResponse> getBoardMatrix(
+            @PathVariable Long boardId,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        logger.info("Requête GET /api/boards/{}/matrix reçue de l'utilisateur {}", boardId, userEmail);
+        return ResponseEntity.ok(boardService.getBoardMatrix(boardId, userEmail));
+    }
+
+    /**
+     * Endpoint pour récupérer les statistiques d'un tableau, tour par tour.
+     * Mappé sur GET /api/boards/{boardId}/stats
+     *
+     * @param boardId        L'ID du tableau passé dans l'URL.
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return Les statistiques du tableau.
+     */
+    @Operation(summary = "Statistiques d'un tableau", description = "Renvoie, pour chaque tour, les scores cumulés, le classement et son évolution, le ou les vainqueurs du tour, la moyenne, le maximum et le minimum.")
+    @GetMapping("/{boardId}/stats")
+    public ResponseEntity<BoardStatsResponse> getBoardStats(
+            @PathVariable Long boardId,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        logger.info("Requête GET /api/boards/{}/stats reçue de l'utilisateur {}", boardId, userEmail);
+        return ResponseEntity.ok(boardStatsService.getBoardStats(boardId, userEmail));
+    }
+
+    /**
+     * Endpoint pour récupérer les modifications de tous les tableaux de l'utilisateur depuis une synchronisation.
+     * Mappé sur GET /api/boards/changes?since=
+     *
+     * @param since          Le {@code seq} renvoyé par la synchronisation précédente (0 pour tout obtenir).
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return Les modifications, ou {@code resyncRequired} si l'historique a été purgé.
+     */
+    @Operation(summary = "Modifications des tableaux de l'utilisateur", description = "Renvoie les tableaux, participants et scores insérés, modifiés ou supprimés depuis le numéro de séquence 'since'.")
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeSetResponse> getUserBoardChanges(
+            @RequestParam(defaultValue = "0") long since,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        logger.info("Requête GET /api/boards/changes?since={} reçue de l'utilisateur {}", since, userEmail);
+        return ResponseEntity.ok(boardChangeService.getOwnerChanges(since, userEmail));
+    }
+
+    /**
+     * Endpoint pour récupérer les modifications d'un tableau depuis une synchronisation.
+     * Mappé sur GET /api/boards/{boardId}/changes?since=
+     *
+     * @param boardId        L'ID du tableau passé dans l'URL.
+     * @param since          Le {@code seq} renvoyé par la synchronisation précédente (0 pour tout obtenir).
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return Les modifications, ou {@code resyncRequired} si l'historique a été purgé.
+     */
+    @Operation(summary = "Modifications d'un tableau", description = "Renvoie les participants et scores insérés, modifiés ou supprimés depuis le numéro de séquence 'since'.")
+    @GetMapping("/{boardId}/changes")
+    public ResponseEntity<ChangeSetResponse> getBoardChanges(
+            @PathVariable Long boardId,
+            @RequestParam(defaultValue = "0") long since,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        logger.info("Requête GET /api/boards/{}/changes?since={} reçue de l'utilisateur {}", boardId, since, userEmail);
+        return ResponseEntity.ok(boardChangeService.getBoardChanges(boardId, since, userEmail));
+    }
+
+    /**
+     * Endpoint pour récupérer l'historique des scores d'un tableau, du plus récent au plus ancien.
+     * Mappé sur GET /api/boards/{boardId}/history?before=&limit=
+     *
+     * @param boardId        L'ID du tableau passé dans l'URL.
+     * @param before         L'ID du plus ancien événement déjà reçu (page suivante), absent pour la première page.
+     * @param limit          Le nombre maximal d'événements renvoyés.
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return Les événements du journal des scores.
+     */
+    @Operation(summary = "Historique des scores d'un tableau", description = "Renvoie les événements du journal des scores (saisie, modification, suppression, réinitialisation), du plus récent au plus ancien.")
+    @GetMapping("/{boardId}/history")
+    public ResponseEntity<List<ScoreEventResponse>> getBoardHistory(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        logger.info("Requête GET /api/boards/{}/history?before={} reçue de l'utilisateur {}", boardId, before, userEmail);
+        return ResponseEntity.ok(scoreEventService.getHistory(boardId, before, limit, userEmail));
+    }
+
+    /**
+     * Endpoint pour récupérer les scores d'un tableau tels qu'ils étaient après un événement de son historique.
+     * Mappé sur GET /api/boards/{boardId}/history/state?at=
+     *
+     * @param boardId        L'ID du tableau passé dans l'URL.
+     * @param at             L'ID de l'événement, absent pour l'état courant.
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return Les scores reconstruits à partir du journal.
+     */
+    @Operation(summary = "État passé d'un tableau", description = "Reconstruit les scores d'un tableau juste après un événement de son historique (dernier instantané puis rejeu du journal).")
+    @GetMapping("/{boardId}/history/state")
+    public ResponseEntity<BoardHistoryStateResponse> getBoardStateAt(
+            @PathVariable Long boardId,
+            @RequestParam(required = false) Long at,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        logger.info("Requête GET /api/boards/{}/history/state?at={} reçue de l'utilisateur {}", boardId, at, userEmail);
+        return ResponseEntity.ok(scoreEventService.getStateAt(boardId, at, userEmail));
     }
 
     /**
@@ -210,27 +405,106 @@ public class BoardController {
      * Endpoint pour ajouter une entrée de score à un participant.
      * Mappé sur POST /api/boards/{boardId}/participants/{participantId}/scores
      *
+     * Avec {@code Prefer: respond-async}, le score est accepté en écriture différée (voir
+     * {@link ScoreWriteBehindService}) : réponse 202 Accepted, sans ID de score.
+     *
      * @param boardId        L'ID du tableau.
      * @param participantId  L'ID du participant.
      * @param request        Les données du score (valeur et tour).
+     * @param prefer         L'en-tête {@code Prefer} (optionnel).
      * @param authentication Les infos de l'utilisateur connecté.
      * @return Le DTO du score créé avec un statut 201 Created.
      */
+    @Operation(summary = "Définir le score d'un participant pour un tour",
+            description = "Avec l'en-tête Prefer: respond-async, le score est écrit en différé, regroupé avec les "
+                    + "autres scores du tableau : réponse 202 (Preference-Applied: respond-async), sans ID de score.")
     @PutMapping("/{boardId}/participants/{participantId}/scores")
     public ResponseEntity<ScoreEntryResponse> setScore(
             @PathVariable Long boardId,
             @PathVariable Long participantId,
             @Valid @RequestBody ScoreEntryAddRequest request,
+            @RequestHeader(value = "Prefer", required = false) String prefer,
             Authentication authentication) {
         logger.info("Requête PUT /api/boards/{}/participants/{}/scores reçue de l'utilisateur {}",
                 boardId, participantId, authentication.getName());
         String userEmail = authentication.getName();
+        if (prefer != null && prefer.contains(ScoreWriteBehindService.RESPOND_ASYNC)
+                && scoreWriteBehindService.submit(boardId, participantId, request, userEmail)) {
+            return ResponseEntity.accepted()
+                    .header("Preference-Applied", ScoreWriteBehindService.RESPOND_ASYNC)
+                    .body(new ScoreEntryResponse(null, request.getScoreValue(), request.getRoundNumber()));
+        }
         // appeler la nouvelle méthode du service
         ScoreEntryResponse newScore = boardService.setScoreForParticipant(boardId, participantId, request, userEmail);
 
         return ResponseEntity.ok(newScore);
     }
 
+    /**
+     * Endpoint pour lire un tableau en direct, depuis la mémoire (voir {@link LiveGameService}).
+     * Mappé sur GET /api/boards/{boardId}/live
+     *
+     * @param boardId        L'ID du tableau.
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return La vue matrice du tableau, participants dans l'ordre du classement.
+     */
+    @Operation(summary = "Lire un tableau en direct",
+            description = "Charge le tableau en mémoire à la première requête, puis le sert sans lire la base, "
+                    + "participants dans l'ordre du classement (même format que la vue matrice).")
+    @GetMapping("/{boardId}/live")
+    public ResponseEntity<BoardMatrixResponse> getLiveBoard(
+            @PathVariable Long boardId,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        logger.debug("Requête GET /api/boards/{}/live reçue de l'utilisateur {}", boardId, userEmail);
+        return ResponseEntity.ok(liveGameService.getBoard(boardId, userEmail));
+    }
+
+    /**
+     * Endpoint pour définir un score en direct : appliqué en mémoire, écrit en base en différé.
+     * Mappé sur PUT /api/boards/{boardId}/live/participants/{participantId}/scores
+     *
+     * @param boardId        L'ID du tableau.
+     * @param participantId  L'ID du participant.
+     * @param request        Les données du score (valeur et tour).
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return Le score défini, sans ID, avec un statut 202 Accepted.
+     */
+    @Operation(summary = "Définir un score en direct",
+            description = "Le score est visible tout de suite en direct et écrit en base en différé, regroupé "
+                    + "avec les autres scores du tableau : réponse 202, sans ID de score.")
+    @PutMapping("/{boardId}/live/participants/{participantId}/scores")
+    public ResponseEntity<ScoreEntryResponse> setLiveScore(
+            @PathVariable Long boardId,
+            @PathVariable Long participantId,
+            @Valid @RequestBody ScoreEntryAddRequest request,
+            Authentication authentication) {
+
+        String userEmail = authentication.getName();
+        logger.debug("Requête PUT /api/boards/{}/live/participants/{}/scores reçue de l'utilisateur {}",
+                boardId, participantId, userEmail);
+        return ResponseEntity.accepted().body(liveGameService.setScore(boardId, participantId, request, userEmail));
+    }
+
+    /**
+     * Endpoint pour terminer la partie en direct : le tableau sort de la mémoire et ses scores sont écrits.
+     * Mappé sur DELETE /api/boards/{boardId}/live
+     *
+     * @param boardId        L'ID du tableau.
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return Une réponse vide avec un statut 204 No Content.
+     */
+    @Operation(summary = "Terminer la partie en direct",
+            description = "Écrit les scores en attente et libère la mémoire du tableau.")
+    @DeleteMapping("/{boardId}/live")
+    public ResponseEntity<Void> endLiveGame(@PathVariable Long boardId, Authentication authentication) {
+        String userEmail = authentication.getName();
+        logger.info("Requête DELETE /api/boards/{}/live reçue de l'utilisateur {}", boardId, userEmail);
+        liveGameService.end(boardId, userEmail);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Endpoint pour supprimer une entrée de score d'un participant.
      * Mappé sur DELETE /api/boards/{boardId}/participants/{participantId}/scores/{scoreId}
@@ -287,6 +561,44 @@ public class BoardController {
         return new ResponseEntity<>(importedBoard, HttpStatus.CREATED);
     }
 
+    /**
+     * Endpoint pour importer de nombreux tableaux en une requête, au format NDJSON (un tableau d'import par ligne).
+     * Mappé sur POST /api/boards/import/bulk (Content-Type: application/x-ndjson)
+     *
+     * @param body           Le corps de la requête, lu au fil de l'import.
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return Le rapport d'import, ligne par ligne.
+     */
+    @Operation(summary = "Importer des tableaux en masse (NDJSON)", description = "Chaque ligne du corps est un tableau au format de POST /api/boards/import. Les lignes sont validées en parallèle et enregistrées par lots ; une ligne invalide n'empêche pas l'import des autres. Le rapport donne, pour chaque ligne, l'ID du tableau créé ou la raison de l'échec, ainsi que le débit de l'import.")
+    @PostMapping(value = "/import/bulk", consumes = BULK_IMPORT_MEDIA_TYPE)
+    public ResponseEntity<BoardImportReport> importBoards(InputStream body, Authentication authentication) {
+        String userEmail = authentication.getName();
+        logger.info("Requête POST /api/boards/import/bulk (NDJSON) reçue de l'utilisateur {}", userEmail);
+        return ResponseEntity.ok(boardBulkImportService.importBoards(List.of(reader(body)), userEmail));
+    }
+
+    /**
+     * Endpoint pour importer de nombreux tableaux à partir d'un ou plusieurs fichiers NDJSON envoyés en multipart.
+     * Mappé sur POST /api/boards/import/bulk (Content-Type: multipart/form-data, parties "file")
+     *
+     * @param files          Les fichiers NDJSON, importés l'un après l'autre (lignes numérotées à la suite).
+     * @param authentication Les infos de l'utilisateur connecté.
+     * @return Le rapport d'import, ligne par ligne.
+     */
+    @Operation(summary = "Importer des tableaux en masse (fichiers)", description = "Comme l'import NDJSON, à partir d'un ou plusieurs fichiers NDJSON envoyés dans des parties \"file\".")
+    @PostMapping(value = "/import/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BoardImportReport> importBoardFiles(@RequestParam("file") List<MultipartFile> files,
+                                                              Authentication authentication) throws IOException {
+        String userEmail = authentication.getName();
+        logger.info("Requête POST /api/boards/import/bulk ({} fichier(s)) reçue de l'utilisateur {}",
+                files.size(), userEmail);
+        List<BufferedReader> sources = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            sources.add(reader(file.getInputStream()));
+        }
+        return ResponseEntity.ok(boardBulkImportService.importBoards(sources, userEmail));
+    }
+
     /**
      * Endpoint pour redémarrer un tableau de scores (remise à zéro des scores).
      * Mappé sur POST /api/boards/{boardId}/restart
@@ -315,4 +627,8 @@ public class BoardController {
         BoardResponse duplicatedBoard = boardService.duplicateBoard(boardId, userEmail);
         return new ResponseEntity<>(duplicatedBoard, HttpStatus.CREATED);
     }
-}
\ No newline at end of file
+
+    private static BufferedReader reader(InputStream stream) {
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,55 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import fr.gamegauge.gamegauge_api.dto.response.LeaderboardResponse;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.service.LeaderboardKind;
+import fr.gamegauge.gamegauge_api.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Contrôleur REST des classements globaux, tous tableaux et tous utilisateurs confondus.
+ * Les classements sont servis depuis la mémoire, sans requête SQL.
+ */
+@RestController
+@RequestMapping("/api/leaderboards")
+@RequiredArgsConstructor
+@Tag(name = "Leaderboards", description = "Classements globaux des scores")
+@SecurityRequirement(name = "bearerAuth")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * Meilleurs totaux de participants jamais atteints dans un tableau.
+     * Mappé sur GET /api/leaderboards/totals?condition=HIGHEST_WINS&page=0&size=20
+     */
+    @Operation(summary = "Meilleurs totaux", description = "Les meilleurs totaux de participants, parmi les tableaux de la condition de victoire donnée (les plus bas en LOWEST_WINS).")
+    @GetMapping("/totals")
+    public ResponseEntity<LeaderboardResponse> getTopTotals(
+            @RequestParam(defaultValue = "HIGHEST_WINS") ScoreCondition condition,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(LeaderboardKind.TOTALS, condition, page, size));
+    }
+
+    /**
+     * Meilleurs scores d'un seul tour.
+     * Mappé sur GET /api/leaderboards/rounds?condition=HIGHEST_WINS&page=0&size=20
+     */
+    @Operation(summary = "Meilleurs scores d'un tour", description = "Les meilleurs scores d'un seul tour, parmi les tableaux de la condition de victoire donnée (les plus bas en LOWEST_WINS).")
+    @GetMapping("/rounds")
+    public ResponseEntity<LeaderboardResponse> getTopRounds(
+            @RequestParam(defaultValue = "HIGHEST_WINS") ScoreCondition condition,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(LeaderboardKind.ROUNDS, condition, page, size));
+    }
+}
@@ -1,5 +1,8 @@
 package fr.gamegauge.gamegauge_api.controller;
 
+import fr.gamegauge.gamegauge_api.dto.response.UserStatsResponse;
+import fr.gamegauge.gamegauge_api.service.OwnerStatsService;
+import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.http.ResponseEntity;
@@ -15,10 +18,13 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 @RequestMapping("/api/users") // Nouveau chemin de base pour ce contrôleur
+@RequiredArgsConstructor
 public class UserController {
 
     private static final Logger logger = LogManager.getLogger(UserController.class);
 
+    private final OwnerStatsService ownerStatsService;
+
     @GetMapping("/profile")
     public ResponseEntity<String> userProfile() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -26,4 +32,14 @@ public class UserController {
         logger.info("Accès au profil par l'utilisateur authentifié : {}", currentPrincipalName);
         return ResponseEntity.ok("Bienvenue sur votre profil, " + currentPrincipalName + " !");
     }
-}
\ No newline at end of file
+
+    /**
+     * Statistiques de jeu de l'utilisateur authentifié, tous tableaux confondus
+     * (tenues à jour à chaque modification : lecture par clé).
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<UserStatsResponse> getUserStats(Authentication authentication) {
+        logger.debug("Statistiques de jeu demandées par {}", authentication.getName());
+        return ResponseEntity.ok(ownerStatsService.getStats(authentication.getName()));
+    }
+}
@@ -0,0 +1,202 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Déplace toutes les données d'un propriétaire d'un shard à un autre, application en service.
+ * <ol>
+ *     <li>Sur le shard source, la ligne {@code users} du propriétaire est verrouillée ({@code FOR UPDATE}) : toute
+ *     modification de ses données verrouille aussi cette ligne (numéros de modification, voir
+ *     {@code BoardChangeService}) et attend donc la fin du déplacement. Les lectures continuent.</li>
+ *     <li>Ses lignes sont copiées sur le shard cible, identifiants compris (ils sont uniques entre shards, voir
+ *     {@link ShardIdScheme}), en une transaction.</li>
+ *     <li>L'annuaire pointe sur le shard cible, puis les lignes du shard source sont supprimées, ce qui libère le
+ *     verrou. Une modification qui attendait échoue (ses lignes ont disparu) ; la nouvelle tentative du client
+ *     est aiguillée vers le shard cible.</li>
+ * </ol>
+ */
+public class OwnerShardMigrator {
+
+    private static final Logger logger = LogManager.getLogger(OwnerShardMigrator.class);
+
+    private static final String OWNED_BOARDS = "board_id IN (SELECT id FROM boards WHERE owner_id = ?)";
+
+    /** Tables d'un propriétaire, dans l'ordre des clés étrangères (parents d'abord). */
+    private static final List<OwnedTable> TABLES = List.of(
+            new OwnedTable("users", "id = ?", false),
+            new OwnedTable("owner_stats", "owner_id = ?", false),
+            new OwnedTable("owner_participant_stats", "owner_id = ?", false),
+            new OwnedTable("boards", "owner_id = ?", false),
+            new OwnedTable("board_stats", "owner_id = ?", false),
+            new OwnedTable("participants", OWNED_BOARDS, false),
+            new OwnedTable("score_entries", "participant_id IN (SELECT p.id FROM participants p "
+                    + "JOIN boards b ON b.id = p.board_id WHERE b.owner_id = ?)", false),
+            new OwnedTable("board_archives", OWNED_BOARDS, false),
+            new OwnedTable("score_events", OWNED_BOARDS, false),
+            new OwnedTable("board_snapshots", OWNED_BOARDS, false),
+            new OwnedTable("board_changes", "owner_id = ?", false),
+            new OwnedTable("idempotency_keys", "user_email = ?", true));
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ShardRoutingDataSource shards;
+    private final ShardDirectory directory;
+    private final ShardIdScheme idScheme;
+
+    public OwnerShardMigrator(ShardRoutingDataSource shards, ShardDirectory directory, ShardIdScheme idScheme) {
+        this.shards = shards;
+        this.directory = directory;
+        this.idScheme = idScheme;
+    }
+
+    /**
+     * Déplace un propriétaire vers un shard.
+     *
+     * @param ownerEmail L'email du propriétaire.
+     * @param target     Le shard cible.
+     * @return Le shard d'origine et le nombre de lignes déplacées par table (vide si le propriétaire y était déjà).
+     * @throws IllegalArgumentException si le propriétaire n'existe pas.
+     */
+    public Result move(String ownerEmail, int target) {
+        directory.checkShard(target);
+        directory.reload(ownerEmail);
+        int source = directory.shardOf(ownerEmail);
+        if (source == target) {
+            return new Result(ownerEmail, source, target, Collections.emptyMap());
+        }
+        long start = System.nanoTime();
+        try (Connection from = shards.shard(source).getConnection();
+             Connection to = shards.shard(target).getConnection()) {
+            from.setAutoCommit(false);
+            to.setAutoCommit(false);
+            try {
+                long ownerId = lockOwner(from, ownerEmail);
+                Map<String, Integer> rows = new LinkedHashMap<>();
+                for (OwnedTable table : TABLES) {
+                    rows.put(table.name(), copy(from, to, table, ownerId, ownerEmail));
+                }
+                to.commit();
+                idScheme.realign(shards.shards(), target);
+                directory.assign(ownerEmail, target);
+
+                List<OwnedTable> reversed = new ArrayList<>(TABLES);
+                Collections.reverse(reversed);
+                for (OwnedTable table : reversed) {
+                    delete(from, table, ownerId, ownerEmail);
+                }
+                from.commit();
+                logger.info("Propriétaire {} déplacé du shard {} au shard {} en {} ms : {}", ownerEmail, source,
+                        target, (System.nanoTime() - start) / 1_000_000, rows);
+                return new Result(ownerEmail, source, target, rows);
+            } catch (SQLException | RuntimeException e) {
+                rollback(to);
+                rollback(from);
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Déplacement du propriétaire " + ownerEmail + " impossible", e);
+        }
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    private static long lockOwner(Connection from, String ownerEmail) throws SQLException {
+        try (PreparedStatement statement = from.prepareStatement("SELECT id FROM users WHERE email = ? FOR UPDATE")) {
+            statement.setString(1, ownerEmail);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    throw new IllegalArgumentException("Propriétaire inconnu : " + ownerEmail);
+                }
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * Copie les lignes d'une table, colonne par colonne.
+     *
+     * @return Le nombre de lignes copiées.
+     */
+    private static int copy(Connection from, Connection to, OwnedTable table, long ownerId, String ownerEmail)
+            throws SQLException {
+        try (PreparedStatement select = from.prepareStatement("SELECT * FROM " + table.name() + " WHERE "
+                + table.predicate())) {
+            table.bind(select, ownerId, ownerEmail);
+            try (ResultSet rs = select.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columns = meta.getColumnCount();
+                List<String> names = new ArrayList<>(columns);
+                for (int i = 1; i <= columns; i++) {
+                    names.add(meta.getColumnLabel(i));
+                }
+                String insert = "INSERT INTO " + table.name() + " (" + String.join(", ", names) + ") VALUES ("
+                        + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+                int rows = 0;
+                try (PreparedStatement statement = to.prepareStatement(insert)) {
+                    while (rs.next()) {
+                        for (int i = 1; i <= columns; i++) {
+                            statement.setObject(i, rs.getObject(i));
+                        }
+                        statement.addBatch();
+                        if (++rows % BATCH_SIZE == 0) {
+                            statement.executeBatch();
+                        }
+                    }
+                    if (rows % BATCH_SIZE != 0) {
+                        statement.executeBatch();
+                    }
+                }
+                return rows;
+            }
+        }
+    }
+
+    private static void delete(Connection from, OwnedTable table, long ownerId, String ownerEmail)
+            throws SQLException {
+        try (PreparedStatement statement = from.prepareStatement("DELETE FROM " + table.name() + " WHERE "
+                + table.predicate())) {
+            table.bind(statement, ownerId, ownerEmail);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            logger.warn("Annulation impossible : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Une table d'un propriétaire et la condition qui sélectionne ses lignes (par ID ou par email du propriétaire).
+     */
+    private record OwnedTable(String name, String predicate, boolean byEmail) {
+
+        private void bind(PreparedStatement statement, long ownerId, String ownerEmail) throws SQLException {
+            if (byEmail) {
+                statement.setString(1, ownerEmail);
+            } else {
+                statement.setLong(1, ownerId);
+            }
+        }
+    }
+
+    /**
+     * Le résultat d'un déplacement : shards d'origine et cible, lignes déplacées par table.
+     */
+    public record Result(String ownerEmail, int source, int target, Map<String, Integer> rows) {
+    }
+}
@@ -0,0 +1,89 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aiguille chaque connexion vers la base principale ou vers le réplica en lecture.
+ * <ul>
+ *     <li>Transaction {@code readOnly} : réplica, sauf si l'utilisateur courant vient d'écrire
+ *     (voir {@link ReadYourWritesTracker}).</li>
+ *     <li>Transaction en écriture, ou aucune transaction : base principale. Une fois la transaction validée,
+ *     l'utilisateur courant est marqué comme "écrivain" pour la durée de la fenêtre.</li>
+ * </ul>
+ * La décision dépend de l'état de la transaction : cette source doit être enveloppée dans une
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, pour que la connexion
+ * ne soit réellement obtenue qu'à la première requête SQL, une fois la transaction entièrement préparée.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LogManager.getLogger(ReadWriteRoutingDataSource.class);
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    /**
+     * @return La base vers laquelle une connexion obtenue maintenant serait dirigée.
+     */
+    public Route currentRoute() {
+        String user = currentUser();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && tracker.isSticky(user)) {
+                logger.debug("Lecture de {} servie par la base principale (écriture récente)", user);
+                return Route.PRIMARY;
+            }
+            return Route.REPLICA;
+        }
+        if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            registerWriteTracking(user);
+        }
+        return Route.PRIMARY;
+    }
+
+    /**
+     * Enregistre, une seule fois par transaction, le marquage de l'utilisateur après la validation.
+     */
+    private void registerWriteTracking(String user) {
+        boolean alreadyRegistered = TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(WriteTrackingSynchronization.class::isInstance);
+        if (!alreadyRegistered) {
+            TransactionSynchronizationManager.registerSynchronization(new WriteTrackingSynchronization(user));
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private final class WriteTrackingSynchronization implements TransactionSynchronization {
+
+        private final String user;
+
+        private WriteTrackingSynchronization(String user) {
+            this.user = user;
+        }
+
+        @Override
+        public void afterCommit() {
+            tracker.recordWrite(user);
+        }
+    }
+}
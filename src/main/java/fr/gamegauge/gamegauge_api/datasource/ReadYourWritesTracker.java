@@ -0,0 +1,54 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mémorise, par utilisateur, la date de sa dernière écriture validée.
+ * <p>
+ * Pendant la fenêtre qui suit, ses transactions en lecture seule restent sur la base principale
+ * ("read-your-writes"). L'état est local à l'instance : derrière un répartiteur de charge sans affinité,
+ * un utilisateur peut encore lire une donnée légèrement en retard sur une autre instance.
+ */
+public class ReadYourWritesTracker {
+
+    /** Au-delà de cette taille, les entrées expirées sont purgées à la prochaine écriture. */
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final Clock clock;
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Enregistre une écriture validée par l'utilisateur.
+     */
+    public void recordWrite(String user) {
+        long now = clock.millis();
+        lastWrites.put(user, now);
+        if (lastWrites.size() > PURGE_THRESHOLD) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowMillis);
+        }
+    }
+
+    /**
+     * @return {@code true} si l'utilisateur a écrit il y a moins que la fenêtre configurée.
+     */
+    public boolean isSticky(String user) {
+        Long writtenAt = lastWrites.get(user);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (clock.millis() - writtenAt < windowMillis) {
+            return true;
+        }
+        lastWrites.remove(user, writtenAt);
+        return false;
+    }
+}
@@ -0,0 +1,35 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connexion au réplica en lecture (préfixe {@code gamegauge.datasource.replica}).
+ * <p>
+ * Le routage lecture/écriture n'est actif que si {@code url} est renseignée ; sinon toute l'application
+ * utilise la source de données principale ({@code spring.datasource.*}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /** URL JDBC du réplica. */
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /** Taille maximale du pool de connexions vers le réplica. */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Durée pendant laquelle les lectures d'un utilisateur restent sur la base principale après l'une
+     * de ses écritures, pour qu'il voie ses propres modifications malgré le retard de réplication.
+     */
+    private Duration stickyWindow = Duration.ofSeconds(2);
+}
@@ -0,0 +1,55 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Le shard choisi explicitement pour le thread courant (tâches planifiées, écriture différée, authentification...).
+ * Sans choix explicite, {@link ShardRoutingDataSource} aiguille selon l'utilisateur authentifié.
+ * <p>
+ * Une transaction garde sa connexion jusqu'au bout : changer de shard en cours de transaction est refusé.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * @return Le shard choisi pour le thread courant, ou {@code null}.
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Choisit un shard pour le thread courant, jusqu'à la fermeture du résultat (qui rétablit le choix précédent).
+     *
+     * @throws IllegalStateException si une transaction en cours utilise déjà un autre shard.
+     */
+    public static Binding bind(int shard) {
+        Integer previous = CURRENT.get();
+        if (previous != null && previous != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Changement de shard (" + previous + " -> " + shard
+                    + ") dans une transaction");
+        }
+        CURRENT.set(shard);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        };
+    }
+
+    /**
+     * Un choix de shard, à fermer en fin de traitement.
+     */
+    @FunctionalInterface
+    public interface Binding extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
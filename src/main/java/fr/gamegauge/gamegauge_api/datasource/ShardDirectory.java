@@ -0,0 +1,135 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Annuaire des propriétaires : le shard de chacun, dans la table {@code shard_directory} du shard 0.
+ * <p>
+ * Un nouveau propriétaire est placé selon l'empreinte de son email ({@link #place}) ; un propriétaire absent
+ * de l'annuaire est antérieur au partitionnement et reste sur le shard 0. L'outil de migration
+ * ({@link OwnerShardMigrator}) peut ensuite déplacer un propriétaire ({@link #assign}). Les shards lus sont gardés
+ * en mémoire, dans un cache borné (les propriétaires les moins utilisés en sortent) : une autre instance qui a déplacé un propriétaire n'est vue qu'après {@link #reload}, appelé quand
+ * l'utilisateur est introuvable sur le shard en mémoire.
+ */
+public class ShardDirectory {
+
+    private static final Logger logger = LogManager.getLogger(ShardDirectory.class);
+
+    private static final String SELECT_SHARD = "SELECT shard FROM shard_directory WHERE owner_email = ?";
+    private static final String INSERT_SHARD =
+            "INSERT INTO shard_directory (owner_email, shard, assigned_at) VALUES (?, ?, ?)";
+    private static final String UPDATE_SHARD =
+            "UPDATE shard_directory SET shard = ?, assigned_at = ? WHERE owner_email = ?";
+
+    private final JdbcTemplate directoryJdbcTemplate;
+    private final int shardCount;
+    private final Cache<String, Integer> cache;
+
+    /**
+     * @param directoryJdbcTemplate Accès direct (sans aiguillage) au shard 0.
+     * @param shardCount            Le nombre de shards.
+     * @param cacheSize             Le nombre de propriétaires gardés en mémoire.
+     */
+    public ShardDirectory(JdbcTemplate directoryJdbcTemplate, int shardCount, int cacheSize) {
+        this.directoryJdbcTemplate = directoryJdbcTemplate;
+        this.shardCount = shardCount;
+        this.cache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    /**
+     * @return Le shard d'un propriétaire (0 s'il n'est pas dans l'annuaire).
+     */
+    public int shardOf(String ownerEmail) {
+        Integer shard = cache.getIfPresent(ownerEmail);
+        if (shard == null) {
+            shard = lookup(ownerEmail);
+            remember(ownerEmail, shard);
+        }
+        return shard;
+    }
+
+    /**
+     * Place un nouveau propriétaire : son shard dans l'annuaire s'il y est déjà, sinon celui de l'empreinte de son
+     * email, enregistré dans l'annuaire.
+     *
+     * @return Le shard du propriétaire.
+     */
+    public int place(String ownerEmail) {
+        List<Integer> existing = directoryJdbcTemplate.queryForList(SELECT_SHARD, Integer.class, ownerEmail);
+        int shard;
+        if (!existing.isEmpty()) {
+            shard = existing.getFirst();
+        } else {
+            shard = hashShard(ownerEmail, shardCount);
+            try {
+                directoryJdbcTemplate.update(INSERT_SHARD, ownerEmail, shard, Timestamp.from(Instant.now()));
+            } catch (DuplicateKeyException e) {
+                shard = lookup(ownerEmail); // Placé entre-temps par une autre requête.
+            }
+        }
+        remember(ownerEmail, shard);
+        return shard;
+    }
+
+    /**
+     * Enregistre le nouveau shard d'un propriétaire (après la copie de ses données).
+     */
+    public void assign(String ownerEmail, int shard) {
+        checkShard(shard);
+        Timestamp now = Timestamp.from(Instant.now());
+        if (directoryJdbcTemplate.update(UPDATE_SHARD, shard, now, ownerEmail) == 0) {
+            directoryJdbcTemplate.update(INSERT_SHARD, ownerEmail, shard, now);
+        }
+        remember(ownerEmail, shard);
+        logger.info("Propriétaire {} affecté au shard {}.", ownerEmail, shard);
+    }
+
+    /**
+     * Relit le shard d'un propriétaire dans l'annuaire.
+     *
+     * @return {@code true} si le shard a changé depuis la dernière lecture.
+     */
+    public boolean reload(String ownerEmail) {
+        Integer previous = cache.asMap().remove(ownerEmail);
+        return previous == null || previous != shardOf(ownerEmail);
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Shard d'un nouveau propriétaire : empreinte CRC-32 de son email, modulo le nombre de shards.
+     */
+    public static int hashShard(String ownerEmail, int shardCount) {
+        CRC32 crc = new CRC32();
+        crc.update(ownerEmail.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % shardCount);
+    }
+
+    void checkShard(int shard) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("Shard inconnu : " + shard + " (" + shardCount + " shard(s))");
+        }
+    }
+
+    private int lookup(String ownerEmail) {
+        List<Integer> shard = directoryJdbcTemplate.queryForList(SELECT_SHARD, Integer.class, ownerEmail);
+        return shard.isEmpty() ? 0 : shard.getFirst();
+    }
+
+    private void remember(String ownerEmail, int shard) {
+        cache.put(ownerEmail, shard);
+    }
+}
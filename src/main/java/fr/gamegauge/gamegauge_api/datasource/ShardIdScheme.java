@@ -0,0 +1,137 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Identifiants uniques entre shards : le shard {@code k} n'attribue que des identifiants congrus à {@code k + 1}
+ * modulo {@code idStride} ({@code AUTO_INCREMENT} de chaque table). Un propriétaire déplacé garde ses
+ * identifiants sur son nouveau shard sans collision possible, et le shard d'origine d'une ligne se lit dans son
+ * identifiant ({@link #originShard}).
+ * <ul>
+ *     <li>MySQL : pas et décalage par session ({@code auto_increment_increment}, {@code auto_increment_offset}),
+ *     fixés à l'ouverture de chaque connexion du pool ({@link #connectionInitSql}).</li>
+ *     <li>H2 (tests, développement) : pas et point de départ de chaque colonne d'identité, fixés au démarrage.
+ *     En mode MySQL, H2 repousse son compteur à {@code id + pas} dès qu'une ligne d'identifiant supérieur au
+ *     dernier attribué est écrite, même par un {@code UPDATE} : le point de départ est donc placé un pas
+ *     au-delà du plus grand identifiant existant, sur tous les shards.</li>
+ * </ul>
+ * Les identifiants antérieurs au partitionnement (shard 0) ne suivent pas la règle : un shard vide démarre
+ * au-delà du plus grand identifiant existant.
+ */
+public class ShardIdScheme {
+
+    private static final Logger logger = LogManager.getLogger(ShardIdScheme.class);
+
+    /** Tables à identifiant auto-incrémenté. */
+    static final List<String> TABLES = List.of("users", "boards", "participants", "score_entries",
+            "board_changes", "score_events", "board_snapshots");
+
+    private final int stride;
+
+    public ShardIdScheme(int stride) {
+        this.stride = stride;
+    }
+
+    /**
+     * @return La requête d'ouverture des connexions d'un shard MySQL, ou {@code null} pour une autre base.
+     */
+    public String connectionInitSql(int shard, String url) {
+        if (url == null || !url.startsWith("jdbc:mysql:")) {
+            return null;
+        }
+        return "SET SESSION auto_increment_increment = " + stride + ", SESSION auto_increment_offset = " + (shard + 1);
+    }
+
+    /**
+     * Fixe le point de départ (et, sous H2, le pas) des identifiants de chaque shard, après les migrations.
+     *
+     * @param shards Les bases, dans l'ordre des numéros de shard.
+     */
+    public void initialize(List<DataSource> shards) {
+        if (shards.size() > stride) {
+            throw new IllegalStateException(shards.size() + " shards pour un pas d'identifiants de " + stride
+                    + " : augmenter gamegauge.sharding.id-stride avant d'écrire des données");
+        }
+        for (String table : TABLES) {
+            long floor = 0;
+            for (DataSource shard : shards) {
+                floor = Math.max(floor, maxId(new JdbcTemplate(shard), table));
+            }
+            for (int k = 0; k < shards.size(); k++) {
+                JdbcTemplate jdbcTemplate = new JdbcTemplate(shards.get(k));
+                boolean empty = maxId(jdbcTemplate, table) == 0;
+                if (isH2(shards.get(k)) || (k > 0 && empty)) {
+                    align(jdbcTemplate, k, table, floor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replace le prochain identifiant de chaque table d'un shard dans sa suite, après l'insertion de lignes
+     * venues d'un autre shard. Seul H2 en a besoin : MySQL reprend de lui-même la suite de la session.
+     *
+     * @param shards Les bases, dans l'ordre des numéros de shard.
+     * @param index  Le shard qui a reçu les lignes.
+     */
+    public void realign(List<DataSource> shards, int index) {
+        if (!isH2(shards.get(index))) {
+            return;
+        }
+        for (String table : TABLES) {
+            long floor = 0;
+            for (DataSource shard : shards) {
+                floor = Math.max(floor, maxId(new JdbcTemplate(shard), table));
+            }
+            align(new JdbcTemplate(shards.get(index)), index, table, floor);
+        }
+    }
+
+    /**
+     * @return Le shard qui a attribué un identifiant (postérieur au partitionnement).
+     */
+    public int originShard(long id) {
+        return (int) Math.floorMod(id - 1, (long) stride);
+    }
+
+    /**
+     * @return Le plus petit identifiant du shard strictement supérieur à {@code floor}.
+     */
+    long nextId(int shard, long floor) {
+        return floor + 1 + Math.floorMod(shard - floor, (long) stride);
+    }
+
+    private void align(JdbcTemplate jdbcTemplate, int shard, String table, long floor) {
+        if (isH2(jdbcTemplate.getDataSource())) {
+            // Dernier identifiant attribué (prochain moins un pas) au-delà de toutes les lignes existantes.
+            long next = nextId(shard, floor + stride);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET INCREMENT BY " + stride);
+            logger.debug("Shard {} : prochain identifiant de {} à partir de {}.", shard, table, next);
+        } else {
+            long next = nextId(shard, floor);
+            jdbcTemplate.execute("ALTER TABLE " + table + " AUTO_INCREMENT = " + next);
+            logger.debug("Shard {} : prochain identifiant de {} à partir de {}.", shard, table, next);
+        }
+    }
+
+    private static long maxId(JdbcTemplate jdbcTemplate, String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max != null ? max : 0L;
+    }
+
+    private static boolean isH2(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return "H2".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            throw new IllegalStateException("Base du shard inaccessible", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Exécution d'un traitement sur le bon shard, pour le code qui ne s'exécute pas au nom de l'utilisateur
+ * authentifié : authentification, écriture différée, tâches planifiées (un passage par shard), outils.
+ * <p>
+ * Sans partitionnement ({@code gamegauge.sharding.enabled=false}), chaque traitement s'exécute tel quel, une fois.
+ */
+@Component
+public class ShardRouter {
+
+    private final ShardDirectory directory;
+
+    public ShardRouter(Optional<ShardDirectory> directory) {
+        this.directory = directory.orElse(null);
+    }
+
+    /**
+     * @return Le nombre de shards (1 sans partitionnement).
+     */
+    public int shardCount() {
+        return directory != null ? directory.shardCount() : 1;
+    }
+
+    /**
+     * Exécute un traitement sur le shard d'un propriétaire.
+     */
+    public <T> T forOwner(String ownerEmail, Supplier<T> work) {
+        if (directory == null) {
+            return work.get();
+        }
+        return onShard(directory.shardOf(ownerEmail), work);
+    }
+
+    public void forOwner(String ownerEmail, Runnable work) {
+        forOwner(ownerEmail, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Cherche une donnée d'un propriétaire sur son shard ; si elle n'y est pas, relit l'annuaire (propriétaire
+     * déplacé par une autre instance) et cherche de nouveau si son shard a changé.
+     */
+    public <T> Optional<T> findForOwner(String ownerEmail, Supplier<Optional<T>> lookup) {
+        Optional<T> found = forOwner(ownerEmail, lookup);
+        if (found.isEmpty() && directory != null && directory.reload(ownerEmail)) {
+            found = forOwner(ownerEmail, lookup);
+        }
+        return found;
+    }
+
+    /**
+     * Exécute un traitement sur le shard d'un nouveau propriétaire, placé dans l'annuaire au préalable.
+     */
+    public <T> T forNewOwner(String ownerEmail, Supplier<T> work) {
+        if (directory == null) {
+            return work.get();
+        }
+        return onShard(directory.place(ownerEmail), work);
+    }
+
+    /**
+     * Cherche une donnée shard par shard, jusqu'au premier qui la contient.
+     */
+    public <T> Optional<T> findOnAnyShard(Supplier<Optional<T>> lookup) {
+        for (int shard = 0; shard < shardCount(); shard++) {
+            Optional<T> found = onShard(shard, lookup);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Exécute un traitement une fois par shard, l'un après l'autre.
+     */
+    public void forEachShard(Runnable work) {
+        sumOverShards(() -> {
+            work.run();
+            return 0;
+        });
+    }
+
+    /**
+     * Exécute un traitement une fois par shard, l'un après l'autre, et additionne ses résultats.
+     */
+    public int sumOverShards(IntSupplier work) {
+        if (directory == null) {
+            return work.getAsInt();
+        }
+        int sum = 0;
+        for (int shard = 0; shard < shardCount(); shard++) {
+            sum += onShard(shard, work::getAsInt);
+        }
+        return sum;
+    }
+
+    /**
+     * Exécute un traitement sur un shard donné.
+     */
+    public <T> T onShard(int shard, Supplier<T> work) {
+        if (directory == null) {
+            return work.get();
+        }
+        directory.checkShard(shard);
+        try (ShardContext.Binding ignored = ShardContext.bind(shard)) {
+            return work.get();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aiguille chaque connexion vers le shard du propriétaire concerné.
+ * <ul>
+ *     <li>Shard choisi explicitement pour le thread ({@link ShardContext}) : ce shard.</li>
+ *     <li>Sinon, utilisateur authentifié : son shard ({@link ShardDirectory}). Toutes les données d'un
+ *     propriétaire (utilisateur, tableaux, scores, journaux, statistiques) sont sur le même shard.</li>
+ *     <li>Sinon (migrations, requêtes anonymes) : shard 0.</li>
+ * </ul>
+ * Une transaction obtient sa connexion à son début et la garde : le shard est celui du moment où elle commence.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ShardRoutingDataSource.class);
+
+    private final List<DataSource> shards;
+    private final ShardDirectory directory;
+
+    /**
+     * @param shards             Les bases, dans l'ordre des numéros de shard (le shard 0 porte l'annuaire).
+     * @param directoryCacheSize Le nombre de propriétaires dont le shard est gardé en mémoire.
+     */
+    public ShardRoutingDataSource(List<DataSource> shards, int directoryCacheSize) {
+        this.shards = List.copyOf(shards);
+        this.directory = new ShardDirectory(new JdbcTemplate(shards.getFirst()), shards.size(), directoryCacheSize);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.getFirst());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentShard();
+    }
+
+    /**
+     * @return Le shard vers lequel une connexion obtenue maintenant serait dirigée.
+     */
+    public int currentShard() {
+        Integer bound = ShardContext.current();
+        if (bound != null) {
+            return bound;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return directory.shardOf(authentication.getName());
+        }
+        return 0;
+    }
+
+    /**
+     * @return La base d'un shard, sans aiguillage.
+     */
+    public DataSource shard(int shard) {
+        return shards.get(shard);
+    }
+
+    /**
+     * @return Toutes les bases, dans l'ordre des numéros de shard.
+     */
+    public List<DataSource> shards() {
+        return shards;
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public ShardDirectory directory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Fermeture du pool {} impossible : {}", shard, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Répartition des propriétaires sur plusieurs bases (préfixe {@code gamegauge.sharding}).
+ * <p>
+ * Actif seulement si {@code enabled=true} ; sinon toute l'application utilise la source de données principale
+ * ({@code spring.datasource.*}). Le shard 0 est celui de l'annuaire des propriétaires, et celui des données
+ * antérieures au partitionnement.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+
+    /** Les bases, dans l'ordre des numéros de shard (l'ordre ne doit plus changer une fois des données écrites). */
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Pas des identifiants : le shard {@code k} attribue les identifiants {@code k + 1}, {@code k + 1 + idStride}...
+     * Borne le nombre de shards ; ne doit plus changer une fois des données écrites.
+     */
+    private int idStride = 64;
+
+    /** Nombre de propriétaires dont le shard est gardé en mémoire. */
+    private int directoryCacheSize = 100_000;
+
+    /**
+     * Connexion à un shard.
+     */
+    @Getter
+    @Setter
+    public static class Shard {
+
+        /** URL JDBC de la base. */
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /** Taille maximale du pool de connexions vers la base. */
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,7 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Nombre d'événements du journal des scores ajoutés à un tableau dans un intervalle d'identifiants.
+ */
+public record BoardEventCount(Long boardId, long eventCount) {
+}
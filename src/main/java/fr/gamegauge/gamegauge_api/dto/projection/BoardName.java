@@ -0,0 +1,7 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection du nom d'un tableau, lue sans charger l'entité (index de recherche).
+ */
+public record BoardName(Long id, String name) {
+}
@@ -0,0 +1,17 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+
+/**
+ * Projection de la version d'un tableau (son compteur de modifications), de sa condition de victoire et de son
+ * état d'archivage.
+ * Interface (et non record) car elle est lue par une requête SQL native.
+ */
+public interface BoardVersion {
+
+    long getChangeSeq();
+
+    ScoreCondition getScoreCondition();
+
+    boolean getArchived();
+}
@@ -0,0 +1,12 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection de l'état du journal des modifications d'un tableau ou d'un propriétaire : dernier numéro attribué
+ * et dernier numéro purgé. Interface (et non record) car elle est lue par une requête SQL native.
+ */
+public interface ChangeLogState {
+
+    long getChangeSeq();
+
+    long getHistorySeq();
+}
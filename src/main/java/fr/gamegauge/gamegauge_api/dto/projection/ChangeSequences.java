@@ -0,0 +1,12 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection des numéros de séquence attribués à une modification : celui du tableau et celui de son propriétaire.
+ * Interface (et non record) car elle est lue par une requête SQL native.
+ */
+public interface ChangeSequences {
+
+    long getBoardSeq();
+
+    long getOwnerSeq();
+}
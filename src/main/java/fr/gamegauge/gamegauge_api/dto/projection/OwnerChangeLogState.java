@@ -0,0 +1,10 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * État du journal des modifications d'un propriétaire, avec son identifiant : lu en une requête à partir
+ * de son email.
+ */
+public interface OwnerChangeLogState extends ChangeLogState {
+
+    long getId();
+}
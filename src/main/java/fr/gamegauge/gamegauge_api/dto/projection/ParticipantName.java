@@ -0,0 +1,7 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection du nom d'un participant et de son tableau, lue sans charger l'entité (index de recherche).
+ */
+public record ParticipantName(Long id, Long boardId, String name) {
+}
@@ -0,0 +1,7 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection d'une entrée de score avec son participant, lue sans charger l'entité (fenêtre d'un tableau).
+ */
+public record ParticipantScore(Long id, Long participantId, int roundNumber, int scoreValue) {
+}
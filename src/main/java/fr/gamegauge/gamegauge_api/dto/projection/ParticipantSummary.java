@@ -0,0 +1,7 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection d'un participant (identifiant et nom), lue sans charger l'entité ni ses scores.
+ */
+public record ParticipantSummary(Long id, String name) {
+}
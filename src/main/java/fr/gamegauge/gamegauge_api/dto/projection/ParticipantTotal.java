@@ -0,0 +1,8 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection des scores d'un participant agrégés sur un tableau : total, nombre de scores et dernier tour joué
+ * ({@code null} si aucun score).
+ */
+public record ParticipantTotal(Long participantId, String name, Long total, Long scoreCount, Integer lastRound) {
+}
@@ -0,0 +1,12 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection du nombre de parties gagnées par un nom de participant, chez un propriétaire.
+ * Interface (et non record) car elle est lue par une requête SQL native.
+ */
+public interface ParticipantWins {
+
+    String getName();
+
+    int getWins();
+}
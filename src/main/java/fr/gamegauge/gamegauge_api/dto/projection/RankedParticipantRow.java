@@ -0,0 +1,23 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection d'un participant classé parmi tous ceux de son tableau, avec les agrégats du tableau entier
+ * (fonctions de fenêtrage). Interface (et non record) car elle est lue par une requête SQL native.
+ */
+public interface RankedParticipantRow {
+
+    Long getId();
+
+    String getName();
+
+    long getTotal();
+
+    /** Rang dans le tableau entier (les ex aequo partagent le même rang). */
+    int getRanking();
+
+    /** Nombre de participants du tableau. */
+    int getParticipantCount();
+
+    /** Numéro du dernier tour joué dans le tableau, {@code null} si aucun score. */
+    Integer getRoundsPlayed();
+}
@@ -0,0 +1,35 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection d'une ligne des statistiques d'un tableau : un participant à un tour, avec les agrégats
+ * calculés par la base (fonctions de fenêtrage). Interface (et non record) car elle est lue par une requête
+ * SQL native.
+ */
+public interface RoundStatRow {
+
+    Long getParticipantId();
+
+    String getParticipantName();
+
+    int getRoundNumber();
+
+    /** Score du tour (somme si plusieurs entrées), {@code null} si le participant n'a pas joué ce tour. */
+    Integer getScoreValue();
+
+    long getCumulative();
+
+    int getPosition();
+
+    /** Places gagnées (positif) ou perdues depuis le tour précédent, {@code null} au premier tour. */
+    Integer getPositionChange();
+
+    long getGapToLeader();
+
+    boolean getRoundWinner();
+
+    Double getRoundMean();
+
+    Integer getRoundMax();
+
+    Integer getRoundMin();
+}
@@ -0,0 +1,7 @@
+package fr.gamegauge.gamegauge_api.dto.projection;
+
+/**
+ * Projection d'une entrée de score : une case (participant, tour) de la grille d'un tableau.
+ */
+public record ScoreCell(Long participantId, int roundNumber, int scoreValue) {
+}
@@ -1,24 +1,36 @@
 package fr.gamegauge.gamegauge_api.dto.request;
 
 import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 import java.util.List;
 
+/**
+ * DTO d'import d'un tableau avec ses participants et leurs scores. Les contraintes sont vérifiées par l'import
+ * en masse ({@code POST /api/boards/import/bulk}), qui rejette une ligne invalide sans bloquer les autres.
+ */
 @Getter
 @Setter
 public class BoardImportRequest {
+    @NotBlank(message = "Le nom du tableau ne peut pas être vide.")
+    @Size(max = 100, message = "Le nom du tableau doit contenir au plus 100 caractères.")
     private String name;
     private Integer targetScore;
     private ScoreCondition scoreCondition;
     private Integer numberOfRounds;
-    private List<ParticipantImportDto> participants;
+    private List<@NotNull(message = "Participant absent.") @Valid ParticipantImportDto> participants;
 
     @Getter
     @Setter
     public static class ParticipantImportDto {
+        @NotBlank(message = "Le nom du participant ne peut pas être vide.")
+        @Size(max = 50, message = "Le nom du participant doit contenir au plus 50 caractères.")
         private String name;
-        private List<ScoreEntryImportDto> scores;
+        private List<@NotNull(message = "Score absent.") @Valid ScoreEntryImportDto> scores;
     }
 
     @Getter
@@ -27,4 +39,4 @@ public class BoardImportRequest {
         private int scoreValue;
         private int roundNumber;
     }
-}
\ No newline at end of file
+}
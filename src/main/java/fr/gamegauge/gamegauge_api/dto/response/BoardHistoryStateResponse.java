@@ -0,0 +1,30 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * DTO pour renvoyer les scores d'un tableau tels qu'ils étaient juste après l'événement {@code atEventId}
+ * de son historique.
+ */
+@Getter
+@AllArgsConstructor
+public class BoardHistoryStateResponse {
+    private Long boardId;
+    private long atEventId;
+    private List<ScoreState> scores;
+
+    /**
+     * Un score à ce moment de l'historique.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ScoreState {
+        private Long id;
+        private Long participantId;
+        private int roundNumber;
+        private int scoreValue;
+    }
+}
@@ -0,0 +1,36 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Résultat d'un import de tableaux en masse : un résultat par ligne lue, dans l'ordre des lignes, avec l'ID
+ * du tableau créé ou la raison de l'échec.
+ */
+@Getter
+@AllArgsConstructor
+public class BoardImportReport {
+
+    private int received;
+    private int imported;
+    private int failed;
+    private long durationMillis;
+    private double boardsPerSecond;
+    private List<Result> results;
+
+    /**
+     * Le résultat d'une ligne (numérotée à partir de 1, lignes vides comprises).
+     */
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private long line;
+        private String name;
+        private Long boardId;
+        private String error;
+    }
+}
@@ -0,0 +1,45 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Vue "matrice" d'un tableau de scores : des tableaux parallèles d'entiers plutôt qu'un objet par score.
+ * <p>
+ * Les participants sont dans l'ordre du classement (comme dans {@link BoardResponse}) : la ligne {@code i}
+ * de la grille, {@code participantIds[i]}, {@code participantNames[i]} et {@code totals[i]} décrivent le même
+ * joueur. Les colonnes suivent {@code rounds} (numéros de tours présents, triés). Selon le remplissage,
+ * la grille est envoyée sous l'une de ces formes (la plus compacte) :
+ * <ul>
+ *     <li>{@code DENSE} : {@code scores} contient {@code participants × rounds} valeurs ligne par ligne ;
+ *     {@code missing} liste les positions (dans {@code scores}) des cases sans score, qui valent 0 ;</li>
+ *     <li>{@code SPARSE} : {@code cells} contient des triplets {@code (ligne, colonne, valeur)} à plat.</li>
+ * </ul>
+ * Si un joueur a plusieurs scores pour un même tour, la case contient leur somme. Cette vue est en lecture
+ * seule : elle ne porte pas les identifiants des entrées de score.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardMatrixResponse {
+
+    public enum Layout {
+        DENSE, SPARSE
+    }
+
+    private Long id;
+    private String name;
+    private Integer targetScore;
+    private ScoreCondition scoreCondition;
+    private Integer numberOfRounds;
+    private long[] participantIds;
+    private String[] participantNames;
+    private int[] rounds;
+    private int[] totals;
+    private Layout layout;
+    private int[] scores;
+    private int[] missing;
+    private int[] cells;
+}
@@ -0,0 +1,36 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import fr.gamegauge.gamegauge_api.service.BoardSearchIndex;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Une page de résultats de la recherche de tableaux. {@code total} est le nombre de tableaux trouvés,
+ * toutes pages confondues.
+ */
+@Getter
+@AllArgsConstructor
+public class BoardSearchResponse {
+
+    private String query;
+    private int page;
+    private int size;
+    private int total;
+    private List<Result> results;
+
+    /**
+     * Un tableau trouvé, avec les noms de ses participants qui correspondent à la recherche.
+     */
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public static class Result {
+        private long boardId;
+        private String name;
+        private BoardSearchIndex.MatchType matchType;
+        private List<String> participantNames;
+    }
+}
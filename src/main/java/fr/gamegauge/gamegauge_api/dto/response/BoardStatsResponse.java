@@ -0,0 +1,73 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Statistiques d'un tableau, tour par tour, calculées par la base : de quoi tracer l'évolution d'une partie
+ * sans télécharger chaque score.
+ * <p>
+ * Les tours sont ceux où au moins un score a été saisi, triés. Dans chaque tour, {@code standings} donne le
+ * classement après ce tour (score cumulé, place, places gagnées depuis le tour précédent, écart avec le premier),
+ * selon la condition de victoire du tableau ; un participant qui n'a pas joué le tour n'a pas de {@code score}
+ * et garde son cumul. {@code participants} reprend le classement après le dernier tour.
+ * <p>
+ * {@code version} est le compteur de modifications du tableau pour lequel les statistiques ont été calculées.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardStatsResponse {
+
+    private Long boardId;
+    private long version;
+    private ScoreCondition scoreCondition;
+    private List<ParticipantStats> participants;
+    private List<RoundStats> rounds;
+
+    /**
+     * Un participant et sa place à l'issue du dernier tour.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ParticipantStats {
+        private Long id;
+        private String name;
+        private long total;
+        private int position;
+    }
+
+    /**
+     * Agrégats d'un tour et classement à son issue.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RoundStats {
+        private int roundNumber;
+        private Double mean;
+        private Integer max;
+        private Integer min;
+        /** Participant(s) ayant réalisé le meilleur score du tour (plusieurs en cas d'égalité). */
+        private List<Long> winners;
+        private List<Standing> standings;
+    }
+
+    /**
+     * Place d'un participant après un tour.
+     */
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Standing {
+        private Long participantId;
+        private Integer score;
+        private long cumulative;
+        private int position;
+        private Integer positionChange;
+        private long gapToLeader;
+    }
+}
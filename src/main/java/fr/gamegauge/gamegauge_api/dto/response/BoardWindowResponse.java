@@ -0,0 +1,39 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Une fenêtre d'un tableau de scores : une tranche de participants dans l'ordre du classement et, pour chacun,
+ * les scores d'une plage de tours. Mêmes champs que {@link BoardResponse}, plus la position de la fenêtre :
+ * {@code participantCount} et {@code roundsPlayed} décrivent le tableau entier, de quoi demander
+ * les fenêtres suivantes.
+ */
+@Getter
+public class BoardWindowResponse extends BoardResponse {
+
+    private final int participantCount;
+    private final int participantsOffset;
+    private final int roundsPlayed;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer roundsFrom;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer roundsTo;
+
+    public BoardWindowResponse(Long id, String name, Integer targetScore, ScoreCondition scoreCondition,
+                               Integer numberOfRounds, Instant createdAt, Instant updatedAt, String ownerUsername,
+                               List<ParticipantResponse> participants, int participantCount,
+                               int participantsOffset, int roundsPlayed, Integer roundsFrom, Integer roundsTo) {
+        super(id, name, targetScore, scoreCondition, numberOfRounds, createdAt, updatedAt, ownerUsername,
+                participants);
+        this.participantCount = participantCount;
+        this.participantsOffset = participantsOffset;
+        this.roundsPlayed = roundsPlayed;
+        this.roundsFrom = roundsFrom;
+        this.roundsTo = roundsTo;
+    }
+}
@@ -0,0 +1,95 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import fr.gamegauge.gamegauge_api.model.ChangeEntityType;
+import fr.gamegauge.gamegauge_api.model.ChangeOperation;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Modifications d'un tableau (ou de tous les tableaux d'un utilisateur) depuis un numéro de séquence.
+ * <p>
+ * Le client envoie le {@code seq} de sa dernière synchronisation dans {@code since} et applique, dans l'ordre :
+ * les suppressions ({@code deleted}), puis les entités insérées ou modifiées, qui portent leur état actuel.
+ * Plusieurs modifications d'une même entité sont fusionnées ; une entité insérée puis supprimée dans l'intervalle
+ * n'apparaît pas. La suppression d'un tableau vaut suppression de ses participants et de leurs scores,
+ * celle d'un participant suppression de ses scores.
+ * <p>
+ * Si {@code resyncRequired} vaut {@code true}, l'historique demandé a été purgé (ou {@code since} est inconnu) :
+ * le client doit recharger les tableaux entièrement, puis repartir de {@code seq}.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class ChangeSetResponse {
+
+    private long since;
+    private long seq;
+    private boolean resyncRequired;
+    private List<BoardDelta> boards;
+    private List<ParticipantDelta> participants;
+    private List<ScoreDelta> scores;
+    private List<Tombstone> deleted;
+
+    /**
+     * Réponse sans modifications, demandant au client de tout recharger.
+     */
+    public static ChangeSetResponse resync(long since, long seq) {
+        return new ChangeSetResponse(since, seq, true, List.of(), List.of(), List.of(), List.of());
+    }
+
+    /**
+     * Un tableau inséré ou modifié, avec ses attributs actuels.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class BoardDelta {
+        private Long id;
+        private ChangeOperation operation;
+        private String name;
+        private Integer targetScore;
+        private ScoreCondition scoreCondition;
+        private Integer numberOfRounds;
+        private Integer displayOrder;
+    }
+
+    /**
+     * Un participant inséré ou modifié, avec son nom actuel.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ParticipantDelta {
+        private Long id;
+        private Long boardId;
+        private ChangeOperation operation;
+        private String name;
+    }
+
+    /**
+     * Une entrée de score insérée ou modifiée, avec sa valeur actuelle.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ScoreDelta {
+        private Long id;
+        private Long participantId;
+        private ChangeOperation operation;
+        private int scoreValue;
+        private int roundNumber;
+    }
+
+    /**
+     * Une entité supprimée : {@code parentId} est le tableau d'un participant, le participant d'un score.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Tombstone {
+        private ChangeEntityType entityType;
+        private Long id;
+        private Long parentId;
+        private long seq;
+    }
+}
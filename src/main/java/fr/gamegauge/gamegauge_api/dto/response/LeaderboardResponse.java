@@ -0,0 +1,40 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.service.LeaderboardKind;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Une page d'un classement global. {@code available} est le nombre d'entrées classées (au plus K) ;
+ * les ex aequo partagent le même rang.
+ */
+@Getter
+@AllArgsConstructor
+public class LeaderboardResponse {
+
+    private LeaderboardKind kind;
+    private ScoreCondition scoreCondition;
+    private int page;
+    private int size;
+    private int available;
+    private List<Entry> entries;
+
+    /**
+     * Un total de participant, ou un score de tour ({@code roundNumber} renseigné).
+     */
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Entry {
+        private int rank;
+        private long value;
+        private long boardId;
+        private long participantId;
+        private String participantName;
+        private Integer roundNumber;
+    }
+}
@@ -0,0 +1,20 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Un participant d'une fenêtre de tableau ({@link BoardWindowResponse}) : son total et son rang portent sur
+ * le tableau entier, ses scores sur les seuls tours de la fenêtre.
+ */
+@Getter
+public class RankedParticipantResponse extends ParticipantResponse {
+
+    private final int rank;
+
+    public RankedParticipantResponse(Long id, String name, int rank, int totalScore, List<ScoreEntryResponse> scores) {
+        super(id, name, totalScore, scores);
+        this.rank = rank;
+    }
+}
@@ -0,0 +1,25 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import fr.gamegauge.gamegauge_api.model.ScoreEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * DTO pour renvoyer un événement de l'historique des scores d'un tableau.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoreEventResponse {
+    private Long id;
+    private ScoreEventType eventType;
+    private Long participantId;
+    private Long scoreId;
+    private Integer roundNumber;
+    private Integer scoreValue;
+    private Integer previousValue;
+    private Instant occurredAt;
+}
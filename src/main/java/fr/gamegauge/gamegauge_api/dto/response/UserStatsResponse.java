@@ -0,0 +1,38 @@
+package fr.gamegauge.gamegauge_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Statistiques de jeu de l'utilisateur, tous tableaux confondus.
+ * <p>
+ * {@code boardsCreated} compte aussi les tableaux supprimés depuis ; les autres compteurs portent sur les tableaux
+ * existants. {@code averageScore} est la moyenne de tous les scores saisis (absente s'il n'y en a aucun).
+ * {@code topWinners} liste les noms de participants ayant gagné le plus de parties terminées.
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserStatsResponse {
+
+    private long boardsCreated;
+    private int boardsActive;
+    private int boardsFinished;
+    private long roundsPlayed;
+    private long scoresRecorded;
+    private Double averageScore;
+    private List<WinnerStats> topWinners;
+
+    /**
+     * Un nom de participant et son nombre de parties gagnées.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class WinnerStats {
+        private String name;
+        private int wins;
+    }
+}
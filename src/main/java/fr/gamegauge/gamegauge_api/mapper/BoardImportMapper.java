@@ -0,0 +1,46 @@
+package fr.gamegauge.gamegauge_api.mapper;
+
+import fr.gamegauge.gamegauge_api.dto.request.BoardImportRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+
+/**
+ * Construit l'entité d'un tableau importé, avec ses participants et leurs scores. Sans accès à la base :
+ * l'import en masse l'appelle en parallèle, hors transaction.
+ */
+public final class BoardImportMapper {
+
+    private BoardImportMapper() {
+    }
+
+    /**
+     * @param request Le tableau à importer.
+     * @return Un nouveau tableau, sans propriétaire ni identifiant.
+     */
+    public static Board toBoard(BoardImportRequest request) {
+        Board board = new Board();
+        board.setName(request.getName());
+        board.setTargetScore(request.getTargetScore());
+        board.setScoreCondition(request.getScoreCondition());
+        board.setNumberOfRounds(request.getNumberOfRounds());
+
+        if (request.getParticipants() != null) {
+            for (BoardImportRequest.ParticipantImportDto pDto : request.getParticipants()) {
+                Participant participant = new Participant();
+                participant.setName(pDto.getName());
+
+                if (pDto.getScores() != null) {
+                    for (BoardImportRequest.ScoreEntryImportDto sDto : pDto.getScores()) {
+                        ScoreEntry scoreEntry = new ScoreEntry();
+                        scoreEntry.setRoundNumber(sDto.getRoundNumber());
+                        scoreEntry.setScoreValue(sDto.getScoreValue());
+                        participant.addScoreEntry(scoreEntry);
+                    }
+                }
+                board.addParticipant(participant);
+            }
+        }
+        return board;
+    }
+}
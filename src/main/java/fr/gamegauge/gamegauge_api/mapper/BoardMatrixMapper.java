@@ -0,0 +1,271 @@
+package fr.gamegauge.gamegauge_api.mapper;
+
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantSummary;
+import fr.gamegauge.gamegauge_api.dto.projection.ScoreCell;
+import fr.gamegauge.gamegauge_api.dto.response.BoardMatrixResponse;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Construit la vue {@link BoardMatrixResponse} à partir des projections lues en base.
+ * <p>
+ * Tout le calcul se fait sur des tableaux primitifs (pas de map ni d'entier "boxé") : l'index d'un participant
+ * est retrouvé par recherche dichotomique dans ses identifiants triés, la colonne d'un tour par une table
+ * indexée par numéro de tour (les tours sont de petits entiers consécutifs).
+ */
+public final class BoardMatrixMapper {
+
+    private BoardMatrixMapper() {
+    }
+
+    /**
+     * @param board        Le tableau (seuls ses attributs simples sont lus).
+     * @param participants Les participants du tableau, triés par identifiant.
+     * @param cells        Toutes les entrées de score du tableau, dans n'importe quel ordre.
+     */
+    public static BoardMatrixResponse toBoardMatrixResponse(Board board, List<ParticipantSummary> participants,
+                                                            List<ScoreCell> cells) {
+        int participantCount = participants.size();
+        long[] sortedIds = new long[participantCount];
+        for (int i = 0; i < participantCount; i++) {
+            sortedIds[i] = participants.get(i).id();
+        }
+        RoundColumns columns = RoundColumns.of(cells);
+        int[] rounds = columns.rounds;
+        int roundCount = rounds.length;
+
+        // 1er passage : index du participant de chaque case (les cases arrivent en général groupées par
+        // participant, d'où le raccourci sur le précédent), totaux, puis ordre du classement.
+        int cellCount = cells.size();
+        int[] participantOfCell = new int[cellCount];
+        int[] totalsById = new int[participantCount];
+        long previousId = 0;
+        int previousIndex = -1;
+        for (int c = 0; c < cellCount; c++) {
+            ScoreCell cell = cells.get(c);
+            long participantId = cell.participantId();
+            if (previousIndex < 0 || participantId != previousId) {
+                previousIndex = Arrays.binarySearch(sortedIds, participantId);
+                previousId = participantId;
+            }
+            participantOfCell[c] = previousIndex;
+            totalsById[previousIndex] += cell.scoreValue();
+        }
+        int[] ranking = rank(totalsById, board.getScoreCondition() == ScoreCondition.LOWEST_WINS);
+        int[] rowOf = new int[participantCount];
+        long[] participantIds = new long[participantCount];
+        String[] participantNames = new String[participantCount];
+        int[] totals = new int[participantCount];
+        for (int row = 0; row < participantCount; row++) {
+            int index = ranking[row];
+            rowOf[index] = row;
+            participantIds[row] = sortedIds[index];
+            participantNames[row] = participants.get(index).name();
+            totals[row] = totalsById[index];
+        }
+
+        // 2e passage : remplissage de la grille, ligne par ligne dans l'ordre du classement.
+        int size = participantCount * roundCount;
+        int[] grid = new int[size];
+        boolean[] present = new boolean[size];
+        int filled = 0;
+        for (int c = 0; c < cellCount; c++) {
+            ScoreCell cell = cells.get(c);
+            int row = rowOf[participantOfCell[c]];
+            int position = row * roundCount + columns.columnOf(cell.roundNumber());
+            grid[position] += cell.scoreValue();
+            if (!present[position]) {
+                present[position] = true;
+                filled++;
+            }
+        }
+
+        return layout(board, participantIds, participantNames, rounds, totals, grid, present, filled);
+    }
+
+    /**
+     * Construit la vue à partir d'une grille déjà en mémoire (moteur de partie en direct).
+     *
+     * @param board            Le tableau (seuls ses attributs simples sont lus).
+     * @param participantIds   Les identifiants des participants, triés : une ligne de la grille par participant.
+     * @param participantNames Les noms des participants, dans le même ordre.
+     * @param rounds           Les numéros de tours, triés : une colonne de la grille par tour.
+     * @param scores           La grille {@code scores[ligne][colonne]}.
+     * @param filled           Les cases de la grille qui ont un score.
+     * @param totals           Le total de chaque ligne.
+     */
+    public static BoardMatrixResponse toBoardMatrixResponse(Board board, long[] participantIds,
+                                                            String[] participantNames, int[] rounds,
+                                                            int[][] scores, boolean[][] filled, int[] totals) {
+        int participantCount = participantIds.length;
+        int roundCount = rounds.length;
+        int[] ranking = rank(totals, board.getScoreCondition() == ScoreCondition.LOWEST_WINS);
+        long[] rankedIds = new long[participantCount];
+        String[] rankedNames = new String[participantCount];
+        int[] rankedTotals = new int[participantCount];
+        int[] grid = new int[participantCount * roundCount];
+        boolean[] present = new boolean[grid.length];
+        int count = 0;
+        for (int row = 0; row < participantCount; row++) {
+            int index = ranking[row];
+            rankedIds[row] = participantIds[index];
+            rankedNames[row] = participantNames[index];
+            rankedTotals[row] = totals[index];
+            System.arraycopy(scores[index], 0, grid, row * roundCount, roundCount);
+            for (int column = 0; column < roundCount; column++) {
+                if (filled[index][column]) {
+                    present[row * roundCount + column] = true;
+                    count++;
+                }
+            }
+        }
+        return layout(board, rankedIds, rankedNames, rounds, rankedTotals, grid, present, count);
+    }
+
+    /**
+     * Choisit la forme la plus compacte pour une grille dont les lignes sont dans l'ordre du classement.
+     */
+    private static BoardMatrixResponse layout(Board board, long[] participantIds, String[] participantNames,
+                                              int[] rounds, int[] totals, int[] grid, boolean[] present,
+                                              int filled) {
+        int roundCount = rounds.length;
+        int size = grid.length;
+        int absent = size - filled;
+        BoardMatrixResponse.Layout layout = size + absent <= 3 * filled
+                ? BoardMatrixResponse.Layout.DENSE
+                : BoardMatrixResponse.Layout.SPARSE;
+        int[] scores = null;
+        int[] missing = null;
+        int[] sparseCells = null;
+        if (layout == BoardMatrixResponse.Layout.DENSE) {
+            scores = grid;
+            if (absent > 0) {
+                missing = new int[absent];
+                for (int position = 0, m = 0; position < size; position++) {
+                    if (!present[position]) {
+                        missing[m++] = position;
+                    }
+                }
+            }
+        } else {
+            sparseCells = new int[3 * filled];
+            for (int position = 0, c = 0; position < size; position++) {
+                if (present[position]) {
+                    sparseCells[c++] = position / roundCount;
+                    sparseCells[c++] = position % roundCount;
+                    sparseCells[c++] = grid[position];
+                }
+            }
+        }
+
+        return new BoardMatrixResponse(
+                board.getId(),
+                board.getName(),
+                board.getTargetScore(),
+                board.getScoreCondition(),
+                board.getNumberOfRounds(),
+                participantIds,
+                participantNames,
+                rounds,
+                totals,
+                layout,
+                scores,
+                missing,
+                sparseCells
+        );
+    }
+
+    /**
+     * Numéros de tours distincts (triés) et correspondance numéro de tour → colonne.
+     */
+    private static final class RoundColumns {
+
+        private final int[] rounds;
+        private final int minRound;
+        private final int[] columnByOffset;
+
+        private RoundColumns(int[] rounds, int minRound, int[] columnByOffset) {
+            this.rounds = rounds;
+            this.minRound = minRound;
+            this.columnByOffset = columnByOffset;
+        }
+
+        static RoundColumns of(List<ScoreCell> cells) {
+            if (cells.isEmpty()) {
+                return new RoundColumns(new int[0], 0, new int[0]);
+            }
+            int min = Integer.MAX_VALUE;
+            int max = Integer.MIN_VALUE;
+            for (ScoreCell cell : cells) {
+                min = Math.min(min, cell.roundNumber());
+                max = Math.max(max, cell.roundNumber());
+            }
+            long span = (long) max - min + 1;
+            if (span > 4L * cells.size() + 64) {
+                // Numéros très espacés : une table par numéro serait trop grande, on trie.
+                return new RoundColumns(sortedDistinctRounds(cells), min, null);
+            }
+            int[] columnByOffset = new int[(int) span];
+            for (ScoreCell cell : cells) {
+                columnByOffset[cell.roundNumber() - min] = 1;
+            }
+            int[] rounds = new int[(int) span];
+            int count = 0;
+            for (int offset = 0; offset < columnByOffset.length; offset++) {
+                if (columnByOffset[offset] != 0) {
+                    rounds[count] = min + offset;
+                    columnByOffset[offset] = count++;
+                }
+            }
+            return new RoundColumns(Arrays.copyOf(rounds, count), min, columnByOffset);
+        }
+
+        int columnOf(int roundNumber) {
+            return columnByOffset != null
+                    ? columnByOffset[roundNumber - minRound]
+                    : Arrays.binarySearch(rounds, roundNumber);
+        }
+
+        private static int[] sortedDistinctRounds(List<ScoreCell> cells) {
+            int[] rounds = new int[cells.size()];
+            for (int i = 0; i < rounds.length; i++) {
+                rounds[i] = cells.get(i).roundNumber();
+            }
+            Arrays.sort(rounds);
+            int distinct = 0;
+            for (int i = 0; i < rounds.length; i++) {
+                if (i == 0 || rounds[i] != rounds[i - 1]) {
+                    rounds[distinct++] = rounds[i];
+                }
+            }
+            return Arrays.copyOf(rounds, distinct);
+        }
+    }
+
+    /**
+     * Ordre du classement (même règle que {@link BoardMapper} : meilleur total en premier, à égalité
+     * l'ordre des identifiants est conservé).
+     *
+     * @return {@code ranking[rang] = index du participant}.
+     */
+    private static int[] rank(int[] totals, boolean lowestWins) {
+        int[] ranking = new int[totals.length];
+        // Tri par insertion stable : un tableau compte quelques dizaines de joueurs au plus.
+        for (int i = 0; i < totals.length; i++) {
+            int j = i;
+            while (j > 0 && isBetter(totals[i], totals[ranking[j - 1]], lowestWins)) {
+                ranking[j] = ranking[j - 1];
+                j--;
+            }
+            ranking[j] = i;
+        }
+        return ranking;
+    }
+
+    private static boolean isBetter(int total, int other, boolean lowestWins) {
+        return lowestWins ? total < other : total > other;
+    }
+}
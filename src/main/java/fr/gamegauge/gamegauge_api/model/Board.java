@@ -74,6 +74,13 @@ public class Board {
     @Column(name = "updated_at")
     private Instant updatedAt;
 
+    /**
+     * Date d'archivage, ou {@code null} si le tableau est actif. Un tableau archivé n'a plus de participants
+     * en base : son contenu est dans {@link BoardArchive}, jusqu'à sa prochaine modification.
+     */
+    @Column(name = "archived_at")
+    private Instant archivedAt;
+
     // --- Méthodes utilitaires (bonne pratique) ---
     public void addParticipant(Participant participant) {
         participants.add(participant);
@@ -0,0 +1,42 @@
+package fr.gamegauge.gamegauge_api.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Contenu d'un tableau archivé : ses participants et leurs scores, encodés et compressés par
+ * {@code BoardArchiveCodec}. Tant que l'archive existe, le tableau n'a ni participant ni score
+ * dans les tables principales ({@link Board#getArchivedAt()} est renseigné).
+ */
+@Entity
+@Table(name = "board_archives")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BoardArchive {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Column(name = "participant_count", nullable = false)
+    private int participantCount;
+
+    @Column(name = "score_count", nullable = false)
+    private int scoreCount;
+
+    /** Taille du contenu avant compression. */
+    @Column(name = "raw_size", nullable = false)
+    private int rawSize;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
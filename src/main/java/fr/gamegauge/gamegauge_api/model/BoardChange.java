@@ -0,0 +1,70 @@
+package fr.gamegauge.gamegauge_api.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Une ligne du journal des modifications : une entité (tableau, participant ou score) insérée,
+ * modifiée ou supprimée.
+ * <p>
+ * Chaque modification reçoit deux numéros de séquence croissants, l'un propre au tableau ({@code boardSeq}),
+ * l'autre propre au propriétaire ({@code ownerSeq}) ; toutes les lignes d'une même modification partagent
+ * les mêmes numéros. Les identifiants sont de simples colonnes (sans relation JPA) : le journal survit
+ * à la suppression des entités qu'il décrit.
+ */
+@Entity
+@Table(name = "board_changes")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BoardChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "board_seq", nullable = false)
+    private long boardSeq;
+
+    @Column(name = "owner_seq", nullable = false)
+    private long ownerSeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    /**
+     * Le tableau d'un participant, le participant d'un score ; vide pour un tableau.
+     */
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeOperation operation;
+
+    @CreationTimestamp
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private Instant changedAt;
+
+    public BoardChange(ChangeEntityType entityType, Long entityId, Long parentId, ChangeOperation operation) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.parentId = parentId;
+        this.operation = operation;
+    }
+}
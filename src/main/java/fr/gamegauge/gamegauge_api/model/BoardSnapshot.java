@@ -0,0 +1,42 @@
+package fr.gamegauge.gamegauge_api.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+
+/**
+ * Instantané de l'état des scores d'un tableau après l'événement {@code lastEventId} du journal
+ * ({@link ScoreEvent}). L'état est encodé en binaire par {@code BoardScoreState}.
+ */
+@Entity
+@Table(name = "board_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BoardSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    @Column(name = "score_count", nullable = false)
+    private int scoreCount;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,87 @@
+package fr.gamegauge.gamegauge_api.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Contribution d'un tableau aux statistiques de son propriétaire ({@link OwnerStats}), telle qu'elle a été
+ * comptée lors de sa dernière modification.
+ * <p>
+ * L'identifiant est celui du tableau (attribué, non généré) : {@link Persistable} indique à Spring Data qu'une
+ * entité créée par le constructeur est nouvelle, pour l'insérer sans la relire d'abord.
+ */
+@Entity
+@Table(name = "board_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+public class BoardStats implements Persistable<Long> {
+
+    /** Séparateur des noms de vainqueurs (U+001F, « séparateur d'unité »), absent des noms saisis. */
+    private static final String SEPARATOR = "\u001F";
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "rounds_played", nullable = false)
+    private int roundsPlayed;
+
+    @Column(name = "score_count", nullable = false)
+    private long scoreCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @Column(nullable = false)
+    private boolean finished;
+
+    @Column(length = 2000)
+    private String winners;
+
+    @Transient
+    private boolean newEntity;
+
+    public BoardStats(Long boardId, Long ownerId) {
+        this.boardId = boardId;
+        this.ownerId = ownerId;
+        this.newEntity = true;
+    }
+
+    @Override
+    public Long getId() {
+        return boardId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    void markPersisted() {
+        newEntity = false;
+    }
+
+    /**
+     * Les noms des vainqueurs de la partie, si elle est terminée.
+     */
+    public Set<String> getWinnerNames() {
+        return winners == null ? new TreeSet<>() : new TreeSet<>(Arrays.asList(winners.split(SEPARATOR)));
+    }
+
+    public void setWinnerNames(Collection<String> names) {
+        this.winners = names.isEmpty() ? null : String.join(SEPARATOR, new TreeSet<>(names));
+    }
+}
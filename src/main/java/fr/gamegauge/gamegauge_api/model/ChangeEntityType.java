@@ -0,0 +1,10 @@
+package fr.gamegauge.gamegauge_api.model;
+
+/**
+ * Type d'entité concernée par une ligne du journal des modifications ({@link BoardChange}).
+ */
+public enum ChangeEntityType {
+    BOARD,
+    PARTICIPANT,
+    SCORE
+}
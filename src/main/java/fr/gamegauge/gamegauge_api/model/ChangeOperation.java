@@ -0,0 +1,10 @@
+package fr.gamegauge.gamegauge_api.model;
+
+/**
+ * Nature d'une modification enregistrée dans le journal ({@link BoardChange}).
+ */
+public enum ChangeOperation {
+    INSERT,
+    UPDATE,
+    DELETE
+}
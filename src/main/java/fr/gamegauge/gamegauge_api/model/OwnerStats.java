@@ -0,0 +1,41 @@
+package fr.gamegauge.gamegauge_api.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Statistiques de jeu d'un propriétaire de tableaux, tenues à jour à chaque modification d'un de ses tableaux
+ * ({@code OwnerStatsService}). Les compteurs portent sur les tableaux existants, sauf {@code boardsCreated}
+ * qui compte aussi les tableaux supprimés depuis.
+ */
+@Entity
+@Table(name = "owner_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+public class OwnerStats {
+
+    @Id
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Column(name = "boards_created", nullable = false)
+    private long boardsCreated;
+
+    @Column(name = "boards_count", nullable = false)
+    private int boardsCount;
+
+    @Column(name = "boards_finished", nullable = false)
+    private int boardsFinished;
+
+    @Column(name = "rounds_played", nullable = false)
+    private long roundsPlayed;
+
+    @Column(name = "score_count", nullable = false)
+    private long scoreCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+}
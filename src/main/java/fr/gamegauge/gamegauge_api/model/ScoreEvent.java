@@ -0,0 +1,63 @@
+package fr.gamegauge.gamegauge_api.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Un événement du journal des scores d'un tableau. Le journal n'est jamais modifié : les événements sont
+ * ajoutés par lots JDBC ({@code ScoreEventService}) et cette entité ne sert qu'à les relire.
+ * <p>
+ * L'ordre des identifiants est l'ordre des événements d'un tableau : les modifications d'un même tableau
+ * sont sérialisées par le verrou du propriétaire (voir {@code BoardChangeService}).
+ */
+@Entity
+@Immutable
+@Table(name = "score_events")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScoreEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private ScoreEventType eventType;
+
+    @Column(name = "participant_id")
+    private Long participantId;
+
+    @Column(name = "score_id")
+    private Long scoreId;
+
+    @Column(name = "round_number")
+    private Integer roundNumber;
+
+    @Column(name = "score_value")
+    private Integer scoreValue;
+
+    /**
+     * La valeur remplacée par un {@link ScoreEventType#SCORE_RECORDED} (vide pour un nouveau score) :
+     * de quoi annuler la modification.
+     */
+    @Column(name = "previous_value")
+    private Integer previousValue;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    public ScoreEvent(Long boardId, ScoreEventType eventType) {
+        this.boardId = boardId;
+        this.eventType = eventType;
+    }
+}
@@ -0,0 +1,15 @@
+package fr.gamegauge.gamegauge_api.model;
+
+/**
+ * Type d'un événement du journal des scores ({@link ScoreEvent}).
+ */
+public enum ScoreEventType {
+    /** Un score a été créé, ou sa valeur a changé. */
+    SCORE_RECORDED,
+    /** Un score a été supprimé. */
+    SCORE_DELETED,
+    /** Un participant a été retiré du tableau, avec tous ses scores. */
+    PARTICIPANT_REMOVED,
+    /** Tous les scores du tableau ont été supprimés. */
+    BOARD_RESTARTED
+}
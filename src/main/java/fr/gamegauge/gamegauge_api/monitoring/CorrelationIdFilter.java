@@ -0,0 +1,53 @@
+package fr.gamegauge.gamegauge_api.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.apache.logging.log4j.ThreadContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Filtre qui attache un identifiant de corrélation à chaque requête HTTP.
+ * <p>
+ * L'identifiant est repris de l'en-tête {@value #REQUEST_ID_HEADER} s'il est fourni (ex: par le reverse proxy),
+ * sinon il est généré. Il est placé dans le {@link ThreadContext} de Log4j2 sous la clé {@value #REQUEST_ID_KEY}
+ * (et donc dans chaque ligne de log JSON) et renvoyé au client dans le même en-tête.
+ * L'utilisateur authentifié est ajouté plus loin sous la clé {@value #USER_KEY} par le filtre JWT.
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String REQUEST_ID_KEY = "requestId";
+    public static final String USER_KEY = "user";
+
+    /** Borne la taille d'un identifiant fourni par le client, pour ne pas gonfler chaque ligne de log. */
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isBlank() || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+            requestId = UUID.randomUUID().toString();
+        }
+
+        ThreadContext.put(REQUEST_ID_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Les threads du serveur sont réutilisés : on ne laisse rien fuiter vers la requête suivante.
+            ThreadContext.remove(REQUEST_ID_KEY);
+            ThreadContext.remove(USER_KEY);
+        }
+    }
+}
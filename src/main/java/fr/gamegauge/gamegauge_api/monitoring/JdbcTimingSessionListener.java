@@ -0,0 +1,34 @@
+package fr.gamegauge.gamegauge_api.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Écouteur de session Hibernate qui mesure le temps passé dans l'exécution JDBC
+ * (requêtes unitaires et lots). Hibernate en crée une instance par session
+ * (propriété {@code hibernate.session.events.auto}) : l'état n'est donc jamais partagé entre threads.
+ */
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStats.onJdbcTime(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestQueryStats.onJdbcTime(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,106 @@
+package fr.gamegauge.gamegauge_api.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtre qui mesure, pour chaque requête {@code /api/**}, le nombre de requêtes SQL, le temps JDBC
+ * et le nombre d'entités chargées.
+ * <p>
+ * Les mesures sont publiées dans Micrometer (tags {@code method} et {@code uri}) et dans l'attribut
+ * de requête {@link RequestQueryStats#REQUEST_ATTRIBUTE}. Un avertissement est journalisé quand
+ * l'endpoint dépasse son budget, avec les requêtes répétées qui trahissent un N+1.
+ */
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LogManager.getLogger(QueryBudgetFilter.class);
+
+    private final QueryBudgetProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public QueryBudgetFilter(QueryBudgetProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        // Si une mesure englobante est déjà en cours (ex: un test), on l'alimente au lieu de la remplacer.
+        RequestQueryStats outer = RequestQueryStats.current();
+        RequestQueryStats stats = outer != null ? outer : RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (outer == null) {
+                RequestQueryStats.stop();
+            }
+            request.setAttribute(RequestQueryStats.REQUEST_ATTRIBUTE, stats);
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String endpoint = request.getMethod() + " " + uri;
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            DistributionSummary.builder("gamegauge.request.sql.statements")
+                    .description("Requêtes SQL exécutées par requête HTTP")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(registry)
+                    .record(stats.getStatements());
+            DistributionSummary.builder("gamegauge.request.entities.loaded")
+                    .description("Entités Hibernate chargées par requête HTTP")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(registry)
+                    .record(stats.getEntitiesLoaded());
+            Timer.builder("gamegauge.request.sql.time")
+                    .description("Temps JDBC cumulé par requête HTTP")
+                    .tags("method", request.getMethod(), "uri", uri)
+                    .register(registry)
+                    .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        int budget = properties.budgetFor(endpoint);
+        if (stats.getStatements() > budget) {
+            if (registry != null) {
+                registry.counter("gamegauge.request.sql.budget.exceeded", "method", request.getMethod(), "uri", uri)
+                        .increment();
+            }
+            Map<String, Integer> repeated = stats.repeatedStatements(properties.getRepeatedStatementThreshold());
+            logger.warn("Budget SQL dépassé pour {} : {} requêtes (budget {}), {} ms JDBC, {} entités chargées, {} collections. Requêtes répétées (N+1 probable) : {}",
+                    endpoint, stats.getStatements(), budget, TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()),
+                    stats.getEntitiesLoaded(), stats.getCollectionsFetched(), repeated);
+        } else if (logger.isDebugEnabled()) {
+            logger.debug("{} : {} requêtes SQL, {} entités chargées, {} collections",
+                    endpoint, stats.getStatements(), stats.getEntitiesLoaded(), stats.getCollectionsFetched());
+        }
+    }
+}
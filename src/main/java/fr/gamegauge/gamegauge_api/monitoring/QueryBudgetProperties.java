@@ -0,0 +1,42 @@
+package fr.gamegauge.gamegauge_api.monitoring;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Budgets de requêtes SQL par endpoint (préfixe {@code gamegauge.query-budget}).
+ * <p>
+ * Les clés de {@code endpoints} ont la forme {@code "METHODE /motif/de/l/url"}, par exemple :
+ * <pre>
+ * gamegauge.query-budget.endpoints[GET /api/boards/{boardId}]=4
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.query-budget")
+public class QueryBudgetProperties {
+
+    /** Active la mesure des requêtes SQL par requête HTTP. */
+    private boolean enabled = true;
+
+    /** Budget appliqué aux endpoints sans budget spécifique. */
+    private int defaultMaxStatements = 10;
+
+    /** Nombre d'exécutions d'une même requête à partir duquel un N+1 est signalé. */
+    private int repeatedStatementThreshold = 5;
+
+    /** Budgets spécifiques, indexés par {@code "METHODE /motif"}. */
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    /**
+     * @param endpoint L'endpoint, au format {@code "METHODE /motif"}.
+     * @return Le nombre maximal de requêtes SQL autorisé pour cet endpoint.
+     */
+    public int budgetFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultMaxStatements);
+    }
+}
@@ -0,0 +1,16 @@
+package fr.gamegauge.gamegauge_api.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * {@link StatementInspector} Hibernate qui comptabilise chaque requête SQL préparée
+ * dans les {@link RequestQueryStats} du thread courant. Le SQL n'est pas modifié.
+ */
+public class QueryCountStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryStats.onStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,24 @@
+package fr.gamegauge.gamegauge_api.monitoring;
+
+import org.hibernate.HibernateException;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Écouteur d'événements Hibernate qui compte les entités chargées et les collections
+ * initialisées pour les {@link RequestQueryStats} du thread courant.
+ */
+public class QueryStatsEventListener implements PostLoadEventListener, InitializeCollectionEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestQueryStats.onEntityLoaded();
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        RequestQueryStats.onCollectionFetched();
+    }
+}
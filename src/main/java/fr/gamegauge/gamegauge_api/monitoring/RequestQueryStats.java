@@ -0,0 +1,133 @@
+package fr.gamegauge.gamegauge_api.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compteurs d'accès à la base de données pour la requête HTTP (ou le bloc de code) en cours.
+ * <p>
+ * Une instance est attachée au thread courant par {@link #start()} puis alimentée par
+ * l'instrumentation Hibernate : {@link QueryCountStatementInspector} (requêtes SQL),
+ * {@link JdbcTimingSessionListener} (temps JDBC) et {@link QueryStatsEventListener}
+ * (entités chargées, collections initialisées). Hors d'un bloc {@code start()}/{@code stop()},
+ * l'instrumentation ne fait rien.
+ */
+public final class RequestQueryStats {
+
+    /** Attribut de requête HTTP sous lequel le filtre publie les statistiques de la requête. */
+    public static final String REQUEST_ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    /** Borne le nombre de requêtes distinctes mémorisées (une requête pathologique ne doit pas saturer la mémoire). */
+    private static final int MAX_TRACKED_SQL = 256;
+
+    private int statements;
+    private long jdbcNanos;
+    private int entitiesLoaded;
+    private int collectionsFetched;
+    private final Map<String, Integer> executionsBySql = new LinkedHashMap<>();
+    private final List<String> sqlLog = new ArrayList<>();
+
+    /**
+     * Attache de nouvelles statistiques au thread courant.
+     *
+     * @return Les statistiques qui seront alimentées jusqu'à l'appel de {@link #stop()}.
+     */
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * @return Les statistiques attachées au thread courant, ou {@code null} si aucune mesure n'est en cours.
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /** Détache les statistiques du thread courant. */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    static void onStatement(String sql) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            if (stats.sqlLog.size() < MAX_TRACKED_SQL) {
+                stats.sqlLog.add(sql);
+            }
+            if (stats.executionsBySql.containsKey(sql) || stats.executionsBySql.size() < MAX_TRACKED_SQL) {
+                stats.executionsBySql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    static void onJdbcTime(long nanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.jdbcNanos += nanos;
+        }
+    }
+
+    static void onEntityLoaded() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.entitiesLoaded++;
+        }
+    }
+
+    static void onCollectionFetched() {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.collectionsFetched++;
+        }
+    }
+
+    /** @return Le nombre de requêtes SQL préparées. */
+    public int getStatements() {
+        return statements;
+    }
+
+    /** @return Le temps cumulé passé dans l'exécution JDBC, en nanosecondes. */
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /** @return Le nombre d'entités hydratées depuis la base. */
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    /** @return Le nombre de collections paresseuses initialisées. */
+    public int getCollectionsFetched() {
+        return collectionsFetched;
+    }
+
+    /** @return Le texte des requêtes SQL exécutées, dans l'ordre (borné à {@value #MAX_TRACKED_SQL}). */
+    public List<String> getSql() {
+        return Collections.unmodifiableList(sqlLog);
+    }
+
+    /**
+     * Repère les requêtes identiques exécutées de nombreuses fois : c'est la signature d'un N+1
+     * (une requête par élément d'une collection au lieu d'une requête groupée).
+     *
+     * @param threshold Le nombre d'exécutions à partir duquel une requête est suspecte.
+     * @return Les requêtes suspectes et leur nombre d'exécutions.
+     */
+    public Map<String, Integer> repeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsBySql.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,24 @@
+package fr.gamegauge.gamegauge_api.repository;
+
+import fr.gamegauge.gamegauge_api.model.BoardArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository pour les archives des tableaux inactifs ({@link BoardArchive}).
+ */
+@Repository
+public interface BoardArchiveRepository extends JpaRepository<BoardArchive, Long> {
+
+    /**
+     * Liste les archives des tableaux d'un propriétaire (construction de l'index de recherche).
+     *
+     * @param ownerId L'ID du propriétaire.
+     */
+    @Query("SELECT a FROM BoardArchive a, Board b WHERE b.id = a.boardId AND b.owner.id = :ownerId")
+    List<BoardArchive> findByOwnerId(@Param("ownerId") Long ownerId);
+}
@@ -0,0 +1,85 @@
+package fr.gamegauge.gamegauge_api.repository;
+
+import fr.gamegauge.gamegauge_api.model.BoardChange;
+import fr.gamegauge.gamegauge_api.model.ChangeEntityType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository pour le journal des modifications ({@link BoardChange}).
+ */
+@Repository
+public interface BoardChangeRepository extends JpaRepository<BoardChange, Long> {
+
+    /**
+     * Lit les modifications d'un tableau dont le numéro de séquence est dans ]since, upTo],
+     * dans l'ordre où elles ont été faites (index (board_id, board_seq)).
+     */
+    @Query("SELECT c FROM BoardChange c WHERE c.boardId = :boardId AND c.boardSeq > :since AND c.boardSeq <= :upTo "
+            + "ORDER BY c.boardSeq, c.id")
+    List<BoardChange> findBoardChanges(@Param("boardId") Long boardId, @Param("since") long since,
+                                       @Param("upTo") long upTo);
+
+    /**
+     * Lit les modifications de tous les tableaux d'un propriétaire dont le numéro de séquence est dans ]since, upTo],
+     * dans l'ordre où elles ont été faites (index (owner_id, owner_seq)).
+     */
+    @Query("SELECT c FROM BoardChange c WHERE c.ownerId = :ownerId AND c.ownerSeq > :since AND c.ownerSeq <= :upTo "
+            + "ORDER BY c.ownerSeq, c.id")
+    List<BoardChange> findOwnerChanges(@Param("ownerId") Long ownerId, @Param("since") long since,
+                                       @Param("upTo") long upTo);
+
+    /**
+     * Comme {@link #findOwnerChanges(Long, long, long)}, limité à certains types d'entités (index de recherche :
+     * tableaux et participants, sans les scores).
+     */
+    @Query("SELECT c FROM BoardChange c WHERE c.ownerId = :ownerId AND c.ownerSeq > :since AND c.ownerSeq <= :upTo "
+            + "AND c.entityType IN :types ORDER BY c.ownerSeq, c.id")
+    List<BoardChange> findOwnerChangesOfTypes(@Param("ownerId") Long ownerId, @Param("since") long since,
+                                              @Param("upTo") long upTo,
+                                              @Param("types") Collection<ChangeEntityType> types);
+
+    /**
+     * Journalise en une requête l'insertion de tous les participants d'un tableau (import, duplication).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO board_changes "
+            + "(owner_id, board_id, board_seq, owner_seq, entity_type, entity_id, parent_id, operation, changed_at) "
+            + "SELECT :ownerId, p.board_id, :boardSeq, :ownerSeq, 'PARTICIPANT', p.id, p.board_id, 'INSERT', :changedAt "
+            + "FROM participants p WHERE p.board_id = :boardId", nativeQuery = true)
+    void recordParticipantsInserted(@Param("ownerId") Long ownerId, @Param("boardId") Long boardId,
+                                    @Param("boardSeq") long boardSeq, @Param("ownerSeq") long ownerSeq,
+                                    @Param("changedAt") Instant changedAt);
+
+    /**
+     * Journalise en une requête l'insertion ou la suppression de tous les scores d'un tableau
+     * (import, ou réinitialisation : à exécuter avant la suppression en masse).
+     *
+     * @param operation {@code INSERT} ou {@code DELETE}.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO board_changes "
+            + "(owner_id, board_id, board_seq, owner_seq, entity_type, entity_id, parent_id, operation, changed_at) "
+            + "SELECT :ownerId, p.board_id, :boardSeq, :ownerSeq, 'SCORE', s.id, s.participant_id, :operation, :changedAt "
+            + "FROM score_entries s JOIN participants p ON p.id = s.participant_id WHERE p.board_id = :boardId",
+            nativeQuery = true)
+    void recordScores(@Param("ownerId") Long ownerId, @Param("boardId") Long boardId,
+                      @Param("boardSeq") long boardSeq, @Param("ownerSeq") long ownerSeq,
+                      @Param("operation") String operation, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Purge les modifications antérieures à une date (index changed_at).
+     *
+     * @return Le nombre de lignes supprimées.
+     */
+    @Modifying
+    @Query("DELETE FROM BoardChange c WHERE c.changedAt < :cutoff")
+    int deleteChangedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -1,10 +1,19 @@
 package fr.gamegauge.gamegauge_api.repository;
 
+import fr.gamegauge.gamegauge_api.dto.projection.BoardName;
+import fr.gamegauge.gamegauge_api.dto.projection.BoardVersion;
+import fr.gamegauge.gamegauge_api.dto.projection.ChangeLogState;
+import fr.gamegauge.gamegauge_api.dto.projection.ChangeSequences;
 import fr.gamegauge.gamegauge_api.model.Board;
 import fr.gamegauge.gamegauge_api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +42,86 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
      */
     Optional<Board> findByIdAndOwner(Long id, User owner);
     List<Board> findByOwnerOrderByDisplayOrderAsc(User owner);
-}
\ No newline at end of file
+
+    /**
+     * Lit la version d'un tableau (son compteur de modifications), sa condition de victoire et s'il est archivé,
+     * en vérifiant en même temps qu'il appartient à l'utilisateur.
+     *
+     * @param id    L'ID du tableau.
+     * @param email L'email du propriétaire attendu.
+     * @return Un Optional vide si le tableau n'existe pas ou appartient à un autre utilisateur.
+     */
+    @Query(value = "SELECT b.change_seq AS changeSeq, b.score_condition AS scoreCondition, "
+            + "CASE WHEN b.archived_at IS NULL THEN FALSE ELSE TRUE END AS archived "
+            + "FROM boards b JOIN users u ON u.id = b.owner_id WHERE b.id = :id AND u.email = :email", nativeQuery = true)
+    Optional<BoardVersion> findVersionByIdAndOwnerEmail(@Param("id") Long id, @Param("email") String email);
+
+    /**
+     * Incrémente le compteur de modifications d'un tableau et note la date de cette activité (voir l'archivage).
+     * La ligne reste verrouillée jusqu'à la fin de la transaction : deux modifications d'un même tableau
+     * reçoivent des numéros distincts et croissants.
+     *
+     * @param id L'ID du tableau.
+     */
+    @Modifying
+    @Query(value = "UPDATE boards SET change_seq = change_seq + 1, last_activity_at = CURRENT_TIMESTAMP(6) "
+            + "WHERE id = :id", nativeQuery = true)
+    void incrementChangeSeq(@Param("id") Long id);
+
+    /**
+     * Lit, en une requête, les compteurs de modifications d'un tableau et de son propriétaire.
+     *
+     * @param id L'ID du tableau.
+     */
+    @Query(value = "SELECT b.change_seq AS boardSeq, u.change_seq AS ownerSeq "
+            + "FROM boards b JOIN users u ON u.id = b.owner_id WHERE b.id = :id", nativeQuery = true)
+    ChangeSequences findChangeSequences(@Param("id") Long id);
+
+    /**
+     * Lit l'état du journal des modifications d'un tableau.
+     *
+     * @param id L'ID du tableau.
+     */
+    @Query(value = "SELECT change_seq AS changeSeq, history_seq AS historySeq FROM boards WHERE id = :id",
+            nativeQuery = true)
+    ChangeLogState findChangeLogState(@Param("id") Long id);
+
+    /**
+     * Reporte sur chaque tableau le dernier numéro de séquence qui va être purgé du journal.
+     *
+     * @param cutoff Les modifications antérieures à cette date vont être purgées.
+     */
+    @Modifying
+    @Query(value = "UPDATE boards SET history_seq = (SELECT MAX(c.board_seq) FROM board_changes c "
+            + "WHERE c.board_id = boards.id AND c.changed_at < :cutoff) "
+            + "WHERE id IN (SELECT c.board_id FROM board_changes c WHERE c.changed_at < :cutoff)", nativeQuery = true)
+    int markCompactedHistory(@Param("cutoff") Instant cutoff);
+
+    /**
+     * Liste l'identifiant et le nom de tous les tableaux d'un propriétaire (construction de l'index de recherche).
+     *
+     * @param ownerId L'ID du propriétaire.
+     */
+    @Query("SELECT new fr.gamegauge.gamegauge_api.dto.projection.BoardName(b.id, b.name) "
+            + "FROM Board b WHERE b.owner.id = :ownerId")
+    List<BoardName> findNamesByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * Relit le nom de tableaux d'un propriétaire ; les tableaux supprimés sont absents du résultat.
+     *
+     * @param ownerId L'ID du propriétaire.
+     * @param ids     Les IDs des tableaux.
+     */
+    @Query("SELECT new fr.gamegauge.gamegauge_api.dto.projection.BoardName(b.id, b.name) "
+            + "FROM Board b WHERE b.owner.id = :ownerId AND b.id IN :ids")
+    List<BoardName> findNamesByOwnerIdAndIdIn(@Param("ownerId") Long ownerId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * L'email du propriétaire d'un tableau (rejeu du journal des scores en attente, qui ne le stocke pas).
+     *
+     * @param id L'ID du tableau.
+     * @return Un Optional vide si le tableau n'existe plus.
+     */
+    @Query("SELECT b.owner.email FROM Board b WHERE b.id = :id")
+    Optional<String> findOwnerEmailById(@Param("id") Long id);
+}
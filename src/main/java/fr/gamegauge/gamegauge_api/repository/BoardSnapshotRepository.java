@@ -0,0 +1,24 @@
+package fr.gamegauge.gamegauge_api.repository;
+
+import fr.gamegauge.gamegauge_api.model.BoardSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository pour les instantanés de l'état des scores des tableaux ({@link BoardSnapshot}).
+ */
+@Repository
+public interface BoardSnapshotRepository extends JpaRepository<BoardSnapshot, Long> {
+
+    /**
+     * Trouve le dernier instantané d'un tableau pris au plus tard à l'événement donné
+     * (index unique (board_id, last_event_id)).
+     *
+     * @param boardId   L'ID du tableau.
+     * @param atEventId L'identifiant de l'événement.
+     */
+    Optional<BoardSnapshot> findFirstByBoardIdAndLastEventIdLessThanEqualOrderByLastEventIdDesc(Long boardId,
+                                                                                             long atEventId);
+}
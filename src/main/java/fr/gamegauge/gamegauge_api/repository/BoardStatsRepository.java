@@ -0,0 +1,12 @@
+package fr.gamegauge.gamegauge_api.repository;
+
+import fr.gamegauge.gamegauge_api.model.BoardStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository pour l'entité {@link BoardStats}.
+ */
+@Repository
+public interface BoardStatsRepository extends JpaRepository<BoardStats, Long> {
+}
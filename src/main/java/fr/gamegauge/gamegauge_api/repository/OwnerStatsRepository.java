@@ -0,0 +1,85 @@
+package fr.gamegauge.gamegauge_api.repository;
+
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantWins;
+import fr.gamegauge.gamegauge_api.model.OwnerStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository des statistiques par propriétaire ({@link OwnerStats}) et des victoires par nom de participant
+ * (table {@code owner_participant_stats}). Les compteurs sont modifiés par différence, en une requête.
+ */
+@Repository
+public interface OwnerStatsRepository extends JpaRepository<OwnerStats, Long> {
+
+    /**
+     * Lit les statistiques d'un utilisateur à partir de son email.
+     *
+     * @param email L'email de l'utilisateur.
+     */
+    @Query(value = "SELECT os.* FROM owner_stats os JOIN users u ON u.id = os.owner_id WHERE u.email = :email",
+            nativeQuery = true)
+    Optional<OwnerStats> findByOwnerEmail(@Param("email") String email);
+
+    /**
+     * Ajoute des différences aux compteurs d'un propriétaire.
+     *
+     * @return Le nombre de lignes modifiées (0 si le propriétaire n'a pas encore de statistiques).
+     */
+    @Modifying
+    @Query(value = "UPDATE owner_stats SET boards_created = boards_created + :created, "
+            + "boards_count = boards_count + :count, boards_finished = boards_finished + :finished, "
+            + "rounds_played = rounds_played + :rounds, score_count = score_count + :scoreCount, "
+            + "score_sum = score_sum + :scoreSum WHERE owner_id = :ownerId", nativeQuery = true)
+    int addToStats(@Param("ownerId") Long ownerId, @Param("created") long created, @Param("count") int count,
+                   @Param("finished") int finished, @Param("rounds") long rounds,
+                   @Param("scoreCount") long scoreCount, @Param("scoreSum") long scoreSum);
+
+    /**
+     * Crée les statistiques d'un propriétaire.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO owner_stats (owner_id, boards_created, boards_count, boards_finished, rounds_played, "
+            + "score_count, score_sum) VALUES (:ownerId, :created, :count, :finished, :rounds, :scoreCount, :scoreSum)",
+            nativeQuery = true)
+    void insertStats(@Param("ownerId") Long ownerId, @Param("created") long created, @Param("count") int count,
+                     @Param("finished") int finished, @Param("rounds") long rounds,
+                     @Param("scoreCount") long scoreCount, @Param("scoreSum") long scoreSum);
+
+    /**
+     * Ajoute une différence au nombre de victoires d'un nom de participant, et retient sa dernière graphie.
+     *
+     * @return Le nombre de lignes modifiées (0 si ce nom n'a encore jamais gagné).
+     */
+    @Modifying
+    @Query(value = "UPDATE owner_participant_stats SET wins = wins + :delta, participant_name = :name "
+            + "WHERE owner_id = :ownerId AND participant_key = :key", nativeQuery = true)
+    int addWins(@Param("ownerId") Long ownerId, @Param("key") String key, @Param("name") String name,
+                @Param("delta") int delta);
+
+    /**
+     * Crée le compteur de victoires d'un nom de participant.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO owner_participant_stats (owner_id, participant_key, participant_name, wins) "
+            + "VALUES (:ownerId, :key, :name, :wins)", nativeQuery = true)
+    void insertWins(@Param("ownerId") Long ownerId, @Param("key") String key, @Param("name") String name,
+                    @Param("wins") int wins);
+
+    /**
+     * Liste les noms de participants ayant le plus de victoires chez un utilisateur (index (owner_id, wins)).
+     *
+     * @param email L'email de l'utilisateur.
+     * @param limit Le nombre maximal de noms.
+     */
+    @Query(value = "SELECT ops.participant_name AS name, ops.wins AS wins FROM owner_participant_stats ops "
+            + "JOIN users u ON u.id = ops.owner_id WHERE u.email = :email AND ops.wins > 0 "
+            + "ORDER BY ops.wins DESC, ops.participant_name LIMIT :limit", nativeQuery = true)
+    List<ParticipantWins> findTopWinners(@Param("email") String email, @Param("limit") int limit);
+}
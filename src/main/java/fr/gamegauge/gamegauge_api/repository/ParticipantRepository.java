@@ -1,9 +1,100 @@
 package fr.gamegauge.gamegauge_api.repository;
 
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantName;
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantSummary;
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantTotal;
+import fr.gamegauge.gamegauge_api.dto.projection.RankedParticipantRow;
 import fr.gamegauge.gamegauge_api.model.Participant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Liste l'identifiant et le nom des participants d'un tableau, triés par identifiant.
+     *
+     * @param boardId L'ID du tableau.
+     */
+    @Query("SELECT new fr.gamegauge.gamegauge_api.dto.projection.ParticipantSummary(p.id, p.name) "
+            + "FROM Participant p WHERE p.board.id = :boardId ORDER BY p.id")
+    List<ParticipantSummary> findSummariesByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * Vérifie qu'un participant est dans les tables principales et appartient à un tableau de l'utilisateur, sans
+     * charger le tableau (le participant d'un tableau archivé n'y est plus).
+     *
+     * @param participantId L'ID du participant.
+     * @param boardId       L'ID du tableau.
+     * @param ownerEmail    L'email du propriétaire attendu.
+     */
+    @Query("SELECT COUNT(p) > 0 FROM Participant p "
+            + "WHERE p.id = :participantId AND p.board.id = :boardId AND p.board.owner.email = :ownerEmail")
+    boolean existsInBoardOwnedBy(@Param("participantId") Long participantId, @Param("boardId") Long boardId,
+                                 @Param("ownerEmail") String ownerEmail);
+
+    /**
+     * Agrège les scores de chaque participant d'un tableau (total, nombre de scores, dernier tour), en une requête.
+     * Les participants sans score sont inclus.
+     *
+     * @param boardId L'ID du tableau.
+     */
+    @Query("SELECT new fr.gamegauge.gamegauge_api.dto.projection.ParticipantTotal(p.id, p.name, "
+            + "COALESCE(SUM(s.scoreValue), 0L), COUNT(s), MAX(s.roundNumber)) "
+            + "FROM Participant p LEFT JOIN p.scoreEntries s WHERE p.board.id = :boardId GROUP BY p.id, p.name")
+    List<ParticipantTotal> findTotalsByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * Classe tous les participants d'un tableau par total (fonctions de fenêtrage) et n'en renvoie qu'une tranche,
+     * sans lire leurs scores. Ordre et rangs sont ceux de la vue détaillée : meilleur total en premier, ex aequo
+     * par identifiant. {@code sign} oriente le classement : 1 si le plus haut score gagne, -1 sinon.
+     *
+     * @param boardId L'ID du tableau.
+     * @param sign    1 ({@code HIGHEST_WINS}) ou -1 ({@code LOWEST_WINS}).
+     * @param offset  Le nombre de participants à sauter.
+     * @param limit   Le nombre maximal de participants renvoyés.
+     */
+    @Query(value = """
+            WITH totals AS (
+                SELECT p.id, p.name, COALESCE(SUM(s.score_value), 0) AS total, MAX(s.round_number) AS last_round
+                FROM participants p LEFT JOIN score_entries s ON s.participant_id = p.id
+                WHERE p.board_id = :boardId
+                GROUP BY p.id, p.name
+            )
+            SELECT id, name, total,
+                   RANK() OVER (ORDER BY total * :sign DESC) AS ranking,
+                   COUNT(*) OVER () AS participantCount,
+                   MAX(last_round) OVER () AS roundsPlayed
+            FROM totals
+            ORDER BY ranking, id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<RankedParticipantRow> findRankedByBoardId(@Param("boardId") Long boardId, @Param("sign") int sign,
+                                                   @Param("offset") int offset, @Param("limit") int limit);
+
+    /**
+     * Liste le nom de tous les participants des tableaux d'un propriétaire (construction de l'index de recherche).
+     *
+     * @param ownerId L'ID du propriétaire.
+     */
+    @Query("SELECT new fr.gamegauge.gamegauge_api.dto.projection.ParticipantName(p.id, b.id, p.name) "
+            + "FROM Participant p JOIN p.board b WHERE b.owner.id = :ownerId")
+    List<ParticipantName> findNamesByOwnerId(@Param("ownerId") Long ownerId);
+
+    /**
+     * Relit le nom de participants des tableaux d'un propriétaire ; les participants supprimés sont absents
+     * du résultat.
+     *
+     * @param ownerId L'ID du propriétaire.
+     * @param ids     Les IDs des participants.
+     */
+    @Query("SELECT new fr.gamegauge.gamegauge_api.dto.projection.ParticipantName(p.id, b.id, p.name) "
+            + "FROM Participant p JOIN p.board b WHERE b.owner.id = :ownerId AND p.id IN :ids")
+    List<ParticipantName> findNamesByOwnerIdAndIdIn(@Param("ownerId") Long ownerId,
+                                                    @Param("ids") Collection<Long> ids);
+}
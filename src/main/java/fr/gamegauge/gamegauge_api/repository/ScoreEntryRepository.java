@@ -1,17 +1,108 @@
 package fr.gamegauge.gamegauge_api.repository;
 
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantScore;
+import fr.gamegauge.gamegauge_api.dto.projection.RoundStatRow;
+import fr.gamegauge.gamegauge_api.dto.projection.ScoreCell;
 import fr.gamegauge.gamegauge_api.model.ScoreEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ScoreEntryRepository extends JpaRepository<ScoreEntry, Long> {
     /**
      * Supprime en masse toutes les entrées de score associées à un tableau de scores spécifique.
-     * Le nom de la méthode est interprété par Spring Data JPA pour créer une requête JPQL.
-     * "ByParticipantBoardId" navigue à travers les entités : ScoreEntry -> Participant -> Board -> Id
+     * Une seule requête DELETE, qui retrouve les participants par l'index de board_id puis les scores
+     * par l'index (participant_id, round_number), au lieu de charger chaque score pour le supprimer.
+     * <p>
+     * Attention : la suppression contourne le contexte de persistance ; les collections de scores
+     * déjà chargées dans la transaction ne sont pas mises à jour.
      *
      * @param boardId L'ID du tableau dont les scores doivent être supprimés.
      */
-    void deleteAllByParticipantBoardId(Long boardId);
-}
\ No newline at end of file
+    @Modifying
+    @Query("DELETE FROM ScoreEntry s WHERE s.participant.id IN (SELECT p.id FROM Participant p WHERE p.board.id = :boardId)")
+    void deleteAllByParticipantBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * Lit toutes les entrées de score d'un tableau sous forme de cases (participant, tour, valeur),
+     * en une requête et sans entités gérées.
+     *
+     * @param boardId L'ID du tableau.
+     */
+    @Query("SELECT new fr.gamegauge.gamegauge_api.dto.projection.ScoreCell(s.participant.id, s.roundNumber, s.scoreValue) "
+            + "FROM ScoreEntry s WHERE s.participant.board.id = :boardId")
+    List<ScoreCell> findCellsByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * Lit les entrées de score de quelques participants sur une plage de tours (bornes incluses),
+     * par tour puis par identifiant (index (participant_id, round_number)).
+     *
+     * @param participantIds Les IDs des participants.
+     * @param roundsFrom     Le premier tour.
+     * @param roundsTo       Le dernier tour.
+     */
+    @Query("SELECT new fr.gamegauge.gamegauge_api.dto.projection.ParticipantScore(s.id, s.participant.id, "
+            + "s.roundNumber, s.scoreValue) FROM ScoreEntry s WHERE s.participant.id IN :participantIds "
+            + "AND s.roundNumber BETWEEN :roundsFrom AND :roundsTo ORDER BY s.roundNumber, s.id")
+    List<ParticipantScore> findByParticipantsAndRounds(@Param("participantIds") Collection<Long> participantIds,
+                                                       @Param("roundsFrom") int roundsFrom,
+                                                       @Param("roundsTo") int roundsTo);
+
+    /**
+     * Calcule en une requête les statistiques d'un tableau, tour par tour, avec des fonctions de fenêtrage :
+     * score cumulé de chaque participant, classement après le tour et son évolution, écart avec le premier,
+     * vainqueur(s) du tour, moyenne, maximum et minimum du tour.
+     * <p>
+     * La grille est complétée (participants × tours présents) : un participant qui n'a pas joué un tour garde
+     * son cumul et passe après les autres pour le vainqueur du tour (l'ordre des NULL diffère entre MySQL et H2,
+     * il est donc explicite). {@code sign} oriente les classements : 1 si le plus haut score gagne, -1 sinon.
+     * Lignes triées par tour, puis par classement.
+     *
+     * @param boardId L'ID du tableau.
+     * @param sign    1 ({@code HIGHEST_WINS}) ou -1 ({@code LOWEST_WINS}).
+     */
+    @Query(value = """
+            WITH cells AS (
+                SELECT s.participant_id, s.round_number, SUM(s.score_value) AS score_value
+                FROM score_entries s JOIN participants p ON p.id = s.participant_id
+                WHERE p.board_id = :boardId
+                GROUP BY s.participant_id, s.round_number
+            ), grid AS (
+                SELECT p.id AS participant_id, p.name AS participant_name, r.round_number, c.score_value
+                FROM participants p
+                CROSS JOIN (SELECT DISTINCT round_number FROM cells) r
+                LEFT JOIN cells c ON c.participant_id = p.id AND c.round_number = r.round_number
+                WHERE p.board_id = :boardId
+            ), running AS (
+                SELECT g.participant_id, g.participant_name, g.round_number, g.score_value,
+                       SUM(COALESCE(g.score_value, 0)) OVER (PARTITION BY g.participant_id ORDER BY g.round_number
+                           ROWS UNBOUNDED PRECEDING) AS cumulative
+                FROM grid g
+            ), ranked AS (
+                SELECT r.participant_id, r.participant_name, r.round_number, r.score_value, r.cumulative,
+                       RANK() OVER (PARTITION BY r.round_number ORDER BY r.cumulative * :sign DESC) AS position,
+                       RANK() OVER (PARTITION BY r.round_number ORDER BY CASE WHEN r.score_value IS NULL THEN 1 ELSE 0 END,
+                           r.score_value * :sign DESC) AS round_rank,
+                       MAX(r.cumulative * :sign) OVER (PARTITION BY r.round_number) AS best_cumulative,
+                       AVG(r.score_value * 1.0) OVER (PARTITION BY r.round_number) AS round_mean,
+                       MAX(r.score_value) OVER (PARTITION BY r.round_number) AS round_max,
+                       MIN(r.score_value) OVER (PARTITION BY r.round_number) AS round_min
+                FROM running r
+            )
+            SELECT participant_id AS participantId, participant_name AS participantName,
+                   round_number AS roundNumber, score_value AS scoreValue, cumulative, position,
+                   LAG(position) OVER (PARTITION BY participant_id ORDER BY round_number) - position AS positionChange,
+                   best_cumulative - cumulative * :sign AS gapToLeader,
+                   CASE WHEN score_value IS NOT NULL AND round_rank = 1 THEN TRUE ELSE FALSE END AS roundWinner,
+                   round_mean AS roundMean, round_max AS roundMax, round_min AS roundMin
+            FROM ranked
+            ORDER BY round_number, position, participant_id
+            """, nativeQuery = true)
+    List<RoundStatRow> findRoundStatsByBoardId(@Param("boardId") Long boardId, @Param("sign") int sign);
+}
@@ -0,0 +1,47 @@
+package fr.gamegauge.gamegauge_api.repository;
+
+import fr.gamegauge.gamegauge_api.dto.projection.BoardEventCount;
+import fr.gamegauge.gamegauge_api.model.ScoreEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository de lecture du journal des scores ({@link ScoreEvent}). Les écritures passent par
+ * {@code ScoreEventService}, en lots JDBC.
+ */
+@Repository
+public interface ScoreEventRepository extends JpaRepository<ScoreEvent, Long> {
+
+    /**
+     * Lit les événements d'un tableau dont l'identifiant est dans ]afterId, upToId], dans l'ordre
+     * (index (board_id, id)) : la fin du journal à rejouer après un instantané.
+     */
+    @Query("SELECT e FROM ScoreEvent e WHERE e.boardId = :boardId AND e.id > :afterId AND e.id <= :upToId ORDER BY e.id")
+    List<ScoreEvent> findTail(@Param("boardId") Long boardId, @Param("afterId") long afterId,
+                              @Param("upToId") long upToId);
+
+    /**
+     * Lit les événements d'un tableau antérieurs à {@code beforeId}, du plus récent au plus ancien.
+     */
+    @Query("SELECT e FROM ScoreEvent e WHERE e.boardId = :boardId AND e.id < :beforeId ORDER BY e.id DESC")
+    List<ScoreEvent> findHistory(@Param("boardId") Long boardId, @Param("beforeId") long beforeId, Limit limit);
+
+    /**
+     * Identifiant du dernier événement du journal (tous tableaux confondus), ou {@code null} s'il est vide.
+     */
+    @Query("SELECT MAX(e.id) FROM ScoreEvent e")
+    Long findMaxId();
+
+    /**
+     * Compte les événements ajoutés à chaque tableau dans l'intervalle d'identifiants ]fromId, toId]
+     * (parcours de la clé primaire sur les seuls nouveaux événements).
+     */
+    @Query("SELECT new fr.gamegauge.gamegauge_api.dto.projection.BoardEventCount(e.boardId, COUNT(e)) "
+            + "FROM ScoreEvent e WHERE e.id > :fromId AND e.id <= :toId GROUP BY e.boardId")
+    List<BoardEventCount> countByBoard(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -1,9 +1,15 @@
 package fr.gamegauge.gamegauge_api.repository;
 
+import fr.gamegauge.gamegauge_api.dto.projection.ChangeLogState;
+import fr.gamegauge.gamegauge_api.dto.projection.OwnerChangeLogState;
 import fr.gamegauge.gamegauge_api.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 
 /**
@@ -40,4 +46,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return un {@link Optional} contenant l'utilisateur trouvé, ou vide si aucun utilisateur ne correspond.
      */
     Optional<User> findByResetPasswordToken(String token);
-}
\ No newline at end of file
+
+    /**
+     * Incrémente le compteur de modifications de l'ensemble des tableaux d'un utilisateur.
+     * La ligne reste verrouillée jusqu'à la fin de la transaction.
+     *
+     * @param id L'ID de l'utilisateur.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET change_seq = change_seq + 1 WHERE id = :id", nativeQuery = true)
+    void incrementChangeSeq(@Param("id") Long id);
+
+    /**
+     * Lit l'état du journal des modifications des tableaux d'un utilisateur.
+     *
+     * @param id L'ID de l'utilisateur.
+     */
+    @Query(value = "SELECT change_seq AS changeSeq, history_seq AS historySeq FROM users WHERE id = :id",
+            nativeQuery = true)
+    ChangeLogState findChangeLogState(@Param("id") Long id);
+
+    /**
+     * Lit l'identifiant d'un utilisateur et l'état du journal des modifications de ses tableaux, à partir
+     * de son email (index unique sur {@code email}).
+     *
+     * @param email L'email de l'utilisateur.
+     */
+    @Query(value = "SELECT id AS id, change_seq AS changeSeq, history_seq AS historySeq FROM users WHERE email = :email",
+            nativeQuery = true)
+    Optional<OwnerChangeLogState> findChangeLogStateByEmail(@Param("email") String email);
+
+    /**
+     * Reporte sur chaque utilisateur le dernier numéro de séquence qui va être purgé du journal.
+     *
+     * @param cutoff Les modifications antérieures à cette date vont être purgées.
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET history_seq = (SELECT MAX(c.owner_seq) FROM board_changes c "
+            + "WHERE c.owner_id = users.id AND c.changed_at < :cutoff) "
+            + "WHERE id IN (SELECT c.owner_id FROM board_changes c WHERE c.changed_at < :cutoff)", nativeQuery = true)
+    int markCompactedHistory(@Param("cutoff") Instant cutoff);
+}
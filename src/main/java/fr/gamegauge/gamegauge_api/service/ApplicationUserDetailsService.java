@@ -1,5 +1,7 @@
 package fr.gamegauge.gamegauge_api.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
 import fr.gamegauge.gamegauge_api.repository.UserRepository;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,14 +15,23 @@ import java.util.Collections;
  * Implémentation de l'interface UserDetailsService de Spring Security.
  * Ce service est responsable de charger les détails spécifiques à un utilisateur (par email)
  * depuis la base de données.
+ * <p>
+ * Les utilisateurs chargés sont gardés en cache ; un changement de mot de passe, sur cette instance ou une autre,
+ * les en fait sortir ({@link InvalidationBus}, région {@code USER}).
  */
 @Service // Très important : déclare cette classe comme un bean Spring.
 public class ApplicationUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+    private final Cache<String, CachedUser> userDetailsCache;
 
-    public ApplicationUserDetailsService(UserRepository userRepository) {
+    public ApplicationUserDetailsService(UserRepository userRepository, ShardRouter shardRouter,
+                                         Cache<String, CachedUser> userDetailsCache, InvalidationBus invalidationBus) {
         this.userRepository = userRepository;
+        this.shardRouter = shardRouter;
+        this.userDetailsCache = userDetailsCache;
+        invalidationBus.on(CacheInvalidation.Region.USER, userDetailsCache::invalidate);
     }
 
     /**
@@ -32,10 +43,21 @@ public class ApplicationUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        // La logique est exactement la même qu'avant.
-        fr.gamegauge.gamegauge_api.model.User user = userRepository.findByEmail(email)
+        CachedUser user = userDetailsCache.get(email, this::load);
+        // Un nouvel objet à chaque appel : Spring Security efface le mot de passe de celui qu'il reçoit.
+        return new User(user.email(), user.passwordHash(), Collections.emptyList());
+    }
+
+    private CachedUser load(String email) {
+        // L'utilisateur est lu sur son shard (partitionnement par propriétaire).
+        fr.gamegauge.gamegauge_api.model.User user = shardRouter.findForOwner(email, () -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new UsernameNotFoundException("Utilisateur non trouvé avec l'email : " + email));
+        return new CachedUser(user.getEmail(), user.getPassword());
+    }
 
-        return new User(user.getEmail(), user.getPassword(), Collections.emptyList());
+    /**
+     * Ce qui est gardé en cache d'un utilisateur : son email et l'empreinte de son mot de passe.
+     */
+    public record CachedUser(String email, String passwordHash) {
     }
 }
\ No newline at end of file
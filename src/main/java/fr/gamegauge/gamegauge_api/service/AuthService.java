@@ -1,5 +1,6 @@
 package fr.gamegauge.gamegauge_api.service;
 
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
 import fr.gamegauge.gamegauge_api.dto.request.LoginRequest;
 import fr.gamegauge.gamegauge_api.dto.request.RegisterRequest;
 import fr.gamegauge.gamegauge_api.dto.response.JwtAuthenticationResponse;
@@ -8,6 +9,7 @@ import fr.gamegauge.gamegauge_api.repository.UserRepository;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 // Nouveaux imports
+import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -28,6 +30,8 @@ public class AuthService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final RecaptchaService recaptchaService;
+    private final ShardRouter shardRouter;
+    private final InvalidationBus invalidationBus;
     private EmailService emailService = new EmailService();
 
     // Mettre à jour le constructeur
@@ -37,7 +41,9 @@ public class AuthService {
             JwtService jwtService,
             AuthenticationManager authenticationManager,
             RecaptchaService recaptchaService,
-            EmailService emailService
+            @Lazy EmailService emailService, // créé au premier email envoyé, pas au démarrage
+            ShardRouter shardRouter,
+            InvalidationBus invalidationBus
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
@@ -45,6 +51,8 @@ public class AuthService {
         this.authenticationManager = authenticationManager;
         this.recaptchaService = recaptchaService;
         this.emailService = emailService;
+        this.shardRouter = shardRouter;
+        this.invalidationBus = invalidationBus;
     }
 
     /**
@@ -59,12 +67,14 @@ public class AuthService {
             throw new IllegalStateException("Validation reCAPTCHA échouée.");
         }
         try {
-            if (userRepository.findByUsername(registerRequest.getUsername()).isPresent()) {
+            // Les noms d'utilisateur sont uniques sur l'ensemble des shards ; l'email désigne le shard.
+            if (shardRouter.findOnAnyShard(() -> userRepository.findByUsername(registerRequest.getUsername())).isPresent()) {
                 logger.warn("Le nom d'utilisateur {} est déjà pris.", registerRequest.getUsername());
                 throw new IllegalStateException("Erreur : Le nom d'utilisateur est déjà pris !");
             }
 
-            if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
+            if (shardRouter.findForOwner(registerRequest.getEmail(),
+                    () -> userRepository.findByEmail(registerRequest.getEmail())).isPresent()) {
                 logger.warn("L'email {} est déjà utilisé.", registerRequest.getEmail());
                 throw new IllegalStateException("Erreur : L'email est déjà utilisé !");
             }
@@ -77,7 +87,7 @@ public class AuthService {
             user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
             user.setEmailVerified(false);
 
-            userRepository.save(user);
+            shardRouter.forNewOwner(user.getEmail(), () -> userRepository.save(user));
 
             logger.info("Utilisateur {} enregistré avec succès.", user.getUsername());
 
@@ -115,7 +125,7 @@ public class AuthService {
         logger.info("Authentification réussie pour : {}", loginRequest.getEmail());
 
         // 2. Si l'authentification réussit, on récupère l'utilisateur
-        var user = userRepository.findByEmail(loginRequest.getEmail())
+        var user = shardRouter.findForOwner(loginRequest.getEmail(), () -> userRepository.findByEmail(loginRequest.getEmail()))
                 .orElseThrow(() -> new IllegalStateException("Utilisateur non trouvé après authentification."));
 
         // On crée un UserDetails pour le passer au service JWT
@@ -138,7 +148,7 @@ public class AuthService {
      * @param email L'email de l'utilisateur qui a oublié son mot de passe.
      */
     public void forgotPassword(String email) {
-        User user = userRepository.findByEmail(email)
+        User user = shardRouter.findForOwner(email, () -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new RuntimeException("Email inconnu"));
 
         // Générer un token unique
@@ -147,7 +157,7 @@ public class AuthService {
         // Expire dans 30 minutes
         user.setTokenExpiryDate(LocalDateTime.now().plusMinutes(30));
 
-        userRepository.save(user);
+        shardRouter.forOwner(email, () -> userRepository.save(user));
 
         emailService.sendResetToken(email, token);
     }
@@ -159,7 +169,7 @@ public class AuthService {
      * @param newPassword Le nouveau mot de passe.
      */
     public void resetPassword(String token, String newPassword) {
-        User user = userRepository.findByResetPasswordToken(token)
+        User user = shardRouter.findOnAnyShard(() -> userRepository.findByResetPasswordToken(token))
                 .orElseThrow(() -> new RuntimeException("Token invalide"));
 
         if (user.getTokenExpiryDate().isBefore(LocalDateTime.now())) {
@@ -173,6 +183,8 @@ public class AuthService {
         user.setResetPasswordToken(null);
         user.setTokenExpiryDate(null);
 
-        userRepository.save(user);
+        shardRouter.forOwner(user.getEmail(), () -> userRepository.save(user));
+        // L'ancien mot de passe ne doit plus être accepté par aucune instance.
+        invalidationBus.publish(CacheInvalidation.Region.USER, user.getEmail());
     }
 }
\ No newline at end of file
@@ -0,0 +1,246 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static fr.gamegauge.gamegauge_api.service.VarInts.readSigned;
+import static fr.gamegauge.gamegauge_api.service.VarInts.readVarLong;
+import static fr.gamegauge.gamegauge_api.service.VarInts.writeSigned;
+import static fr.gamegauge.gamegauge_api.service.VarInts.writeVarLong;
+
+/**
+ * Encodage binaire du contenu d'un tableau archivé : ses participants et leurs scores, avec leurs identifiants
+ * et leurs dates, pour qu'un tableau restauré soit identique à l'original.
+ * <p>
+ * Après un octet de version et le nombre de participants viennent les participants (par identifiant croissant :
+ * écart d'identifiant, nom en UTF-8, dates, nombre de scores), puis les scores colonne par colonne : écarts
+ * d'identifiant, écarts de tour avec le score précédent du participant, valeurs, écarts de date. Tout est en
+ * entiers de longueur variable (zigzag pour les valeurs signées) ; les colonnes regroupent des valeurs
+ * semblables, que la compression DEFLATE qui suit réduit encore. Un score tient en général en 2 à 4 octets.
+ */
+public final class BoardArchiveCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private BoardArchiveCodec() {
+    }
+
+    /**
+     * Un participant archivé et ses scores (par identifiant croissant).
+     */
+    public record ArchivedParticipant(long id, String name, Instant createdAt, Instant updatedAt,
+                                      List<ArchivedScore> scores) {
+    }
+
+    /**
+     * Un score archivé.
+     */
+    public record ArchivedScore(long id, int roundNumber, int scoreValue, Instant createdAt) {
+    }
+
+    /**
+     * Un contenu encodé : les octets compressés et leur taille avant compression.
+     */
+    public record Encoded(byte[] payload, int rawSize) {
+    }
+
+    /**
+     * Encode et compresse le contenu d'un tableau.
+     *
+     * @param participants Les participants, par identifiant croissant.
+     */
+    public static Encoded encode(List<ArchivedParticipant> participants) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + 32 * participants.size());
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, participants.size());
+
+        long previousId = 0;
+        long previousDate = 0;
+        for (ArchivedParticipant participant : participants) {
+            writeVarLong(out, participant.id() - previousId);
+            byte[] name = participant.name().getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, name.length);
+            out.writeBytes(name);
+            previousDate = writeDate(out, participant.createdAt(), previousDate);
+            writeDate(out, participant.updatedAt(), previousDate);
+            writeVarLong(out, participant.scores().size());
+            previousId = participant.id();
+        }
+
+        long previousScoreId = 0;
+        for (ArchivedParticipant participant : participants) {
+            for (ArchivedScore score : participant.scores()) {
+                writeSigned(out, score.id() - previousScoreId);
+                previousScoreId = score.id();
+            }
+        }
+        for (ArchivedParticipant participant : participants) {
+            int previousRound = 0;
+            for (ArchivedScore score : participant.scores()) {
+                writeSigned(out, (long) score.roundNumber() - previousRound);
+                previousRound = score.roundNumber();
+            }
+        }
+        for (ArchivedParticipant participant : participants) {
+            for (ArchivedScore score : participant.scores()) {
+                writeSigned(out, score.scoreValue());
+            }
+        }
+        previousDate = 0;
+        for (ArchivedParticipant participant : participants) {
+            for (ArchivedScore score : participant.scores()) {
+                previousDate = writeDate(out, score.createdAt(), previousDate);
+            }
+        }
+
+        byte[] raw = out.toByteArray();
+        return new Encoded(deflate(raw), raw.length);
+    }
+
+    /**
+     * Décompresse et relit un contenu produit par {@link #encode(List)}.
+     *
+     * @param payload Les octets compressés.
+     * @param rawSize Leur taille avant compression.
+     */
+    public static List<ArchivedParticipant> decode(byte[] payload, int rawSize) {
+        ByteBuffer in = ByteBuffer.wrap(inflate(payload, rawSize));
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("Version d'archive inconnue : " + version);
+        }
+        int count = (int) readVarLong(in);
+        long[] ids = new long[count];
+        String[] names = new String[count];
+        Instant[] created = new Instant[count];
+        Instant[] updated = new Instant[count];
+        int[] scoreCounts = new int[count];
+        long id = 0;
+        long previousDate = 0;
+        for (int p = 0; p < count; p++) {
+            id += readVarLong(in);
+            ids[p] = id;
+            byte[] name = new byte[(int) readVarLong(in)];
+            in.get(name);
+            names[p] = new String(name, StandardCharsets.UTF_8);
+            created[p] = readDate(in, previousDate);
+            previousDate = micros(created[p], previousDate);
+            updated[p] = readDate(in, previousDate);
+            scoreCounts[p] = (int) readVarLong(in);
+        }
+
+        int total = 0;
+        for (int scores : scoreCounts) {
+            total += scores;
+        }
+        long[] scoreIds = new long[total];
+        int[] rounds = new int[total];
+        int[] values = new int[total];
+        long scoreId = 0;
+        for (int s = 0; s < total; s++) {
+            scoreId += readSigned(in);
+            scoreIds[s] = scoreId;
+        }
+        for (int p = 0, s = 0; p < count; p++) {
+            int round = 0;
+            for (int i = 0; i < scoreCounts[p]; i++, s++) {
+                round += (int) readSigned(in);
+                rounds[s] = round;
+            }
+        }
+        for (int s = 0; s < total; s++) {
+            values[s] = (int) readSigned(in);
+        }
+
+        List<ArchivedParticipant> participants = new ArrayList<>(count);
+        previousDate = 0;
+        for (int p = 0, s = 0; p < count; p++) {
+            List<ArchivedScore> scores = new ArrayList<>(scoreCounts[p]);
+            for (int i = 0; i < scoreCounts[p]; i++, s++) {
+                Instant scoreCreated = readDate(in, previousDate);
+                previousDate = micros(scoreCreated, previousDate);
+                scores.add(new ArchivedScore(scoreIds[s], rounds[s], values[s], scoreCreated));
+            }
+            participants.add(new ArchivedParticipant(ids[p], names[p], created[p], updated[p], scores));
+        }
+        return participants;
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    /**
+     * Écrit une date (à la microseconde, comme les colonnes DATETIME(6)) en écart avec la précédente :
+     * 0 pour une date absente, l'écart zigzag plus un sinon.
+     *
+     * @return La date de référence de la date suivante.
+     */
+    private static long writeDate(ByteArrayOutputStream out, Instant date, long previous) {
+        if (date == null) {
+            writeVarLong(out, 0);
+            return previous;
+        }
+        long micros = micros(date, previous);
+        writeVarLong(out, VarInts.zigzagEncode(micros - previous) + 1);
+        return micros;
+    }
+
+    private static Instant readDate(ByteBuffer in, long previous) {
+        long encoded = readVarLong(in);
+        if (encoded == 0) {
+            return null;
+        }
+        long micros = previous + VarInts.zigzagDecode(encoded - 1);
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000), Math.floorMod(micros, 1_000_000) * 1_000L);
+    }
+
+    private static long micros(Instant date, long previous) {
+        return date == null ? previous : date.getEpochSecond() * 1_000_000 + date.getNano() / 1_000;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 16);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] payload, int rawSize) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(payload);
+            byte[] raw = new byte[rawSize];
+            int read = 0;
+            while (read < rawSize && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawSize - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != rawSize) {
+                throw new IllegalStateException("Archive tronquée : " + read + " octet(s) sur " + rawSize);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Archive illisible", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres de l'archivage des tableaux inactifs (préfixe {@code gamegauge.archive}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.archive")
+public class BoardArchiveProperties {
+
+    /**
+     * Durée sans modification au-delà de laquelle un tableau est archivé. À garder plus longue que la conservation
+     * du journal des modifications ({@code gamegauge.changes.retention}) : le journal d'un tableau archivé ne doit
+     * plus désigner ses participants et scores.
+     */
+    private Duration inactivity = Duration.ofDays(180);
+
+    /** Expression cron de l'archivage ({@code -} pour le désactiver). */
+    private String cron = "0 0 4 * * *";
+
+    /** Nombre de tableaux candidats lus par requête ; chaque tableau est archivé dans sa propre transaction. */
+    private int batchSize = 100;
+}
@@ -0,0 +1,333 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.BoardArchive;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.repository.BoardArchiveRepository;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.service.BoardArchiveCodec.ArchivedParticipant;
+import fr.gamegauge.gamegauge_api.service.BoardArchiveCodec.ArchivedScore;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Archivage des tableaux inactifs.
+ * <p>
+ * Un tableau sans modification depuis {@code gamegauge.archive.inactivity} est archivé par un passage planifié :
+ * ses participants et scores sont encodés ({@link BoardArchiveCodec}) dans une ligne {@code board_archives}, puis
+ * supprimés des tables principales. La ligne {@code boards} reste, marquée par {@code archived_at} : identifiant,
+ * propriétaire, ordre d'affichage et journaux du tableau sont inchangés, ainsi que les identifiants de son contenu.
+ * <p>
+ * Un tableau archivé reste lisible : {@link #rehydrate(Board)} en renvoie une copie détachée, complète, construite
+ * à partir de l'archive, sans rien écrire. Sa première modification le restaure dans les tables principales
+ * ({@link #restore(Board)}), avec les mêmes identifiants et les mêmes dates ; il sera de nouveau archivé s'il
+ * redevient inactif.
+ */
+@Service
+public class BoardArchiveService {
+
+    private static final Logger logger = LogManager.getLogger(BoardArchiveService.class);
+
+    private static final String SELECT_CANDIDATES = "SELECT id FROM boards "
+            + "WHERE archived_at IS NULL AND last_activity_at < ? AND id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_OWNER = "SELECT owner_id FROM boards WHERE id = ?";
+    private static final String LOCK_OWNER = "SELECT id FROM users WHERE id = ? FOR UPDATE";
+    private static final String LOCK_CANDIDATE = "SELECT id FROM boards "
+            + "WHERE id = ? AND archived_at IS NULL AND last_activity_at < ? FOR UPDATE";
+    private static final String SELECT_PARTICIPANTS =
+            "SELECT id, name, created_at, updated_at FROM participants WHERE board_id = ? ORDER BY id";
+    private static final String SELECT_SCORES = """
+            SELECT s.id, s.participant_id, s.round_number, s.score_value, s.created_at
+            FROM score_entries s JOIN participants p ON p.id = s.participant_id
+            WHERE p.board_id = ?
+            ORDER BY s.participant_id, s.id
+            """;
+    private static final String INSERT_ARCHIVE = "INSERT INTO board_archives "
+            + "(board_id, participant_count, score_count, raw_size, payload, archived_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_SCORES =
+            "DELETE FROM score_entries WHERE participant_id IN (SELECT id FROM participants WHERE board_id = ?)";
+    private static final String DELETE_PARTICIPANTS = "DELETE FROM participants WHERE board_id = ?";
+    private static final String MARK_ARCHIVED = "UPDATE boards SET archived_at = ? WHERE id = ?";
+    private static final String LOCK_ARCHIVE =
+            "SELECT raw_size, payload FROM board_archives WHERE board_id = ? FOR UPDATE";
+    private static final String INSERT_PARTICIPANT =
+            "INSERT INTO participants (id, name, board_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_SCORE = "INSERT INTO score_entries "
+            + "(id, score_value, round_number, participant_id, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String DELETE_ARCHIVE = "DELETE FROM board_archives WHERE board_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardRepository boardRepository;
+    private final BoardArchiveRepository boardArchiveRepository;
+    private final BoardArchiveProperties properties;
+    private final ShardRouter shardRouter;
+
+    public BoardArchiveService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               BoardRepository boardRepository, BoardArchiveRepository boardArchiveRepository,
+                               BoardArchiveProperties properties, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.boardRepository = boardRepository;
+        this.boardArchiveRepository = boardArchiveRepository;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+    }
+
+    // --- ARCHIVAGE ---
+
+    /**
+     * Passage planifié : archive les tableaux inactifs depuis plus que la durée configurée, shard par shard.
+     *
+     * @return Le nombre de tableaux archivés.
+     */
+    @Scheduled(cron = "${gamegauge.archive.cron:0 0 4 * * *}")
+    public int archiveInactiveBoards() {
+        Instant cutoff = Instant.now().minus(properties.getInactivity());
+        return shardRouter.sumOverShards(() -> archiveInactiveSince(cutoff));
+    }
+
+    /**
+     * Archive les tableaux non modifiés depuis une date, un tableau par transaction.
+     *
+     * @param cutoff Les tableaux dont la dernière modification est antérieure à cette date sont archivés.
+     * @return Le nombre de tableaux archivés.
+     */
+    public int archiveInactiveSince(Instant cutoff) {
+        long start = System.nanoTime();
+        int archived = 0;
+        long after = 0;
+        List<Long> candidates;
+        do {
+            candidates = jdbcTemplate.queryForList(SELECT_CANDIDATES, Long.class, Timestamp.from(cutoff), after,
+                    Math.max(1, properties.getBatchSize()));
+            for (Long boardId : candidates) {
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> archive(boardId, cutoff)))) {
+                        archived++;
+                    }
+                } catch (RuntimeException e) {
+                    // Tableau supprimé ou modifié entre-temps... : il sera repris au prochain passage s'il y a lieu.
+                    logger.warn("Archivage du tableau ID {} impossible : {}", boardId, e.getMessage());
+                }
+                after = boardId;
+            }
+        } while (!candidates.isEmpty());
+        if (archived > 0) {
+            logger.info("{} tableau(x) inactif(s) depuis le {} archivé(s) en {} ms.", archived, cutoff,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        return archived;
+    }
+
+    /**
+     * Archive un tableau, sous le verrou de son propriétaire (pris en premier, comme le fait
+     * {@link BoardChangeService#begin} pour les modifications) puis du tableau.
+     *
+     * @return {@code false} si le tableau a été modifié, archivé ou supprimé entre-temps.
+     */
+    private boolean archive(long boardId, Instant cutoff) {
+        List<Long> owner = jdbcTemplate.queryForList(SELECT_OWNER, Long.class, boardId);
+        if (owner.isEmpty()) {
+            return false;
+        }
+        jdbcTemplate.queryForList(LOCK_OWNER, Long.class, owner.get(0));
+        if (jdbcTemplate.queryForList(LOCK_CANDIDATE, Long.class, boardId, Timestamp.from(cutoff)).isEmpty()) {
+            return false;
+        }
+
+        List<ArchivedParticipant> participants = readContent(boardId);
+        BoardArchiveCodec.Encoded encoded = BoardArchiveCodec.encode(participants);
+        // Vérification avant de supprimer quoi que ce soit : l'archive doit redonner exactement le contenu lu.
+        if (!BoardArchiveCodec.decode(encoded.payload(), encoded.rawSize()).equals(participants)) {
+            throw new IllegalStateException("L'archive du tableau ID " + boardId + " ne redonne pas son contenu");
+        }
+        int scoreCount = participants.stream().mapToInt(p -> p.scores().size()).sum();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        jdbcTemplate.update(INSERT_ARCHIVE, boardId, participants.size(), scoreCount, encoded.rawSize(),
+                encoded.payload(), now);
+        jdbcTemplate.update(DELETE_SCORES, boardId);
+        jdbcTemplate.update(DELETE_PARTICIPANTS, boardId);
+        jdbcTemplate.update(MARK_ARCHIVED, now, boardId);
+        logger.debug("Tableau ID {} archivé : {} participant(s), {} score(s), {} octet(s) ({} avant compression).",
+                boardId, participants.size(), scoreCount, encoded.payload().length, encoded.rawSize());
+        return true;
+    }
+
+    /**
+     * Lit les participants et les scores d'un tableau actif (deux requêtes).
+     */
+    private List<ArchivedParticipant> readContent(long boardId) {
+        Map<Long, List<ArchivedScore>> scores = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_SCORES, rs -> {
+            scores.computeIfAbsent(rs.getLong("participant_id"), id -> new ArrayList<>()).add(new ArchivedScore(
+                    rs.getLong("id"), rs.getInt("round_number"), rs.getInt("score_value"), instant(rs, "created_at")));
+        }, boardId);
+        return jdbcTemplate.query(SELECT_PARTICIPANTS, (rs, row) -> new ArchivedParticipant(rs.getLong("id"),
+                rs.getString("name"), instant(rs, "created_at"), instant(rs, "updated_at"),
+                scores.getOrDefault(rs.getLong("id"), List.of())), boardId);
+    }
+
+    // --- LECTURE ---
+
+    /**
+     * Le contenu d'un tableau archivé, sous forme d'une copie détachée du tableau avec ses participants
+     * et ses scores (une lecture par clé). La copie ne doit pas être enregistrée.
+     *
+     * @param board Un tableau archivé.
+     */
+    @Transactional(readOnly = true)
+    public Board rehydrate(Board board) {
+        BoardArchive archive = boardArchiveRepository.findById(board.getId())
+                .orElseThrow(() -> new IllegalStateException("Archive absente pour le tableau ID " + board.getId()));
+        return detachedCopy(board, decode(archive));
+    }
+
+    /**
+     * Remplace, dans une liste de tableaux, les tableaux archivés par leur copie détachée (une lecture
+     * pour toutes les archives de la liste). Les tableaux actifs sont renvoyés tels quels.
+     */
+    @Transactional(readOnly = true)
+    public List<Board> rehydrateAll(List<Board> boards) {
+        List<Long> archivedIds = boards.stream().filter(b -> b.getArchivedAt() != null).map(Board::getId).toList();
+        if (archivedIds.isEmpty()) {
+            return boards;
+        }
+        Map<Long, BoardArchive> archives = boardArchiveRepository.findAllById(archivedIds).stream()
+                .collect(Collectors.toMap(BoardArchive::getBoardId, Function.identity()));
+        return boards.stream()
+                .map(board -> {
+                    BoardArchive archive = archives.get(board.getId());
+                    return board.getArchivedAt() != null && archive != null
+                            ? detachedCopy(board, decode(archive)) : board;
+                })
+                .toList();
+    }
+
+    /**
+     * Relit le contenu d'une archive.
+     */
+    public static List<ArchivedParticipant> decode(BoardArchive archive) {
+        return BoardArchiveCodec.decode(archive.getPayload(), archive.getRawSize());
+    }
+
+    // --- RESTAURATION ---
+
+    /**
+     * Remet le contenu d'un tableau archivé dans les tables principales, avec ses identifiants d'origine, et
+     * supprime l'archive. À appeler dans la transaction d'une modification, après {@link BoardChangeService#begin}
+     * et avant tout accès aux participants du tableau.
+     *
+     * @param board Le tableau, archivé ou non (sans effet s'il est actif).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void restore(Board board) {
+        if (board.getArchivedAt() == null) {
+            return;
+        }
+        List<ArchivedParticipant> participants = jdbcTemplate.query(LOCK_ARCHIVE,
+                (rs, row) -> BoardArchiveCodec.decode(rs.getBytes("payload"), rs.getInt("raw_size")), board.getId())
+                .stream().findFirst().orElse(null);
+        board.setArchivedAt(null);
+        if (participants == null) {
+            // Déjà restauré par une modification concurrente.
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT, participants, 500, (ps, p) -> {
+            ps.setLong(1, p.id());
+            ps.setString(2, p.name());
+            ps.setLong(3, board.getId());
+            ps.setTimestamp(4, timestamp(p.createdAt()));
+            ps.setTimestamp(5, timestamp(p.updatedAt()));
+        });
+        List<Object[]> scores = new ArrayList<>();
+        for (ArchivedParticipant participant : participants) {
+            for (ArchivedScore score : participant.scores()) {
+                scores.add(new Object[]{score.id(), score.scoreValue(), score.roundNumber(), participant.id(),
+                        timestamp(score.createdAt())});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SCORE, scores);
+        jdbcTemplate.update(DELETE_ARCHIVE, board.getId());
+        logger.info("Tableau ID {} restauré depuis son archive : {} participant(s), {} score(s).",
+                board.getId(), participants.size(), scores.size());
+    }
+
+    /**
+     * Restaure un tableau archivé dans une transaction à part (sur la base principale), puis y exécute une lecture
+     * qui a besoin de son contenu dans les tables principales (statistiques calculées par la base).
+     *
+     * @param boardId L'ID du tableau.
+     * @param reader  La lecture, exécutée dans la même transaction que la restauration.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public <T> T restoreThen(Long boardId, Supplier<T> reader) {
+        boardRepository.findById(boardId).ifPresent(this::restore);
+        return reader.get();
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    private static Board detachedCopy(Board board, List<ArchivedParticipant> participants) {
+        Board copy = new Board();
+        copy.setId(board.getId());
+        copy.setName(board.getName());
+        copy.setOwner(board.getOwner());
+        copy.setTargetScore(board.getTargetScore());
+        copy.setScoreCondition(board.getScoreCondition());
+        copy.setNumberOfRounds(board.getNumberOfRounds());
+        copy.setDisplayOrder(board.getDisplayOrder());
+        copy.setCreatedAt(board.getCreatedAt());
+        copy.setUpdatedAt(board.getUpdatedAt());
+        copy.setArchivedAt(board.getArchivedAt());
+        for (ArchivedParticipant archived : participants) {
+            Participant participant = new Participant();
+            participant.setId(archived.id());
+            participant.setName(archived.name());
+            participant.setCreatedAt(archived.createdAt());
+            participant.setUpdatedAt(archived.updatedAt());
+            for (ArchivedScore archivedScore : archived.scores()) {
+                ScoreEntry score = new ScoreEntry();
+                score.setId(archivedScore.id());
+                score.setRoundNumber(archivedScore.roundNumber());
+                score.setScoreValue(archivedScore.scoreValue());
+                score.setCreatedAt(archivedScore.createdAt());
+                participant.addScoreEntry(score);
+            }
+            copy.addParticipant(participant);
+        }
+        return copy;
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+}
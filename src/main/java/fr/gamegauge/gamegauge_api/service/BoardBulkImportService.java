@@ -0,0 +1,234 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardImportRequest;
+import fr.gamegauge.gamegauge_api.dto.response.BoardImportReport;
+import fr.gamegauge.gamegauge_api.mapper.BoardImportMapper;
+import fr.gamegauge.gamegauge_api.model.Board;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Import de tableaux en masse, à partir de NDJSON (un {@link BoardImportRequest} par ligne).
+ * <p>
+ * Les lignes sont lues par lots de {@code batchSize}. Les lignes d'un lot sont décodées, validées et converties
+ * en entités en parallèle, sur un pool de {@code parallelism} threads partagé par tous les imports (file bornée :
+ * quand elle est pleine, le thread de la requête fait le travail lui-même). Pendant ce temps, le lot précédent
+ * est enregistré en une transaction ({@link BoardService#importBoards}). Si cette transaction échoue, ses tableaux
+ * sont repris un par un, pour que seul le tableau fautif soit en échec.
+ * <p>
+ * Une ligne invalide n'empêche pas l'import des autres : le rapport donne, ligne par ligne, l'ID du tableau créé
+ * ou la raison de l'échec. Au-delà de {@code maxBoards} tableaux, la lecture s'arrête et la ligne suivante est
+ * signalée comme ignorée.
+ */
+@Service
+public class BoardBulkImportService {
+
+    private static final Logger logger = LogManager.getLogger(BoardBulkImportService.class);
+
+    private final BoardService boardService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final BoardImportProperties properties;
+    private final ExecutorService executor;
+
+    public BoardBulkImportService(BoardService boardService, ObjectMapper objectMapper, Validator validator,
+                                  BoardImportProperties properties) {
+        this.boardService = boardService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.properties = properties;
+        int threads = Math.max(1, properties.getParallelism());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getBatchSize()) * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "board-import-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Importe les tableaux d'une ou plusieurs sources NDJSON, lues l'une après l'autre (les lignes sont numérotées
+     * à la suite).
+     *
+     * @param sources   Les sources NDJSON.
+     * @param userEmail L'email de l'utilisateur qui importe.
+     * @return Le rapport d'import, ligne par ligne.
+     */
+    public BoardImportReport importBoards(List<BufferedReader> sources, String userEmail) {
+        long start = System.nanoTime();
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<BoardImportReport.Result> results = new ArrayList<>();
+        List<CompletableFuture<Line>> batch = new ArrayList<>(batchSize);
+        List<CompletableFuture<Line>> previous = List.of();
+        long lineNumber = 0;
+        int received = 0;
+
+        try {
+            read:
+            for (BufferedReader source : sources) {
+                String text;
+                while ((text = source.readLine()) != null) {
+                    lineNumber++;
+                    if (text.isBlank()) {
+                        continue;
+                    }
+                    if (received == properties.getMaxBoards()) {
+                        results.add(new BoardImportReport.Result(lineNumber, null, null, "Limite de "
+                                + properties.getMaxBoards() + " tableaux par import atteinte : ligne ignorée, "
+                                + "ainsi que les suivantes."));
+                        break read;
+                    }
+                    received++;
+                    long number = lineNumber;
+                    String json = text;
+                    batch.add(CompletableFuture.supplyAsync(() -> prepare(number, json), executor));
+                    if (batch.size() == batchSize) {
+                        // Le lot suivant se prépare pendant que le précédent est enregistré.
+                        persist(previous, userEmail, results);
+                        previous = batch;
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            // Les lots déjà enregistrés le restent : le client peut reprendre après la dernière ligne importée.
+            throw new UncheckedIOException("Lecture de l'import impossible après la ligne " + lineNumber, e);
+        }
+        persist(previous, userEmail, results);
+        persist(batch, userEmail, results);
+
+        results.sort(Comparator.comparingLong(BoardImportReport.Result::getLine));
+        int imported = (int) results.stream().filter(result -> result.getBoardId() != null).count();
+        long durationMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        double boardsPerSecond = imported * 1000.0 / durationMillis;
+        logger.info("Import en masse pour l'utilisateur {} : {} tableau(x) sur {} importé(s) en {} ms "
+                + "({} tableaux/s).", userEmail, imported, received, durationMillis, Math.round(boardsPerSecond));
+        return new BoardImportReport(received, imported, received - imported, durationMillis, boardsPerSecond,
+                results);
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    /**
+     * Décode, valide et convertit une ligne (sur le pool d'import).
+     */
+    private Line prepare(long number, String json) {
+        BoardImportRequest request;
+        try {
+            request = objectMapper.readValue(json, BoardImportRequest.class);
+        } catch (JsonProcessingException e) {
+            return Line.failed(number, null, "JSON invalide : " + e.getOriginalMessage());
+        }
+        if (request == null) {
+            return Line.failed(number, null, "JSON invalide : tableau absent.");
+        }
+        var violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                    .map(v -> v.getPropertyPath() + " : " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(" ; "));
+            return Line.failed(number, request.getName(), error);
+        }
+        return new Line(number, request, BoardImportMapper.toBoard(request), null);
+    }
+
+    /**
+     * Attend la préparation d'un lot, puis enregistre ses tableaux valides en une transaction (un par un si elle
+     * échoue).
+     */
+    private void persist(List<CompletableFuture<Line>> batch, String userEmail,
+                         List<BoardImportReport.Result> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Line> valid = new ArrayList<>(batch.size());
+        for (CompletableFuture<Line> future : batch) {
+            Line line = future.join();
+            if (line.error() != null) {
+                results.add(new BoardImportReport.Result(line.number(), line.name(), null, line.error()));
+            } else {
+                valid.add(line);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> ids = boardService.importBoards(valid.stream().map(Line::board).toList(), userEmail);
+            for (int i = 0; i < valid.size(); i++) {
+                results.add(new BoardImportReport.Result(valid.get(i).number(), valid.get(i).name(), ids.get(i),
+                        null));
+            }
+        } catch (UsernameNotFoundException e) {
+            throw e;
+        } catch (RuntimeException batchFailure) {
+            if (valid.size() == 1) {
+                results.add(failure(valid.get(0), batchFailure));
+                return;
+            }
+            logger.warn("Échec de l'enregistrement d'un lot de {} tableaux ({}) : reprise tableau par tableau.",
+                    valid.size(), batchFailure.getMessage());
+            for (Line line : valid) {
+                try {
+                    // Les entités du lot annulé ont reçu des identifiants : on repart de la requête.
+                    Long id = boardService.importBoards(List.of(BoardImportMapper.toBoard(line.request())),
+                            userEmail).get(0);
+                    results.add(new BoardImportReport.Result(line.number(), line.name(), id, null));
+                } catch (RuntimeException e) {
+                    results.add(failure(line, e));
+                }
+            }
+        }
+    }
+
+    private static BoardImportReport.Result failure(Line line, RuntimeException e) {
+        logger.warn("Échec de l'import de la ligne {} : {}", line.number(), e.getMessage());
+        return new BoardImportReport.Result(line.number(), line.name(), null,
+                "Enregistrement impossible : " + e.getClass().getSimpleName());
+    }
+
+    /**
+     * Une ligne préparée : le tableau à enregistrer, ou la raison de son rejet.
+     */
+    private record Line(long number, BoardImportRequest request, Board board, String error) {
+
+        private static Line failed(long number, String name, String error) {
+            BoardImportRequest request = new BoardImportRequest();
+            request.setName(name);
+            return new Line(number, request, null, error);
+        }
+
+        private String name() {
+            return request.getName();
+        }
+    }
+}
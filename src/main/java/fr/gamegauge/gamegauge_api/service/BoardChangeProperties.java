@@ -0,0 +1,25 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres du journal des modifications (préfixe {@code gamegauge.changes}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.changes")
+public class BoardChangeProperties {
+
+    /**
+     * Durée de conservation du journal. Un client qui ne s'est pas synchronisé depuis plus longtemps
+     * reçoit {@code resyncRequired} et recharge ses tableaux.
+     */
+    private Duration retention = Duration.ofDays(30);
+
+    /** Expression cron de la purge du journal ({@code -} pour la désactiver). */
+    private String compactionCron = "0 30 3 * * *";
+}
@@ -0,0 +1,330 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
+import fr.gamegauge.gamegauge_api.dto.projection.ChangeLogState;
+import fr.gamegauge.gamegauge_api.dto.projection.ChangeSequences;
+import fr.gamegauge.gamegauge_api.dto.response.ChangeSetResponse;
+import fr.gamegauge.gamegauge_api.exception.ResourceNotFoundException;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.BoardChange;
+import fr.gamegauge.gamegauge_api.model.ChangeEntityType;
+import fr.gamegauge.gamegauge_api.model.ChangeOperation;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardChangeRepository;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.ParticipantRepository;
+import fr.gamegauge.gamegauge_api.repository.ScoreEntryRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Journal des modifications des tableaux, pour la synchronisation différentielle des clients.
+ * <p>
+ * Chaque modification reçoit un numéro de séquence propre au tableau et un propre au propriétaire, tirés de
+ * compteurs incrémentés dans la transaction de la modification : les numéros sont croissants et ne deviennent
+ * visibles qu'au commit. Pour éviter les interblocages, le compteur du propriétaire est toujours verrouillé
+ * en premier ({@link #begin(User)}, avant toute écriture), celui du tableau ensuite ({@link #record}).
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardChangeService {
+
+    private static final Logger logger = LogManager.getLogger(BoardChangeService.class);
+
+    private final BoardChangeRepository boardChangeRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final ParticipantRepository participantRepository;
+    private final ScoreEntryRepository scoreEntryRepository;
+    private final BoardChangeProperties properties;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate transactionTemplate;
+    private final InvalidationBus invalidationBus;
+
+    /**
+     * Ouvre une modification des tableaux d'un utilisateur : incrémente son compteur, ce qui verrouille sa ligne
+     * jusqu'à la fin de la transaction. À appeler avant toute écriture.
+     *
+     * @param owner Le propriétaire des tableaux modifiés.
+     * @return Le lot auquel rattacher les modifications ({@link #record}).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ChangeBatch begin(User owner) {
+        userRepository.incrementChangeSeq(owner.getId());
+        return new ChangeBatch(owner.getId());
+    }
+
+    /**
+     * Journalise des modifications d'un tableau (qui doit déjà avoir un identifiant).
+     * Toutes les lignes reçoivent le même numéro de séquence de tableau.
+     *
+     * @param batch   Le lot ouvert par {@link #begin(User)}.
+     * @param board   Le tableau modifié.
+     * @param changes Les entités modifiées.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeBatch batch, Board board, BoardChange... changes) {
+        ChangeSequences sequences = nextSequences(board);
+        for (BoardChange change : changes) {
+            change.setOwnerId(batch.ownerId);
+            change.setBoardId(board.getId());
+            change.setBoardSeq(sequences.getBoardSeq());
+            change.setOwnerSeq(sequences.getOwnerSeq());
+        }
+        boardChangeRepository.saveAll(Arrays.asList(changes));
+    }
+
+    /**
+     * Journalise l'insertion d'un tableau et de tout son contenu (création, import, duplication) :
+     * les participants et les scores sont journalisés par des requêtes INSERT ... SELECT.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordBoardInserted(ChangeBatch batch, Board board) {
+        ChangeSequences sequences = nextSequences(board);
+        BoardChange change = new BoardChange(ChangeEntityType.BOARD, board.getId(), null, ChangeOperation.INSERT);
+        change.setOwnerId(batch.ownerId);
+        change.setBoardId(board.getId());
+        change.setBoardSeq(sequences.getBoardSeq());
+        change.setOwnerSeq(sequences.getOwnerSeq());
+        boardChangeRepository.save(change);
+
+        if (board.getParticipants().isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        boardChangeRepository.recordParticipantsInserted(batch.ownerId, board.getId(),
+                sequences.getBoardSeq(), sequences.getOwnerSeq(), now);
+        if (board.getParticipants().stream().anyMatch(p -> !p.getScoreEntries().isEmpty())) {
+            boardChangeRepository.recordScores(batch.ownerId, board.getId(), sequences.getBoardSeq(),
+                    sequences.getOwnerSeq(), ChangeOperation.INSERT.name(), now);
+        }
+    }
+
+    /**
+     * Journalise la suppression de tous les scores d'un tableau. À appeler avant la suppression en masse.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordScoresDeleted(ChangeBatch batch, Board board) {
+        ChangeSequences sequences = nextSequences(board);
+        boardChangeRepository.recordScores(batch.ownerId, board.getId(), sequences.getBoardSeq(),
+                sequences.getOwnerSeq(), ChangeOperation.DELETE.name(), Instant.now());
+    }
+
+    /**
+     * Modifications d'un tableau depuis un numéro de séquence.
+     *
+     * @param boardId   L'ID du tableau.
+     * @param since     Le {@code seq} de la dernière synchronisation du client (0 pour tout obtenir).
+     * @param userEmail L'email de l'utilisateur qui fait la demande.
+     * @throws ResourceNotFoundException si le tableau n'existe pas ou n'appartient pas à l'utilisateur.
+     */
+    @Transactional(readOnly = true)
+    public ChangeSetResponse getBoardChanges(Long boardId, long since, String userEmail) {
+        logger.debug("Modifications du tableau ID {} depuis {} pour l'utilisateur {}", boardId, since, userEmail);
+        User user = getUserByEmail(userEmail);
+        boardRepository.findByIdAndOwner(boardId, user)
+                .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+
+        ChangeLogState state = boardRepository.findChangeLogState(boardId);
+        if (requiresResync(since, state)) {
+            return ChangeSetResponse.resync(since, state.getChangeSeq());
+        }
+        List<BoardChange> changes = boardChangeRepository.findBoardChanges(boardId, since, state.getChangeSeq());
+        return toChangeSet(since, state.getChangeSeq(), changes, BoardChange::getBoardSeq);
+    }
+
+    /**
+     * Modifications de tous les tableaux d'un utilisateur depuis un numéro de séquence.
+     *
+     * @param since     Le {@code seq} de la dernière synchronisation du client (0 pour tout obtenir).
+     * @param userEmail L'email de l'utilisateur qui fait la demande.
+     */
+    @Transactional(readOnly = true)
+    public ChangeSetResponse getOwnerChanges(long since, String userEmail) {
+        logger.debug("Modifications des tableaux de l'utilisateur {} depuis {}", userEmail, since);
+        User user = getUserByEmail(userEmail);
+
+        ChangeLogState state = userRepository.findChangeLogState(user.getId());
+        if (requiresResync(since, state)) {
+            return ChangeSetResponse.resync(since, state.getChangeSeq());
+        }
+        List<BoardChange> changes = boardChangeRepository.findOwnerChanges(user.getId(), since, state.getChangeSeq());
+        return toChangeSet(since, state.getChangeSeq(), changes, BoardChange::getOwnerSeq);
+    }
+
+    /**
+     * Purge planifiée du journal : supprime les modifications plus anciennes que la durée de conservation, une
+     * transaction par shard.
+     */
+    @Scheduled(cron = "${gamegauge.changes.compaction-cron:0 30 3 * * *}")
+    public void compactHistory() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        shardRouter.forEachShard(() -> transactionTemplate.executeWithoutResult(status -> compactHistory(cutoff)));
+    }
+
+    /**
+     * Supprime les modifications antérieures à une date, après avoir reporté sur chaque tableau et chaque
+     * propriétaire le dernier numéro purgé (un client synchronisé avant ce numéro devra tout recharger).
+     *
+     * @param cutoff La date limite.
+     * @return Le nombre de modifications supprimées.
+     */
+    @Transactional
+    public int compactHistory(Instant cutoff) {
+        // Même ordre de verrouillage que les modifications : propriétaires, puis tableaux.
+        userRepository.markCompactedHistory(cutoff);
+        boardRepository.markCompactedHistory(cutoff);
+        int deleted = boardChangeRepository.deleteChangedBefore(cutoff);
+        logger.info("Journal des modifications purgé avant {} : {} ligne(s) supprimée(s).", cutoff, deleted);
+        return deleted;
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    /**
+     * Incrémente le compteur du tableau et lit les deux numéros attribués (la ligne du propriétaire,
+     * verrouillée par {@link #begin(User)}, ne peut pas avoir changé entre-temps).
+     */
+    private ChangeSequences nextSequences(Board board) {
+        boardRepository.incrementChangeSeq(board.getId());
+        // Toute modification d'un tableau passe par ici : les autres instances évinceront leurs copies au commit.
+        invalidationBus.publish(CacheInvalidation.Region.BOARD, board.getId());
+        return boardRepository.findChangeSequences(board.getId());
+    }
+
+    /**
+     * L'historique ne permet pas de répondre si une partie a été purgée, ou si le client présente un numéro
+     * qui n'a jamais été attribué (base restaurée, tableau recréé...).
+     */
+    private static boolean requiresResync(long since, ChangeLogState state) {
+        return since < state.getHistorySeq() || since > state.getChangeSeq();
+    }
+
+    /**
+     * Fusionne les modifications de chaque entité (première et dernière opération) puis charge l'état actuel
+     * des entités insérées ou modifiées, en une requête par type d'entité.
+     */
+    private ChangeSetResponse toChangeSet(long since, long seq, List<BoardChange> changes,
+                                          ToLongFunction<BoardChange> sequenceOf) {
+        Map<EntityKey, Collapsed> collapsed = new LinkedHashMap<>();
+        for (BoardChange change : changes) {
+            collapsed.computeIfAbsent(new EntityKey(change.getEntityType(), change.getEntityId()),
+                            key -> new Collapsed(change.getOperation()))
+                    .apply(change, sequenceOf.applyAsLong(change));
+        }
+
+        List<ChangeSetResponse.Tombstone> deleted = new ArrayList<>();
+        Map<ChangeEntityType, Map<Long, ChangeOperation>> upserts = new LinkedHashMap<>();
+        for (ChangeEntityType type : ChangeEntityType.values()) {
+            upserts.put(type, new LinkedHashMap<>());
+        }
+        collapsed.forEach((key, entity) -> {
+            if (entity.last == ChangeOperation.DELETE) {
+                // Une entité créée puis supprimée dans l'intervalle est inconnue du client : rien à envoyer.
+                if (entity.first != ChangeOperation.INSERT) {
+                    deleted.add(new ChangeSetResponse.Tombstone(key.type, key.id, entity.parentId, entity.seq));
+                }
+            } else {
+                upserts.get(key.type).put(key.id,
+                        entity.first == ChangeOperation.INSERT ? ChangeOperation.INSERT : ChangeOperation.UPDATE);
+            }
+        });
+
+        // Les entités disparues sans tombstone (tableau supprimé avec son contenu) sont ignorées.
+        Map<Long, ChangeOperation> boardOps = upserts.get(ChangeEntityType.BOARD);
+        List<ChangeSetResponse.BoardDelta> boards = loadInOrder(boardOps, boardRepository::findAllById, Board::getId)
+                .stream()
+                .map(b -> new ChangeSetResponse.BoardDelta(b.getId(), boardOps.get(b.getId()), b.getName(),
+                        b.getTargetScore(), b.getScoreCondition(), b.getNumberOfRounds(), b.getDisplayOrder()))
+                .toList();
+        Map<Long, ChangeOperation> participantOps = upserts.get(ChangeEntityType.PARTICIPANT);
+        List<ChangeSetResponse.ParticipantDelta> participants =
+                loadInOrder(participantOps, participantRepository::findAllById, Participant::getId).stream()
+                        .map(p -> new ChangeSetResponse.ParticipantDelta(p.getId(), p.getBoard().getId(),
+                                participantOps.get(p.getId()), p.getName()))
+                        .toList();
+        Map<Long, ChangeOperation> scoreOps = upserts.get(ChangeEntityType.SCORE);
+        List<ChangeSetResponse.ScoreDelta> scores =
+                loadInOrder(scoreOps, scoreEntryRepository::findAllById, ScoreEntry::getId).stream()
+                        .map(s -> new ChangeSetResponse.ScoreDelta(s.getId(), s.getParticipant().getId(),
+                                scoreOps.get(s.getId()), s.getScoreValue(), s.getRoundNumber()))
+                        .toList();
+
+        return new ChangeSetResponse(since, seq, false, boards, participants, scores, deleted);
+    }
+
+    /**
+     * Charge des entités par identifiant (sans requête si la liste est vide) et les renvoie dans l'ordre du journal.
+     */
+    private static <T> List<T> loadInOrder(Map<Long, ChangeOperation> ids, Function<List<Long>, List<T>> loader,
+                                           Function<T, Long> idOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, T> byId = loader.apply(new ArrayList<>(ids.keySet())).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.keySet().stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private User getUserByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Utilisateur non trouvé : " + email));
+    }
+
+    /**
+     * Lot de modifications ouvert par {@link #begin(User)} dans la transaction courante.
+     */
+    public static final class ChangeBatch {
+
+        private final Long ownerId;
+
+        private ChangeBatch(Long ownerId) {
+            this.ownerId = ownerId;
+        }
+    }
+
+    private record EntityKey(ChangeEntityType type, Long id) {
+    }
+
+    /**
+     * Première et dernière opération d'une entité dans l'intervalle demandé.
+     */
+    private static final class Collapsed {
+
+        private final ChangeOperation first;
+        private ChangeOperation last;
+        private Long parentId;
+        private long seq;
+
+        private Collapsed(ChangeOperation first) {
+            this.first = first;
+        }
+
+        private void apply(BoardChange change, long sequence) {
+            last = change.getOperation();
+            parentId = change.getParentId();
+            seq = sequence;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantSummary;
+import fr.gamegauge.gamegauge_api.dto.projection.ScoreCell;
+import fr.gamegauge.gamegauge_api.model.Board;
+
+import java.util.List;
+
+/**
+ * Le contenu d'un tableau lu sous forme de projections : ses attributs simples, ses participants (triés par
+ * identifiant) et toutes ses cases de score.
+ */
+public record BoardGrid(Board board, List<ParticipantSummary> participants, List<ScoreCell> cells) {
+}
@@ -0,0 +1,23 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Paramètres de l'import de tableaux en masse (préfixe {@code gamegauge.import}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.import")
+public class BoardImportProperties {
+
+    /** Nombre de threads qui lisent et valident les lignes, partagés par tous les imports en cours. */
+    private int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    /** Nombre de tableaux enregistrés par transaction. */
+    private int batchSize = 100;
+
+    /** Nombre maximal de tableaux par requête : les lignes suivantes sont ignorées (et signalées). */
+    private int maxBoards = 10_000;
+}
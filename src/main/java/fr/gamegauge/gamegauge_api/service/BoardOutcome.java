@@ -0,0 +1,113 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantTotal;
+import fr.gamegauge.gamegauge_api.model.BoardStats;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Bilan d'un tableau pour les statistiques de son propriétaire : tours joués, nombre et somme des scores,
+ * partie terminée ou non et, si elle l'est, ses vainqueurs.
+ * <p>
+ * Règles (les mêmes que le classement des tableaux) :
+ * <ul>
+ *     <li>une partie est terminée dès que le dernier tour prévu ({@code numberOfRounds}) a été joué, ou qu'un
+ *     participant a atteint le score cible ({@code targetScore}) ;</li>
+ *     <li>les vainqueurs sont les participants ayant au moins un score et le meilleur total : le plus haut,
+ *     ou le plus bas si la condition est {@code LOWEST_WINS}. Les ex aequo gagnent tous.</li>
+ * </ul>
+ *
+ * @param roundsPlayed Le numéro du dernier tour joué (0 si aucun score).
+ * @param winners      Les noms des vainqueurs (vide si la partie n'est pas terminée).
+ */
+public record BoardOutcome(int roundsPlayed, long scoreCount, long scoreSum, boolean finished, Set<String> winners) {
+
+    /** Bilan d'un tableau sans score. */
+    public static final BoardOutcome NONE = new BoardOutcome(0, 0, 0, false, Set.of());
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     * Calcule le bilan d'un tableau à partir des scores agrégés de ses participants.
+     */
+    public static BoardOutcome of(ScoreCondition condition, Integer targetScore, Integer numberOfRounds,
+                                  Collection<ParticipantTotal> totals) {
+        int roundsPlayed = 0;
+        long scoreCount = 0;
+        long scoreSum = 0;
+        boolean targetReached = false;
+        for (ParticipantTotal total : totals) {
+            if (total.scoreCount() == 0) {
+                continue;
+            }
+            roundsPlayed = Math.max(roundsPlayed, total.lastRound());
+            scoreCount += total.scoreCount();
+            scoreSum += total.total();
+            targetReached |= targetScore != null && total.total() >= targetScore;
+        }
+        boolean finished = scoreCount > 0
+                && (targetReached || (numberOfRounds != null && numberOfRounds > 0 && roundsPlayed >= numberOfRounds));
+        if (!finished) {
+            return new BoardOutcome(roundsPlayed, scoreCount, scoreSum, false, Set.of());
+        }
+
+        Comparator<ParticipantTotal> best = Comparator.comparingLong(ParticipantTotal::total);
+        if (condition != ScoreCondition.LOWEST_WINS) {
+            best = best.reversed();
+        }
+        List<ParticipantTotal> players = totals.stream().filter(t -> t.scoreCount() > 0).sorted(best).toList();
+        long winningTotal = players.get(0).total();
+        Set<String> winners = new TreeSet<>();
+        players.stream().filter(t -> t.total() == winningTotal).forEach(t -> winners.add(t.name().trim()));
+        return new BoardOutcome(roundsPlayed, scoreCount, scoreSum, true, winners);
+    }
+
+    /**
+     * Le bilan tel qu'il a été compté lors de la dernière modification du tableau.
+     */
+    public static BoardOutcome of(BoardStats stats) {
+        return new BoardOutcome(stats.getRoundsPlayed(), stats.getScoreCount(), stats.getScoreSum(),
+                stats.isFinished(), stats.getWinnerNames());
+    }
+
+    /**
+     * Reporte ce bilan dans la contribution enregistrée du tableau.
+     */
+    public void copyTo(BoardStats stats) {
+        stats.setRoundsPlayed(roundsPlayed);
+        stats.setScoreCount(scoreCount);
+        stats.setScoreSum(scoreSum);
+        stats.setFinished(finished);
+        stats.setWinnerNames(winners);
+    }
+
+    /**
+     * Les vainqueurs indexés par nom normalisé ({@link #nameKey(String)}) : deux graphies d'un même nom ne
+     * comptent qu'une victoire.
+     */
+    public Map<String, String> winnersByKey() {
+        Map<String, String> byKey = new LinkedHashMap<>();
+        winners.forEach(name -> byKey.putIfAbsent(nameKey(name), name));
+        return byKey;
+    }
+
+    /**
+     * Normalise un nom de participant pour compter ses victoires d'un tableau à l'autre : minuscules, sans accents,
+     * espaces superflus retirés (« Chloé » et « chloe » désignent le même joueur).
+     */
+    public static String nameKey(String name) {
+        String withoutAccents = MARKS.matcher(Normalizer.normalize(name.trim(), Normalizer.Form.NFD)).replaceAll("");
+        return SPACES.matcher(withoutAccents).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,127 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.model.ScoreEvent;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static fr.gamegauge.gamegauge_api.service.VarInts.readVarLong;
+import static fr.gamegauge.gamegauge_api.service.VarInts.writeVarLong;
+import static fr.gamegauge.gamegauge_api.service.VarInts.zigzagDecode;
+import static fr.gamegauge.gamegauge_api.service.VarInts.zigzagEncode;
+
+/**
+ * État des scores d'un tableau reconstruit à partir du journal : un instantané, puis les événements suivants
+ * rejoués dans l'ordre ({@link #apply(ScoreEvent)}).
+ * <p>
+ * Encodage d'un instantané ({@link #encode()}) : un octet de version, le nombre de scores, puis pour chaque score,
+ * par identifiant croissant, l'écart avec l'identifiant précédent, l'écart avec le participant précédent, le tour
+ * et la valeur, tous en entiers de longueur variable (zigzag pour les valeurs signées). Un score typique tient
+ * en 4 à 6 octets au lieu de 24.
+ */
+public final class BoardScoreState {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    /**
+     * Un score tel qu'il était après le dernier événement rejoué.
+     */
+    public record Score(long id, long participantId, int roundNumber, int scoreValue) {
+    }
+
+    private final TreeMap<Long, Score> scores = new TreeMap<>();
+    private long lastEventId;
+
+    private BoardScoreState(long lastEventId) {
+        this.lastEventId = lastEventId;
+    }
+
+    /**
+     * L'état d'un tableau avant tout événement.
+     */
+    public static BoardScoreState empty() {
+        return new BoardScoreState(0);
+    }
+
+    /**
+     * Relit un instantané produit par {@link #encode()}.
+     *
+     * @param payload     Le contenu de l'instantané.
+     * @param lastEventId Le dernier événement pris en compte par l'instantané.
+     */
+    public static BoardScoreState decode(byte[] payload, long lastEventId) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("Version d'instantané inconnue : " + version);
+        }
+        BoardScoreState state = new BoardScoreState(lastEventId);
+        int count = (int) readVarLong(in);
+        long id = 0;
+        long participantId = 0;
+        for (int i = 0; i < count; i++) {
+            id += readVarLong(in);
+            participantId += zigzagDecode(readVarLong(in));
+            int round = (int) zigzagDecode(readVarLong(in));
+            int value = (int) zigzagDecode(readVarLong(in));
+            state.scores.put(id, new Score(id, participantId, round, value));
+        }
+        return state;
+    }
+
+    /**
+     * Encode l'état pour un instantané.
+     */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + 6 * scores.size());
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, scores.size());
+        long previousId = 0;
+        long previousParticipant = 0;
+        for (Score score : scores.values()) {
+            writeVarLong(out, score.id() - previousId);
+            writeVarLong(out, zigzagEncode(score.participantId() - previousParticipant));
+            writeVarLong(out, zigzagEncode(score.roundNumber()));
+            writeVarLong(out, zigzagEncode(score.scoreValue()));
+            previousId = score.id();
+            previousParticipant = score.participantId();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Applique un événement du journal. Les événements doivent être rejoués dans l'ordre de leurs identifiants.
+     */
+    public void apply(ScoreEvent event) {
+        switch (event.getEventType()) {
+            case SCORE_RECORDED -> scores.put(event.getScoreId(), new Score(event.getScoreId(),
+                    event.getParticipantId(), event.getRoundNumber(), event.getScoreValue()));
+            case SCORE_DELETED -> scores.remove(event.getScoreId());
+            case PARTICIPANT_REMOVED -> scores.values()
+                    .removeIf(score -> score.participantId() == event.getParticipantId());
+            case BOARD_RESTARTED -> scores.clear();
+        }
+        lastEventId = event.getId();
+    }
+
+    /**
+     * Le dernier événement pris en compte (0 si aucun).
+     */
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    /**
+     * Les scores, par identifiant croissant.
+     */
+    public List<Score> getScores() {
+        return new ArrayList<>(scores.values());
+    }
+
+    public int size() {
+        return scores.size();
+    }
+}
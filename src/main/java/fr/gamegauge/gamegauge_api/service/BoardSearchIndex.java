@@ -0,0 +1,439 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index de recherche des tableaux d'un propriétaire : nom de chaque tableau et nom de chacun de ses participants.
+ * <p>
+ * Chaque nom est un document, normalisé comme les noms de vainqueurs ({@link BoardOutcome#nameKey(String)} :
+ * minuscules, sans accents). L'index associe à chaque trigramme la liste croissante des documents qui le
+ * contiennent : une recherche d'au moins trois caractères intersecte les listes de ses trigrammes, puis vérifie
+ * les candidats ({@code contains}) ; une recherche plus courte parcourt tous les documents.
+ * <p>
+ * Les documents ne sont jamais modifiés en place : un renommage retire l'ancien document (marqué supprimé) et en
+ * ajoute un nouveau, à la fin, ce qui garde les listes triées sans les réécrire. Quand les documents supprimés
+ * sont plus nombreux que les vivants, l'index est reconstruit ({@link #compact()}). L'ordre alphabétique des
+ * tableaux est calculé à la première recherche qui suit l'ajout ou le renommage d'un tableau : le classement
+ * des résultats se réduit alors au tri d'entiers.
+ * <p>
+ * Toutes les opérations sont idempotentes (ajouter un nom déjà indexé, retirer un nom absent), ce qui permet de
+ * rejouer sans risque un intervalle du journal des modifications. Cette classe n'est pas thread-safe.
+ */
+public final class BoardSearchIndex {
+
+    /** En dessous de ce nombre de documents supprimés, l'index n'est jamais reconstruit. */
+    private static final int MIN_DEAD_TO_COMPACT = 64;
+
+    private static final int NO_SLOT = -1;
+
+    /**
+     * Qualité de la correspondance d'un tableau, de la meilleure à la moins bonne.
+     */
+    public enum MatchType {
+        /** Le nom du tableau commence par la recherche. */
+        NAME_PREFIX,
+        /** Un mot du nom du tableau commence par la recherche. */
+        WORD_PREFIX,
+        /** Le nom du tableau contient la recherche. */
+        NAME,
+        /** Seul le nom d'un participant contient la recherche. */
+        PARTICIPANT
+    }
+
+    /**
+     * Un tableau trouvé, avec les noms de ses participants qui correspondent (triés).
+     */
+    public record Hit(long boardId, String boardName, MatchType matchType, List<String> participantNames) {
+    }
+
+    /**
+     * Une page de résultats et le nombre total de tableaux trouvés.
+     */
+    public record Page(int total, List<Hit> hits) {
+    }
+
+    private long seq;
+
+    // Documents, par position (slot) croissante d'ajout. participantIds[slot] == 0 pour le nom d'un tableau ;
+    // boardSlotOf[slot] est la position du nom du tableau (NO_SLOT si le tableau n'est pas indexé).
+    private long[] boardIds = new long[16];
+    private long[] participantIds = new long[16];
+    private int[] boardSlotOf = new int[16];
+    private String[] keys = new String[16];
+    private String[] names = new String[16];
+    private int docCount;
+    private final BitSet dead = new BitSet();
+    private int deadCount;
+
+    private final Map<Long, Integer> boardSlots = new HashMap<>();
+    private final Map<Long, Integer> participantSlots = new HashMap<>();
+    private final Map<Long, Set<Long>> participantsByBoard = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    // Rang alphabétique de chaque tableau (par position de son nom), et position par rang.
+    private int[] ranks = new int[0];
+    private int[] slotsByRank = new int[0];
+    private boolean ranksStale = true;
+
+    /**
+     * @param seq Le numéro de séquence du journal du propriétaire jusqu'auquel l'index est à jour.
+     */
+    public BoardSearchIndex(long seq) {
+        this.seq = seq;
+    }
+
+    /**
+     * Le numéro de séquence du journal du propriétaire jusqu'auquel l'index est à jour.
+     */
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    /** Nombre de noms indexés (tableaux et participants). */
+    public int size() {
+        return docCount - deadCount;
+    }
+
+    // --- MISE À JOUR ---
+
+    /**
+     * Indexe (ou renomme) un tableau.
+     */
+    public void putBoard(long boardId, String name) {
+        Integer slot = boardSlots.get(boardId);
+        if (slot != null && names[slot].equals(name)) {
+            return;
+        }
+        if (slot != null) {
+            kill(slot);
+        }
+        int newSlot = add(boardId, 0, name);
+        boardSlots.put(boardId, newSlot);
+        boardSlotOf[newSlot] = newSlot;
+        for (Long participantId : participantsByBoard.getOrDefault(boardId, Set.of())) {
+            boardSlotOf[participantSlots.get(participantId)] = newSlot;
+        }
+        ranksStale = true;
+        compactIfNeeded();
+    }
+
+    /**
+     * Retire un tableau et tous ses participants.
+     */
+    public void removeBoard(long boardId) {
+        Integer slot = boardSlots.remove(boardId);
+        if (slot != null) {
+            kill(slot);
+        }
+        Set<Long> participants = participantsByBoard.remove(boardId);
+        if (participants != null) {
+            for (Long participantId : participants) {
+                kill(participantSlots.remove(participantId));
+            }
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Indexe (ou renomme) un participant.
+     */
+    public void putParticipant(long participantId, long boardId, String name) {
+        Integer slot = participantSlots.get(participantId);
+        if (slot != null && names[slot].equals(name) && boardIds[slot] == boardId) {
+            return;
+        }
+        if (slot != null) {
+            detach(slot, participantId);
+        }
+        int newSlot = add(boardId, participantId, name);
+        participantSlots.put(participantId, newSlot);
+        boardSlotOf[newSlot] = boardSlots.getOrDefault(boardId, NO_SLOT);
+        participantsByBoard.computeIfAbsent(boardId, id -> new HashSet<>()).add(participantId);
+        compactIfNeeded();
+    }
+
+    /**
+     * Retire un participant.
+     */
+    public void removeParticipant(long participantId) {
+        Integer slot = participantSlots.remove(participantId);
+        if (slot == null) {
+            return;
+        }
+        detach(slot, participantId);
+        compactIfNeeded();
+    }
+
+    // --- RECHERCHE ---
+
+    /**
+     * Cherche les tableaux dont le nom, ou le nom d'un participant, contient la recherche (après normalisation).
+     * Tous les tableaux trouvés sont classés, mais seuls ceux de la page demandée sont construits.
+     *
+     * @param query  La recherche.
+     * @param offset Le nombre de tableaux à sauter.
+     * @param limit  Le nombre maximal de tableaux renvoyés.
+     * @return Les tableaux trouvés, par qualité de correspondance, puis par nom et par ID, et leur nombre total.
+     */
+    public Page search(String query, int offset, int limit) {
+        String key = BoardOutcome.nameKey(query);
+        if (key.isEmpty()) {
+            return new Page(0, List.of());
+        }
+        updateRanks();
+
+        // Par position du nom d'un tableau : 1 + la meilleure correspondance trouvée (0 : aucune).
+        byte[] matches = new byte[docCount];
+        int[] matched = new int[16];
+        int count = 0;
+        int[] candidates = candidates(key);
+        int candidateCount = candidates != null ? candidates.length : docCount;
+        for (int i = 0; i < candidateCount; i++) {
+            int slot = candidates != null ? candidates[i] : i;
+            int boardSlot = boardSlotOf[slot];
+            if (boardSlot == NO_SLOT || dead.get(slot) || !keys[slot].contains(key)) {
+                continue;
+            }
+            MatchType type = slot == boardSlot ? matchType(keys[slot], key) : MatchType.PARTICIPANT;
+            byte match = (byte) (1 + type.ordinal());
+            if (matches[boardSlot] == 0) {
+                if (count == matched.length) {
+                    matched = Arrays.copyOf(matched, count * 2);
+                }
+                matched[count++] = boardSlot;
+                matches[boardSlot] = match;
+            } else if (match < matches[boardSlot]) {
+                matches[boardSlot] = match;
+            }
+        }
+
+        // Tri par (correspondance, rang alphabétique), codés ensemble sur un long.
+        long[] ranked = new long[count];
+        for (int i = 0; i < count; i++) {
+            ranked[i] = ((long) matches[matched[i]] << 32) | ranks[matched[i]];
+        }
+        Arrays.sort(ranked);
+
+        List<Hit> hits = new ArrayList<>();
+        for (int i = Math.max(0, offset); i < count && hits.size() < limit; i++) {
+            int slot = slotsByRank[(int) ranked[i]];
+            hits.add(new Hit(boardIds[slot], names[slot], MatchType.values()[matches[slot] - 1],
+                    matchingParticipants(boardIds[slot], key)));
+        }
+        return new Page(count, hits);
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    /**
+     * Les documents qui contiennent tous les trigrammes de la recherche (triés), ou {@code null} si elle
+     * est trop courte : tous les documents sont alors candidats.
+     */
+    private int[] candidates(String key) {
+        if (key.length() < 3) {
+            return null;
+        }
+        List<Postings> lists = new ArrayList<>();
+        for (long trigram : trigrams(key)) {
+            Postings list = postings.get(trigram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        int[] result = Arrays.copyOf(lists.get(0).slots, lists.get(0).size);
+        int length = result.length;
+        for (int i = 1; i < lists.size() && length > 0; i++) {
+            Postings list = lists.get(i);
+            int kept = 0;
+            int from = 0;
+            for (int j = 0; j < length; j++) {
+                int found = Arrays.binarySearch(list.slots, from, list.size, result[j]);
+                if (found >= 0) {
+                    result[kept++] = result[j];
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            length = kept;
+        }
+        return Arrays.copyOf(result, length);
+    }
+
+    /**
+     * Recalcule l'ordre alphabétique des tableaux (nom normalisé, puis ID) si un tableau a été ajouté ou renommé.
+     * Retirer un tableau ne change pas l'ordre des autres.
+     */
+    private void updateRanks() {
+        if (!ranksStale) {
+            return;
+        }
+        Integer[] sorted = boardSlots.values().toArray(new Integer[0]);
+        Arrays.sort(sorted, Comparator.<Integer, String>comparing(slot -> keys[slot])
+                .thenComparingLong(slot -> boardIds[slot]));
+        ranks = new int[docCount];
+        slotsByRank = new int[sorted.length];
+        for (int rank = 0; rank < sorted.length; rank++) {
+            ranks[sorted[rank]] = rank;
+            slotsByRank[rank] = sorted[rank];
+        }
+        ranksStale = false;
+    }
+
+    /**
+     * Les noms des participants d'un tableau qui contiennent la recherche, triés.
+     */
+    private List<String> matchingParticipants(long boardId, String key) {
+        List<String> matching = new ArrayList<>();
+        for (Long participantId : participantsByBoard.getOrDefault(boardId, Set.of())) {
+            int slot = participantSlots.get(participantId);
+            if (keys[slot].contains(key)) {
+                matching.add(names[slot]);
+            }
+        }
+        matching.sort(null);
+        return matching;
+    }
+
+    private static MatchType matchType(String name, String key) {
+        if (name.startsWith(key)) {
+            return MatchType.NAME_PREFIX;
+        }
+        for (int i = name.indexOf(key, 1); i > 0; i = name.indexOf(key, i + 1)) {
+            if (!Character.isLetterOrDigit(name.charAt(i - 1))) {
+                return MatchType.WORD_PREFIX;
+            }
+        }
+        return MatchType.NAME;
+    }
+
+    private int add(long boardId, long participantId, String name) {
+        if (docCount == keys.length) {
+            int capacity = docCount * 2;
+            boardIds = Arrays.copyOf(boardIds, capacity);
+            participantIds = Arrays.copyOf(participantIds, capacity);
+            boardSlotOf = Arrays.copyOf(boardSlotOf, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            names = Arrays.copyOf(names, capacity);
+        }
+        int slot = docCount++;
+        String key = BoardOutcome.nameKey(name);
+        boardIds[slot] = boardId;
+        participantIds[slot] = participantId;
+        keys[slot] = key;
+        names[slot] = name;
+        for (long trigram : trigrams(key)) {
+            postings.computeIfAbsent(trigram, t -> new Postings()).add(slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Marque supprimé le document d'un participant et le retire de la liste des participants de son tableau.
+     */
+    private void detach(int slot, long participantId) {
+        kill(slot);
+        Set<Long> participants = participantsByBoard.get(boardIds[slot]);
+        participants.remove(participantId);
+        if (participants.isEmpty()) {
+            participantsByBoard.remove(boardIds[slot]);
+        }
+    }
+
+    private void kill(int slot) {
+        if (!dead.get(slot)) {
+            dead.set(slot);
+            deadCount++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadCount >= MIN_DEAD_TO_COMPACT && deadCount > size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Reconstruit l'index à partir des seuls documents vivants.
+     */
+    void compact() {
+        long[] oldBoardIds = boardIds;
+        long[] oldParticipantIds = participantIds;
+        String[] oldNames = names;
+        int oldCount = docCount;
+        BitSet oldDead = (BitSet) dead.clone();
+
+        int capacity = Math.max(16, size());
+        boardIds = new long[capacity];
+        participantIds = new long[capacity];
+        boardSlotOf = new int[capacity];
+        keys = new String[capacity];
+        names = new String[capacity];
+        docCount = 0;
+        dead.clear();
+        deadCount = 0;
+        postings.clear();
+        boardSlots.clear();
+        participantSlots.clear();
+        for (int slot = 0; slot < oldCount; slot++) {
+            if (oldDead.get(slot)) {
+                continue;
+            }
+            int newSlot = add(oldBoardIds[slot], oldParticipantIds[slot], oldNames[slot]);
+            if (oldParticipantIds[slot] == 0) {
+                boardSlots.put(oldBoardIds[slot], newSlot);
+            } else {
+                participantSlots.put(oldParticipantIds[slot], newSlot);
+            }
+        }
+        for (int slot = 0; slot < docCount; slot++) {
+            boardSlotOf[slot] = boardSlots.getOrDefault(boardIds[slot], NO_SLOT);
+        }
+        ranksStale = true;
+    }
+
+    /**
+     * Les trigrammes d'un nom normalisé, chacun codé sur un long (trois caractères de 16 bits). Un trigramme
+     * répété apparaît plusieurs fois : {@link Postings#add(int)} et l'intersection l'ignorent.
+     */
+    private static long[] trigrams(String key) {
+        long[] trigrams = new long[Math.max(0, key.length() - 2)];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) key.charAt(i) << 32) | ((long) key.charAt(i + 1) << 16) | key.charAt(i + 2);
+        }
+        return trigrams;
+    }
+
+    /**
+     * Liste croissante des documents contenant un trigramme. Les documents étant ajoutés par position
+     * croissante, un ajout se fait toujours à la fin.
+     */
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
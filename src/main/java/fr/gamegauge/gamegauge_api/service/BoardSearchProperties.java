@@ -0,0 +1,31 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres de la recherche de tableaux (préfixe {@code gamegauge.search}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.search")
+public class BoardSearchProperties {
+
+    /** Nombre maximal de propriétaires dont l'index de recherche est gardé en mémoire. */
+    private long cacheSize = 1_000;
+
+    /** Durée après laquelle l'index d'un propriétaire qui ne cherche plus est retiré du cache. */
+    private Duration cacheExpireAfterAccess = Duration.ofMinutes(30);
+
+    /** Taille maximale d'une page de résultats. */
+    private int maxPageSize = 100;
+
+    /**
+     * Nombre maximal de modifications rattrapées depuis le journal ; au-delà, l'index est reconstruit
+     * (deux requêtes).
+     */
+    private int maxCatchUpChanges = 1_000;
+}
@@ -0,0 +1,180 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import fr.gamegauge.gamegauge_api.dto.projection.BoardName;
+import fr.gamegauge.gamegauge_api.dto.projection.OwnerChangeLogState;
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantName;
+import fr.gamegauge.gamegauge_api.dto.response.BoardSearchResponse;
+import fr.gamegauge.gamegauge_api.model.BoardArchive;
+import fr.gamegauge.gamegauge_api.model.BoardChange;
+import fr.gamegauge.gamegauge_api.model.ChangeEntityType;
+import fr.gamegauge.gamegauge_api.model.ChangeOperation;
+import fr.gamegauge.gamegauge_api.repository.BoardArchiveRepository;
+import fr.gamegauge.gamegauge_api.repository.BoardChangeRepository;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.ParticipantRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardArchiveCodec.ArchivedParticipant;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Recherche des tableaux d'un utilisateur par nom de tableau ou de participant.
+ * <p>
+ * Chaque propriétaire a son index en mémoire ({@link BoardSearchIndex}), construit à sa première recherche.
+ * L'index retient le numéro de séquence du journal des modifications ({@code board_changes}) jusqu'auquel
+ * il est à jour : à chaque recherche, les modifications de tableaux et de participants faites depuis
+ * (par cette instance ou une autre) sont relues et appliquées avant de chercher. Si le journal a été purgé
+ * entre-temps, ou s'il y a trop de modifications à rattraper, l'index est reconstruit.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardSearchService {
+
+    private static final Logger logger = LogManager.getLogger(BoardSearchService.class);
+
+    /** Les scores ne changent aucun nom : seules ces modifications concernent l'index. */
+    private static final Set<ChangeEntityType> INDEXED_TYPES =
+            EnumSet.of(ChangeEntityType.BOARD, ChangeEntityType.PARTICIPANT);
+
+    private final UserRepository userRepository;
+    private final BoardRepository boardRepository;
+    private final ParticipantRepository participantRepository;
+    private final BoardChangeRepository boardChangeRepository;
+    private final BoardArchiveRepository boardArchiveRepository;
+    private final Cache<Long, BoardSearchIndex> boardSearchIndexCache;
+    private final BoardSearchProperties properties;
+
+    /**
+     * Cherche parmi les tableaux de l'utilisateur ceux dont le nom, ou le nom d'un participant, contient
+     * la recherche (sans tenir compte de la casse ni des accents).
+     *
+     * @param query     La recherche.
+     * @param page      Le numéro de la page (à partir de 0).
+     * @param size      La taille de la page (plafonnée par {@code maxPageSize}).
+     * @param userEmail L'email de l'utilisateur qui fait la demande.
+     * @return Une page de tableaux, les noms commençant par la recherche en premier.
+     */
+    @Transactional(readOnly = true)
+    public BoardSearchResponse search(String query, int page, int size, String userEmail) {
+        OwnerChangeLogState state = userRepository.findChangeLogStateByEmail(userEmail)
+                .orElseThrow(() -> new UsernameNotFoundException("Utilisateur non trouvé : " + userEmail));
+        int pageNumber = Math.max(0, page);
+        int pageSize = Math.max(1, Math.min(size, properties.getMaxPageSize()));
+
+        BoardSearchIndex.Page hits = search(state, query,
+                (int) Math.min(Integer.MAX_VALUE, (long) pageNumber * pageSize), pageSize);
+        List<BoardSearchResponse.Result> results = hits.hits().stream()
+                .map(hit -> new BoardSearchResponse.Result(hit.boardId(), hit.boardName(), hit.matchType(),
+                        hit.participantNames()))
+                .toList();
+        return new BoardSearchResponse(query, pageNumber, pageSize, hits.total(), results);
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    private BoardSearchIndex.Page search(OwnerChangeLogState state, String query, int offset, int limit) {
+        BoardSearchIndex index = boardSearchIndexCache.getIfPresent(state.getId());
+        if (index != null) {
+            synchronized (index) {
+                if (catchUp(state, index)) {
+                    return index.search(query, offset, limit);
+                }
+            }
+        }
+        index = build(state);
+        boardSearchIndexCache.put(state.getId(), index);
+        synchronized (index) {
+            return index.search(query, offset, limit);
+        }
+    }
+
+    /**
+     * Construit l'index d'un propriétaire à partir de tous ses tableaux et participants (deux requêtes), y compris
+     * ceux des tableaux archivés (une requête de plus).
+     */
+    private BoardSearchIndex build(OwnerChangeLogState state) {
+        long start = System.nanoTime();
+        BoardSearchIndex index = new BoardSearchIndex(state.getChangeSeq());
+        for (BoardName board : boardRepository.findNamesByOwnerId(state.getId())) {
+            index.putBoard(board.id(), board.name());
+        }
+        for (ParticipantName participant : participantRepository.findNamesByOwnerId(state.getId())) {
+            index.putParticipant(participant.id(), participant.boardId(), participant.name());
+        }
+        for (BoardArchive archive : boardArchiveRepository.findByOwnerId(state.getId())) {
+            for (ArchivedParticipant participant : BoardArchiveService.decode(archive)) {
+                index.putParticipant(participant.id(), archive.getBoardId(), participant.name());
+            }
+        }
+        logger.debug("Index de recherche de l'utilisateur ID {} construit au numéro {} : {} noms en {} ms.",
+                state.getId(), state.getChangeSeq(), index.size(), (System.nanoTime() - start) / 1_000_000);
+        return index;
+    }
+
+    /**
+     * Applique à l'index les modifications du journal faites depuis son numéro de séquence : les noms
+     * des tableaux et participants modifiés sont relus, ceux qui n'existent plus sont retirés.
+     *
+     * @return {@code false} si l'index doit être reconstruit (journal purgé, trop de modifications).
+     */
+    private boolean catchUp(OwnerChangeLogState state, BoardSearchIndex index) {
+        long since = index.getSeq();
+        if (since >= state.getChangeSeq()) {
+            // À jour, ou en avance sur une lecture faite avant la dernière modification.
+            return true;
+        }
+        if (since < state.getHistorySeq() || state.getChangeSeq() - since > properties.getMaxCatchUpChanges()) {
+            return false;
+        }
+
+        Set<Long> boardIds = new HashSet<>();
+        Set<Long> deletedBoardIds = new HashSet<>();
+        Set<Long> participantIds = new HashSet<>();
+        for (BoardChange change : boardChangeRepository.findOwnerChangesOfTypes(state.getId(), since,
+                state.getChangeSeq(), INDEXED_TYPES)) {
+            if (change.getEntityType() == ChangeEntityType.PARTICIPANT) {
+                participantIds.add(change.getEntityId());
+            } else if (change.getOperation() == ChangeOperation.DELETE) {
+                deletedBoardIds.add(change.getEntityId());
+            } else {
+                boardIds.add(change.getEntityId());
+            }
+        }
+        boardIds.removeAll(deletedBoardIds);
+
+        // Les noms relus peuvent être plus récents que state : sans effet, le rattrapage suivant les réappliquera.
+        if (!boardIds.isEmpty()) {
+            Set<Long> missing = new HashSet<>(boardIds);
+            for (BoardName board : boardRepository.findNamesByOwnerIdAndIdIn(state.getId(), boardIds)) {
+                index.putBoard(board.id(), board.name());
+                missing.remove(board.id());
+            }
+            deletedBoardIds.addAll(missing);
+        }
+        if (!participantIds.isEmpty()) {
+            Set<Long> missing = new HashSet<>(participantIds);
+            for (ParticipantName participant
+                    : participantRepository.findNamesByOwnerIdAndIdIn(state.getId(), participantIds)) {
+                index.putParticipant(participant.id(), participant.boardId(), participant.name());
+                missing.remove(participant.id());
+            }
+            missing.forEach(index::removeParticipant);
+        }
+        deletedBoardIds.forEach(index::removeBoard);
+        index.setSeq(state.getChangeSeq());
+        logger.debug(
+                "Index de recherche de l'utilisateur ID {} rattrapé de {} à {} ({} tableau(x), {} participant(s)).",
+                state.getId(), since, state.getChangeSeq(), boardIds.size(), participantIds.size());
+        return true;
+    }
+}
@@ -1,21 +1,37 @@
 package fr.gamegauge.gamegauge_api.service;
 
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantScore;
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantSummary;
+import fr.gamegauge.gamegauge_api.dto.projection.RankedParticipantRow;
+import fr.gamegauge.gamegauge_api.dto.projection.ScoreCell;
 import fr.gamegauge.gamegauge_api.dto.request.*;
+import fr.gamegauge.gamegauge_api.dto.response.BoardMatrixResponse;
 import fr.gamegauge.gamegauge_api.dto.response.BoardResponse;
+import fr.gamegauge.gamegauge_api.dto.response.BoardWindowResponse;
 import fr.gamegauge.gamegauge_api.dto.response.ParticipantResponse;
+import fr.gamegauge.gamegauge_api.dto.response.RankedParticipantResponse;
 import fr.gamegauge.gamegauge_api.dto.response.ScoreEntryResponse;
 import fr.gamegauge.gamegauge_api.exception.ResourceNotFoundException;
 import fr.gamegauge.gamegauge_api.exception.UnauthorizedException;
+import fr.gamegauge.gamegauge_api.mapper.BoardImportMapper;
 import fr.gamegauge.gamegauge_api.mapper.BoardMapper;
+import fr.gamegauge.gamegauge_api.mapper.BoardMatrixMapper;
 import fr.gamegauge.gamegauge_api.mapper.ParticipantMapper;
 import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.BoardChange;
+import fr.gamegauge.gamegauge_api.model.ChangeEntityType;
+import fr.gamegauge.gamegauge_api.model.ChangeOperation;
 import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
 import fr.gamegauge.gamegauge_api.model.ScoreEntry;
 import fr.gamegauge.gamegauge_api.model.User;
 import fr.gamegauge.gamegauge_api.repository.BoardRepository;
 import fr.gamegauge.gamegauge_api.repository.ParticipantRepository;
 import fr.gamegauge.gamegauge_api.repository.ScoreEntryRepository;
 import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardChangeService.ChangeBatch;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.LogManager;
@@ -24,6 +40,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,9 +50,13 @@ import java.util.stream.Collectors;
 
 /**
  * Service gérant la logique métier pour les tableaux de scores (Boards).
+ * Chaque méthode publique est chronométrée (timer {@code gamegauge.board.service}, tag {@code method}).
+ * Chaque modification est journalisée par {@link BoardChangeService}, dans la même transaction.
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "gamegauge.board.service", description = "Durée des opérations de BoardService",
+        percentiles = {0.5, 0.95, 0.99}, histogram = true)
 public class BoardService {
 
     private static final Logger logger = LogManager.getLogger(BoardService.class);
@@ -45,6 +67,12 @@ public class BoardService {
     private final ScoreEntryRepository scoreEntryRepository;
     private final BoardMapper boardMapper;
     private final ParticipantMapper participantMapper;
+    private final BoardChangeService boardChangeService;
+    private final ScoreEventService scoreEventService;
+    private final OwnerStatsService ownerStatsService;
+    private final LeaderboardService leaderboardService;
+    private final BoardArchiveService boardArchiveService;
+    private final EntityManager entityManager; // Pour purger le contexte de persistance pendant un import en masse.
 
     /**
      * Crée un nouveau tableau de scores pour un utilisateur donné.
@@ -53,11 +81,13 @@ public class BoardService {
      * @param userEmail L'email de l'utilisateur authentifié qui sera le propriétaire.
      * @return Le tableau de scores créé, formaté en DTO.
      */
+    @Transactional
     public BoardResponse createBoard(BoardCreateRequest request, String userEmail) {
         logger.info("Tentative de création d'un tableau '{}' par l'utilisateur {}", request.getName(), userEmail);
 
         // 1. Retrouver l'utilisateur propriétaire.
         User owner = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(owner);
 
         // 2. Créer la nouvelle entité Board.
         Board board = new Board();
@@ -69,6 +99,8 @@ public class BoardService {
 
         // 3. Sauvegarder dans la base de données.
         Board savedBoard = boardRepository.save(board);
+        boardChangeService.recordBoardInserted(changes, savedBoard);
+        ownerStatsService.boardCreated(savedBoard);
         logger.info("Tableau '{}' (ID: {}) créé avec succès.", savedBoard.getName(), savedBoard.getId());
 
         // 4. Mapper l'entité sauvegardée vers un DTO de réponse et le retourner.
@@ -81,14 +113,15 @@ public class BoardService {
      * @param userEmail L'email de l'utilisateur authentifié.
      * @return Une liste de DTOs représentant les tableaux de l'utilisateur.
      */
+    @Transactional(readOnly = true) // Lecture seule : servie par le réplica s'il est configuré, sans flush.
     public List<BoardResponse> getBoardsForUser(String userEmail) {
         logger.debug("Récupération des tableaux pour l'utilisateur {}", userEmail);
         User owner = getUserByEmail(userEmail);
 
         List<Board> boards = boardRepository.findByOwnerOrderByDisplayOrderAsc(owner);
 
-        // On mappe chaque entité Board en BoardResponse
-        return boardMapper.toBoardResponseList(boards);
+        // On mappe chaque entité Board en BoardResponse (les tableaux archivés sont relus depuis leur archive)
+        return boardMapper.toBoardResponseList(boardArchiveService.rehydrateAll(boards));
     }
 
     /**
@@ -100,6 +133,7 @@ public class BoardService {
      * @throws ResourceNotFoundException si le tableau n'existe pas.
      * @throws UnauthorizedException     si l'utilisateur n'est pas le propriétaire.
      */
+    @Transactional(readOnly = true)
     public BoardResponse getBoardById(Long boardId, String userEmail) {
         logger.debug("Tentative de récupération du tableau ID {} par l'utilisateur {}", boardId, userEmail);
         User user = getUserByEmail(userEmail);
@@ -107,9 +141,162 @@ public class BoardService {
         Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
 
+        if (board.getArchivedAt() != null) {
+            // Tableau archivé : son contenu est relu depuis l'archive, sans le restaurer.
+            return boardMapper.toBoardResponse(boardArchiveService.rehydrate(board));
+        }
         return boardMapper.toBoardResponse(board);
     }
 
+    /**
+     * Récupère un tableau sous forme de matrice compacte (participants × tours), sans charger
+     * les entités participants et scores : deux requêtes de projection suffisent.
+     *
+     * @param boardId   L'ID du tableau à récupérer.
+     * @param userEmail L'email de l'utilisateur qui fait la demande.
+     * @return La vue matrice du tableau.
+     * @throws ResourceNotFoundException si le tableau n'existe pas ou n'appartient pas à l'utilisateur.
+     */
+    @Transactional(readOnly = true)
+    public BoardMatrixResponse getBoardMatrix(Long boardId, String userEmail) {
+        logger.debug("Récupération de la matrice du tableau ID {} par l'utilisateur {}", boardId, userEmail);
+        BoardGrid grid = getBoardGrid(boardId, userEmail);
+        return BoardMatrixMapper.toBoardMatrixResponse(grid.board(), grid.participants(), grid.cells());
+    }
+
+    /**
+     * Lit le contenu d'un tableau sous forme de projections (participants et cases de score), sans charger
+     * les entités participants et scores. Un tableau archivé est lu dans son archive, sans être restauré.
+     *
+     * @param boardId   L'ID du tableau à lire.
+     * @param userEmail L'email de l'utilisateur qui fait la demande.
+     * @return Le tableau, ses participants triés par identifiant et ses cases de score.
+     * @throws ResourceNotFoundException si le tableau n'existe pas ou n'appartient pas à l'utilisateur.
+     */
+    @Transactional(readOnly = true)
+    public BoardGrid getBoardGrid(Long boardId, String userEmail) {
+        User user = getUserByEmail(userEmail);
+
+        Board board = boardRepository.findByIdAndOwner(boardId, user)
+                .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+
+        if (board.getArchivedAt() != null) {
+            Board archived = boardArchiveService.rehydrate(board);
+            return new BoardGrid(board,
+                    archived.getParticipants().stream()
+                            .map(p -> new ParticipantSummary(p.getId(), p.getName()))
+                            .toList(),
+                    archived.getParticipants().stream()
+                            .flatMap(p -> p.getScoreEntries().stream()
+                                    .map(s -> new ScoreCell(p.getId(), s.getRoundNumber(), s.getScoreValue())))
+                            .toList());
+        }
+        return new BoardGrid(board,
+                participantRepository.findSummariesByBoardId(boardId),
+                scoreEntryRepository.findCellsByBoardId(boardId));
+    }
+
+    /**
+     * Récupère une fenêtre d'un tableau : une tranche de participants dans l'ordre du classement et leurs scores
+     * sur une plage de tours. Seule la fenêtre est lue : le classement est calculé par la base sur le tableau
+     * entier, puis les scores des seuls participants et tours demandés sont chargés (quatre requêtes, quelle que
+     * soit la taille du tableau).
+     *
+     * @param boardId            L'ID du tableau à récupérer.
+     * @param participantsOffset Le nombre de participants à sauter dans l'ordre du classement.
+     * @param participantsLimit  Le nombre maximal de participants, ou {@code null} pour tous les suivants.
+     * @param roundsFrom         Le premier tour renvoyé, ou {@code null} pour partir du début.
+     * @param roundsTo           Le dernier tour renvoyé, ou {@code null} pour aller jusqu'au bout.
+     * @param userEmail          L'email de l'utilisateur qui fait la demande.
+     * @return La fenêtre du tableau ; totaux et rangs portent sur le tableau entier.
+     * @throws ResourceNotFoundException si le tableau n'existe pas ou n'appartient pas à l'utilisateur.
+     */
+    @Transactional(readOnly = true)
+    public BoardWindowResponse getBoardWindow(Long boardId, int participantsOffset, Integer participantsLimit,
+                                              Integer roundsFrom, Integer roundsTo, String userEmail) {
+        logger.debug("Récupération d'une fenêtre du tableau ID {} par l'utilisateur {}", boardId, userEmail);
+        User user = getUserByEmail(userEmail);
+
+        Board board = boardRepository.findByIdAndOwner(boardId, user)
+                .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+
+        int offset = Math.max(0, participantsOffset);
+        int limit = participantsLimit != null ? Math.max(0, participantsLimit) : Integer.MAX_VALUE;
+        int sign = board.getScoreCondition() == ScoreCondition.LOWEST_WINS ? -1 : 1;
+        if (board.getArchivedAt() != null) {
+            return archivedWindow(board, user, offset, limit, sign, roundsFrom, roundsTo);
+        }
+        List<RankedParticipantRow> window = limit > 0
+                ? participantRepository.findRankedByBoardId(boardId, sign, offset, limit)
+                : List.of();
+        // Fenêtre vide (au-delà du dernier participant) : les agrégats du tableau sont lus sur le premier.
+        Optional<RankedParticipantRow> aggregates = !window.isEmpty() ? Optional.of(window.get(0))
+                : participantRepository.findRankedByBoardId(boardId, sign, 0, 1).stream().findFirst();
+
+        int from = roundsFrom != null ? roundsFrom : Integer.MIN_VALUE;
+        int to = roundsTo != null ? roundsTo : Integer.MAX_VALUE;
+        Map<Long, List<ScoreEntryResponse>> scores = window.isEmpty() || from > to
+                ? Map.of()
+                : scoreEntryRepository.findByParticipantsAndRounds(
+                                window.stream().map(RankedParticipantRow::getId).toList(), from, to).stream()
+                        .collect(Collectors.groupingBy(ParticipantScore::participantId, Collectors.mapping(
+                                score -> new ScoreEntryResponse(score.id(), score.scoreValue(), score.roundNumber()),
+                                Collectors.toList())));
+
+        List<ParticipantResponse> participants = window.stream()
+                .<ParticipantResponse>map(row -> new RankedParticipantResponse(row.getId(), row.getName(),
+                        row.getRanking(), (int) row.getTotal(), scores.getOrDefault(row.getId(), List.of())))
+                .toList();
+        int participantCount = aggregates.map(RankedParticipantRow::getParticipantCount).orElse(0);
+        int roundsPlayed = aggregates.map(RankedParticipantRow::getRoundsPlayed).orElse(0);
+        return new BoardWindowResponse(board.getId(), board.getName(), board.getTargetScore(),
+                board.getScoreCondition(), board.getNumberOfRounds(), board.getCreatedAt(), board.getUpdatedAt(),
+                user.getUsername(), participants, participantCount, offset, roundsPlayed, roundsFrom, roundsTo);
+    }
+
+    /**
+     * Fenêtre d'un tableau archivé, calculée en mémoire sur son contenu relu depuis l'archive, avec le même
+     * classement que {@link ParticipantRepository#findRankedByBoardId} (total décroissant selon la condition de
+     * victoire, puis identifiant ; rangs ex aequo).
+     */
+    private BoardWindowResponse archivedWindow(Board board, User user, int offset, int limit, int sign,
+                                               Integer roundsFrom, Integer roundsTo) {
+        List<Participant> ranked = boardArchiveService.rehydrate(board).getParticipants().stream()
+                .sorted(Comparator.comparingLong((Participant p) -> -sign * (long) totalOf(p))
+                        .thenComparing(Participant::getId))
+                .toList();
+        int roundsPlayed = ranked.stream().flatMap(p -> p.getScoreEntries().stream())
+                .mapToInt(ScoreEntry::getRoundNumber).max().orElse(0);
+        int from = roundsFrom != null ? roundsFrom : Integer.MIN_VALUE;
+        int to = roundsTo != null ? roundsTo : Integer.MAX_VALUE;
+
+        List<ParticipantResponse> participants = new ArrayList<>();
+        int rank = 0;
+        for (int i = 0; i < ranked.size() && participants.size() < limit; i++) {
+            Participant participant = ranked.get(i);
+            if (i == 0 || totalOf(participant) != totalOf(ranked.get(i - 1))) {
+                rank = i + 1;
+            }
+            if (i < offset) {
+                continue;
+            }
+            List<ScoreEntryResponse> scores = participant.getScoreEntries().stream()
+                    .filter(score -> score.getRoundNumber() >= from && score.getRoundNumber() <= to)
+                    .sorted(Comparator.comparingInt(ScoreEntry::getRoundNumber).thenComparing(ScoreEntry::getId))
+                    .map(score -> new ScoreEntryResponse(score.getId(), score.getScoreValue(), score.getRoundNumber()))
+                    .toList();
+            participants.add(new RankedParticipantResponse(participant.getId(), participant.getName(), rank,
+                    totalOf(participant), scores));
+        }
+        return new BoardWindowResponse(board.getId(), board.getName(), board.getTargetScore(),
+                board.getScoreCondition(), board.getNumberOfRounds(), board.getCreatedAt(), board.getUpdatedAt(),
+                user.getUsername(), participants, ranked.size(), offset, roundsPlayed, roundsFrom, roundsTo);
+    }
+
+    private static int totalOf(Participant participant) {
+        return participant.getScoreEntries().stream().mapToInt(ScoreEntry::getScoreValue).sum();
+    }
+
     /**
      * Met à jour le nom d'un tableau de scores.
      *
@@ -118,17 +305,28 @@ public class BoardService {
      * @param userEmail L'email de l'utilisateur qui fait la demande.
      * @return Le DTO du tableau mis à jour.
      */
+    @Transactional // Sans transaction, les modifications de l'entité ne seraient jamais écrites en base.
     public BoardResponse updateBoard(Long boardId, BoardUpdateRequest request, String userEmail) {
         logger.info("Tentative de mise à jour du tableau ID {} par l'utilisateur {}", boardId, userEmail);
         User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
 
         Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+        boardArchiveService.restore(board);
 
+        ScoreCondition previousCondition = board.getScoreCondition();
         board.setName(request.getName());
         board.setTargetScore(request.getTargetScore());
         board.setScoreCondition(request.getScoreCondition());
         board.setNumberOfRounds(request.getNumberOfRounds());
+        boardChangeService.record(changes, board,
+                new BoardChange(ChangeEntityType.BOARD, board.getId(), null, ChangeOperation.UPDATE));
+        ownerStatsService.boardChanged(board);
+        if (previousCondition != board.getScoreCondition()) {
+            // Les scores du tableau changent de classement global.
+            leaderboardService.boardScoresAdded(board);
+        }
 
         //Board updatedBoard = boardRepository.save(board);
         logger.info("Tableau ID {} mis à jour avec succès.", board.getId());
@@ -142,13 +340,21 @@ public class BoardService {
      * @param boardId   L'ID du tableau à supprimer.
      * @param userEmail L'email de l'utilisateur qui fait la demande.
      */
+    @Transactional
     public void deleteBoard(Long boardId, String userEmail) {
         logger.info("Tentative de suppression du tableau ID {} par l'utilisateur {}", boardId, userEmail);
         User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
 
         Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
 
+        // Journalisé avant la suppression (le compteur du tableau disparaît avec lui) ; la suppression
+        // du tableau vaut pour ses participants et ses scores.
+        boardChangeService.record(changes, board,
+                new BoardChange(ChangeEntityType.BOARD, board.getId(), null, ChangeOperation.DELETE));
+        ownerStatsService.boardDeleted(board);
+        leaderboardService.boardScoresRemoved(boardId);
         boardRepository.delete(board);
         logger.info("Tableau ID {} supprimé avec succès.", boardId);
     }
@@ -167,8 +373,10 @@ public class BoardService {
                 request.getName(), boardId, userEmail);
 
         User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
         Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+        boardArchiveService.restore(board);
 
         // Créer le nouveau participant
         Participant participant = new Participant();
@@ -183,6 +391,8 @@ public class BoardService {
 
         // On retourne le dernier participant ajouté
         Participant savedParticipant = board.getParticipants().get(board.getParticipants().size() - 1);
+        boardChangeService.record(changes, board,
+                new BoardChange(ChangeEntityType.PARTICIPANT, savedParticipant.getId(), boardId, ChangeOperation.INSERT));
         return participantMapper.toParticipantResponse(savedParticipant);
     }
 
@@ -199,8 +409,10 @@ public class BoardService {
                 participantId, boardId, userEmail);
 
         User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
         Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+        boardArchiveService.restore(board);
 
         // Trouver le participant à supprimer DANS LA LISTE du tableau.
         Participant participantToRemove = board.getParticipants().stream()
@@ -212,6 +424,12 @@ public class BoardService {
         // Grâce à orphanRemoval=true dans l'entité Board, Hibernate va
         // automatiquement générer la requête DELETE pour ce participant.
         board.removeParticipant(participantToRemove);
+        // La suppression du participant vaut pour ses scores.
+        boardChangeService.record(changes, board,
+                new BoardChange(ChangeEntityType.PARTICIPANT, participantId, boardId, ChangeOperation.DELETE));
+        scoreEventService.participantRemoved(boardId, participantId);
+        ownerStatsService.boardChanged(board);
+        leaderboardService.participantRemoved(participantId);
 
         // La transaction s'assurera que les changements sont sauvegardés à la fin de la méthode.
         // Pas besoin d'appeler boardRepository.save(board) explicitement ici.
@@ -227,13 +445,16 @@ public class BoardService {
      * @param userEmail     L'email de l'utilisateur qui effectue l'action.
      * @return Le DTO du participant mis à jour.
      */
+    @Transactional
     public ParticipantResponse updateParticipantInBoard(Long boardId, Long participantId, ParticipantUpdateRequest request, String userEmail) {
         logger.info("Tentative de mise à jour du participant ID {} dans le tableau ID {} par l'utilisateur {}",
                 participantId, boardId, userEmail);
 
         User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
         Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+        boardArchiveService.restore(board);
 
         // Trouver le participant à mettre à jour dans la liste du tableau.
         Participant participantToUpdate = board.getParticipants().stream()
@@ -246,6 +467,10 @@ public class BoardService {
 
         // Sauvegarder l'entité participant mise à jour.
         Participant savedParticipant = participantRepository.save(participantToUpdate);
+        boardChangeService.record(changes, board,
+                new BoardChange(ChangeEntityType.PARTICIPANT, participantId, boardId, ChangeOperation.UPDATE));
+        ownerStatsService.boardChanged(board);
+        leaderboardService.participantRenamed(participantId, savedParticipant.getName());
 
         logger.info("Participant ID {} mis à jour avec succès. Nouveau nom : {}",
                 savedParticipant.getId(), savedParticipant.getName());
@@ -262,13 +487,16 @@ public class BoardService {
      * @param userEmail     L'email de l'utilisateur qui effectue l'action.
      * @return Le DTO de l'entrée de score nouvellement créée.
      */
+    @Transactional
     public ScoreEntryResponse addScoreToParticipant(Long boardId, Long participantId, ScoreEntryAddRequest request, String userEmail) {
         logger.info("Tentative d'ajout d'un score (valeur: {}, tour: {}) pour le participant ID {} dans le tableau ID {}",
                 request.getScoreValue(), request.getRoundNumber(), participantId, boardId);
 
         User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
         Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+        boardArchiveService.restore(board);
 
         Participant participant = board.getParticipants().stream()
                 .filter(p -> p.getId().equals(participantId))
@@ -284,6 +512,11 @@ public class BoardService {
 
         // Sauvegarder explicitement la nouvelle entrée de score
         ScoreEntry savedScoreEntry = scoreEntryRepository.save(scoreEntry);
+        boardChangeService.record(changes, board,
+                new BoardChange(ChangeEntityType.SCORE, savedScoreEntry.getId(), participantId, ChangeOperation.INSERT));
+        scoreEventService.scoreRecorded(boardId, savedScoreEntry, null);
+        ownerStatsService.boardChanged(board);
+        leaderboardService.scoreRecorded(board, participant, savedScoreEntry);
         logger.info("Score (ID: {}) ajouté avec succès.", savedScoreEntry.getId());
 
         return new ScoreEntryResponse(savedScoreEntry.getId(), savedScoreEntry.getScoreValue(), savedScoreEntry.getRoundNumber());
@@ -298,14 +531,17 @@ public class BoardService {
      * @param userEmail     L'email de l'utilisateur qui effectue l'action.
      * @return Le DTO du score mis à jour.
      */
+    @Transactional
     public ScoreEntryResponse setScoreForParticipant(Long boardId, Long participantId, ScoreEntryAddRequest request, String userEmail) {
 
         logger.info("Définition du score (valeur: {}, tour: {}) pour le participant ID {} dans le tableau ID {}",
                 request.getScoreValue(), request.getRoundNumber(), participantId, boardId);
 
         User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
         Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("..."));
+        boardArchiveService.restore(board);
 
         Participant participant = board.getParticipants().stream()
                 .filter(p -> p.getId().equals(participantId))
@@ -318,10 +554,12 @@ public class BoardService {
                 .findFirst();
 
         ScoreEntry scoreToSave;
+        Integer previousValue = null;
         if (existingScoreOpt.isPresent()) {
             // Si le score existe, on le met à jour
             logger.debug("Mise à jour du score existant pour le tour {}", request.getRoundNumber());
             scoreToSave = existingScoreOpt.get();
+            previousValue = scoreToSave.getScoreValue();
             scoreToSave.setScoreValue(request.getScoreValue());
         } else {
             // Sinon, on en crée un nouveau
@@ -333,11 +571,98 @@ public class BoardService {
         }
 
         ScoreEntry savedScoreEntry = scoreEntryRepository.save(scoreToSave);
+        boardChangeService.record(changes, board, new BoardChange(ChangeEntityType.SCORE, savedScoreEntry.getId(),
+                participantId, existingScoreOpt.isPresent() ? ChangeOperation.UPDATE : ChangeOperation.INSERT));
+        scoreEventService.scoreRecorded(boardId, savedScoreEntry, previousValue);
+        ownerStatsService.boardChanged(board);
+        leaderboardService.scoreRecorded(board, participant, savedScoreEntry);
         logger.info("Score (ID: {}) défini avec succès.", savedScoreEntry.getId());
 
         return new ScoreEntryResponse(savedScoreEntry.getId(), savedScoreEntry.getScoreValue(), savedScoreEntry.getRoundNumber());
     }
 
+    /**
+     * Définit en une transaction des scores reçus en écriture différée ({@link ScoreWriteBehindService}), avec
+     * les mêmes journaux et statistiques que {@link #setScoreForParticipant}, mis à jour une fois pour le lot.
+     * Un score dont la valeur ne change pas n'est pas réécrit. Si le tour compte plusieurs entrées, seule la
+     * première est gardée (avec la valeur définie) et les autres sont supprimées : le tour vaut alors exactement
+     * la valeur définie, comme dans la grille en direct ({@link LiveGameService}).
+     *
+     * @param boardId   L'ID du tableau.
+     * @param edits     Les scores à définir, dans l'ordre de réception (au plus un par participant et par tour).
+     * @param userEmail L'email du propriétaire du tableau.
+     * @return Le nombre de scores créés, modifiés ou supprimés.
+     */
+    @Transactional
+    public int setScores(Long boardId, List<ScoreEdit> edits, String userEmail) {
+        User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
+        Board board = boardRepository.findByIdAndOwner(boardId, user)
+                .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+        boardArchiveService.restore(board);
+        Map<Long, Participant> participants = board.getParticipants().stream()
+                .collect(Collectors.toMap(Participant::getId, Function.identity()));
+
+        List<BoardChange> journal = new ArrayList<>();
+        List<ScoreEntry> savedScores = new ArrayList<>();
+        List<Integer> previousValues = new ArrayList<>();
+        List<Participant> scoredParticipants = new ArrayList<>();
+        int deletedScores = 0;
+        for (ScoreEdit edit : edits) {
+            Participant participant = participants.get(edit.participantId());
+            if (participant == null) {
+                throw new ResourceNotFoundException("Participant non trouvé dans ce tableau. ID: " + edit.participantId());
+            }
+            List<ScoreEntry> roundScores = participant.getScoreEntries().stream()
+                    .filter(s -> s.getRoundNumber() == edit.roundNumber())
+                    .toList();
+            for (ScoreEntry duplicate : roundScores.stream().skip(1).toList()) {
+                participant.getScoreEntries().remove(duplicate);
+                journal.add(new BoardChange(ChangeEntityType.SCORE, duplicate.getId(), participant.getId(),
+                        ChangeOperation.DELETE));
+                scoreEventService.scoreDeleted(boardId, duplicate);
+                leaderboardService.scoreDeleted(board, participant, duplicate.getId());
+                deletedScores++;
+            }
+            Optional<ScoreEntry> existing = roundScores.stream().findFirst();
+            ScoreEntry score;
+            if (existing.isPresent()) {
+                score = existing.get();
+                if (score.getScoreValue() == edit.scoreValue()) {
+                    continue;
+                }
+                previousValues.add(score.getScoreValue());
+                score.setScoreValue(edit.scoreValue());
+            } else {
+                score = new ScoreEntry();
+                score.setScoreValue(edit.scoreValue());
+                score.setRoundNumber(edit.roundNumber());
+                participant.addScoreEntry(score);
+                score = scoreEntryRepository.save(score);
+                previousValues.add(null);
+            }
+            journal.add(new BoardChange(ChangeEntityType.SCORE, score.getId(), participant.getId(),
+                    existing.isPresent() ? ChangeOperation.UPDATE : ChangeOperation.INSERT));
+            savedScores.add(score);
+            scoredParticipants.add(participant);
+        }
+        if (journal.isEmpty()) {
+            return 0;
+        }
+
+        boardChangeService.record(changes, board, journal.toArray(BoardChange[]::new));
+        if (!savedScores.isEmpty()) {
+            scoreEventService.scoresRecorded(boardId, savedScores, previousValues);
+        }
+        ownerStatsService.boardChanged(board);
+        for (int i = 0; i < savedScores.size(); i++) {
+            leaderboardService.scoreRecorded(board, scoredParticipants.get(i), savedScores.get(i));
+        }
+        logger.debug("{} score(s) différé(s) écrit(s) et {} doublon(s) supprimé(s) dans le tableau ID {} ({} reçu(s)).",
+                savedScores.size(), deletedScores, boardId, edits.size());
+        return savedScores.size() + deletedScores;
+    }
+
     /**
      * Supprime une entrée de score spécifique d'un participant.
      *
@@ -352,8 +677,10 @@ public class BoardService {
                 scoreId, participantId, boardId);
 
         User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
         Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+        boardArchiveService.restore(board);
 
         Participant participant = board.getParticipants().stream()
                 .filter(p -> p.getId().equals(participantId))
@@ -369,6 +696,11 @@ public class BoardService {
         // Au lieu de supprimer via le repository, on retire l'élément de la liste du parent.
         // Grâce à orphanRemoval=true, Hibernate générera la requête DELETE pour nous.
         participant.getScoreEntries().remove(scoreToDelete);
+        boardChangeService.record(changes, board,
+                new BoardChange(ChangeEntityType.SCORE, scoreId, participantId, ChangeOperation.DELETE));
+        scoreEventService.scoreDeleted(boardId, scoreToDelete);
+        ownerStatsService.boardChanged(board);
+        leaderboardService.scoreDeleted(board, participant, scoreId);
 
         logger.info("Score ID {} supprimé avec succès.", scoreId);
 
@@ -385,12 +717,19 @@ public class BoardService {
     public void restartBoard(Long boardId, String userEmail) {
         logger.info("Tentative de redémarrage du tableau ID {} par l'utilisateur {}", boardId, userEmail);
         User user = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(user);
         // On vérifie toujours que l'utilisateur est bien le propriétaire avant de supprimer.
-        boardRepository.findByIdAndOwner(boardId, user)
+        Board board = boardRepository.findByIdAndOwner(boardId, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+        boardArchiveService.restore(board);
 
+        // Les scores sont journalisés (une requête INSERT ... SELECT) avant d'être supprimés.
+        boardChangeService.recordScoresDeleted(changes, board);
         // LA CORRECTION : Une seule ligne pour tout supprimer.
         scoreEntryRepository.deleteAllByParticipantBoardId(boardId);
+        scoreEventService.boardRestarted(boardId);
+        ownerStatsService.boardChanged(board);
+        leaderboardService.boardScoresRemoved(boardId);
 
         logger.info("Tous les scores du tableau ID {} ont été réinitialisés.", boardId);
     }
@@ -398,6 +737,7 @@ public class BoardService {
     @Transactional
     public void updateBoardsOrder(BoardOrderUpdateRequest request, String userEmail) {
         User owner = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(owner);
         List<Board> boards = boardRepository.findByOwnerOrderByDisplayOrderAsc(owner);
 
         // Créer une map pour un accès rapide aux tableaux par ID
@@ -409,14 +749,30 @@ public class BoardService {
         for (Long boardId : request.getBoardIds()) {
             Board board = boardMap.get(boardId);
             if (board != null && board.getOwner().getId().equals(owner.getId())) { // Sécurité
-                board.setDisplayOrder(order++);
-                boardRepository.save(board);
+                int displayOrder = order++;
+                if (board.getDisplayOrder() == null || board.getDisplayOrder() != displayOrder) {
+                    // Seuls les tableaux qui changent de place sont journalisés.
+                    board.setDisplayOrder(displayOrder);
+                    boardRepository.save(board);
+                    boardChangeService.record(changes, board,
+                            new BoardChange(ChangeEntityType.BOARD, boardId, null, ChangeOperation.UPDATE));
+                }
             }
         }
     }
 
     // --- MÉTHODES UTILITAIRES PRIVÉES ---
 
+    /**
+     * Journaux, statistiques et classements d'un tableau importé, après son enregistrement.
+     */
+    private void boardImported(ChangeBatch changes, Board savedBoard) {
+        boardChangeService.recordBoardInserted(changes, savedBoard);
+        scoreEventService.boardImported(savedBoard);
+        ownerStatsService.boardCreated(savedBoard);
+        leaderboardService.boardScoresAdded(savedBoard);
+    }
+
     /**
      * Méthode utilitaire pour récupérer un utilisateur par email.
      */
@@ -468,40 +824,48 @@ public class BoardService {
     public BoardResponse importBoard(BoardImportRequest request, String userEmail) {
         logger.info("Importation d'un tableau local '{}' pour l'utilisateur {}", request.getName(), userEmail);
         User owner = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(owner);
 
-        // 1. Créer l'entité Board de base
-        Board board = new Board();
-        board.setName(request.getName());
+        // 1. Créer le tableau, ses participants et leurs scores
+        Board board = BoardImportMapper.toBoard(request);
         board.setOwner(owner);
-        board.setTargetScore(request.getTargetScore());
-        board.setScoreCondition(request.getScoreCondition());
-        board.setNumberOfRounds(request.getNumberOfRounds());
 
-        // 2. Créer les participants et leurs scores
-        if (request.getParticipants() != null) {
-            for (BoardImportRequest.ParticipantImportDto pDto : request.getParticipants()) {
-                Participant participant = new Participant();
-                participant.setName(pDto.getName());
-
-                if (pDto.getScores() != null) {
-                    for (BoardImportRequest.ScoreEntryImportDto sDto : pDto.getScores()) {
-                        ScoreEntry scoreEntry = new ScoreEntry();
-                        scoreEntry.setRoundNumber(sDto.getRoundNumber());
-                        scoreEntry.setScoreValue(sDto.getScoreValue());
-                        participant.addScoreEntry(scoreEntry);
-                    }
-                }
-                board.addParticipant(participant);
-            }
-        }
-
-        // 3. Sauvegarder le tout (la cascade s'occupera des participants et scores)
+        // 2. Sauvegarder le tout (la cascade s'occupera des participants et scores)
         Board savedBoard = boardRepository.save(board);
+        boardImported(changes, savedBoard);
         logger.info("Tableau local importé avec succès. Nouvel ID : {}", savedBoard.getId());
 
         return boardMapper.toBoardResponse(savedBoard);
     }
 
+    /**
+     * Enregistre des tableaux importés en une transaction, avec les mêmes journaux et statistiques qu'un import
+     * unitaire ({@link #importBoard}). Utilisé par l'import en masse ({@link BoardBulkImportService}).
+     *
+     * @param boards    Les tableaux construits par {@link BoardImportMapper}, sans propriétaire.
+     * @param userEmail L'email de l'utilisateur qui importe.
+     * @return Les IDs des tableaux créés, dans l'ordre des tableaux reçus.
+     */
+    @Transactional
+    public List<Long> importBoards(List<Board> boards, String userEmail) {
+        User owner = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(owner);
+
+        List<Long> ids = new ArrayList<>(boards.size());
+        for (Board board : boards) {
+            board.setOwner(owner);
+            Board savedBoard = boardRepository.save(board);
+            boardImported(changes, savedBoard);
+            ids.add(savedBoard.getId());
+            // Chaque requête native des journaux vide d'abord le contexte de persistance : sans purge après chaque
+            // tableau, chaque vidage repasserait sur tous les tableaux déjà enregistrés du lot.
+            entityManager.flush();
+            entityManager.clear();
+        }
+        logger.debug("{} tableau(x) importé(s) pour l'utilisateur {}.", ids.size(), userEmail);
+        return ids;
+    }
+
     /**
      * Duplique un tableau de scores existant, en copiant ses participants mais pas leurs scores.
      *
@@ -513,10 +877,12 @@ public class BoardService {
     public BoardResponse duplicateBoard(Long boardId, String userEmail) {
         logger.info("Tentative de duplication du tableau ID {} par l'utilisateur {}", boardId, userEmail);
         User owner = getUserByEmail(userEmail);
+        ChangeBatch changes = boardChangeService.begin(owner);
 
         // 1. Trouver le tableau original et vérifier la propriété
         Board originalBoard = boardRepository.findByIdAndOwner(boardId, owner)
                 .orElseThrow(() -> new ResourceNotFoundException("Tableau original non trouvé ou accès non autorisé. ID: " + boardId));
+        boardArchiveService.restore(originalBoard);
 
         // 2. Créer la nouvelle entité Board (la copie)
         Board duplicatedBoard = new Board();
@@ -538,6 +904,8 @@ public class BoardService {
 
         // 4. Sauvegarder la nouvelle entité (la cascade s'occupe de sauvegarder les nouveaux participants)
         Board savedBoard = boardRepository.save(duplicatedBoard);
+        boardChangeService.recordBoardInserted(changes, savedBoard);
+        ownerStatsService.boardCreated(savedBoard);
         logger.info("Tableau dupliqué avec succès. Nouvel ID : {}", savedBoard.getId());
 
         return boardMapper.toBoardResponse(savedBoard);
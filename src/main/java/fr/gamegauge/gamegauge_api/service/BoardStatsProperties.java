@@ -0,0 +1,22 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres du cache des statistiques de tableaux (préfixe {@code gamegauge.stats}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.stats")
+public class BoardStatsProperties {
+
+    /** Nombre maximal de tableaux dont les statistiques sont gardées en mémoire. */
+    private long cacheSize = 10_000;
+
+    /** Durée après laquelle les statistiques d'un tableau non consulté sont retirées du cache. */
+    private Duration cacheExpireAfterAccess = Duration.ofHours(1);
+}
@@ -0,0 +1,97 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import fr.gamegauge.gamegauge_api.dto.projection.BoardVersion;
+import fr.gamegauge.gamegauge_api.dto.projection.RoundStatRow;
+import fr.gamegauge.gamegauge_api.dto.response.BoardStatsResponse;
+import fr.gamegauge.gamegauge_api.exception.ResourceNotFoundException;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.ScoreEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Statistiques des tableaux, calculées par la base ({@link ScoreEntryRepository#findRoundStatsByBoardId}) et
+ * gardées en cache.
+ * <p>
+ * Le cache est indexé par tableau et chaque entrée porte la version du tableau (son compteur de modifications,
+ * incrémenté par {@link BoardChangeService} à chaque modification) : une requête lit la version, en vérifiant
+ * la propriété du tableau, et ne recalcule les statistiques que si elle a changé. La restauration d'un tableau
+ * archivé ne change pas sa version.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardStatsService {
+
+    private static final Logger logger = LogManager.getLogger(BoardStatsService.class);
+
+    private final BoardRepository boardRepository;
+    private final ScoreEntryRepository scoreEntryRepository;
+    private final Cache<Long, BoardStatsResponse> boardStatsCache;
+    private final BoardArchiveService boardArchiveService;
+
+    /**
+     * Récupère les statistiques d'un tableau, tour par tour.
+     *
+     * @param boardId   L'ID du tableau.
+     * @param userEmail L'email de l'utilisateur qui fait la demande.
+     * @return Les statistiques, à jour de la dernière modification du tableau.
+     * @throws ResourceNotFoundException si le tableau n'existe pas ou n'appartient pas à l'utilisateur.
+     */
+    @Transactional(readOnly = true)
+    public BoardStatsResponse getBoardStats(Long boardId, String userEmail) {
+        BoardVersion version = boardRepository.findVersionByIdAndOwnerEmail(boardId, userEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+
+        BoardStatsResponse cached = boardStatsCache.getIfPresent(boardId);
+        if (cached != null && cached.getVersion() == version.getChangeSeq()) {
+            logger.debug("Statistiques du tableau ID {} servies depuis le cache (version {}).", boardId, cached.getVersion());
+            return cached;
+        }
+
+        // Les statistiques sont calculées par la base : un tableau archivé est d'abord restauré.
+        BoardStatsResponse stats = version.getArchived()
+                ? boardArchiveService.restoreThen(boardId, () -> computeStats(boardId, version))
+                : computeStats(boardId, version);
+        // Une lecture concurrente a pu calculer une version plus récente entre-temps : on ne la remplace pas.
+        return boardStatsCache.asMap().merge(boardId, stats,
+                (current, computed) -> current.getVersion() > computed.getVersion() ? current : computed);
+    }
+
+    private BoardStatsResponse computeStats(Long boardId, BoardVersion version) {
+        ScoreCondition condition = version.getScoreCondition() != null
+                ? version.getScoreCondition() : ScoreCondition.HIGHEST_WINS;
+        int sign = condition == ScoreCondition.LOWEST_WINS ? -1 : 1;
+        List<RoundStatRow> rows = scoreEntryRepository.findRoundStatsByBoardId(boardId, sign);
+
+        // Les lignes arrivent groupées par tour, chaque tour trié par classement.
+        List<BoardStatsResponse.RoundStats> rounds = new ArrayList<>();
+        List<BoardStatsResponse.ParticipantStats> participants = new ArrayList<>();
+        BoardStatsResponse.RoundStats round = null;
+        for (RoundStatRow row : rows) {
+            if (round == null || round.getRoundNumber() != row.getRoundNumber()) {
+                round = new BoardStatsResponse.RoundStats(row.getRoundNumber(), row.getRoundMean(),
+                        row.getRoundMax(), row.getRoundMin(), new ArrayList<>(), new ArrayList<>());
+                rounds.add(round);
+                participants.clear();
+            }
+            if (row.getRoundWinner()) {
+                round.getWinners().add(row.getParticipantId());
+            }
+            round.getStandings().add(new BoardStatsResponse.Standing(row.getParticipantId(), row.getScoreValue(),
+                    row.getCumulative(), row.getPosition(), row.getPositionChange(), row.getGapToLeader()));
+            participants.add(new BoardStatsResponse.ParticipantStats(row.getParticipantId(),
+                    row.getParticipantName(), row.getCumulative(), row.getPosition()));
+        }
+        logger.debug("Statistiques du tableau ID {} calculées (version {}, {} tours).",
+                boardId, version.getChangeSeq(), rounds.size());
+        return new BoardStatsResponse(boardId, version.getChangeSeq(), condition, participants, rounds);
+    }
+}
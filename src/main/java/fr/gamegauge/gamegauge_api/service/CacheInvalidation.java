@@ -0,0 +1,17 @@
+package fr.gamegauge.gamegauge_api.service;
+
+/**
+ * Une entrée de cache devenue périmée : sa région et sa clé (email d'un utilisateur, ID d'un tableau).
+ */
+public record CacheInvalidation(Region region, String key) {
+
+    /**
+     * Les familles de caches concernées par le bus d'invalidation.
+     */
+    public enum Region {
+        /** Un utilisateur (clé : son email) : détails de sécurité, tokens vérifiés. */
+        USER,
+        /** Un tableau (clé : son ID) : partie en direct, statistiques. */
+        BOARD
+    }
+}
@@ -2,11 +2,13 @@ package fr.gamegauge.gamegauge_api.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 @Service
+@Lazy // Créé au premier email envoyé, pas au démarrage
 public class EmailService {
 
     @Autowired
@@ -0,0 +1,31 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres des clés d'idempotence des écritures (préfixe {@code gamegauge.idempotency}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.idempotency")
+public class IdempotencyProperties {
+
+    /** Durée pendant laquelle une clé est reconnue et sa réponse rejouée. */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Durée au-delà de laquelle une clé réservée sans réponse enregistrée (instance arrêtée pendant l'exécution)
+     * peut être reprise par une nouvelle tentative.
+     */
+    private Duration inProgressTimeout = Duration.ofMinutes(1);
+
+    /** Nombre maximal de réponses gardées en mémoire (les autres sont relues depuis la table). */
+    private long cacheSize = 10_000;
+
+    /** Expression cron de la purge des clés expirées ({@code -} pour la désactiver). */
+    private String purgeCron = "0 15 3 * * *";
+}
@@ -0,0 +1,216 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Clés d'idempotence des écritures : la réponse de la première exécution d'une requête portant une clé est
+ * conservée, et les nouvelles tentatives du client avec la même clé reçoivent cette réponse sans être exécutées.
+ * <p>
+ * Les réponses sont gardées dans un cache borné qui expire ({@code gamegauge.idempotency.*}), adossé à la table
+ * {@code idempotency_keys} : une clé survit à un redémarrage, et la ligne insérée au début de l'exécution sert de
+ * verrou entre instances. Une clé est propre à un utilisateur ; elle est refusée si elle revient avec une autre
+ * requête (méthode, URI ou corps différents). Une clé réservée restée sans réponse au-delà de
+ * {@code gamegauge.idempotency.in-progress-timeout} (instance arrêtée en cours d'exécution) est reprise par la
+ * tentative suivante, sans attendre la fin de {@code ttl}. Une réservation est identifiée par sa date : la requête
+ * dont la clé a été reprise ne peut plus enregistrer sa réponse ni libérer la réservation de celle qui l'a reprise.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final Logger logger = LogManager.getLogger(IdempotencyService.class);
+
+    private static final String INSERT_CLAIM = "INSERT INTO idempotency_keys "
+            + "(user_email, idempotency_key, request_hash, created_at) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_EXPIRED_CLAIM = "DELETE FROM idempotency_keys "
+            + "WHERE user_email = ? AND idempotency_key = ? "
+            + "AND (created_at < ? OR (status_code IS NULL AND created_at < ?))";
+    private static final String SELECT_RESPONSE = "SELECT request_hash, status_code, content_type, body "
+            + "FROM idempotency_keys WHERE user_email = ? AND idempotency_key = ?";
+    private static final String UPDATE_RESPONSE = "UPDATE idempotency_keys "
+            + "SET status_code = ?, content_type = ?, body = ? "
+            + "WHERE user_email = ? AND idempotency_key = ? AND created_at = ? AND status_code IS NULL";
+    private static final String DELETE_PENDING = "DELETE FROM idempotency_keys "
+            + "WHERE user_email = ? AND idempotency_key = ? AND created_at = ? AND status_code IS NULL";
+    private static final String PURGE = "DELETE FROM idempotency_keys WHERE created_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<Key, StoredResponse> idempotencyCache;
+    private final IdempotencyProperties properties;
+    private final ShardRouter shardRouter;
+
+    /**
+     * Réserve une clé avant d'exécuter la requête, ou retrouve la réponse déjà enregistrée pour cette clé.
+     *
+     * @param userEmail   L'utilisateur authentifié.
+     * @param key         La valeur de l'en-tête {@code Idempotency-Key}.
+     * @param requestHash L'empreinte de la requête (méthode, URI et corps).
+     * @return {@link Claim.Outcome#ACQUIRED} si la requête doit être exécutée (puis {@link #complete} ou
+     *         {@link #release} avec {@link Claim#claimedAt}), sinon la réponse à rejouer ou le motif du refus.
+     */
+    public Claim claim(String userEmail, String key, String requestHash) {
+        Key id = new Key(userEmail, key);
+        StoredResponse cached = idempotencyCache.getIfPresent(id);
+        if (cached != null) {
+            return replay(cached, requestHash);
+        }
+
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        // À la précision de la colonne (DATETIME(6)) : la date relue identifie la réservation.
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        try {
+            jdbcTemplate.update(INSERT_CLAIM, ps -> {
+                ps.setString(1, userEmail);
+                ps.setString(2, key);
+                ps.setString(3, requestHash);
+                ps.setTimestamp(4, Timestamp.from(now), utc);
+            });
+            return new Claim(Claim.Outcome.ACQUIRED, null, now);
+        } catch (DuplicateKeyException e) {
+            // La clé existe : réponse enregistrée, requête en cours, ou clé expirée pas encore purgée.
+        }
+
+        // Clé expirée, ou réservée sans réponse depuis trop longtemps : elle est libérée puis réservée de nouveau.
+        int expired = jdbcTemplate.update(DELETE_EXPIRED_CLAIM, ps -> {
+            ps.setString(1, userEmail);
+            ps.setString(2, key);
+            ps.setTimestamp(3, Timestamp.from(now.minus(properties.getTtl())), utc);
+            ps.setTimestamp(4, Timestamp.from(now.minus(properties.getInProgressTimeout())), utc);
+        });
+        if (expired > 0) {
+            return claim(userEmail, key, requestHash);
+        }
+
+        List<StoredResponse> stored = jdbcTemplate.query(SELECT_RESPONSE, (rs, rowNum) -> {
+            int status = rs.getInt("status_code");
+            return rs.wasNull() ? null : new StoredResponse(rs.getString("request_hash"), status,
+                    rs.getString("content_type"), rs.getBytes("body"));
+        }, userEmail, key);
+        if (stored.isEmpty()) {
+            // Libérée entre l'insertion et la lecture (échec de la requête en cours) : on retente la réservation.
+            return claim(userEmail, key, requestHash);
+        }
+        StoredResponse response = stored.get(0);
+        if (response == null) {
+            return Claim.IN_PROGRESS;
+        }
+        idempotencyCache.put(id, response);
+        return replay(response, requestHash);
+    }
+
+    /**
+     * Enregistre la réponse d'une requête exécutée sous une clé réservée par {@link #claim}. Sans effet si la
+     * réservation a été reprise entre-temps par une autre tentative.
+     *
+     * @param claimedAt La date de la réservation ({@link Claim#claimedAt}).
+     */
+    public void complete(String userEmail, String key, Instant claimedAt, StoredResponse response) {
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        int updated = jdbcTemplate.update(UPDATE_RESPONSE, ps -> {
+            ps.setInt(1, response.status());
+            ps.setString(2, response.contentType());
+            ps.setBytes(3, response.body());
+            ps.setString(4, userEmail);
+            ps.setString(5, key);
+            ps.setTimestamp(6, Timestamp.from(claimedAt), utc);
+        });
+        if (updated == 0) {
+            logger.warn("Clé d'idempotence '{}' de {} reprise par une autre tentative : réponse {} non enregistrée.",
+                    key, userEmail, response.status());
+            return;
+        }
+        idempotencyCache.put(new Key(userEmail, key), response);
+        logger.debug("Réponse {} enregistrée pour la clé d'idempotence '{}' de {}.", response.status(), key,
+                userEmail);
+    }
+
+    /**
+     * Libère une clé réservée dont la requête a échoué, pour qu'une nouvelle tentative soit exécutée. Sans effet
+     * si la réservation a été reprise entre-temps par une autre tentative.
+     *
+     * @param claimedAt La date de la réservation ({@link Claim#claimedAt}).
+     */
+    public void release(String userEmail, String key, Instant claimedAt) {
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        jdbcTemplate.update(DELETE_PENDING, ps -> {
+            ps.setString(1, userEmail);
+            ps.setString(2, key);
+            ps.setTimestamp(3, Timestamp.from(claimedAt), utc);
+        });
+    }
+
+    /**
+     * Purge planifiée des clés expirées, sur chaque shard.
+     */
+    @Scheduled(cron = "${gamegauge.idempotency.purge-cron:0 15 3 * * *}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(properties.getTtl());
+        shardRouter.forEachShard(() -> purgeCreatedBefore(cutoff));
+    }
+
+    /**
+     * Supprime de la table les clés créées avant une date (le cache expire de lui-même).
+     *
+     * @param cutoff La date limite.
+     * @return Le nombre de clés supprimées.
+     */
+    public int purgeCreatedBefore(Instant cutoff) {
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        int purged = jdbcTemplate.update(PURGE, ps -> ps.setTimestamp(1, Timestamp.from(cutoff), utc));
+        logger.info("{} clé(s) d'idempotence expirée(s) supprimée(s).", purged);
+        return purged;
+    }
+
+    private static Claim replay(StoredResponse response, String requestHash) {
+        return response.requestHash().equals(requestHash) ? new Claim(Claim.Outcome.REPLAY, response, null)
+                : Claim.MISMATCH;
+    }
+
+    /**
+     * Une clé d'idempotence : propre à chaque utilisateur.
+     */
+    public record Key(String userEmail, String key) {
+    }
+
+    /**
+     * La réponse enregistrée pour une clé, et l'empreinte de la requête qui l'a produite.
+     */
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * Le résultat d'une réservation : exécuter la requête, rejouer {@code response}, ou refuser. Une réservation
+     * obtenue porte sa date ({@code claimedAt}), à présenter pour enregistrer la réponse ou libérer la clé.
+     */
+    public record Claim(Outcome outcome, StoredResponse response, Instant claimedAt) {
+
+        public enum Outcome {
+            /** La clé est réservée : la requête doit être exécutée. */
+            ACQUIRED,
+            /** La requête a déjà été exécutée : sa réponse est rejouée. */
+            REPLAY,
+            /** Une requête avec la même clé est en cours d'exécution. */
+            IN_PROGRESS,
+            /** La clé a déjà servi pour une autre requête. */
+            MISMATCH
+        }
+
+        private static final Claim IN_PROGRESS = new Claim(Outcome.IN_PROGRESS, null, null);
+        private static final Claim MISMATCH = new Claim(Outcome.MISMATCH, null, null);
+    }
+}
@@ -0,0 +1,91 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Transport des invalidations en mémoire : un journal partagé par toutes les instances d'une même JVM
+ * ({@link Hub#SHARED}), que chacune lit à partir de sa position. Remplace la table pour une instance unique ou des
+ * instances lancées dans un même processus (tests).
+ */
+public class InMemoryInvalidationTransport implements InvalidationTransport {
+
+    private final Hub hub;
+    private long position;
+
+    public InMemoryInvalidationTransport(Hub hub) {
+        this.hub = hub;
+        this.position = hub.end();
+    }
+
+    @Override
+    public void publish(String nodeId, Collection<CacheInvalidation> invalidations) {
+        hub.append(nodeId, invalidations);
+    }
+
+    @Override
+    public synchronized List<CacheInvalidation> poll(String nodeId) {
+        List<CacheInvalidation> received = new ArrayList<>();
+        position = hub.readFrom(position, nodeId, received);
+        return received;
+    }
+
+    @Override
+    public int purgeBefore(Instant cutoff) {
+        return hub.purgeBefore(cutoff);
+    }
+
+    /**
+     * Le journal partagé : invalidations numérotées dans l'ordre de diffusion.
+     */
+    public static final class Hub {
+
+        /** Le journal commun aux instances de la JVM. */
+        public static final Hub SHARED = new Hub();
+
+        private final Deque<Message> messages = new ArrayDeque<>();
+        /** Numéro du premier message du journal (les précédents ont été purgés). */
+        private long start;
+
+        private synchronized long end() {
+            return start + messages.size();
+        }
+
+        private synchronized void append(String nodeId, Collection<CacheInvalidation> invalidations) {
+            Instant now = Instant.now();
+            invalidations.forEach(invalidation -> messages.addLast(new Message(nodeId, invalidation, now)));
+        }
+
+        /**
+         * Ajoute à {@code received} les messages des autres instances à partir d'un numéro.
+         *
+         * @return Le numéro du prochain message à lire.
+         */
+        private synchronized long readFrom(long from, String nodeId, List<CacheInvalidation> received) {
+            long index = start;
+            for (Message message : messages) {
+                if (index++ >= from && !message.nodeId().equals(nodeId)) {
+                    received.add(message.invalidation());
+                }
+            }
+            return index;
+        }
+
+        private synchronized int purgeBefore(Instant cutoff) {
+            int purged = 0;
+            while (!messages.isEmpty() && messages.peekFirst().publishedAt().isBefore(cutoff)) {
+                messages.removeFirst();
+                start++;
+                purged++;
+            }
+            return purged;
+        }
+    }
+
+    private record Message(String nodeId, CacheInvalidation invalidation, Instant publishedAt) {
+    }
+}
@@ -0,0 +1,182 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Bus d'invalidation des caches entre les instances de l'API.
+ * <p>
+ * Une modification publie les entrées de cache qu'elle rend périmées ({@link #publish}) ; après la validation de
+ * sa transaction, elles sont évincées des caches de l'instance puis diffusées aux autres par le transport
+ * configuré ({@link InvalidationTransport}). Chaque instance lit les invalidations des autres toutes les
+ * {@code gamegauge.invalidation.poll-interval} ({@link #poll}) : une entrée n'est pas servie périmée plus
+ * longtemps que cet intervalle (plus le temps d'une lecture).
+ * <p>
+ * Les caches s'abonnent par région : {@link #on} pour toutes les invalidations, {@link #onRemote} pour celles
+ * des autres instances seulement (caches que l'instance qui modifie tient déjà à jour elle-même).
+ */
+@Service
+public class InvalidationBus {
+
+    private static final Logger logger = LogManager.getLogger(InvalidationBus.class);
+
+    private final InvalidationTransport transport;
+    private final InvalidationProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<CacheInvalidation.Region, List<Consumer<String>>> listeners =
+            new EnumMap<>(CacheInvalidation.Region.class);
+    private final Map<CacheInvalidation.Region, List<Consumer<String>>> remoteListeners =
+            new EnumMap<>(CacheInvalidation.Region.class);
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+
+    public InvalidationBus(InvalidationTransport transport, InvalidationProperties properties,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.transport = transport;
+        this.properties = properties;
+        for (CacheInvalidation.Region region : CacheInvalidation.Region.values()) {
+            listeners.put(region, new CopyOnWriteArrayList<>());
+            remoteListeners.put(region, new CopyOnWriteArrayList<>());
+        }
+        meterRegistry.ifAvailable(registry -> {
+            register(registry, "published", published);
+            register(registry, "received", received);
+        });
+    }
+
+    /**
+     * Abonne un cache aux invalidations d'une région, de cette instance comme des autres.
+     *
+     * @param listener Reçoit la clé de l'entrée périmée.
+     */
+    public void on(CacheInvalidation.Region region, Consumer<String> listener) {
+        listeners.get(region).add(listener);
+    }
+
+    /**
+     * Abonne un cache aux invalidations d'une région diffusées par les autres instances.
+     */
+    public void onRemote(CacheInvalidation.Region region, Consumer<String> listener) {
+        remoteListeners.get(region).add(listener);
+    }
+
+    /**
+     * Publie une entrée périmée : après la validation de la transaction en cours (tout de suite sans
+     * transaction), elle est évincée ici puis diffusée. Les invalidations d'une transaction sont diffusées ensemble.
+     */
+    public void publish(CacheInvalidation.Region region, Object key) {
+        CacheInvalidation invalidation = new CacheInvalidation(region, String.valueOf(key));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(Set.of(invalidation));
+            return;
+        }
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.invalidations.add(invalidation);
+    }
+
+    /**
+     * Lit et applique les invalidations diffusées par les autres instances.
+     *
+     * @return Le nombre d'invalidations reçues.
+     */
+    @Scheduled(fixedDelayString = "${gamegauge.invalidation.poll-interval:PT1S}")
+    public int poll() {
+        List<CacheInvalidation> invalidations;
+        try {
+            invalidations = transport.poll(nodeId);
+        } catch (RuntimeException e) {
+            logger.warn("Lecture des invalidations impossible : {}", e.getMessage());
+            return 0;
+        }
+        for (CacheInvalidation invalidation : invalidations) {
+            notify(listeners, invalidation);
+            notify(remoteListeners, invalidation);
+        }
+        received.addAndGet(invalidations.size());
+        if (!invalidations.isEmpty()) {
+            logger.debug("{} invalidation(s) reçue(s) des autres instances.", invalidations.size());
+        }
+        return invalidations.size();
+    }
+
+    /**
+     * Purge planifiée des invalidations plus anciennes que la durée de conservation.
+     */
+    @Scheduled(cron = "${gamegauge.invalidation.purge-cron:0 45 * * * *}")
+    public void purgeExpired() {
+        int purged = transport.purgeBefore(Instant.now().minus(properties.getRetention()));
+        logger.info("{} invalidation(s) ancienne(s) purgée(s).", purged);
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    private void dispatch(Collection<CacheInvalidation> invalidations) {
+        invalidations.forEach(invalidation -> notify(listeners, invalidation));
+        try {
+            transport.publish(nodeId, invalidations);
+            published.addAndGet(invalidations.size());
+        } catch (RuntimeException e) {
+            // Les autres instances serviront l'entrée jusqu'à son expiration.
+            logger.warn("Diffusion de {} invalidation(s) impossible : {}", invalidations.size(), e.getMessage());
+        }
+    }
+
+    private static void notify(Map<CacheInvalidation.Region, List<Consumer<String>>> listeners,
+                               CacheInvalidation invalidation) {
+        for (Consumer<String> listener : listeners.get(invalidation.region())) {
+            try {
+                listener.accept(invalidation.key());
+            } catch (RuntimeException e) {
+                logger.warn("Invalidation {} non appliquée : {}", invalidation, e.getMessage());
+            }
+        }
+    }
+
+    private static void register(MeterRegistry registry, String direction, AtomicLong counter) {
+        FunctionCounter.builder("gamegauge.invalidation.messages", counter, AtomicLong::get)
+                .description("Invalidations de cache diffusées aux autres instances ou reçues d'elles")
+                .tag("direction", direction)
+                .register(registry);
+    }
+
+    /**
+     * Les invalidations d'une transaction, diffusées après sa validation.
+     */
+    private final class PendingInvalidations implements TransactionSynchronization {
+
+        private final Set<CacheInvalidation> invalidations = new LinkedHashSet<>();
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(InvalidationBus.this);
+            if (status == STATUS_COMMITTED) {
+                dispatch(invalidations);
+            }
+        }
+    }
+}
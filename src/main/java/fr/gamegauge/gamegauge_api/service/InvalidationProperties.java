@@ -0,0 +1,48 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres du bus d'invalidation des caches entre instances et des caches qu'il tient à jour
+ * (préfixe {@code gamegauge.invalidation}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.invalidation")
+public class InvalidationProperties {
+
+    /** Transport des invalidations entre instances. */
+    private Transport transport = Transport.JDBC;
+
+    /** Intervalle de lecture des invalidations des autres instances : borne la péremption des caches. */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /** Durée de conservation des invalidations diffusées. */
+    private Duration retention = Duration.ofHours(1);
+
+    /** Expression cron de la purge des invalidations anciennes ({@code -} pour la désactiver). */
+    private String purgeCron = "0 45 * * * *";
+
+    /** Nombre maximal d'utilisateurs gardés en mémoire pour l'authentification. */
+    private long userCacheSize = 10_000;
+
+    /** Durée de vie d'un utilisateur en cache, même sans invalidation. */
+    private Duration userCacheTtl = Duration.ofMinutes(1);
+
+    /** Nombre maximal de tokens JWT vérifiés gardés en mémoire. */
+    private long tokenCacheSize = 10_000;
+
+    /** Durée de vie d'un token vérifié en cache (sans dépasser son expiration). */
+    private Duration tokenCacheTtl = Duration.ofMinutes(10);
+
+    public enum Transport {
+        /** Table {@code cache_invalidations}, lue par chaque instance. */
+        JDBC,
+        /** Journal en mémoire, partagé par les instances d'une même JVM. */
+        MEMORY
+    }
+}
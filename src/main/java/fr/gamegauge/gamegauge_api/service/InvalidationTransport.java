@@ -0,0 +1,38 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Transport des invalidations entre les instances de l'API ({@link InvalidationBus}).
+ * <ul>
+ *     <li>{@link JdbcInvalidationTransport} : table {@code cache_invalidations} lue périodiquement (par défaut,
+ *     sans autre infrastructure que la base).</li>
+ *     <li>{@link InMemoryInvalidationTransport} : journal en mémoire partagé par les instances d'une même JVM
+ *     (instance unique, tests).</li>
+ * </ul>
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Diffuse des invalidations aux autres instances.
+     *
+     * @param nodeId        L'identifiant de l'instance émettrice.
+     * @param invalidations Les entrées périmées.
+     */
+    void publish(String nodeId, Collection<CacheInvalidation> invalidations);
+
+    /**
+     * @param nodeId L'identifiant de l'instance qui lit.
+     * @return Les invalidations diffusées par les autres instances depuis la lecture précédente.
+     */
+    List<CacheInvalidation> poll(String nodeId);
+
+    /**
+     * Oublie les invalidations diffusées avant une date.
+     *
+     * @return Le nombre d'invalidations oubliées.
+     */
+    int purgeBefore(Instant cutoff);
+}
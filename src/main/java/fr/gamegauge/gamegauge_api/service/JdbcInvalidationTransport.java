@@ -0,0 +1,125 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Transport des invalidations par la table {@code cache_invalidations} : chaque instance y insère ses
+ * invalidations et lit à chaque passage les lignes d'identifiant supérieur à son filigrane.
+ * <p>
+ * Une ligne peut devenir visible après une ligne d'identifiant plus grand (insertions concurrentes) : le filigrane
+ * retarde donc d'un passage, et les lignes relues une seconde fois sont ignorées. Une insertion validée plus d'un
+ * passage après l'attribution de son identifiant serait manquée ; la durée de vie des caches borne alors la
+ * péremption. Au démarrage, le filigrane part de la fin de la table : les caches sont encore vides.
+ * <p>
+ * Les requêtes utilisent leur propre connexion (validation automatique), jamais celle de la transaction en cours :
+ * la diffusion a lieu après la validation de la transaction qui a modifié les données.
+ */
+public class JdbcInvalidationTransport implements InvalidationTransport, SmartInitializingSingleton {
+
+    private static final String INSERT =
+            "INSERT INTO cache_invalidations (node_id, region, cache_key, created_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_AFTER =
+            "SELECT id, node_id, region, cache_key FROM cache_invalidations WHERE id > ? ORDER BY id";
+    private static final String SELECT_MAX_ID = "SELECT MAX(id) FROM cache_invalidations";
+    private static final String PURGE = "DELETE FROM cache_invalidations WHERE created_at < ?";
+
+    private final DataSource dataSource;
+
+    /** Lignes d'identifiant inférieur ou égal : traitées pour de bon. */
+    private long floor;
+    /** Plus grand identifiant lu au passage précédent. */
+    private long lastMax;
+    /** Lignes déjà traitées au-delà de {@link #floor}. */
+    private Set<Long> recent = new HashSet<>();
+
+    /**
+     * @param dataSource La base de la table (le shard 0 avec le partitionnement).
+     */
+    public JdbcInvalidationTransport(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public synchronized void afterSingletonsInstantiated() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_MAX_ID);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            floor = rs.getLong(1);
+            lastMax = floor;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Table cache_invalidations illisible", e);
+        }
+    }
+
+    @Override
+    public void publish(String nodeId, Collection<CacheInvalidation> invalidations) {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            for (CacheInvalidation invalidation : invalidations) {
+                statement.setString(1, nodeId);
+                statement.setString(2, invalidation.region().name());
+                statement.setString(3, invalidation.key());
+                statement.setTimestamp(4, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Diffusion des invalidations impossible", e);
+        }
+    }
+
+    @Override
+    public synchronized List<CacheInvalidation> poll(String nodeId) {
+        List<CacheInvalidation> received = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        long max = lastMax;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_AFTER)) {
+            statement.setLong(1, floor);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    long id = rs.getLong("id");
+                    seen.add(id);
+                    max = Math.max(max, id);
+                    if (!recent.contains(id) && !nodeId.equals(rs.getString("node_id"))) {
+                        received.add(new CacheInvalidation(CacheInvalidation.Region.valueOf(rs.getString("region")),
+                                rs.getString("cache_key")));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Lecture des invalidations impossible", e);
+        }
+        floor = lastMax;
+        lastMax = max;
+        seen.removeIf(id -> id <= floor);
+        recent = seen;
+        return received;
+    }
+
+    @Override
+    public int purgeBefore(Instant cutoff) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(PURGE)) {
+            statement.setTimestamp(1, Timestamp.from(cutoff));
+            return statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Purge des invalidations impossible", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package fr.gamegauge.gamegauge_api.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -10,6 +11,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -18,6 +20,9 @@ import java.util.function.Function;
 /**
  * Service utilitaire pour la gestion des JSON Web Tokens (JWT).
  * Gère la génération, la validation et l'extraction d'informations des tokens.
+ * <p>
+ * Un token dont la signature a été vérifiée est gardé en cache avec son sujet et son expiration ; une
+ * invalidation de son utilisateur ({@link InvalidationBus}, région {@code USER}) l'en fait sortir.
  */
 @Service
 public class JwtService {
@@ -27,6 +32,14 @@ public class JwtService {
     @Value("${application.security.jwt.secret-key}")
     private String secretKey;
 
+    private final Cache<String, VerifiedToken> jwtVerificationCache;
+
+    public JwtService(Cache<String, VerifiedToken> jwtVerificationCache, InvalidationBus invalidationBus) {
+        this.jwtVerificationCache = jwtVerificationCache;
+        invalidationBus.on(CacheInvalidation.Region.USER, email ->
+                jwtVerificationCache.asMap().values().removeIf(token -> token.subject().equals(email)));
+    }
+
     /**
      * Extrait le nom d'utilisateur (email) du token JWT.
      *
@@ -34,7 +47,7 @@ public class JwtService {
      * @return Le nom d'utilisateur.
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     /**
@@ -66,16 +79,22 @@ public class JwtService {
      * @return true si le token est valide, false sinon.
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        final VerifiedToken verified = verify(token);
+        return (verified.subject().equals(userDetails.getUsername())) && verified.expiration().isAfter(Instant.now());
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    /**
+     * Vérifie la signature d'un token, ou reprend le résultat d'une vérification précédente.
+     */
+    private VerifiedToken verify(String token) {
+        VerifiedToken cached = jwtVerificationCache.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = extractAllClaims(token);
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
+        jwtVerificationCache.put(token, verified);
+        return verified;
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -91,6 +110,12 @@ public class JwtService {
                 .getBody();
     }
 
+    /**
+     * Un token à la signature vérifiée : son sujet (l'email de l'utilisateur) et son expiration.
+     */
+    public record VerifiedToken(String subject, Instant expiration) {
+    }
+
     private Key getSignInKey() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         return Keys.hmacShaKeyFor(keyBytes);
@@ -0,0 +1,13 @@
+package fr.gamegauge.gamegauge_api.service;
+
+/**
+ * Une entrée d'un classement global : un total de participant ({@code id} = ID du participant) ou un score
+ * de tour ({@code id} = ID du score, {@code roundNumber} renseigné).
+ */
+public record LeaderboardEntry(long id, long value, long boardId, long participantId, String participantName,
+                               Integer roundNumber) {
+
+    LeaderboardEntry withParticipantName(String name) {
+        return new LeaderboardEntry(id, value, boardId, participantId, name, roundNumber);
+    }
+}
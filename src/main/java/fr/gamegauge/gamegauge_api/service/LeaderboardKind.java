@@ -0,0 +1,13 @@
+package fr.gamegauge.gamegauge_api.service;
+
+/**
+ * Les classements globaux, tous tableaux confondus.
+ */
+public enum LeaderboardKind {
+
+    /** Totaux des participants (somme de leurs scores dans un tableau). */
+    TOTALS,
+
+    /** Scores d'un seul tour. */
+    ROUNDS
+}
@@ -0,0 +1,34 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres des classements globaux (préfixe {@code gamegauge.leaderboards}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.leaderboards")
+public class LeaderboardProperties {
+
+    /** Nombre d'entrées conservées par classement (K) : la mémoire occupée n'en dépend pas d'autre chose. */
+    private int size = 100;
+
+    /**
+     * Nombre d'entrées sous lequel un classement tronqué par des suppressions est reconstruit
+     * (parcours complet des scores).
+     */
+    private int refillThreshold = 50;
+
+    /** Délai entre deux vérifications des classements (le premier passage, au démarrage, les construit). */
+    private Duration refreshDelay = Duration.ofMinutes(1);
+
+    /** Délai entre deux relectures des tableaux modifiés sur les autres instances (bus d'invalidation). */
+    private Duration remoteSyncInterval = Duration.ofSeconds(1);
+
+    /** Nombre de lignes lues par aller-retour lors d'un parcours complet (lecture en flux). */
+    private int scanFetchSize = 1_000;
+}
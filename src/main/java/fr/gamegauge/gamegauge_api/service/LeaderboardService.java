@@ -0,0 +1,452 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
+import fr.gamegauge.gamegauge_api.dto.response.LeaderboardResponse;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.service.BoardArchiveCodec.ArchivedParticipant;
+import fr.gamegauge.gamegauge_api.service.BoardArchiveCodec.ArchivedScore;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Classements globaux, tous tableaux confondus : meilleurs totaux de participants et meilleurs scores d'un tour,
+ * par condition de victoire (les plus hauts en {@code HIGHEST_WINS}, les plus bas en {@code LOWEST_WINS}).
+ * <p>
+ * Chaque classement est un tas borné de K entrées ({@link TopKLeaderboard}) gardé en mémoire. Les modifications
+ * de {@link BoardService} y sont reportées après la validation de leur transaction ; la lecture d'une page ne
+ * touche pas la base. Les tas sont construits par un parcours en flux des scores (et des archives, voir
+ * {@link BoardArchiveService}) au démarrage, puis reconstruits
+ * de la même façon quand des suppressions en ont trop retiré d'entrées. Les modifications validées pendant
+ * un parcours sont rejouées sur les nouveaux tas avant qu'ils remplacent les anciens.
+ * <p>
+ * Les modifications des autres instances arrivent par le bus d'invalidation (région {@code BOARD}) : chaque
+ * tableau modifié ailleurs est relu en base toutes les {@code gamegauge.leaderboards.remote-sync-interval}, et ses
+ * entrées remplacent les anciennes.
+ */
+@Service
+public class LeaderboardService {
+
+    private static final Logger logger = LogManager.getLogger(LeaderboardService.class);
+
+    private static final String SCAN_ROUNDS = """
+            SELECT s.id, s.score_value, s.round_number, p.id AS participant_id, p.name AS participant_name,
+                   b.id AS board_id, b.score_condition
+            FROM score_entries s
+            JOIN participants p ON p.id = s.participant_id
+            JOIN boards b ON b.id = p.board_id
+            """;
+    private static final String SCAN_TOTALS = """
+            SELECT p.id AS participant_id, p.name AS participant_name, b.id AS board_id, b.score_condition,
+                   SUM(s.score_value) AS total
+            FROM participants p
+            JOIN boards b ON b.id = p.board_id
+            JOIN score_entries s ON s.participant_id = p.id
+            GROUP BY p.id, p.name, b.id, b.score_condition
+            """;
+    private static final String SCAN_ARCHIVES = """
+            SELECT a.board_id, a.raw_size, a.payload, b.score_condition
+            FROM board_archives a
+            JOIN boards b ON b.id = a.board_id
+            """;
+    private static final String BOARD_ROUNDS = SCAN_ROUNDS + "WHERE b.id = ?";
+    private static final String BOARD_TOTALS = """
+            SELECT p.id AS participant_id, p.name AS participant_name, b.id AS board_id, b.score_condition,
+                   SUM(s.score_value) AS total
+            FROM participants p
+            JOIN boards b ON b.id = p.board_id
+            JOIN score_entries s ON s.participant_id = p.id
+            WHERE b.id = ?
+            GROUP BY p.id, p.name, b.id, b.score_condition
+            """;
+    private static final String BOARD_ARCHIVE = SCAN_ARCHIVES + "WHERE a.board_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LeaderboardProperties properties;
+    private final ShardRouter shardRouter;
+    private final Object rebuildLock = new Object();
+    /** Tableaux modifiés par d'autres instances, à relire en base. */
+    private final Set<Long> remoteChanges = ConcurrentHashMap.newKeySet();
+
+    private Leaderboards current;
+    /** Modifications validées pendant une reconstruction, à rejouer sur les nouveaux tas (null sinon). */
+    private List<Consumer<Leaderboards>> pending;
+    private boolean built;
+
+    public LeaderboardService(JdbcTemplate jdbcTemplate, LeaderboardProperties properties, ShardRouter shardRouter,
+                              InvalidationBus invalidationBus) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+        this.current = new Leaderboards();
+        // Les écritures de cette instance sont reportées après leur commit ; celles des autres arrivent par le bus.
+        invalidationBus.onRemote(CacheInvalidation.Region.BOARD, key -> remoteChanges.add(Long.valueOf(key)));
+    }
+
+    // --- MODIFICATIONS (appliquées après la validation de la transaction) ---
+
+    /**
+     * Un score a été saisi ou modifié : le score du tour et le nouveau total du participant sont proposés.
+     */
+    public void scoreRecorded(Board board, Participant participant, ScoreEntry score) {
+        ScoreCondition condition = conditionOf(board);
+        LeaderboardEntry round = roundEntry(board.getId(), participant, score);
+        LeaderboardEntry total = totalEntry(board.getId(), participant);
+        Long participantId = participant.getId();
+        afterCommit(boards -> {
+            boards.get(LeaderboardKind.ROUNDS, condition).offer(round);
+            offerTotal(boards.get(LeaderboardKind.TOTALS, condition), participantId, total);
+        });
+    }
+
+    /**
+     * Un score a été supprimé : il sort du classement des tours et le total du participant change.
+     */
+    public void scoreDeleted(Board board, Participant participant, Long scoreId) {
+        ScoreCondition condition = conditionOf(board);
+        LeaderboardEntry total = totalEntry(board.getId(), participant);
+        Long participantId = participant.getId();
+        afterCommit(boards -> {
+            boards.get(LeaderboardKind.ROUNDS, condition).remove(scoreId);
+            offerTotal(boards.get(LeaderboardKind.TOTALS, condition), participantId, total);
+        });
+    }
+
+    /**
+     * Un participant a été renommé : ses entrées affichent le nouveau nom.
+     */
+    public void participantRenamed(Long participantId, String name) {
+        afterCommit(boards -> boards.all().forEach(leaderboard ->
+                leaderboard.update(e -> e.participantId() == participantId, e -> e.withParticipantName(name))));
+    }
+
+    /**
+     * Un participant a été retiré de son tableau avec ses scores.
+     */
+    public void participantRemoved(Long participantId) {
+        afterCommit(boards -> boards.all().forEach(leaderboard ->
+                leaderboard.removeIf(e -> e.participantId() == participantId)));
+    }
+
+    /**
+     * Tous les scores d'un tableau ont disparu (réinitialisation ou suppression du tableau).
+     */
+    public void boardScoresRemoved(Long boardId) {
+        afterCommit(boards -> boards.all().forEach(leaderboard -> leaderboard.removeIf(e -> e.boardId() == boardId)));
+    }
+
+    /**
+     * Un tableau a été créé avec des scores (import), ou sa condition de victoire a changé : ses entrées sont
+     * (re)proposées au classement de sa condition.
+     */
+    public void boardScoresAdded(Board board) {
+        ScoreCondition condition = conditionOf(board);
+        List<LeaderboardEntry> rounds = new ArrayList<>();
+        List<LeaderboardEntry> totals = new ArrayList<>();
+        for (Participant participant : board.getParticipants()) {
+            participant.getScoreEntries().forEach(score -> rounds.add(roundEntry(board.getId(), participant, score)));
+            LeaderboardEntry total = totalEntry(board.getId(), participant);
+            if (total != null) {
+                totals.add(total);
+            }
+        }
+        Long boardId = board.getId();
+        afterCommit(boards -> {
+            boards.all().forEach(leaderboard -> leaderboard.removeIf(e -> e.boardId() == boardId));
+            rounds.forEach(boards.get(LeaderboardKind.ROUNDS, condition)::offer);
+            totals.forEach(boards.get(LeaderboardKind.TOTALS, condition)::offer);
+        });
+    }
+
+    // --- LECTURE ---
+
+    /**
+     * Une page d'un classement global.
+     *
+     * @param kind      Le classement (totaux ou scores de tour).
+     * @param condition La condition de victoire des tableaux classés.
+     * @param page      Le numéro de page (à partir de 0).
+     * @param size      Le nombre d'entrées par page (plafonné à K).
+     */
+    public LeaderboardResponse getLeaderboard(LeaderboardKind kind, ScoreCondition condition, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, properties.getSize()));
+        int first = Math.max(0, page) * pageSize;
+        List<LeaderboardEntry> ranked;
+        synchronized (this) {
+            ranked = current.get(kind, condition).ranked();
+        }
+        List<LeaderboardResponse.Entry> entries = new ArrayList<>();
+        int rank = 0;
+        for (int i = 0; i < ranked.size() && i < first + pageSize; i++) {
+            LeaderboardEntry entry = ranked.get(i);
+            if (i == 0 || entry.value() != ranked.get(i - 1).value()) {
+                rank = i + 1;
+            }
+            if (i >= first) {
+                entries.add(new LeaderboardResponse.Entry(rank, entry.value(), entry.boardId(), entry.participantId(),
+                        entry.participantName(), entry.roundNumber()));
+            }
+        }
+        return new LeaderboardResponse(kind, condition, Math.max(0, page), pageSize, ranked.size(), entries);
+    }
+
+    // --- CONSTRUCTION ---
+
+    /**
+     * Construit les classements au premier passage, puis les reconstruit si des suppressions les ont trop réduits.
+     */
+    @Scheduled(fixedDelayString = "${gamegauge.leaderboards.refresh-delay:PT1M}")
+    public void refresh() {
+        boolean due;
+        synchronized (this) {
+            due = !built || current.all().stream().anyMatch(TopKLeaderboard::needsRefill);
+        }
+        if (due) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                logger.error("Échec de la construction des classements globaux.", e);
+            }
+        }
+    }
+
+    /**
+     * Reporte les modifications faites sur les autres instances : les entrées de chaque tableau modifié ailleurs
+     * sont remplacées par celles relues en base (aucune s'il a été supprimé).
+     */
+    @Scheduled(fixedDelayString = "${gamegauge.leaderboards.remote-sync-interval:PT1S}")
+    public void syncRemoteChanges() {
+        if (remoteChanges.isEmpty()) {
+            return;
+        }
+        List<Long> boardIds = new ArrayList<>(remoteChanges);
+        remoteChanges.removeAll(boardIds);
+        synchronized (this) {
+            if (!built) {
+                // La construction à venir lira de toute façon l'état courant de la base.
+                return;
+            }
+        }
+        for (Long boardId : boardIds) {
+            try {
+                reload(boardId);
+            } catch (RuntimeException e) {
+                remoteChanges.add(boardId);
+                logger.warn("Échec de la relecture du tableau ID {} pour les classements globaux : {}", boardId,
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reconstruit tous les classements par un parcours en flux des scores : O(N log K) en temps, K entrées
+     * par classement en mémoire.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            Leaderboards fresh = new Leaderboards();
+            try {
+                // Un parcours par shard : les tas bornés fusionnent les classements de tous les shards.
+                shardRouter.forEachShard(() -> {
+                    scan(SCAN_ROUNDS, rs -> offerRound(fresh, rs));
+                    scan(SCAN_TOTALS, rs -> offerTotal(fresh, rs));
+                    scan(SCAN_ARCHIVES, rs -> offerArchive(fresh, rs));
+                });
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pending = null;
+                }
+                throw e;
+            }
+            synchronized (this) {
+                pending.forEach(update -> update.accept(fresh));
+                logger.info("Classements globaux construits en {} ms ({} modification(s) rejouée(s)).",
+                        (System.nanoTime() - start) / 1_000_000, pending.size());
+                pending = null;
+                current = fresh;
+                built = true;
+            }
+        }
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    /**
+     * Relit en base les scores d'un tableau (sur le shard qui le contient) et remplace ses entrées. Les K
+     * meilleures entrées du tableau suffisent : les autres ne peuvent pas entrer dans un classement.
+     */
+    private void reload(Long boardId) {
+        Leaderboards loaded = new Leaderboards();
+        shardRouter.forEachShard(() -> {
+            jdbcTemplate.query(BOARD_ROUNDS, (RowCallbackHandler) rs -> offerRound(loaded, rs), boardId);
+            jdbcTemplate.query(BOARD_TOTALS, (RowCallbackHandler) rs -> offerTotal(loaded, rs), boardId);
+            jdbcTemplate.query(BOARD_ARCHIVE, (RowCallbackHandler) rs -> offerArchive(loaded, rs), boardId);
+        });
+        apply(boards -> {
+            boards.all().forEach(leaderboard -> leaderboard.removeIf(e -> e.boardId() == boardId));
+            for (LeaderboardKind kind : LeaderboardKind.values()) {
+                for (ScoreCondition condition : ScoreCondition.values()) {
+                    loaded.get(kind, condition).ranked().forEach(boards.get(kind, condition)::offer);
+                }
+            }
+        });
+    }
+
+    /**
+     * Applique la modification après la validation de la transaction en cours (immédiatement hors transaction) :
+     * une transaction annulée ne laisse pas de trace dans les classements.
+     */
+    private void afterCommit(Consumer<Leaderboards> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(update);
+            }
+        });
+    }
+
+    private synchronized void apply(Consumer<Leaderboards> update) {
+        update.accept(current);
+        if (pending != null) {
+            pending.add(update);
+        }
+    }
+
+    private void scan(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(properties.getScanFetchSize());
+            return statement;
+        }, handler);
+    }
+
+    private static void offerRound(Leaderboards boards, ResultSet rs) throws SQLException {
+        boards.get(LeaderboardKind.ROUNDS, condition(rs)).offer(new LeaderboardEntry(rs.getLong("id"),
+                rs.getInt("score_value"), rs.getLong("board_id"), rs.getLong("participant_id"),
+                rs.getString("participant_name"), rs.getInt("round_number")));
+    }
+
+    private static void offerTotal(Leaderboards boards, ResultSet rs) throws SQLException {
+        boards.get(LeaderboardKind.TOTALS, condition(rs)).offer(new LeaderboardEntry(rs.getLong("participant_id"),
+                rs.getLong("total"), rs.getLong("board_id"), rs.getLong("participant_id"),
+                rs.getString("participant_name"), null));
+    }
+
+    /**
+     * Propose les scores et les totaux d'un tableau archivé, relus depuis son archive.
+     */
+    private static void offerArchive(Leaderboards boards, ResultSet rs) throws SQLException {
+        long boardId = rs.getLong("board_id");
+        ScoreCondition condition = condition(rs);
+        TopKLeaderboard rounds = boards.get(LeaderboardKind.ROUNDS, condition);
+        TopKLeaderboard totals = boards.get(LeaderboardKind.TOTALS, condition);
+        List<ArchivedParticipant> participants =
+                BoardArchiveCodec.decode(rs.getBytes("payload"), rs.getInt("raw_size"));
+        for (ArchivedParticipant participant : participants) {
+            if (participant.scores().isEmpty()) {
+                continue;
+            }
+            long total = 0;
+            for (ArchivedScore score : participant.scores()) {
+                rounds.offer(new LeaderboardEntry(score.id(), score.scoreValue(), boardId, participant.id(),
+                        participant.name(), score.roundNumber()));
+                total += score.scoreValue();
+            }
+            totals.offer(new LeaderboardEntry(participant.id(), total, boardId, participant.id(), participant.name(),
+                    null));
+        }
+    }
+
+    private static void offerTotal(TopKLeaderboard totals, Long participantId, LeaderboardEntry total) {
+        if (total != null) {
+            totals.offer(total);
+        } else {
+            totals.remove(participantId);
+        }
+    }
+
+    private static LeaderboardEntry roundEntry(Long boardId, Participant participant, ScoreEntry score) {
+        return new LeaderboardEntry(score.getId(), score.getScoreValue(), boardId, participant.getId(),
+                participant.getName(), score.getRoundNumber());
+    }
+
+    /**
+     * Le total d'un participant, ou {@code null} s'il n'a aucun score (il n'est pas classé).
+     */
+    private static LeaderboardEntry totalEntry(Long boardId, Participant participant) {
+        if (participant.getScoreEntries().isEmpty()) {
+            return null;
+        }
+        long total = participant.getScoreEntries().stream().mapToLong(ScoreEntry::getScoreValue).sum();
+        return new LeaderboardEntry(participant.getId(), total, boardId, participant.getId(), participant.getName(),
+                null);
+    }
+
+    /**
+     * Un tableau sans condition se joue comme {@code HIGHEST_WINS}.
+     */
+    private static ScoreCondition conditionOf(Board board) {
+        return board.getScoreCondition() != null ? board.getScoreCondition() : ScoreCondition.HIGHEST_WINS;
+    }
+
+    private static ScoreCondition condition(ResultSet rs) throws SQLException {
+        String condition = rs.getString("score_condition");
+        return condition != null ? ScoreCondition.valueOf(condition) : ScoreCondition.HIGHEST_WINS;
+    }
+
+    /**
+     * Un tas par classement et par condition de victoire.
+     */
+    private final class Leaderboards {
+
+        private final Map<LeaderboardKind, Map<ScoreCondition, TopKLeaderboard>> byKind =
+                new EnumMap<>(LeaderboardKind.class);
+
+        private Leaderboards() {
+            for (LeaderboardKind kind : LeaderboardKind.values()) {
+                Map<ScoreCondition, TopKLeaderboard> byCondition = new EnumMap<>(ScoreCondition.class);
+                for (ScoreCondition condition : ScoreCondition.values()) {
+                    byCondition.put(condition, new TopKLeaderboard(properties.getSize(),
+                            properties.getRefillThreshold(), condition == ScoreCondition.LOWEST_WINS));
+                }
+                byKind.put(kind, byCondition);
+            }
+        }
+
+        private TopKLeaderboard get(LeaderboardKind kind, ScoreCondition condition) {
+            return byKind.get(kind).get(condition);
+        }
+
+        private List<TopKLeaderboard> all() {
+            return byKind.values().stream().flatMap(byCondition -> byCondition.values().stream()).toList();
+        }
+    }
+}
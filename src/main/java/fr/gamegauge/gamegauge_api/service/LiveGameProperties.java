@@ -0,0 +1,25 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres du moteur de partie en direct (préfixe {@code gamegauge.live}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.live")
+public class LiveGameProperties {
+
+    /** Durée sans requête en direct au-delà de laquelle un tableau quitte la mémoire. */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /** Intervalle entre deux recherches de tableaux inactifs. */
+    private Duration evictionInterval = Duration.ofSeconds(30);
+
+    /** Nombre maximal de tableaux en mémoire : au-delà, le moins récemment utilisé en sort. */
+    private int maxBoards = 1000;
+}
@@ -0,0 +1,418 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantSummary;
+import fr.gamegauge.gamegauge_api.dto.projection.ScoreCell;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.dto.response.BoardMatrixResponse;
+import fr.gamegauge.gamegauge_api.dto.response.ScoreEntryResponse;
+import fr.gamegauge.gamegauge_api.exception.ResourceNotFoundException;
+import fr.gamegauge.gamegauge_api.mapper.BoardMatrixMapper;
+import fr.gamegauge.gamegauge_api.model.Board;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Moteur de partie en direct : pendant une partie, un tableau est gardé en mémoire sous forme de tableaux
+ * primitifs (identifiants des participants, grille {@code int[][]} des scores, totaux), et les requêtes
+ * {@code /api/boards/{boardId}/live} sont servies sans lire la base.
+ * <ul>
+ *     <li>Chargement : à la première requête en direct sur le tableau, en deux requêtes de projection
+ *     ({@link BoardService#getBoardGrid}), après l'écriture de ses scores en attente. La lecture a lieu hors de
+ *     la map des tableaux ; si le tableau sort de la mémoire pendant ce temps, le résultat est écarté.</li>
+ *     <li>Écriture : sous le verrou d'écriture du tableau, la case et le total de la ligne sont mis à jour, puis
+ *     le score est confié à l'écriture différée ({@link ScoreWriteBehindService}), qui l'écrit en base avec les
+ *     autres scores du tableau. Les lectures sont optimistes ({@link StampedLock}) : elles ne bloquent pas tant
+ *     qu'aucune écriture n'a lieu en même temps.</li>
+ *     <li>Cohérence : toute autre écriture sur le tableau le fait sortir de la mémoire avant et après son
+ *     exécution ({@code ScoreWriteBehindBarrier}), toute écriture d'une autre instance après sa validation
+ *     ({@link InvalidationBus}) ; il est rechargé à la requête en direct suivante.</li>
+ *     <li>Sortie : à la demande, après {@code gamegauge.live.idle-timeout} sans requête en direct, ou pour faire
+ *     de la place au-delà de {@code gamegauge.live.max-boards} tableaux. Ses scores en attente sont alors
+ *     écrits. La borne est tenue par un cache Caffeine : le tableau qu'il choisit de sortir est retiré
+ *     au moment même de la sortie, et ses scores en attente sont écrits ensuite, hors du cache.</li>
+ * </ul>
+ */
+@Service
+public class LiveGameService {
+
+    private static final Logger logger = LogManager.getLogger(LiveGameService.class);
+
+    private final BoardService boardService;
+    private final ScoreWriteBehindService scoreWriteBehindService;
+    private final LiveGameProperties properties;
+    private final ConcurrentMap<Long, LiveBoard> boards;
+    /** Chargements en cours : une sortie de mémoire pendant un chargement en rend le résultat périmé. */
+    private final Set<Loading> loading = ConcurrentHashMap.newKeySet();
+
+    public LiveGameService(BoardService boardService, ScoreWriteBehindService scoreWriteBehindService,
+                           LiveGameProperties properties, InvalidationBus invalidationBus,
+                           ObjectProvider<MeterRegistry> meterRegistry) {
+        this.boardService = boardService;
+        this.scoreWriteBehindService = scoreWriteBehindService;
+        this.properties = properties;
+        this.boards = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBoards())
+                // Retiré sous le verrou de l'entrée : plus aucune écriture en mémoire ne l'atteint.
+                .evictionListener((Long boardId, LiveBoard live, RemovalCause cause) -> live.retire())
+                .removalListener((Long boardId, LiveBoard live, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        scoreWriteBehindService.flush(boardId);
+                        logger.debug("Tableau ID {} sorti de la mémoire pour faire de la place.", boardId);
+                    }
+                })
+                .<Long, LiveBoard>build()
+                .asMap();
+        // Les écritures de cette instance passent par la barrière ; celles des autres arrivent par le bus.
+        invalidationBus.onRemote(CacheInvalidation.Region.BOARD, key -> evict(Long.valueOf(key)));
+        meterRegistry.ifAvailable(registry -> Gauge.builder("gamegauge.live.boards", boards, Map::size)
+                .description("Tableaux tenus en mémoire par le moteur de partie en direct")
+                .register(registry));
+    }
+
+    /**
+     * Lit un tableau en direct : participants dans l'ordre du classement, totaux et grille des scores.
+     *
+     * @param boardId   L'ID du tableau.
+     * @param userEmail L'email de l'utilisateur qui fait la demande.
+     * @return La vue matrice du tableau, scores en attente d'écriture compris.
+     * @throws ResourceNotFoundException si le tableau n'existe pas ou n'appartient pas à l'utilisateur.
+     */
+    public BoardMatrixResponse getBoard(Long boardId, String userEmail) {
+        while (true) {
+            BoardMatrixResponse response = acquire(boardId, userEmail).read();
+            if (response != null) {
+                return response;
+            }
+            // Sorti de la mémoire pendant la lecture : on le recharge.
+        }
+    }
+
+    /**
+     * Définit le score d'un participant pour un tour, en mémoire ; l'écriture en base suit en différé.
+     *
+     * @return Le score défini (sans ID : l'entrée de score n'est pas encore écrite).
+     * @throws ResourceNotFoundException si le tableau ou le participant n'existe pas, ou si le tableau
+     *                                   n'appartient pas à l'utilisateur.
+     */
+    public ScoreEntryResponse setScore(Long boardId, Long participantId, ScoreEntryAddRequest request,
+                                       String userEmail) {
+        ScoreEdit edit = new ScoreEdit(participantId, request.getRoundNumber(), request.getScoreValue());
+        while (true) {
+            Write write = acquire(boardId, userEmail).set(edit, scoreWriteBehindService);
+            if (write == Write.FLUSH) {
+                scoreWriteBehindService.flush(boardId);
+            }
+            if (write != Write.RETIRED) {
+                return new ScoreEntryResponse(null, edit.scoreValue(), edit.roundNumber());
+            }
+        }
+    }
+
+    /**
+     * Termine la partie en direct : le tableau sort de la mémoire et ses scores en attente sont écrits.
+     *
+     * @throws ResourceNotFoundException si le tableau est en mémoire pour un autre utilisateur.
+     */
+    public void end(Long boardId, String userEmail) {
+        LiveBoard live = boards.get(boardId);
+        if (live != null && !live.ownerEmail.equals(userEmail)) {
+            throw new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId);
+        }
+        evict(boardId);
+        scoreWriteBehindService.flush(boardId);
+    }
+
+    /**
+     * Fait sortir un tableau de la mémoire, sans écrire ses scores en attente (l'écriture différée s'en charge).
+     * Appelé avant et après toute autre écriture sur le tableau.
+     *
+     * @param boardId L'ID du tableau.
+     */
+    public void evict(Long boardId) {
+        // Avant de retirer le tableau : un chargement qui l'insère ensuite se sait périmé.
+        for (Loading load : loading) {
+            if (load.boardId.equals(boardId)) {
+                load.stale = true;
+            }
+        }
+        LiveBoard live = boards.remove(boardId);
+        if (live != null) {
+            live.retire();
+            logger.debug("Tableau ID {} sorti de la mémoire.", boardId);
+        }
+    }
+
+    /**
+     * Sortie planifiée des tableaux inactifs.
+     */
+    @Scheduled(fixedDelayString = "${gamegauge.live.eviction-interval:PT30S}")
+    public void evictIdle() {
+        evictIdle(properties.getIdleTimeout());
+    }
+
+    /**
+     * Fait sortir de la mémoire les tableaux sans requête en direct depuis une durée, et écrit leurs scores en
+     * attente.
+     *
+     * @param idleFor La durée d'inactivité.
+     * @return Le nombre de tableaux sortis.
+     */
+    public int evictIdle(Duration idleFor) {
+        long cutoff = System.nanoTime() - idleFor.toNanos();
+        int evicted = 0;
+        for (Map.Entry<Long, LiveBoard> entry : boards.entrySet()) {
+            if (entry.getValue().lastAccess - cutoff <= 0 && boards.remove(entry.getKey(), entry.getValue())) {
+                entry.getValue().retire();
+                scoreWriteBehindService.flush(entry.getKey());
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            logger.info("{} tableau(x) inactif(s) sorti(s) de la mémoire.", evicted);
+        }
+        return evicted;
+    }
+
+    /**
+     * @return {@code true} si le tableau est en mémoire.
+     */
+    public boolean isLive(Long boardId) {
+        return boards.containsKey(boardId);
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    private LiveBoard acquire(Long boardId, String userEmail) {
+        LiveBoard live = boards.get(boardId);
+        if (live == null) {
+            live = load(boardId, userEmail);
+        }
+        if (!live.ownerEmail.equals(userEmail)) {
+            throw new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId);
+        }
+        live.lastAccess = System.nanoTime();
+        return live;
+    }
+
+    private LiveBoard load(Long boardId, String userEmail) {
+        // Chargement hors de la map : ni transaction ni écriture différée sous le verrou d'une de ses cases.
+        Loading load = new Loading(boardId);
+        loading.add(load);
+        LiveBoard live;
+        LiveBoard existing;
+        try {
+            // Les scores encore en attente d'écriture doivent faire partie de l'état chargé.
+            scoreWriteBehindService.flush(boardId);
+            live = new LiveBoard(boardService.getBoardGrid(boardId, userEmail), userEmail);
+            existing = boards.putIfAbsent(boardId, live);
+        } finally {
+            loading.remove(load);
+        }
+        if (existing != null) {
+            return existing;
+        }
+        if (load.stale && boards.remove(boardId, live)) {
+            // Une autre écriture a eu lieu pendant le chargement : l'appelant lit un tableau retiré et recharge.
+            live.retire();
+        }
+        logger.info("Tableau ID {} chargé en mémoire ({} participants, {} tours).", boardId,
+                live.participantIds.length, live.rounds.length);
+        return live;
+    }
+
+    /**
+     * Un chargement en cours, marqué périmé si le tableau sort de la mémoire pendant sa lecture en base.
+     */
+    private static final class Loading {
+
+        private final Long boardId;
+        private volatile boolean stale;
+
+        private Loading(Long boardId) {
+            this.boardId = boardId;
+        }
+    }
+
+    /**
+     * Le résultat d'une écriture en mémoire.
+     */
+    private enum Write {
+        /** Score appliqué (ou inchangé). */
+        DONE,
+        /** Score appliqué ; le tampon d'écriture différée du tableau est plein. */
+        FLUSH,
+        /** Le tableau est sorti de la mémoire : rien n'a été appliqué. */
+        RETIRED
+    }
+
+    /**
+     * Un tableau en mémoire. Les participants (triés par identifiant) sont fixes ; une colonne est ajoutée à la
+     * grille au premier score d'un nouveau tour ({@code rounds} est alors remplacé, jamais modifié).
+     */
+    private static final class LiveBoard {
+
+        private final Board header;
+        private final String ownerEmail;
+        private final long[] participantIds;
+        private final String[] participantNames;
+        private final int[] totals;
+        private final StampedLock lock = new StampedLock();
+        private int[] rounds;
+        private int[][] scores;
+        private boolean[][] filled;
+        private boolean retired;
+        private volatile long lastAccess = System.nanoTime();
+
+        private LiveBoard(BoardGrid grid, String ownerEmail) {
+            Board board = grid.board();
+            this.header = new Board();
+            header.setId(board.getId());
+            header.setName(board.getName());
+            header.setTargetScore(board.getTargetScore());
+            header.setScoreCondition(board.getScoreCondition());
+            header.setNumberOfRounds(board.getNumberOfRounds());
+            this.ownerEmail = ownerEmail;
+
+            List<ParticipantSummary> participants = grid.participants();
+            int count = participants.size();
+            participantIds = new long[count];
+            participantNames = new String[count];
+            for (int i = 0; i < count; i++) {
+                participantIds[i] = participants.get(i).id();
+                participantNames[i] = participants.get(i).name();
+            }
+            rounds = grid.cells().stream().mapToInt(ScoreCell::roundNumber).distinct().sorted().toArray();
+            scores = new int[count][rounds.length];
+            filled = new boolean[count][rounds.length];
+            totals = new int[count];
+            for (ScoreCell cell : grid.cells()) {
+                int row = Arrays.binarySearch(participantIds, cell.participantId());
+                int column = Arrays.binarySearch(rounds, cell.roundNumber());
+                // Plusieurs scores pour un même tour sont additionnés, comme dans la vue matrice ; un score défini
+                // ensuite les remplace tous, en mémoire comme en base (BoardService#setScores).
+                scores[row][column] += cell.scoreValue();
+                filled[row][column] = true;
+                totals[row] += cell.scoreValue();
+            }
+        }
+
+        /**
+         * @return La vue matrice, ou {@code null} si le tableau est sorti de la mémoire.
+         */
+        private BoardMatrixResponse read() {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                try {
+                    boolean wasRetired = retired;
+                    BoardMatrixResponse response = toResponse();
+                    if (lock.validate(stamp)) {
+                        return wasRetired ? null : response;
+                    }
+                } catch (RuntimeException e) {
+                    // État lu pendant une écriture (grille en cours d'agrandissement) : on relit sous verrou.
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                return retired ? null : toResponse();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        private BoardMatrixResponse toResponse() {
+            return BoardMatrixMapper.toBoardMatrixResponse(header, participantIds, participantNames, rounds, scores,
+                    filled, totals);
+        }
+
+        private Write set(ScoreEdit edit, ScoreWriteBehindService writeBehind) {
+            long stamp = lock.writeLock();
+            try {
+                if (retired) {
+                    return Write.RETIRED;
+                }
+                int row = Arrays.binarySearch(participantIds, edit.participantId());
+                if (row < 0) {
+                    throw new ResourceNotFoundException("Participant non trouvé dans ce tableau. ID: "
+                            + edit.participantId());
+                }
+                int column = columnOf(edit.roundNumber());
+                int previous = scores[row][column];
+                if (filled[row][column] && previous == edit.scoreValue()) {
+                    return Write.DONE;
+                }
+                scores[row][column] = edit.scoreValue();
+                filled[row][column] = true;
+                totals[row] += edit.scoreValue() - previous;
+                // Sous le verrou : le tampon reçoit les scores d'une case dans l'ordre où la mémoire les applique.
+                return writeBehind.enqueue(header.getId(), ownerEmail, edit) ? Write.FLUSH : Write.DONE;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        /**
+         * La colonne d'un tour, ajoutée à la grille si besoin (sous le verrou d'écriture).
+         */
+        private int columnOf(int roundNumber) {
+            int column = Arrays.binarySearch(rounds, roundNumber);
+            if (column >= 0) {
+                return column;
+            }
+            column = -column - 1;
+            int[] newRounds = new int[rounds.length + 1];
+            System.arraycopy(rounds, 0, newRounds, 0, column);
+            newRounds[column] = roundNumber;
+            System.arraycopy(rounds, column, newRounds, column + 1, rounds.length - column);
+            int[][] newScores = new int[scores.length][];
+            boolean[][] newFilled = new boolean[filled.length][];
+            for (int row = 0; row < scores.length; row++) {
+                newScores[row] = insertAt(scores[row], column);
+                newFilled[row] = insertAt(filled[row], column);
+            }
+            scores = newScores;
+            filled = newFilled;
+            rounds = newRounds;
+            return column;
+        }
+
+        private void retire() {
+            long stamp = lock.writeLock();
+            try {
+                retired = true;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private static int[] insertAt(int[] row, int column) {
+            int[] result = new int[row.length + 1];
+            System.arraycopy(row, 0, result, 0, column);
+            System.arraycopy(row, column, result, column + 1, row.length - column);
+            return result;
+        }
+
+        private static boolean[] insertAt(boolean[] row, int column) {
+            boolean[] result = new boolean[row.length + 1];
+            System.arraycopy(row, 0, result, 0, column);
+            System.arraycopy(row, column, result, column + 1, row.length - column);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.datasource.ShardContext;
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantTotal;
+import fr.gamegauge.gamegauge_api.model.BoardStats;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.service.BoardArchiveCodec.ArchivedParticipant;
+import fr.gamegauge.gamegauge_api.service.BoardArchiveCodec.ArchivedScore;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Reconstruit les statistiques par propriétaire ({@code owner_stats}, {@code board_stats},
+ * {@code owner_participant_stats}) à partir des tableaux existants, avec les mêmes règles que
+ * {@link OwnerStatsService}.
+ * <p>
+ * Les propriétaires, triés par ID, sont découpés récursivement (fork/join) en tranches d'au plus
+ * {@code ownersPerTask}. Chaque tranche est reconstruite dans sa propre transaction : verrou des lignes
+ * {@code users} de la tranche (comme {@link BoardChangeService#begin}, les modifications concurrentes attendent),
+ * une requête d'agrégation par tableau et par participant (complétée par les archives des tableaux archivés),
+ * puis remplacement des lignes par lots JDBC.
+ * <p>
+ * {@code boardsCreated} ne peut pas retrouver les tableaux supprimés : la valeur déjà comptée est conservée
+ * si elle est plus grande que le nombre de tableaux existants.
+ */
+@Component
+public class OwnerStatsBackfill {
+
+    private static final Logger logger = LogManager.getLogger(OwnerStatsBackfill.class);
+
+    private static final String LOCK_OWNERS = "SELECT id FROM users WHERE id BETWEEN ? AND ? FOR UPDATE";
+    private static final String SELECT_CREATED =
+            "SELECT owner_id, boards_created FROM owner_stats WHERE owner_id BETWEEN ? AND ?";
+    private static final String SELECT_TOTALS = """
+            SELECT b.id AS board_id, b.owner_id, b.score_condition, b.target_score, b.number_of_rounds,
+                   p.id AS participant_id, p.name AS participant_name,
+                   SUM(s.score_value) AS total, COUNT(s.id) AS score_count, MAX(s.round_number) AS last_round
+            FROM boards b
+            LEFT JOIN participants p ON p.board_id = b.id
+            LEFT JOIN score_entries s ON s.participant_id = p.id
+            WHERE b.owner_id BETWEEN ? AND ?
+            GROUP BY b.id, b.owner_id, b.score_condition, b.target_score, b.number_of_rounds, p.id, p.name
+            ORDER BY b.id
+            """;
+    private static final String SELECT_ARCHIVES = """
+            SELECT a.board_id, a.raw_size, a.payload
+            FROM board_archives a
+            JOIN boards b ON b.id = a.board_id
+            WHERE b.owner_id BETWEEN ? AND ?
+            """;
+    private static final String INSERT_BOARD_STATS = "INSERT INTO board_stats "
+            + "(board_id, owner_id, rounds_played, score_count, score_sum, finished, winners) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_OWNER_STATS = "INSERT INTO owner_stats (owner_id, boards_created, boards_count, "
+            + "boards_finished, rounds_played, score_count, score_sum) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_WINS = "INSERT INTO owner_participant_stats "
+            + "(owner_id, participant_key, participant_name, wins) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OwnerStatsProperties properties;
+    private final ShardRouter shardRouter;
+
+    public OwnerStatsBackfill(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              OwnerStatsProperties properties, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * Reconstruit les statistiques de tous les propriétaires, shard par shard.
+     *
+     * @return Le nombre de propriétaires traités.
+     */
+    public int rebuildAll() {
+        return shardRouter.sumOverShards(this::rebuildShard);
+    }
+
+    private int rebuildShard() {
+        List<Long> ownerIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id", Long.class);
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(properties.getParallelism());
+        try {
+            int owners = pool.invoke(new RebuildTask(ownerIds, ShardContext.current()));
+            logger.info("Statistiques de {} propriétaire(s) reconstruites en {} ms ({} thread(s)).",
+                    owners, (System.nanoTime() - start) / 1_000_000, properties.getParallelism());
+            return owners;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Découpe la liste des propriétaires en deux tant qu'elle dépasse {@code ownersPerTask}. Le shard choisi par
+     * le thread appelant (s'il y en a un) est repris par les threads du pool.
+     */
+    private final class RebuildTask extends RecursiveTask<Integer> {
+
+        private final List<Long> ownerIds;
+        private final Integer shard;
+
+        private RebuildTask(List<Long> ownerIds, Integer shard) {
+            this.ownerIds = ownerIds;
+            this.shard = shard;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (ownerIds.isEmpty()) {
+                return 0;
+            }
+            if (ownerIds.size() <= Math.max(1, properties.getOwnersPerTask())) {
+                if (shard == null) {
+                    rebuildLeaf();
+                } else {
+                    try (ShardContext.Binding ignored = ShardContext.bind(shard)) {
+                        rebuildLeaf();
+                    }
+                }
+                return ownerIds.size();
+            }
+            int middle = ownerIds.size() / 2;
+            RebuildTask left = new RebuildTask(ownerIds.subList(0, middle), shard);
+            RebuildTask right = new RebuildTask(ownerIds.subList(middle, ownerIds.size()), shard);
+            left.fork();
+            return right.compute() + left.join();
+        }
+
+        private void rebuildLeaf() {
+            transactionTemplate.executeWithoutResult(status ->
+                    rebuildRange(ownerIds.get(0), ownerIds.get(ownerIds.size() - 1)));
+        }
+    }
+
+    /**
+     * Reconstruit les statistiques des propriétaires dont l'ID est compris entre {@code firstId} et {@code lastId}.
+     */
+    private void rebuildRange(long firstId, long lastId) {
+        jdbcTemplate.queryForList(LOCK_OWNERS, Long.class, firstId, lastId);
+
+        Map<Long, Long> previouslyCreated = new HashMap<>();
+        jdbcTemplate.query(SELECT_CREATED, rs -> {
+            previouslyCreated.put(rs.getLong("owner_id"), rs.getLong("boards_created"));
+        }, firstId, lastId);
+
+        Map<Long, BoardTotals> boards = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_TOTALS, rs -> {
+            BoardTotals board = boards.computeIfAbsent(rs.getLong("board_id"), id -> boardTotals(id, rs));
+            long participantId = rs.getLong("participant_id");
+            if (!rs.wasNull()) {
+                int lastRound = rs.getInt("last_round");
+                board.participants.add(new ParticipantTotal(participantId, rs.getString("participant_name"),
+                        rs.getLong("total"), rs.getLong("score_count"), rs.wasNull() ? null : lastRound));
+            }
+        }, firstId, lastId);
+        // Les participants des tableaux archivés sont dans leur archive, pas dans les tables parcourues ci-dessus.
+        jdbcTemplate.query(SELECT_ARCHIVES, rs -> {
+            BoardTotals board = boards.get(rs.getLong("board_id"));
+            if (board != null) {
+                BoardArchiveCodec.decode(rs.getBytes("payload"), rs.getInt("raw_size"))
+                        .forEach(participant -> board.participants.add(archivedTotal(participant)));
+            }
+        }, firstId, lastId);
+
+        Map<Long, OwnerTotals> owners = new HashMap<>();
+        List<BoardStats> boardStats = new ArrayList<>(boards.size());
+        for (BoardTotals board : boards.values()) {
+            BoardOutcome outcome = BoardOutcome.of(board.scoreCondition, board.targetScore, board.numberOfRounds,
+                    board.participants);
+            BoardStats stats = new BoardStats(board.boardId, board.ownerId);
+            outcome.copyTo(stats);
+            boardStats.add(stats);
+            owners.computeIfAbsent(board.ownerId, id -> new OwnerTotals()).add(outcome);
+        }
+        previouslyCreated.keySet().forEach(ownerId -> owners.computeIfAbsent(ownerId, id -> new OwnerTotals()));
+
+        jdbcTemplate.update("DELETE FROM board_stats WHERE owner_id BETWEEN ? AND ?", firstId, lastId);
+        jdbcTemplate.update("DELETE FROM owner_participant_stats WHERE owner_id BETWEEN ? AND ?", firstId, lastId);
+        jdbcTemplate.update("DELETE FROM owner_stats WHERE owner_id BETWEEN ? AND ?", firstId, lastId);
+
+        jdbcTemplate.batchUpdate(INSERT_BOARD_STATS, boardStats, 500, (ps, stats) -> {
+            ps.setLong(1, stats.getBoardId());
+            ps.setLong(2, stats.getOwnerId());
+            ps.setInt(3, stats.getRoundsPlayed());
+            ps.setLong(4, stats.getScoreCount());
+            ps.setLong(5, stats.getScoreSum());
+            ps.setBoolean(6, stats.isFinished());
+            ps.setString(7, stats.getWinners());
+        });
+        List<Map.Entry<Long, OwnerTotals>> ownerRows = new ArrayList<>(owners.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_OWNER_STATS, ownerRows, 500, (ps, row) -> {
+            OwnerTotals totals = row.getValue();
+            ps.setLong(1, row.getKey());
+            ps.setLong(2, Math.max(previouslyCreated.getOrDefault(row.getKey(), 0L), totals.boards));
+            ps.setInt(3, totals.boards);
+            ps.setInt(4, totals.finished);
+            ps.setLong(5, totals.roundsPlayed);
+            ps.setLong(6, totals.scoreCount);
+            ps.setLong(7, totals.scoreSum);
+        });
+        List<Object[]> winRows = new ArrayList<>();
+        owners.forEach((ownerId, totals) -> totals.wins.forEach((key, wins) ->
+                winRows.add(new Object[]{ownerId, key, wins.name, wins.count})));
+        jdbcTemplate.batchUpdate(INSERT_WINS, winRows);
+
+        logger.debug("Statistiques des propriétaires {} à {} reconstruites ({} tableaux).", firstId, lastId,
+                boardStats.size());
+    }
+
+    private static ParticipantTotal archivedTotal(ArchivedParticipant participant) {
+        long total = participant.scores().stream().mapToLong(ArchivedScore::scoreValue).sum();
+        Integer lastRound = participant.scores().stream().map(ArchivedScore::roundNumber)
+                .max(Integer::compare).orElse(null);
+        return new ParticipantTotal(participant.id(), participant.name(), total,
+                (long) participant.scores().size(), lastRound);
+    }
+
+    private static BoardTotals boardTotals(long boardId, ResultSet rs) {
+        try {
+            int targetScore = rs.getInt("target_score");
+            Integer target = rs.wasNull() ? null : targetScore;
+            int numberOfRounds = rs.getInt("number_of_rounds");
+            Integer rounds = rs.wasNull() ? null : numberOfRounds;
+            String condition = rs.getString("score_condition");
+            return new BoardTotals(boardId, rs.getLong("owner_id"),
+                    condition != null ? ScoreCondition.valueOf(condition) : null, target, rounds);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Un tableau et les totaux de ses participants, tels que lus par la requête d'agrégation.
+     */
+    private record BoardTotals(long boardId, long ownerId, ScoreCondition scoreCondition, Integer targetScore,
+                               Integer numberOfRounds, List<ParticipantTotal> participants) {
+
+        private BoardTotals(long boardId, long ownerId, ScoreCondition scoreCondition, Integer targetScore,
+                            Integer numberOfRounds) {
+            this(boardId, ownerId, scoreCondition, targetScore, numberOfRounds, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Statistiques d'un propriétaire en cours d'accumulation. Les victoires sont regroupées par nom normalisé ;
+     * la graphie retenue est celle du tableau le plus récent, comme lors des mises à jour incrémentales.
+     */
+    private static final class OwnerTotals {
+
+        private int boards;
+        private int finished;
+        private long roundsPlayed;
+        private long scoreCount;
+        private long scoreSum;
+        private final Map<String, Wins> wins = new HashMap<>();
+
+        private void add(BoardOutcome outcome) {
+            boards++;
+            finished += outcome.finished() ? 1 : 0;
+            roundsPlayed += outcome.roundsPlayed();
+            scoreCount += outcome.scoreCount();
+            scoreSum += outcome.scoreSum();
+            outcome.winnersByKey().forEach((key, name) -> {
+                Wins counter = wins.computeIfAbsent(key, k -> new Wins());
+                counter.name = name;
+                counter.count++;
+            });
+        }
+    }
+
+    private static final class Wins {
+        private String name;
+        private int count;
+    }
+}
@@ -0,0 +1,23 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Paramètres de la reconstruction des statistiques par propriétaire (préfixe {@code gamegauge.owner-stats}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.owner-stats")
+public class OwnerStatsProperties {
+
+    /**
+     * Nombre de tranches reconstruites en parallèle. Chacune occupe une connexion : à garder sous la taille
+     * du pool JDBC.
+     */
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    /** Nombre maximal de propriétaires par tranche (une transaction par tranche). */
+    private int ownersPerTask = 256;
+}
@@ -0,0 +1,168 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantTotal;
+import fr.gamegauge.gamegauge_api.dto.response.UserStatsResponse;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.BoardStats;
+import fr.gamegauge.gamegauge_api.model.OwnerStats;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.repository.BoardStatsRepository;
+import fr.gamegauge.gamegauge_api.repository.OwnerStatsRepository;
+import fr.gamegauge.gamegauge_api.repository.ParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Statistiques de jeu par propriétaire, tenues à jour de façon incrémentale.
+ * <p>
+ * Chaque tableau garde sa contribution ({@link BoardStats}) ; après une modification, {@link BoardService} demande
+ * le nouveau bilan du tableau ({@link BoardOutcome}, une requête d'agrégation) et seule la différence avec
+ * l'ancienne contribution est ajoutée aux compteurs du propriétaire. La lecture ({@link #getStats(String)}) ne
+ * dépend donc pas du nombre de tableaux. Les données antérieures sont reprises par {@link OwnerStatsBackfill}.
+ * <p>
+ * Les écritures sont faites dans la transaction de la modification, après {@link BoardChangeService#begin}, qui
+ * verrouille la ligne du propriétaire : deux modifications d'un même propriétaire ne se croisent pas.
+ */
+@Service
+@RequiredArgsConstructor
+public class OwnerStatsService {
+
+    private static final Logger logger = LogManager.getLogger(OwnerStatsService.class);
+
+    /** Nombre de noms renvoyés dans {@code topWinners}. */
+    private static final int TOP_WINNERS = 10;
+
+    private final OwnerStatsRepository ownerStatsRepository;
+    private final BoardStatsRepository boardStatsRepository;
+    private final ParticipantRepository participantRepository;
+
+    // --- ÉCRITURE ---
+
+    /**
+     * Un tableau a été créé (création, import ou duplication) : son bilan est calculé à partir des entités
+     * qui viennent d'être enregistrées, sans requête.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void boardCreated(Board board) {
+        BoardOutcome outcome = BoardOutcome.of(board.getScoreCondition(), board.getTargetScore(),
+                board.getNumberOfRounds(), totalsOf(board));
+        BoardStats stats = new BoardStats(board.getId(), board.getOwner().getId());
+        outcome.copyTo(stats);
+        boardStatsRepository.save(stats);
+        apply(stats.getOwnerId(), 1, BoardOutcome.NONE, outcome);
+    }
+
+    /**
+     * Les scores, les participants ou les règles d'un tableau ont changé : son nouveau bilan remplace l'ancien.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void boardChanged(Board board) {
+        BoardOutcome after = BoardOutcome.of(board.getScoreCondition(), board.getTargetScore(),
+                board.getNumberOfRounds(), participantRepository.findTotalsByBoardId(board.getId()));
+        Optional<BoardStats> existing = boardStatsRepository.findById(board.getId());
+        if (existing.isPresent()) {
+            BoardStats stats = existing.get();
+            BoardOutcome before = BoardOutcome.of(stats);
+            if (!before.equals(after)) {
+                after.copyTo(stats);
+                apply(stats.getOwnerId(), 0, before, after);
+            }
+            return;
+        }
+        // Tableau antérieur aux statistiques (reprise pas encore faite) : il est compté à partir de maintenant.
+        BoardStats stats = new BoardStats(board.getId(), board.getOwner().getId());
+        after.copyTo(stats);
+        boardStatsRepository.save(stats);
+        apply(stats.getOwnerId(), 1, BoardOutcome.NONE, after);
+    }
+
+    /**
+     * Un tableau va être supprimé : sa contribution est retirée. La ligne {@code board_stats} est supprimée
+     * avec le tableau (clé étrangère en cascade).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void boardDeleted(Board board) {
+        boardStatsRepository.findById(board.getId()).ifPresent(stats ->
+                apply(stats.getOwnerId(), -1, BoardOutcome.of(stats), BoardOutcome.NONE));
+    }
+
+    // --- LECTURE ---
+
+    /**
+     * Statistiques de jeu d'un utilisateur : deux lectures par clé, quel que soit le nombre de ses tableaux.
+     *
+     * @param userEmail L'email de l'utilisateur.
+     */
+    @Transactional(readOnly = true)
+    public UserStatsResponse getStats(String userEmail) {
+        OwnerStats stats = ownerStatsRepository.findByOwnerEmail(userEmail).orElseGet(OwnerStats::new);
+        List<UserStatsResponse.WinnerStats> topWinners = ownerStatsRepository.findTopWinners(userEmail, TOP_WINNERS)
+                .stream()
+                .map(w -> new UserStatsResponse.WinnerStats(w.getName(), w.getWins()))
+                .toList();
+        Double averageScore = stats.getScoreCount() > 0 ? (double) stats.getScoreSum() / stats.getScoreCount() : null;
+        return new UserStatsResponse(stats.getBoardsCreated(), stats.getBoardsCount(), stats.getBoardsFinished(),
+                stats.getRoundsPlayed(), stats.getScoreCount(), averageScore, topWinners);
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    /**
+     * Ajoute aux statistiques du propriétaire la différence entre deux bilans d'un tableau.
+     *
+     * @param boards +1 si le tableau commence à être compté, -1 s'il est supprimé, 0 sinon.
+     */
+    private void apply(Long ownerId, int boards, BoardOutcome before, BoardOutcome after) {
+        int finished = (after.finished() ? 1 : 0) - (before.finished() ? 1 : 0);
+        long rounds = after.roundsPlayed() - before.roundsPlayed();
+        long scoreCount = after.scoreCount() - before.scoreCount();
+        long scoreSum = after.scoreSum() - before.scoreSum();
+        long created = Math.max(boards, 0);
+        if (boards != 0 || finished != 0 || rounds != 0 || scoreCount != 0 || scoreSum != 0) {
+            if (ownerStatsRepository.addToStats(ownerId, created, boards, finished, rounds, scoreCount, scoreSum) == 0) {
+                ownerStatsRepository.insertStats(ownerId, created, boards, finished, rounds, scoreCount, scoreSum);
+            }
+        }
+
+        Map<String, String> previousWinners = before.winnersByKey();
+        Map<String, String> winners = after.winnersByKey();
+        previousWinners.forEach((key, name) -> {
+            if (!winners.containsKey(key)) {
+                ownerStatsRepository.addWins(ownerId, key, name, -1);
+            }
+        });
+        winners.forEach((key, name) -> {
+            if (!previousWinners.containsKey(key) && ownerStatsRepository.addWins(ownerId, key, name, 1) == 0) {
+                ownerStatsRepository.insertWins(ownerId, key, name, 1);
+            }
+        });
+        logger.debug("Statistiques du propriétaire ID {} mises à jour (tableaux {}, terminés {}, scores {}).",
+                ownerId, boards, finished, scoreCount);
+    }
+
+    private static List<ParticipantTotal> totalsOf(Board board) {
+        return board.getParticipants().stream()
+                .map(OwnerStatsService::totalOf)
+                .toList();
+    }
+
+    private static ParticipantTotal totalOf(Participant participant) {
+        long total = 0;
+        Integer lastRound = null;
+        for (ScoreEntry score : participant.getScoreEntries()) {
+            total += score.getScoreValue();
+            lastRound = lastRound == null ? score.getRoundNumber() : Math.max(lastRound, score.getRoundNumber());
+        }
+        return new ParticipantTotal(participant.getId(), participant.getName(), total,
+                (long) participant.getScoreEntries().size(), lastRound);
+    }
+}
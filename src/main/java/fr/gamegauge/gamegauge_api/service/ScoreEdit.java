@@ -0,0 +1,7 @@
+package fr.gamegauge.gamegauge_api.service;
+
+/**
+ * Un score à définir pour un participant et un tour, reçu en écriture différée ({@link ScoreWriteBehindService}).
+ */
+public record ScoreEdit(Long participantId, int roundNumber, int scoreValue) {
+}
@@ -0,0 +1,31 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres du journal des scores et de ses instantanés (préfixe {@code gamegauge.score-events}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.score-events")
+public class ScoreEventProperties {
+
+    /**
+     * Nombre d'événements d'un tableau à partir duquel un nouvel instantané est pris : borne la longueur
+     * de la fin de journal à rejouer pour reconstruire l'état du tableau.
+     */
+    private int snapshotThreshold = 200;
+
+    /** Délai entre deux passages du planificateur d'instantanés. */
+    private Duration snapshotDelay = Duration.ofMinutes(5);
+
+    /** Nombre d'événements par lot JDBC lors d'un ajout en masse (import). */
+    private int batchSize = 500;
+
+    /** Nombre maximal d'événements renvoyés par une page d'historique. */
+    private int maxHistoryPageSize = 200;
+}
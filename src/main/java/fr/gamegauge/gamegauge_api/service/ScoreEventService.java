@@ -0,0 +1,283 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.dto.response.BoardHistoryStateResponse;
+import fr.gamegauge.gamegauge_api.dto.response.ScoreEventResponse;
+import fr.gamegauge.gamegauge_api.exception.ResourceNotFoundException;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.BoardSnapshot;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.ScoreEvent;
+import fr.gamegauge.gamegauge_api.model.ScoreEventType;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.BoardSnapshotRepository;
+import fr.gamegauge.gamegauge_api.repository.ScoreEventRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+/**
+ * Journal d'événements des scores : chaque modification de score d'un tableau y est ajoutée (jamais modifiée),
+ * dans la transaction de la modification.
+ * <p>
+ * La table {@code score_entries} reste la projection de l'état courant, lue par les vues du tableau ; le journal
+ * sert l'historique et permet de reconstruire l'état à n'importe quel événement : dernier instantané antérieur
+ * ({@link BoardSnapshot}), puis rejeu de la fin du journal ({@link #replay(Long, long)}). Les instantanés sont pris
+ * périodiquement par {@link ScoreSnapshotScheduler}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ScoreEventService {
+
+    private static final Logger logger = LogManager.getLogger(ScoreEventService.class);
+
+    private static final String INSERT_EVENT = "INSERT INTO score_events "
+            + "(board_id, event_type, participant_id, score_id, round_number, score_value, previous_value, occurred_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScoreEventRepository scoreEventRepository;
+    private final BoardSnapshotRepository boardSnapshotRepository;
+    private final BoardRepository boardRepository;
+    private final UserRepository userRepository;
+    private final ScoreEventProperties properties;
+
+    // --- ÉCRITURE ---
+
+    /**
+     * Un score a été créé ({@code previousValue} vide) ou sa valeur a changé.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void scoreRecorded(Long boardId, ScoreEntry score, Integer previousValue) {
+        ScoreEvent event = scoreEvent(boardId, ScoreEventType.SCORE_RECORDED, score);
+        event.setPreviousValue(previousValue);
+        append(List.of(event));
+    }
+
+    /**
+     * Plusieurs scores ont été créés ou modifiés dans la même transaction (écriture différée) : un seul lot.
+     * {@code previousValues} donne, dans le même ordre, la valeur remplacée de chaque score ({@code null} s'il
+     * a été créé).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void scoresRecorded(Long boardId, List<ScoreEntry> scores, List<Integer> previousValues) {
+        List<ScoreEvent> events = new ArrayList<>(scores.size());
+        for (int i = 0; i < scores.size(); i++) {
+            ScoreEvent event = scoreEvent(boardId, ScoreEventType.SCORE_RECORDED, scores.get(i));
+            event.setPreviousValue(previousValues.get(i));
+            events.add(event);
+        }
+        append(events);
+    }
+
+    /**
+     * Un score a été supprimé : l'événement garde son tour et sa valeur.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void scoreDeleted(Long boardId, ScoreEntry score) {
+        append(List.of(scoreEvent(boardId, ScoreEventType.SCORE_DELETED, score)));
+    }
+
+    /**
+     * Un participant a été retiré du tableau avec ses scores.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void participantRemoved(Long boardId, Long participantId) {
+        ScoreEvent event = new ScoreEvent(boardId, ScoreEventType.PARTICIPANT_REMOVED);
+        event.setParticipantId(participantId);
+        append(List.of(event));
+    }
+
+    /**
+     * Tous les scores du tableau ont été supprimés : un seul événement, quel que soit le nombre de scores.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void boardRestarted(Long boardId) {
+        append(List.of(new ScoreEvent(boardId, ScoreEventType.BOARD_RESTARTED)));
+    }
+
+    /**
+     * Un tableau a été créé avec des scores (import) : un événement par score, ajoutés par lots.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void boardImported(Board board) {
+        List<ScoreEvent> events = new ArrayList<>();
+        for (Participant participant : board.getParticipants()) {
+            for (ScoreEntry score : participant.getScoreEntries()) {
+                events.add(scoreEvent(board.getId(), ScoreEventType.SCORE_RECORDED, score));
+            }
+        }
+        append(events);
+    }
+
+    /**
+     * Ajoute des événements au journal, en lots JDBC (une requête préparée, {@code batchSize} lignes par envoi).
+     */
+    private void append(List<ScoreEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        // Même convention que Hibernate pour les Instant : DATETIME exprimé en UTC.
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, properties.getBatchSize(), (ps, event) -> {
+            ps.setLong(1, event.getBoardId());
+            ps.setString(2, event.getEventType().name());
+            setNullableLong(ps, 3, event.getParticipantId());
+            setNullableLong(ps, 4, event.getScoreId());
+            setNullableInt(ps, 5, event.getRoundNumber());
+            setNullableInt(ps, 6, event.getScoreValue());
+            setNullableInt(ps, 7, event.getPreviousValue());
+            ps.setTimestamp(8, Timestamp.from(now), utc);
+        });
+    }
+
+    // --- LECTURE ---
+
+    /**
+     * Historique des scores d'un tableau, du plus récent au plus ancien.
+     *
+     * @param boardId   L'ID du tableau.
+     * @param beforeId  Ne renvoyer que les événements antérieurs à celui-ci (page suivante), ou {@code null}.
+     * @param limit     Le nombre maximal d'événements (plafonné par {@code maxHistoryPageSize}).
+     * @param userEmail L'email de l'utilisateur qui fait la demande.
+     * @throws ResourceNotFoundException si le tableau n'existe pas ou n'appartient pas à l'utilisateur.
+     */
+    @Transactional(readOnly = true)
+    public List<ScoreEventResponse> getHistory(Long boardId, Long beforeId, int limit, String userEmail) {
+        checkOwnership(boardId, userEmail);
+        int pageSize = Math.max(1, Math.min(limit, properties.getMaxHistoryPageSize()));
+        return scoreEventRepository.findHistory(boardId, beforeId != null ? beforeId : Long.MAX_VALUE,
+                        Limit.of(pageSize)).stream()
+                .map(e -> new ScoreEventResponse(e.getId(), e.getEventType(), e.getParticipantId(), e.getScoreId(),
+                        e.getRoundNumber(), e.getScoreValue(), e.getPreviousValue(), e.getOccurredAt()))
+                .toList();
+    }
+
+    /**
+     * Scores d'un tableau tels qu'ils étaient juste après un événement de son historique.
+     *
+     * @param boardId   L'ID du tableau.
+     * @param atEventId L'identifiant de l'événement, ou {@code null} pour l'état courant.
+     * @param userEmail L'email de l'utilisateur qui fait la demande.
+     * @throws ResourceNotFoundException si le tableau n'existe pas ou n'appartient pas à l'utilisateur.
+     */
+    @Transactional(readOnly = true)
+    public BoardHistoryStateResponse getStateAt(Long boardId, Long atEventId, String userEmail) {
+        checkOwnership(boardId, userEmail);
+        BoardScoreState state = replay(boardId, atEventId != null ? atEventId : Long.MAX_VALUE);
+        List<BoardHistoryStateResponse.ScoreState> scores = state.getScores().stream()
+                .map(s -> new BoardHistoryStateResponse.ScoreState(s.id(), s.participantId(), s.roundNumber(),
+                        s.scoreValue()))
+                .toList();
+        return new BoardHistoryStateResponse(boardId, state.getLastEventId(), scores);
+    }
+
+    /**
+     * Reconstruit l'état des scores d'un tableau juste après un événement : dernier instantané antérieur,
+     * puis rejeu des événements suivants.
+     *
+     * @param boardId   L'ID du tableau.
+     * @param atEventId L'identifiant du dernier événement à prendre en compte.
+     */
+    @Transactional(readOnly = true)
+    public BoardScoreState replay(Long boardId, long atEventId) {
+        return restore(boardId, atEventId).state();
+    }
+
+    // --- INSTANTANÉS ---
+
+    /**
+     * Prend un instantané de l'état courant des scores d'un tableau, s'il reste des événements après le dernier.
+     *
+     * @param boardId L'ID du tableau.
+     * @return {@code true} si un instantané a été enregistré.
+     */
+    @Transactional
+    public boolean takeSnapshot(Long boardId) {
+        Replay replay = restore(boardId, Long.MAX_VALUE);
+        if (replay.replayedEvents() == 0) {
+            return false;
+        }
+        BoardScoreState state = replay.state();
+        BoardSnapshot snapshot = new BoardSnapshot();
+        snapshot.setBoardId(boardId);
+        snapshot.setLastEventId(state.getLastEventId());
+        snapshot.setScoreCount(state.size());
+        snapshot.setPayload(state.encode());
+        boardSnapshotRepository.save(snapshot);
+        logger.info("Instantané du tableau ID {} pris à l'événement {} ({} scores, {} octets).",
+                boardId, state.getLastEventId(), state.size(), snapshot.getPayload().length);
+        return true;
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    /**
+     * Dernier instantané antérieur à l'événement, puis rejeu des événements suivants (index (board_id, id)).
+     */
+    private Replay restore(Long boardId, long atEventId) {
+        BoardScoreState state = boardSnapshotRepository
+                .findFirstByBoardIdAndLastEventIdLessThanEqualOrderByLastEventIdDesc(boardId, atEventId)
+                .map(snapshot -> BoardScoreState.decode(snapshot.getPayload(), snapshot.getLastEventId()))
+                .orElseGet(BoardScoreState::empty);
+        List<ScoreEvent> tail = scoreEventRepository.findTail(boardId, state.getLastEventId(), atEventId);
+        tail.forEach(state::apply);
+        logger.debug("État du tableau ID {} reconstruit à l'événement {} ({} événement(s) rejoué(s)).",
+                boardId, state.getLastEventId(), tail.size());
+        return new Replay(state, tail.size());
+    }
+
+    private static ScoreEvent scoreEvent(Long boardId, ScoreEventType type, ScoreEntry score) {
+        ScoreEvent event = new ScoreEvent(boardId, type);
+        event.setParticipantId(score.getParticipant().getId());
+        event.setScoreId(score.getId());
+        event.setRoundNumber(score.getRoundNumber());
+        event.setScoreValue(score.getScoreValue());
+        return event;
+    }
+
+    private void checkOwnership(Long boardId, String userEmail) {
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new UsernameNotFoundException("Utilisateur non trouvé : " + userEmail));
+        boardRepository.findByIdAndOwner(boardId, user)
+                .orElseThrow(() -> new ResourceNotFoundException("Tableau non trouvé ou accès non autorisé. ID: " + boardId));
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value != null) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private record Replay(BoardScoreState state, int replayedEvents) {
+    }
+}
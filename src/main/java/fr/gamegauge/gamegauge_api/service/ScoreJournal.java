@@ -0,0 +1,395 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Journal local des scores en attente d'écriture (write-ahead log) : un score accepté en écriture différée y est
+ * ajouté avant d'être confirmé au client, et rejoué en base au redémarrage s'il n'a pas été écrit.
+ * <p>
+ * Le journal est une suite de segments de taille fixe ({@code segment-<première séquence>.log}), projetés en
+ * mémoire : un ajout est une simple écriture en mémoire, qui survit à l'arrêt brutal du processus (elle est dans
+ * le cache de pages du système). Un fil dédié force les pages sur le disque par lots ({@link #startGroupCommit}),
+ * ce qui couvre aussi une panne du système à l'intervalle près. Le fichier {@code checkpoint} contient la
+ * séquence en dessous de laquelle tout est écrit en base ({@link #release}) ; les segments entièrement en
+ * dessous sont supprimés. À la relecture, les segments qui précèdent un trou de séquences ne peuvent plus être
+ * rejoués : ils sont déplacés dans le sous-répertoire {@value #QUARANTINE_DIRECTORY}.
+ * <p>
+ * Format d'un enregistrement ({@value #RECORD_SIZE} octets) : marqueur, séquence, tableau, participant, tour,
+ * valeur, puis CRC-32C des octets précédents. Le marqueur est écrit en dernier : un enregistrement interrompu par
+ * un arrêt brutal n'a pas de marqueur (ou pas le bon CRC) et marque la fin du journal à la relecture.
+ */
+public final class ScoreJournal implements AutoCloseable {
+
+    /** Taille d'un enregistrement, en octets. */
+    public static final int RECORD_SIZE = 40;
+
+    private static final Logger logger = LogManager.getLogger(ScoreJournal.class);
+
+    private static final int MAGIC = 0x47474A31; // "GGJ1"
+    private static final int CRC_OFFSET = RECORD_SIZE - Integer.BYTES;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String QUARANTINE_DIRECTORY = "quarantine";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final MappedByteBuffer checkpoint;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private Segment active;
+    private long nextSequence;
+    private volatile long syncedSequence;
+    /** Dernier point de reprise forcé sur le disque. */
+    private volatile long syncedWatermark;
+    private Thread groupCommit;
+    private volatile boolean closed;
+
+    private ScoreJournal(Path directory, int recordsPerSegment, FileChannel lockChannel, FileLock lock,
+                         MappedByteBuffer checkpoint) {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Ouvre (ou crée) le journal d'un répertoire et relit ses segments. Le répertoire est verrouillé : un seul
+     * processus à la fois peut l'utiliser.
+     *
+     * @param directory   Le répertoire du journal.
+     * @param segmentSize La taille d'un segment, en octets (au moins un enregistrement).
+     * @throws IllegalStateException si le journal est déjà ouvert par un autre processus.
+     */
+    public static ScoreJournal open(Path directory, long segmentSize) throws IOException {
+        int recordsPerSegment = (int) Math.min(Integer.MAX_VALUE / RECORD_SIZE, segmentSize / RECORD_SIZE);
+        if (recordsPerSegment < 1) {
+            throw new IllegalArgumentException("Segment trop petit : " + segmentSize + " octets");
+        }
+        Files.createDirectories(directory);
+        FileChannel lockChannel = FileChannel.open(directory.resolve("journal.lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Journal des scores déjà ouvert : " + directory);
+        }
+        MappedByteBuffer checkpoint;
+        try (FileChannel channel = FileChannel.open(directory.resolve("checkpoint"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            checkpoint = channel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+        }
+        ScoreJournal journal = new ScoreJournal(directory, recordsPerSegment, lockChannel, lock, checkpoint);
+        journal.recover();
+        return journal;
+    }
+
+    /**
+     * Ajoute un score au journal.
+     *
+     * @return La séquence de l'enregistrement (croissante, sans trou).
+     */
+    public synchronized long append(long boardId, long participantId, int roundNumber, int scoreValue) {
+        if (closed) {
+            throw new IllegalStateException("Journal des scores fermé");
+        }
+        if (active == null || active.count == recordsPerSegment) {
+            rotate();
+        }
+        long sequence = nextSequence++;
+        record.clear();
+        record.putInt(MAGIC).putLong(sequence).putLong(boardId).putLong(participantId)
+                .putInt(roundNumber).putInt(scoreValue);
+        crc.reset();
+        crc.update(record.array(), 0, CRC_OFFSET);
+        record.putInt((int) crc.getValue());
+
+        int offset = active.count * RECORD_SIZE;
+        active.buffer.put(offset + Integer.BYTES, record.array(), Integer.BYTES, RECORD_SIZE - Integer.BYTES);
+        active.buffer.putInt(offset, MAGIC);
+        active.count++;
+        return sequence;
+    }
+
+    /**
+     * Déclare écrits en base tous les scores de séquence inférieure à {@code watermark} : ils ne seront pas
+     * rejoués, et les segments qui ne contiennent qu'eux sont supprimés. Le point de reprise est forcé sur le
+     * disque avant toute suppression (sinon, à la validation de groupe suivante) : après une panne, il ne désigne
+     * jamais un segment supprimé, et un score écrit en base n'est pas rejoué par-dessus une valeur plus récente.
+     */
+    public synchronized void release(long watermark) {
+        if (closed || watermark <= checkpoint.getLong(0)) {
+            return;
+        }
+        checkpoint.putLong(0, watermark);
+        if (segments.size() > 1 && segments.peekFirst().lastSequence() < watermark) {
+            checkpoint.force();
+            syncedWatermark = watermark;
+        }
+        while (segments.size() > 1 && segments.peekFirst().lastSequence() < watermark) {
+            Segment segment = segments.pollFirst();
+            try {
+                Files.deleteIfExists(segment.path);
+            } catch (IOException e) {
+                logger.warn("Impossible de supprimer le segment {} du journal des scores : {}", segment.path,
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Les scores du journal pas encore déclarés écrits ({@link #release}), dans l'ordre des séquences.
+     */
+    public synchronized List<Entry> unreleased() {
+        long from = checkpoint.getLong(0);
+        List<Entry> entries = new ArrayList<>();
+        for (Segment segment : segments) {
+            for (int i = 0; i < segment.count; i++) {
+                int offset = i * RECORD_SIZE;
+                long sequence = segment.buffer.getLong(offset + 4);
+                if (sequence >= from) {
+                    entries.add(new Entry(sequence, segment.buffer.getLong(offset + 12),
+                            segment.buffer.getLong(offset + 20), segment.buffer.getInt(offset + 28),
+                            segment.buffer.getInt(offset + 32)));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * La séquence du prochain enregistrement.
+     */
+    public synchronized long nextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * La dernière séquence forcée sur le disque.
+     */
+    public long syncedSequence() {
+        return syncedSequence;
+    }
+
+    /**
+     * Force sur le disque les enregistrements ajoutés et le point de reprise avancé depuis le dernier appel
+     * (validation de groupe).
+     */
+    public void sync() {
+        Segment segment;
+        long target;
+        long watermark;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            segment = active;
+            target = nextSequence - 1;
+            watermark = checkpoint.getLong(0);
+        }
+        if (segment != null && target > syncedSequence) {
+            segment.buffer.force();
+            syncedSequence = target;
+        }
+        if (watermark != syncedWatermark) {
+            checkpoint.force();
+            syncedWatermark = watermark;
+        }
+    }
+
+    /**
+     * Démarre le fil de validation de groupe : {@link #sync()} à chaque intervalle.
+     */
+    public synchronized void startGroupCommit(Duration interval) {
+        if (groupCommit != null) {
+            return;
+        }
+        long millis = Math.max(1, interval.toMillis());
+        groupCommit = Thread.ofPlatform().name("gamegauge-journal-sync").daemon().start(() -> {
+            while (!closed) {
+                try {
+                    Thread.sleep(millis);
+                    sync();
+                } catch (InterruptedException e) {
+                    return;
+                } catch (RuntimeException e) {
+                    logger.error("Échec de la synchronisation du journal des scores.", e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+        }
+        sync();
+        synchronized (this) {
+            closed = true;
+            if (groupCommit != null) {
+                groupCommit.interrupt();
+            }
+            lock.release();
+            lockChannel.close();
+        }
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    /**
+     * Relit les segments existants : chaque segment jusqu'à son premier enregistrement absent ou invalide.
+     */
+    private void recover() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .sorted()
+                    .toList();
+        }
+        long expected = -1;
+        int torn = 0;
+        for (Path path : paths) {
+            Segment segment = map(path, firstSequenceOf(path));
+            if (expected >= 0 && segment.firstSequence != expected) {
+                logger.warn("Trou dans le journal des scores avant {} : {} segment(s) précédent(s) mis en quarantaine.",
+                        path, segments.size());
+                segments.forEach(dropped -> quarantine(dropped.path));
+                segments.clear();
+            }
+            while (segment.count < recordsPerSegment && isValid(segment, segment.count)) {
+                segment.count++;
+            }
+            if (segment.count < recordsPerSegment && segment.buffer.getInt(segment.count * RECORD_SIZE) != 0) {
+                torn++;
+            }
+            segments.addLast(segment);
+            expected = segment.firstSequence + segment.count;
+        }
+        long checkpointed = checkpoint.getLong(0);
+        nextSequence = Math.max(Math.max(expected, checkpointed), 1);
+        if (!segments.isEmpty() && segments.peekLast().firstSequence + segments.peekLast().count == nextSequence) {
+            active = segments.peekLast();
+        }
+        syncedSequence = nextSequence - 1;
+        syncedWatermark = checkpointed;
+        if (torn > 0) {
+            logger.warn("Journal des scores : {} enregistrement(s) interrompu(s) ignoré(s).", torn);
+        }
+        logger.info("Journal des scores ouvert dans {} : {} segment(s), prochaine séquence {}, {} score(s) à rejouer.",
+                directory, segments.size(), nextSequence, Math.max(0, nextSequence - checkpointed));
+    }
+
+    /**
+     * Déplace un segment écarté à la relecture hors des segments du journal (il n'est plus relu ensuite).
+     */
+    private void quarantine(Path path) {
+        try {
+            Path target = Files.createDirectories(directory.resolve(QUARANTINE_DIRECTORY));
+            Files.move(path, target.resolve(path.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.warn("Impossible de mettre en quarantaine le segment {} du journal des scores : {}", path,
+                    e.getMessage());
+        }
+    }
+
+    private boolean isValid(Segment segment, int index) {
+        int offset = index * RECORD_SIZE;
+        if (segment.buffer.getInt(offset) != MAGIC
+                || segment.buffer.getLong(offset + 4) != segment.firstSequence + index) {
+            return false;
+        }
+        byte[] bytes = new byte[RECORD_SIZE];
+        segment.buffer.get(offset, bytes);
+        crc.reset();
+        crc.update(bytes, 0, CRC_OFFSET);
+        return ByteBuffer.wrap(bytes).getInt(CRC_OFFSET) == (int) crc.getValue();
+    }
+
+    /**
+     * Passe à un nouveau segment, après avoir forcé le précédent sur le disque.
+     */
+    private void rotate() {
+        try {
+            if (active != null) {
+                active.buffer.force();
+            }
+            Segment segment = map(directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, nextSequence,
+                    SEGMENT_SUFFIX)), nextSequence);
+            segments.addLast(segment);
+            active = segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible de créer un segment du journal des scores", e);
+        }
+    }
+
+    private Segment map(Path path, long firstSequence) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return new Segment(path, firstSequence,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE));
+        }
+    }
+
+    private static long firstSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Un score relu dans le journal.
+     */
+    public record Entry(long sequence, long boardId, long participantId, int roundNumber, int scoreValue) {
+    }
+
+    /**
+     * Un segment projeté en mémoire et son nombre d'enregistrements.
+     */
+    private static final class Segment {
+
+        private final Path path;
+        private final long firstSequence;
+        private final MappedByteBuffer buffer;
+        private int count;
+
+        private Segment(Path path, long firstSequence, MappedByteBuffer buffer) {
+            this.path = path;
+            this.firstSequence = firstSequence;
+            this.buffer = buffer;
+        }
+
+        private long lastSequence() {
+            return firstSequence + count - 1;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Paramètres du journal des scores en attente d'écriture (préfixe {@code gamegauge.journal}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.journal")
+public class ScoreJournalProperties {
+
+    /** Journalise les scores en écriture différée, pour les rejouer en base après un arrêt brutal. */
+    private boolean enabled = true;
+
+    /** Répertoire des segments du journal (un seul processus à la fois). */
+    private Path directory = Path.of("data", "score-journal");
+
+    /** Taille d'un segment ; un segment plein est forcé sur le disque et remplacé par un nouveau. */
+    private DataSize segmentSize = DataSize.ofMegabytes(4);
+
+    /** Intervalle de la validation de groupe (écriture forcée des enregistrements récents sur le disque). */
+    private Duration syncInterval = Duration.ofMillis(10);
+}
@@ -0,0 +1,104 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
+import fr.gamegauge.gamegauge_api.dto.projection.BoardEventCount;
+import fr.gamegauge.gamegauge_api.repository.ScoreEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Prend périodiquement un instantané des tableaux qui ont accumulé assez d'événements depuis le précédent.
+ * <p>
+ * Chaque passage ne compte que les événements ajoutés depuis le passage précédent (parcours de la clé primaire
+ * au-delà d'un filigrane) et cumule ces comptes par tableau en mémoire : le coût d'un passage dépend de l'activité
+ * récente, pas de la taille du journal. Au démarrage, le filigrane part de la fin du journal : les événements
+ * antérieurs seront couverts par le prochain instantané de leur tableau. Avec le partitionnement, chaque shard a
+ * son propre journal, donc son propre filigrane.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScoreSnapshotScheduler {
+
+    private static final Logger logger = LogManager.getLogger(ScoreSnapshotScheduler.class);
+
+    private final ScoreEventRepository scoreEventRepository;
+    private final ScoreEventService scoreEventService;
+    private final ScoreEventProperties properties;
+
+    private final ShardRouter shardRouter;
+
+    /** Filigrane et événements en attente, par shard (un seul sans partitionnement). */
+    private final Map<Integer, ShardState> states = new HashMap<>();
+
+    /**
+     * Compte les nouveaux événements et prend les instantanés dus, shard par shard.
+     *
+     * @return Le nombre d'instantanés pris.
+     */
+    @Scheduled(fixedDelayString = "${gamegauge.score-events.snapshot-delay:PT5M}",
+            initialDelayString = "${gamegauge.score-events.snapshot-delay:PT5M}")
+    public synchronized int snapshotActiveBoards() {
+        int taken = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            ShardState state = states.computeIfAbsent(shard, k -> new ShardState());
+            taken += shardRouter.onShard(shard, () -> snapshotActiveBoards(state));
+        }
+        if (taken > 0) {
+            logger.info("{} instantané(s) de tableau pris, {} tableau(x) en attente.", taken,
+                    states.values().stream().mapToInt(state -> state.pendingEvents.size()).sum());
+        }
+        return taken;
+    }
+
+    private int snapshotActiveBoards(ShardState state) {
+        long high = maxEventId();
+        if (state.watermark == null) {
+            state.watermark = high;
+            return 0;
+        }
+        if (high > state.watermark) {
+            for (BoardEventCount count : scoreEventRepository.countByBoard(state.watermark, high)) {
+                state.pendingEvents.merge(count.boardId(), count.eventCount(), Long::sum);
+            }
+            state.watermark = high;
+        }
+
+        int taken = 0;
+        for (Iterator<Map.Entry<Long, Long>> it = state.pendingEvents.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Long> pending = it.next();
+            if (pending.getValue() < properties.getSnapshotThreshold()) {
+                continue;
+            }
+            it.remove();
+            try {
+                if (scoreEventService.takeSnapshot(pending.getKey())) {
+                    taken++;
+                }
+            } catch (RuntimeException e) {
+                // Tableau supprimé entre-temps, instantané concurrent d'une autre instance... : le suivant rattrapera.
+                logger.warn("Instantané du tableau ID {} impossible : {}", pending.getKey(), e.getMessage());
+            }
+        }
+        return taken;
+    }
+
+    private long maxEventId() {
+        Long max = scoreEventRepository.findMaxId();
+        return max != null ? max : 0L;
+    }
+
+    /**
+     * Suivi d'un shard : événements non couverts par un instantané, par tableau, et filigrane du dernier passage.
+     */
+    private static final class ShardState {
+        private final Map<Long, Long> pendingEvents = new HashMap<>();
+        private Long watermark;
+    }
+}
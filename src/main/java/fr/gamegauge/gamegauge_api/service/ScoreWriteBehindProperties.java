@@ -0,0 +1,28 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Paramètres de l'écriture différée des scores (préfixe {@code gamegauge.write-behind}).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.write-behind")
+public class ScoreWriteBehindProperties {
+
+    /** Accepte les scores en écriture différée quand le client le demande ({@code Prefer: respond-async}). */
+    private boolean enabled = true;
+
+    /** Délai maximal entre la réception d'un score et son écriture. */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /** Nombre de scores en attente dans un tableau au-delà duquel ils sont écrits sans attendre le délai. */
+    private int batchSize = 50;
+
+    /** Délai maximal entre deux tentatives d'écriture d'un tableau dont les scores n'ont pas pu être écrits. */
+    private Duration maxRetryDelay = Duration.ofSeconds(30);
+}
@@ -0,0 +1,475 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.datasource.ReadYourWritesTracker;
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.exception.ResourceNotFoundException;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.ParticipantRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Écriture différée des scores : un score envoyé avec {@code Prefer: respond-async} est accepté dès qu'il est
+ * rangé dans le tampon de son tableau, puis écrit plus tard avec les autres scores du tableau, en une transaction
+ * ({@link BoardService#setScores}).
+ * <ul>
+ *     <li>Regroupement : dans un tampon, un score par participant et par tour ; un nouveau score pour la même case
+ *     remplace le précédent, et une valeur revenue à celle de la base n'est pas réécrite.</li>
+ *     <li>Écriture : toutes les {@code gamegauge.write-behind.flush-interval}, ou dès que le tableau a
+ *     {@code batch-size} scores en attente, et à l'arrêt de l'application.</li>
+ *     <li>Ordre : les écritures d'un tableau se suivent (verrou par tableau), et toute autre requête sur le tableau
+ *     (lecture comprise) attend l'écriture de ses scores en attente ({@link #flush(Long)}, appelé par
+ *     {@code ScoreWriteBehindBarrier}) : un client relit toujours ce qu'il a envoyé. Avec un réplica en lecture,
+ *     l'écriture d'un lot marque le propriétaire comme écrivain ({@link ReadYourWritesTracker}) : ses lectures
+ *     suivantes restent sur la base principale, même si le lot a été écrit hors de sa requête.</li>
+ *     <li>Portée : tampons et barrière sont propres à l'instance. Une lecture servie par une autre instance ne voit
+ *     un score qu'une fois son lot écrit en base (au plus {@code flush-interval} plus tard).</li>
+ *     <li>Repli : un score qui ne peut pas être vérifié sans charger le tableau (tableau archivé, autre
+ *     propriétaire...) est écrit tout de suite par le chemin habituel. Si l'écriture d'un lot échoue, ses scores
+ *     sont repris un par un par ce même chemin ; seul un score devenu impossible (tableau ou participant supprimé
+ *     entre-temps) est abandonné, avec une erreur dans les logs. Un score qui échoue pour une autre raison (base
+ *     indisponible...) retourne dans le tampon, et l'écriture planifiée le retente avec un délai croissant
+ *     (jusqu'à {@code gamegauge.write-behind.max-retry-delay}).</li>
+ *     <li>Durabilité : avec le journal des scores ({@link ScoreJournal}, {@code gamegauge.journal.enabled}), un
+ *     score est journalisé avant d'être accepté ; le journal n'est libéré que jusqu'au plus ancien score pas encore
+ *     en base (en attente, en cours d'écriture ou à retenter), et ce
+ *     qu'il contient encore au démarrage (arrêt brutal) est rejoué en base avant l'ouverture du serveur. Sans
+ *     journal, un score accepté mais pas encore écrit est perdu si le processus s'arrête brutalement.</li>
+ * </ul>
+ */
+@Service
+public class ScoreWriteBehindService implements SmartInitializingSingleton {
+
+    /** Valeur de l'en-tête {@code Prefer} qui demande l'écriture différée (RFC 7240). */
+    public static final String RESPOND_ASYNC = "respond-async";
+
+    private static final Logger logger = LogManager.getLogger(ScoreWriteBehindService.class);
+
+    private final BoardService boardService;
+    private final ParticipantRepository participantRepository;
+    private final BoardRepository boardRepository;
+    private final ScoreWriteBehindProperties properties;
+    private final ScoreJournal journal;
+    private final ShardRouter shardRouter;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final ConcurrentMap<Long, BoardBuffer> buffers = new ConcurrentHashMap<>();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public ScoreWriteBehindService(BoardService boardService, ParticipantRepository participantRepository,
+                                   BoardRepository boardRepository, ScoreWriteBehindProperties properties,
+                                   Optional<ScoreJournal> journal, ShardRouter shardRouter,
+                                   Optional<ReadYourWritesTracker> readYourWritesTracker,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        this.boardService = boardService;
+        this.participantRepository = participantRepository;
+        this.boardRepository = boardRepository;
+        this.properties = properties;
+        this.journal = journal.orElse(null);
+        this.shardRouter = shardRouter;
+        this.readYourWritesTracker = readYourWritesTracker.orElse(null);
+        meterRegistry.ifAvailable(registry -> {
+            register(registry, "received", received);
+            register(registry, "coalesced", coalesced);
+            register(registry, "written", written);
+            register(registry, "dropped", dropped);
+        });
+    }
+
+    /**
+     * Range un score dans le tampon de son tableau, si l'écriture différée est possible.
+     *
+     * @return {@code true} si le score a été accepté en écriture différée ; {@code false} s'il doit être écrit
+     *         tout de suite par {@link BoardService#setScoreForParticipant}.
+     */
+    public boolean submit(Long boardId, Long participantId, ScoreEntryAddRequest request, String userEmail) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        Cell cell = new Cell(participantId, request.getRoundNumber());
+        while (true) {
+            BoardBuffer buffer = buffers.computeIfAbsent(boardId, id -> new BoardBuffer(userEmail));
+            if (!buffer.userEmail.equals(userEmail)) {
+                return false;
+            }
+            if (!buffer.isVerified(participantId)) {
+                if (!participantRepository.existsInBoardOwnedBy(participantId, boardId, userEmail)) {
+                    return false;
+                }
+                buffer.verified(participantId);
+            }
+
+            int pending = offer(boardId, buffer, cell, request.getScoreValue());
+            if (pending > 0) {
+                if (pending >= properties.getBatchSize()) {
+                    flush(boardId);
+                }
+                return true;
+            }
+            // Tampon vidé et retiré entre-temps : on en prend un nouveau.
+        }
+    }
+
+    /**
+     * Range un score déjà vérifié (par le moteur de partie en direct, {@link LiveGameService}) dans le tampon de
+     * son tableau, quel que soit {@code gamegauge.write-behind.enabled}. L'écriture du lot, si le tampon est
+     * plein, est laissée à l'appelant : il peut la faire hors de ses propres verrous.
+     *
+     * @return {@code true} si le tampon du tableau est plein et doit être écrit ({@link #flush(Long)}).
+     */
+    boolean enqueue(Long boardId, String userEmail, ScoreEdit edit) {
+        Cell cell = new Cell(edit.participantId(), edit.roundNumber());
+        while (true) {
+            BoardBuffer buffer = buffers.computeIfAbsent(boardId, id -> new BoardBuffer(userEmail));
+            int pending = offer(boardId, buffer, cell, edit.scoreValue());
+            if (pending > 0) {
+                return pending >= properties.getBatchSize();
+            }
+        }
+    }
+
+    /**
+     * Écrit les scores en attente d'un tableau, après l'écriture en cours éventuelle.
+     *
+     * @param boardId L'ID du tableau.
+     */
+    public void flush(Long boardId) {
+        if (flushBuffer(boardId)) {
+            releaseJournal();
+        }
+    }
+
+    /**
+     * Écrit les scores en attente de tous les tableaux d'un utilisateur.
+     *
+     * @param userEmail L'email de l'utilisateur.
+     */
+    public void flushUser(String userEmail) {
+        boolean[] flushed = {false};
+        buffers.forEach((boardId, buffer) -> {
+            if (buffer.userEmail.equals(userEmail)) {
+                flushed[0] |= flushBuffer(boardId);
+            }
+        });
+        if (flushed[0]) {
+            releaseJournal();
+        }
+    }
+
+    /**
+     * Écriture planifiée des scores en attente de tous les tableaux.
+     */
+    @Scheduled(fixedDelayString = "${gamegauge.write-behind.flush-interval:PT0.2S}")
+    public void flushAll() {
+        boolean flushed = false;
+        long now = System.nanoTime();
+        for (Map.Entry<Long, BoardBuffer> entry : buffers.entrySet()) {
+            // Un tableau dont l'écriture vient d'échouer attend la fin de son délai de reprise.
+            if (entry.getValue().retryAt - now <= 0) {
+                flushed |= flushBuffer(entry.getKey());
+            }
+        }
+        if (flushed) {
+            releaseJournal();
+        }
+    }
+
+    /**
+     * Rejoue en base, au démarrage, les scores restés dans le journal (arrêt brutal avant leur écriture).
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        recover();
+    }
+
+    /**
+     * Écrit en base les scores du journal pas encore libérés, regroupés par tableau (le dernier score d'une case
+     * l'emporte), puis libère le journal. Un score d'un tableau supprimé entre-temps est abandonné ; un score qui
+     * n'a pas pu être écrit pour une autre raison retourne dans le tampon de son tableau, et le journal reste
+     * retenu à partir du premier score de ce tableau.
+     *
+     * @return Le nombre de scores relus dans le journal.
+     */
+    public int recover() {
+        if (journal == null) {
+            return 0;
+        }
+        List<ScoreJournal.Entry> entries = journal.unreleased();
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Map<Cell, Integer>> byBoard = new LinkedHashMap<>();
+        Map<Long, Long> firstSequences = new LinkedHashMap<>();
+        for (ScoreJournal.Entry entry : entries) {
+            byBoard.computeIfAbsent(entry.boardId(), id -> new LinkedHashMap<>())
+                    .put(new Cell(entry.participantId(), entry.roundNumber()), entry.scoreValue());
+            firstSequences.putIfAbsent(entry.boardId(), entry.sequence());
+        }
+        logger.info("Rejeu du journal des scores : {} score(s) sur {} tableau(x).", entries.size(), byBoard.size());
+        byBoard.forEach((boardId, edits) -> {
+            Optional<String> owner = shardRouter.findOnAnyShard(() -> boardRepository.findOwnerEmailById(boardId));
+            if (owner.isPresent()) {
+                Map<Cell, Integer> failed = write(boardId, owner.get(), edits);
+                if (!failed.isEmpty()) {
+                    requeue(boardId, owner.get(), failed, firstSequences.get(boardId));
+                }
+            } else {
+                dropped.addAndGet(edits.size());
+                logger.error("{} score(s) du journal abandonné(s) : tableau ID {} introuvable.", edits.size(), boardId);
+            }
+        });
+        releaseJournal();
+        return entries.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        boolean flushed = false;
+        for (Long boardId : buffers.keySet()) {
+            flushed |= flushBuffer(boardId);
+        }
+        if (flushed) {
+            releaseJournal();
+        }
+    }
+
+    /**
+     * @return Les compteurs depuis le démarrage : scores reçus, remplacés dans le tampon, écrits et abandonnés.
+     */
+    public Stats stats() {
+        return new Stats(received.get(), coalesced.get(), written.get(), dropped.get());
+    }
+
+    // --- MÉTHODES UTILITAIRES PRIVÉES ---
+
+    /**
+     * Écrit les scores en attente d'un tableau, après l'écriture en cours éventuelle.
+     *
+     * Les scores qui n'ont pas pu être écrits retournent dans le tampon (sauf si la case a reçu un score plus récent
+     * entre-temps), avec la séquence de journal du lot : le journal reste retenu jusqu'à leur écriture.
+     *
+     * @return {@code true} si un lot a été tenté (le journal peut peut-être être libéré).
+     */
+    private boolean flushBuffer(Long boardId) {
+        BoardBuffer buffer = buffers.get(boardId);
+        if (buffer == null) {
+            return false;
+        }
+        buffer.flushLock.lock();
+        try {
+            Map<Cell, Integer> edits;
+            synchronized (buffer) {
+                edits = buffer.edits;
+                buffer.edits = new LinkedHashMap<>();
+                buffer.inFlightSequence = buffer.firstSequence;
+                buffer.firstSequence = Long.MAX_VALUE;
+                // Les participants sont revérifiés à chaque lot (l'un d'eux a pu être supprimé).
+                buffer.verifiedParticipants.clear();
+            }
+            Map<Cell, Integer> failed = edits.isEmpty() ? Map.of() : write(boardId, buffer.userEmail, edits);
+            synchronized (buffer) {
+                if (!failed.isEmpty()) {
+                    failed.forEach(buffer.edits::putIfAbsent);
+                    buffer.firstSequence = Math.min(buffer.firstSequence, buffer.inFlightSequence);
+                    buffer.retryLater(properties.getFlushInterval(), properties.getMaxRetryDelay());
+                } else if (!edits.isEmpty()) {
+                    buffer.failures = 0;
+                    buffer.retryAt = System.nanoTime();
+                }
+                buffer.inFlightSequence = Long.MAX_VALUE;
+                // Retiré seulement une fois ses scores écrits : un nouveau tampon ne peut pas passer devant.
+                if (buffer.edits.isEmpty()) {
+                    buffer.retired = true;
+                    buffers.remove(boardId, buffer);
+                }
+            }
+            return !edits.isEmpty();
+        } finally {
+            buffer.flushLock.unlock();
+        }
+    }
+
+    /**
+     * Libère le journal jusqu'au plus ancien score encore en attente (ou en cours d'écriture) d'un tampon.
+     * La séquence suivante du journal est lue avant les tampons : un score journalisé avant elle est déjà rangé
+     * dans son tampon (l'ajout au journal et au tampon se font sous le même verrou).
+     */
+    private void releaseJournal() {
+        if (journal == null) {
+            return;
+        }
+        long watermark = journal.nextSequence();
+        for (BoardBuffer buffer : buffers.values()) {
+            synchronized (buffer) {
+                watermark = Math.min(watermark, Math.min(buffer.firstSequence, buffer.inFlightSequence));
+            }
+        }
+        journal.release(watermark);
+    }
+
+    /**
+     * Range un score dans un tampon, à la place du score précédent de la même case.
+     *
+     * @return Le nombre de scores en attente dans le tampon, ou 0 s'il a été retiré entre-temps (le score n'y est
+     *         pas rangé).
+     */
+    private int offer(Long boardId, BoardBuffer buffer, Cell cell, int value) {
+        int pending;
+        synchronized (buffer) {
+            if (buffer.retired) {
+                return 0;
+            }
+            if (journal != null) {
+                long sequence = journal.append(boardId, cell.participantId(), cell.roundNumber(), value);
+                buffer.firstSequence = Math.min(buffer.firstSequence, sequence);
+            }
+            if (buffer.edits.put(cell, value) != null) {
+                coalesced.incrementAndGet();
+            }
+            pending = buffer.edits.size();
+        }
+        received.incrementAndGet();
+        return pending;
+    }
+
+    /**
+     * Remet dans le tampon de leur tableau des scores rejoués depuis le journal qui n'ont pas pu être écrits.
+     */
+    private void requeue(Long boardId, String userEmail, Map<Cell, Integer> failed, long firstSequence) {
+        BoardBuffer buffer = buffers.computeIfAbsent(boardId, id -> new BoardBuffer(userEmail));
+        synchronized (buffer) {
+            failed.forEach(buffer.edits::putIfAbsent);
+            buffer.firstSequence = Math.min(buffer.firstSequence, firstSequence);
+            buffer.retryLater(properties.getFlushInterval(), properties.getMaxRetryDelay());
+        }
+    }
+
+    /**
+     * Écrit un lot sur le shard du propriétaire.
+     *
+     * @return Les scores qui n'ont pas été écrits et doivent être retentés (vide si tout est en base ou
+     *         définitivement abandonné).
+     */
+    private Map<Cell, Integer> write(Long boardId, String userEmail, Map<Cell, Integer> edits) {
+        Map<Cell, Integer> failed = new LinkedHashMap<>();
+        // Hors requête HTTP : le shard est celui du propriétaire du tableau.
+        shardRouter.forOwner(userEmail, () -> writeOnShard(boardId, userEmail, edits, failed));
+        if (readYourWritesTracker != null && failed.size() < edits.size()) {
+            // Écrit éventuellement par le fil planifié, sans utilisateur authentifié à marquer.
+            readYourWritesTracker.recordWrite(userEmail);
+        }
+        return failed;
+    }
+
+    private void writeOnShard(Long boardId, String userEmail, Map<Cell, Integer> edits, Map<Cell, Integer> failed) {
+        List<ScoreEdit> batch = new ArrayList<>(edits.size());
+        edits.forEach((cell, value) -> batch.add(new ScoreEdit(cell.participantId(), cell.roundNumber(), value)));
+        try {
+            written.addAndGet(boardService.setScores(boardId, batch, userEmail));
+            return;
+        } catch (RuntimeException e) {
+            logger.warn("Échec de l'écriture différée de {} score(s) du tableau ID {} ({}) : reprise score par score.",
+                    batch.size(), boardId, e.getMessage());
+        }
+        for (ScoreEdit edit : batch) {
+            ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+            request.setRoundNumber(edit.roundNumber());
+            request.setScoreValue(edit.scoreValue());
+            try {
+                boardService.setScoreForParticipant(boardId, edit.participantId(), request, userEmail);
+                written.incrementAndGet();
+            } catch (ResourceNotFoundException e) {
+                dropped.incrementAndGet();
+                logger.error("Score différé abandonné (tableau ID {}, participant ID {}, tour {}, valeur {}) : {}",
+                        boardId, edit.participantId(), edit.roundNumber(), edit.scoreValue(), e.getMessage());
+            } catch (RuntimeException e) {
+                failed.put(new Cell(edit.participantId(), edit.roundNumber()), edit.scoreValue());
+            }
+        }
+        if (!failed.isEmpty()) {
+            logger.error("{} score(s) différé(s) du tableau ID {} non écrit(s), gardés pour une nouvelle tentative.",
+                    failed.size(), boardId);
+        }
+    }
+
+    private static void register(MeterRegistry registry, String outcome, AtomicLong counter) {
+        FunctionCounter.builder("gamegauge.write-behind.scores", counter, AtomicLong::get)
+                .description("Scores reçus en écriture différée, par devenir")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Une case du tableau : un participant et un tour.
+     */
+    private record Cell(Long participantId, int roundNumber) {
+    }
+
+    /**
+     * Les scores en attente d'un tableau, dans l'ordre de réception de leur case.
+     */
+    private static final class BoardBuffer {
+
+        private final String userEmail;
+        private final ReentrantLock flushLock = new ReentrantLock();
+        private final Set<Long> verifiedParticipants = ConcurrentHashMap.newKeySet();
+        private LinkedHashMap<Cell, Integer> edits = new LinkedHashMap<>();
+        /** Séquence de journal du plus ancien score en attente, puis du lot en cours d'écriture. */
+        private long firstSequence = Long.MAX_VALUE;
+        private long inFlightSequence = Long.MAX_VALUE;
+        /** Échecs d'écriture consécutifs, et date (System.nanoTime) avant laquelle l'écriture planifiée attend. */
+        private int failures;
+        private volatile long retryAt = System.nanoTime();
+        private boolean retired;
+
+        private BoardBuffer(String userEmail) {
+            this.userEmail = userEmail;
+        }
+
+        private boolean isVerified(Long participantId) {
+            return verifiedParticipants.contains(participantId);
+        }
+
+        private void verified(Long participantId) {
+            verifiedParticipants.add(participantId);
+        }
+
+        /**
+         * Reporte l'écriture planifiée après un échec : délai doublé à chaque échec consécutif, borné.
+         */
+        private void retryLater(Duration interval, Duration maxDelay) {
+            failures++;
+            long delay = Math.min(maxDelay.toNanos(), interval.toNanos() << Math.min(failures, 20));
+            retryAt = System.nanoTime() + delay;
+        }
+    }
+
+    /**
+     * Compteurs de l'écriture différée.
+     */
+    public record Stats(long received, long coalesced, long written, long dropped) {
+    }
+}
@@ -0,0 +1,112 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Les {@code capacity} meilleures entrées d'un classement, dans un tas borné dont la racine est la moins bonne :
+ * une nouvelle valeur est comparée à la racine en O(1) et insérée en O(log K). La mémoire ne dépend que de K.
+ * <p>
+ * Le tas retient aussi la meilleure entrée qui en a été exclue ({@code bound}) : toute entrée absente du tas est
+ * au plus aussi bonne. Une entrée du tas supprimée ou dégradée en sort sans être remplacée (la suivante est
+ * inconnue) ; le tas reste exact mais raccourcit, jusqu'à ce que {@link #needsRefill()} demande un nouveau
+ * parcours complet. Une entrée meilleure que {@code bound} peut toujours y entrer.
+ * <p>
+ * Non synchronisée : l'appelant sérialise les accès.
+ */
+public final class TopKLeaderboard {
+
+    private final int capacity;
+    private final int refillThreshold;
+    /** Ordre du classement : la meilleure valeur d'abord, puis l'ID le plus ancien. */
+    private final Comparator<LeaderboardEntry> ranking;
+    private final PriorityQueue<LeaderboardEntry> heap;
+    private final Map<Long, LeaderboardEntry> byId = new HashMap<>();
+    private LeaderboardEntry bound;
+
+    /**
+     * @param capacity        Le nombre d'entrées conservées (K).
+     * @param refillThreshold Le nombre d'entrées sous lequel un tas tronqué doit être reconstruit.
+     * @param lowestFirst     {@code true} si la plus petite valeur est la meilleure.
+     */
+    public TopKLeaderboard(int capacity, int refillThreshold, boolean lowestFirst) {
+        this.capacity = capacity;
+        this.refillThreshold = refillThreshold;
+        Comparator<LeaderboardEntry> byValue = Comparator.comparingLong(LeaderboardEntry::value);
+        this.ranking = (lowestFirst ? byValue : byValue.reversed()).thenComparingLong(LeaderboardEntry::id);
+        this.heap = new PriorityQueue<>(capacity + 1, ranking.reversed());
+    }
+
+    /**
+     * Propose une entrée, nouvelle ou dont la valeur a changé.
+     */
+    public void offer(LeaderboardEntry entry) {
+        remove(entry.id());
+        if (bound != null && ranking.compare(entry, bound) >= 0) {
+            return;
+        }
+        heap.add(entry);
+        byId.put(entry.id(), entry);
+        if (heap.size() > capacity) {
+            LeaderboardEntry worst = heap.poll();
+            byId.remove(worst.id());
+            if (bound == null || ranking.compare(worst, bound) < 0) {
+                bound = worst;
+            }
+        }
+    }
+
+    /**
+     * Retire une entrée (supprimée, ou sortie du classement).
+     */
+    public void remove(long id) {
+        LeaderboardEntry previous = byId.remove(id);
+        if (previous != null) {
+            heap.remove(previous);
+        }
+    }
+
+    /**
+     * Retire les entrées qui vérifient la condition (un tableau supprimé...). Parcourt les K entrées.
+     */
+    public void removeIf(Predicate<LeaderboardEntry> condition) {
+        heap.removeIf(entry -> condition.test(entry) && byId.remove(entry.id()) != null);
+    }
+
+    /**
+     * Remplace les entrées qui vérifient la condition, sans changer leur valeur (un participant renommé...).
+     */
+    public void update(Predicate<LeaderboardEntry> condition, UnaryOperator<LeaderboardEntry> change) {
+        List<LeaderboardEntry> changed = heap.stream().filter(condition).map(change).toList();
+        changed.forEach(entry -> {
+            heap.remove(byId.put(entry.id(), entry));
+            heap.add(entry);
+        });
+    }
+
+    /**
+     * Les entrées, de la meilleure à la moins bonne.
+     */
+    public List<LeaderboardEntry> ranked() {
+        List<LeaderboardEntry> entries = new ArrayList<>(heap);
+        entries.sort(ranking);
+        return entries;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Vrai si des entrées ont été perdues (tas tronqué sous le seuil alors que d'autres existent hors du tas).
+     */
+    public boolean needsRefill() {
+        return bound != null && heap.size() < refillThreshold;
+    }
+}
@@ -0,0 +1,51 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Entiers de longueur variable (7 bits par octet, bit de poids fort = octet suivant) et codage zigzag des valeurs
+ * signées, partagés par les encodages binaires des instantanés ({@link BoardScoreState}) et des archives
+ * ({@link BoardArchiveCodec}).
+ */
+final class VarInts {
+
+    private VarInts() {
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    static void writeSigned(ByteArrayOutputStream out, long value) {
+        writeVarLong(out, zigzagEncode(value));
+    }
+
+    static long readSigned(ByteBuffer in) {
+        return zigzagDecode(readVarLong(in));
+    }
+
+    static long zigzagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long zigzagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
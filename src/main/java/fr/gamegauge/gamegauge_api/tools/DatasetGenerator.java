@@ -0,0 +1,147 @@
+package fr.gamegauge.gamegauge_api.tools;
+
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+
+import java.time.Instant;
+import java.util.SplittableRandom;
+
+/**
+ * Générateur déterministe de données synthétiques (utilisateurs, tableaux, participants, scores).
+ * <p>
+ * Chaque utilisateur est généré à partir de son propre flux pseudo-aléatoire, dérivé de la graine
+ * globale et de l'index de l'utilisateur. Les utilisateurs peuvent donc être produits dans n'importe
+ * quel ordre et sur n'importe quel nombre de threads : le résultat est toujours identique.
+ * <p>
+ * Les identifiants sont calculés (et non générés par la base) à partir de pas fixes, ce qui permet
+ * d'écrire les lignes enfants sans relire les clés des lignes parentes :
+ * <ul>
+ *     <li>utilisateur : {@code u + 1}</li>
+ *     <li>tableau : {@code u * maxBoardsPerUser + b + 1}</li>
+ *     <li>participant : {@code (boardId - 1) * maxParticipantsPerBoard + p + 1}</li>
+ *     <li>score : {@code (participantId - 1) * maxRoundsPerBoard + r + 1}</li>
+ * </ul>
+ * Cette classe ne connaît pas la base de données : elle pousse les lignes dans un {@link RowSink}.
+ */
+public class DatasetGenerator {
+
+    /** Date de référence des horodatages générés (fixe pour garantir le déterminisme). */
+    static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+    private static final long TWO_YEARS_SECONDS = 2L * 365 * 24 * 3600;
+
+    private static final String[] FIRST_NAMES = {
+            "Alice", "Bastien", "Camille", "David", "Emma", "François", "Gabriel", "Hugo", "Inès", "Jules",
+            "Karim", "Léa", "Manon", "Nathan", "Océane", "Paul", "Quentin", "Rose", "Sarah", "Théo",
+            "Ulysse", "Victor", "William", "Xavier", "Yasmine", "Zoé", "Louise", "Arthur", "Chloé", "Lucas"
+    };
+
+    /** Profils de jeux : nom, condition de victoire, score cible, bornes des points par tour. */
+    private static final GameProfile[] GAMES = {
+            new GameProfile("Tarot", ScoreCondition.HIGHEST_WINS, null, -250, 250),
+            new GameProfile("Belote", ScoreCondition.HIGHEST_WINS, 1000, 0, 162),
+            new GameProfile("Yams", ScoreCondition.HIGHEST_WINS, null, 0, 50),
+            new GameProfile("Fléchettes", ScoreCondition.HIGHEST_WINS, 501, 0, 180),
+            new GameProfile("Skyjo", ScoreCondition.LOWEST_WINS, 100, -10, 60),
+            new GameProfile("Mini-golf", ScoreCondition.LOWEST_WINS, null, 1, 8),
+            new GameProfile("Rami", ScoreCondition.LOWEST_WINS, 500, 0, 120),
+            new GameProfile("Quiz", ScoreCondition.HIGHEST_WINS, null, 0, 10)
+    };
+
+    private final DatasetGeneratorProperties properties;
+
+    public DatasetGenerator(DatasetGeneratorProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Génère toutes les lignes d'un utilisateur (et de ses tableaux) dans le {@code sink}.
+     * Les lignes parentes sont toujours émises avant leurs lignes enfants.
+     *
+     * @param userIndex L'index de l'utilisateur, entre 0 et {@code users - 1}.
+     * @param sink      La destination des lignes générées.
+     */
+    public void generateUser(int userIndex, RowSink sink) {
+        SplittableRandom random = new SplittableRandom(mix(properties.getSeed(), userIndex));
+
+        long userId = userIndex + 1L;
+        String username = String.format("user%07d", userIndex);
+        sink.user(userId, username, username + "@bench.gamegauge.fr", properties.getPasswordHash());
+
+        Instant userCreatedAt = EPOCH.plusSeconds(random.nextLong(TWO_YEARS_SECONDS));
+        int boardCount = boardsFor(random);
+
+        for (int b = 0; b < boardCount; b++) {
+            long boardId = (long) userIndex * properties.getMaxBoardsPerUser() + b + 1;
+            GameProfile game = GAMES[random.nextInt(GAMES.length)];
+            int rounds = roundsFor(random);
+            int participants = participantsFor(random);
+            Instant createdAt = userCreatedAt.plusSeconds(random.nextLong(30L * 24 * 3600) + b * 3600L);
+            Instant updatedAt = createdAt.plusSeconds(rounds * 120L);
+
+            sink.board(boardId, userId, game.name() + " #" + (b + 1), game.targetScore(), game.condition(),
+                    rounds, b, createdAt, updatedAt);
+
+            for (int p = 0; p < participants; p++) {
+                long participantId = (boardId - 1) * properties.getMaxParticipantsPerBoard() + p + 1;
+                sink.participant(participantId, boardId, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)], createdAt);
+
+                // Environ 5 % des tours restent vides (joueur absent, saisie oubliée...).
+                for (int r = 0; r < rounds; r++) {
+                    if (random.nextInt(20) == 0) {
+                        continue;
+                    }
+                    long scoreId = (participantId - 1) * properties.getMaxRoundsPerBoard() + r + 1;
+                    int value = random.nextInt(game.minPoints(), game.maxPoints() + 1);
+                    sink.score(scoreId, participantId, r + 1, value, createdAt.plusSeconds(r * 120L));
+                }
+            }
+        }
+    }
+
+    /**
+     * Nombre de tableaux d'un utilisateur : loi de Pareto tronquée (beaucoup de petits comptes,
+     * quelques comptes très actifs), de moyenne proche de {@code meanBoardsPerUser}.
+     */
+    private int boardsFor(SplittableRandom random) {
+        double alpha = 1.5;
+        double xm = properties.getMeanBoardsPerUser() * (alpha - 1) / alpha;
+        double value = xm / Math.pow(1.0 - random.nextDouble(), 1.0 / alpha);
+        return (int) Math.min(properties.getMaxBoardsPerUser(), Math.max(1, Math.round(value)));
+    }
+
+    /** Nombre de participants : 2 à 6 la plupart du temps, parfois de grandes tablées. */
+    private int participantsFor(SplittableRandom random) {
+        int count = random.nextInt(10) == 0 ? random.nextInt(7, 17) : random.nextInt(2, 7);
+        return Math.min(count, properties.getMaxParticipantsPerBoard());
+    }
+
+    /** Nombre de tours : parties courtes en majorité, quelques longues sessions (tournois). */
+    private int roundsFor(SplittableRandom random) {
+        int count = random.nextInt(50) == 0 ? random.nextInt(50, 201) : random.nextInt(1, 21);
+        return Math.min(count, properties.getMaxRoundsPerBoard());
+    }
+
+    /** Dérive une graine indépendante par utilisateur (mélange de type SplitMix64). */
+    static long mix(long seed, int index) {
+        long z = seed + 0x9E3779B97F4A7C15L * (index + 1L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record GameProfile(String name, ScoreCondition condition, Integer targetScore, int minPoints, int maxPoints) {
+    }
+
+    /**
+     * Destination des lignes générées (un écrivain JDBC, un fichier CSV, un collecteur de test...).
+     */
+    public interface RowSink {
+        void user(long id, String username, String email, String passwordHash);
+
+        void board(long id, long ownerId, String name, Integer targetScore, ScoreCondition scoreCondition,
+                   int numberOfRounds, int displayOrder, Instant createdAt, Instant updatedAt);
+
+        void participant(long id, long boardId, String name, Instant createdAt);
+
+        void score(long id, long participantId, int roundNumber, int scoreValue, Instant createdAt);
+    }
+}
@@ -0,0 +1,46 @@
+package fr.gamegauge.gamegauge_api.tools;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Paramètres du générateur de jeu de données synthétique (préfixe {@code gamegauge.datagen}).
+ * Les valeurs par défaut reproduisent l'ordre de grandeur de la production :
+ * 100 000 utilisateurs, quelques millions de tableaux et des centaines de millions de scores.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gamegauge.datagen")
+public class DatasetGeneratorProperties {
+
+    /**
+     * Graine du générateur. Deux exécutions avec la même graine et les mêmes paramètres
+     * produisent exactement les mêmes lignes, quel que soit le nombre de threads.
+     */
+    private long seed = 42L;
+
+    /** Nombre d'utilisateurs à générer. */
+    private int users = 100_000;
+
+    /** Nombre de threads d'écriture JDBC. */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /** Nombre de lignes par lot JDBC (executeBatch). */
+    private int batchSize = 2_000;
+
+    /** Nombre moyen de tableaux par utilisateur (distribution à longue traîne). */
+    private double meanBoardsPerUser = 25.0;
+
+    /** Nombre maximal de tableaux par utilisateur ; sert aussi de pas pour les identifiants. */
+    private int maxBoardsPerUser = 2_000;
+
+    /** Nombre maximal de participants par tableau ; sert aussi de pas pour les identifiants. */
+    private int maxParticipantsPerBoard = 16;
+
+    /** Nombre maximal de tours par tableau ; sert aussi de pas pour les identifiants. */
+    private int maxRoundsPerBoard = 200;
+
+    /** Hash BCrypt écrit pour tous les utilisateurs (mot de passe en clair : "password"). */
+    private String passwordHash = "$2a$10$Utcwa2TZQLmyDum0TNzWU.htJx20iFgfOt6MWN/uRmVUqu1lR3xPC";
+}
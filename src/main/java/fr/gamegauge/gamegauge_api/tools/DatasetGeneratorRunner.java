@@ -0,0 +1,251 @@
+package fr.gamegauge.gamegauge_api.tools;
+
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outil de chargement d'un jeu de données synthétique, activé par le profil Spring {@code datagen}.
+ * <p>
+ * Les utilisateurs sont répartis entre plusieurs threads ; chaque thread possède sa propre connexion
+ * et écrit ses lignes par lots JDBC ({@code addBatch}/{@code executeBatch}), une transaction par lot.
+ * L'application s'arrête une fois le chargement terminé.
+ * <p>
+ * Exemple (sur MySQL, {@code rewriteBatchedStatements=true} multiplie le débit) :
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=datagen \
+ *   -Dspring-boot.run.arguments="--spring.main.web-application-type=none --gamegauge.datagen.users=100000"
+ * </pre>
+ */
+@Component
+@Profile("datagen")
+@EnableConfigurationProperties(DatasetGeneratorProperties.class)
+public class DatasetGeneratorRunner implements ApplicationRunner {
+
+    private static final Logger logger = LogManager.getLogger(DatasetGeneratorRunner.class);
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, username, email, password, email_verified) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_BOARD =
+            "INSERT INTO boards (id, name, owner_id, target_score, score_condition, number_of_rounds, display_order, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PARTICIPANT =
+            "INSERT INTO participants (id, name, board_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_SCORE =
+            "INSERT INTO score_entries (id, score_value, round_number, participant_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final DatasetGeneratorProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    public DatasetGeneratorRunner(DataSource dataSource, DatasetGeneratorProperties properties,
+                                  ConfigurableApplicationContext context) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ensureEmptySchema();
+
+        logger.info("Génération de {} utilisateurs (graine {}) sur {} threads, lots de {} lignes",
+                properties.getUsers(), properties.getSeed(), properties.getThreads(), properties.getBatchSize());
+
+        DatasetGenerator generator = new DatasetGenerator(properties);
+        AtomicInteger nextUser = new AtomicInteger();
+        AtomicLong rowCount = new AtomicLong();
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads());
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < properties.getThreads(); t++) {
+                workers.add(executor.submit(() -> {
+                    try (BatchWriter writer = new BatchWriter(dataSource.getConnection(), properties.getBatchSize())) {
+                        int userIndex;
+                        while ((userIndex = nextUser.getAndIncrement()) < properties.getUsers()) {
+                            generator.generateUser(userIndex, writer);
+                            if ((userIndex + 1) % 10_000 == 0) {
+                                logger.info("{} utilisateurs générés...", userIndex + 1);
+                            }
+                        }
+                        writer.flush();
+                        rowCount.addAndGet(writer.rows);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        logger.info("Jeu de données généré : {} lignes en {} s ({} lignes/s)",
+                rowCount.get(), String.format("%.1f", seconds), Math.round(rowCount.get() / seconds));
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    /**
+     * Les identifiants étant calculés, le générateur refuse d'écrire dans une base déjà peuplée.
+     */
+    private void ensureEmptySchema() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+            rs.next();
+            if (rs.getLong(1) > 0) {
+                throw new IllegalStateException("La table users n'est pas vide : le générateur attend une base vierge.");
+            }
+        }
+    }
+
+    /**
+     * Écrivain JDBC par lots, propre à un thread. Les lots sont exécutés dans l'ordre
+     * parent → enfant pour respecter les clés étrangères.
+     */
+    private static final class BatchWriter implements DatasetGenerator.RowSink, AutoCloseable {
+
+        private final Connection connection;
+        private final int batchSize;
+        private final PreparedStatement users;
+        private final PreparedStatement boards;
+        private final PreparedStatement participants;
+        private final PreparedStatement scores;
+        private int pending;
+        private long rows;
+
+        BatchWriter(Connection connection, int batchSize) throws SQLException {
+            this.connection = connection;
+            this.batchSize = batchSize;
+            connection.setAutoCommit(false);
+            this.users = connection.prepareStatement(INSERT_USER);
+            this.boards = connection.prepareStatement(INSERT_BOARD);
+            this.participants = connection.prepareStatement(INSERT_PARTICIPANT);
+            this.scores = connection.prepareStatement(INSERT_SCORE);
+        }
+
+        @Override
+        public void user(long id, String username, String email, String passwordHash) {
+            try {
+                users.setLong(1, id);
+                users.setString(2, username);
+                users.setString(3, email);
+                users.setString(4, passwordHash);
+                users.setBoolean(5, true);
+                users.addBatch();
+                added();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void board(long id, long ownerId, String name, Integer targetScore, ScoreCondition scoreCondition,
+                          int numberOfRounds, int displayOrder, Instant createdAt, Instant updatedAt) {
+            try {
+                boards.setLong(1, id);
+                boards.setString(2, name);
+                boards.setLong(3, ownerId);
+                if (targetScore == null) {
+                    boards.setNull(4, Types.INTEGER);
+                } else {
+                    boards.setInt(4, targetScore);
+                }
+                boards.setString(5, scoreCondition.name());
+                boards.setInt(6, numberOfRounds);
+                boards.setInt(7, displayOrder);
+                boards.setTimestamp(8, Timestamp.from(createdAt));
+                boards.setTimestamp(9, Timestamp.from(updatedAt));
+                boards.addBatch();
+                added();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void participant(long id, long boardId, String name, Instant createdAt) {
+            try {
+                participants.setLong(1, id);
+                participants.setString(2, name);
+                participants.setLong(3, boardId);
+                participants.setTimestamp(4, Timestamp.from(createdAt));
+                participants.setTimestamp(5, Timestamp.from(createdAt));
+                participants.addBatch();
+                added();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void score(long id, long participantId, int roundNumber, int scoreValue, Instant createdAt) {
+            try {
+                scores.setLong(1, id);
+                scores.setInt(2, scoreValue);
+                scores.setInt(3, roundNumber);
+                scores.setLong(4, participantId);
+                scores.setTimestamp(5, Timestamp.from(createdAt));
+                scores.addBatch();
+                added();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void added() throws SQLException {
+            rows++;
+            if (++pending >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (pending == 0) {
+                return;
+            }
+            users.executeBatch();
+            boards.executeBatch();
+            participants.executeBatch();
+            scores.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try (connection; users; boards; participants; scores) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+}
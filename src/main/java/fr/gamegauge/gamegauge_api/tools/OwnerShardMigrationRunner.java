@@ -0,0 +1,59 @@
+package fr.gamegauge.gamegauge_api.tools;
+
+import fr.gamegauge.gamegauge_api.datasource.OwnerShardMigrator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Déplacement d'un propriétaire (utilisateur, tableaux, scores, historique, statistiques) vers un autre shard,
+ * activé par le profil Spring {@code shard-migrate}. Les instances en service continuent de répondre pendant le
+ * déplacement (voir {@link OwnerShardMigrator}) ; les scores encore en écriture différée chez elles pour ce
+ * propriétaire au moment de la bascule sont perdus : désactiver l'écriture différée, ou déplacer un propriétaire
+ * inactif. L'application s'arrête une fois le déplacement terminé.
+ * <p>
+ * Exemple :
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=shard-migrate \
+ *   -Dspring-boot.run.arguments="--spring.main.web-application-type=none \
+ *   --gamegauge.sharding.migrate.owner=alice@example.com --gamegauge.sharding.migrate.target=1"
+ * </pre>
+ */
+@Component
+@Profile("shard-migrate")
+public class OwnerShardMigrationRunner implements ApplicationRunner {
+
+    private static final Logger logger = LogManager.getLogger(OwnerShardMigrationRunner.class);
+
+    private final OwnerShardMigrator migrator;
+    private final ConfigurableApplicationContext context;
+    private final String ownerEmail;
+    private final int target;
+
+    public OwnerShardMigrationRunner(OwnerShardMigrator migrator, ConfigurableApplicationContext context,
+                                     @Value("${gamegauge.sharding.migrate.owner}") String ownerEmail,
+                                     @Value("${gamegauge.sharding.migrate.target}") int target) {
+        this.migrator = migrator;
+        this.context = context;
+        this.ownerEmail = ownerEmail;
+        this.target = target;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        OwnerShardMigrator.Result result = migrator.move(ownerEmail, target);
+        if (result.rows().isEmpty()) {
+            logger.info("Le propriétaire {} est déjà sur le shard {}.", ownerEmail, target);
+        } else {
+            logger.info("Propriétaire {} déplacé du shard {} au shard {} : {}", ownerEmail, result.source(),
+                    result.target(), result.rows());
+        }
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
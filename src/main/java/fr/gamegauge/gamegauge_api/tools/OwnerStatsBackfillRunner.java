@@ -0,0 +1,44 @@
+package fr.gamegauge.gamegauge_api.tools;
+
+import fr.gamegauge.gamegauge_api.service.OwnerStatsBackfill;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconstruction des statistiques par propriétaire à partir des tableaux existants, activée par le profil Spring
+ * {@code stats-backfill}. À lancer une fois après la migration qui crée les tables, ou pour corriger une dérive.
+ * L'application s'arrête une fois la reconstruction terminée.
+ * <p>
+ * Exemple :
+ * <pre>
+ * mvn spring-boot:run -Dspring-boot.run.profiles=stats-backfill \
+ *   -Dspring-boot.run.arguments="--spring.main.web-application-type=none --gamegauge.owner-stats.parallelism=8"
+ * </pre>
+ */
+@Component
+@Profile("stats-backfill")
+public class OwnerStatsBackfillRunner implements ApplicationRunner {
+
+    private static final Logger logger = LogManager.getLogger(OwnerStatsBackfillRunner.class);
+
+    private final OwnerStatsBackfill backfill;
+    private final ConfigurableApplicationContext context;
+
+    public OwnerStatsBackfillRunner(OwnerStatsBackfill backfill, ConfigurableApplicationContext context) {
+        this.backfill = backfill;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int owners = backfill.rebuildAll();
+        logger.info("Reconstruction terminée : {} propriétaire(s).", owners);
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
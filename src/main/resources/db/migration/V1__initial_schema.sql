@@ -0,0 +1,54 @@
+-- ===================================================================
+-- Schéma initial, tel que généré jusqu'ici par Hibernate (ddl-auto=update) sur MySQL.
+-- Les noms de contraintes générés par Hibernate sont conservés pour que les bases existantes
+-- (marquées en version 1 par baseline-on-migrate) et les nouvelles bases soient identiques.
+-- ===================================================================
+
+CREATE TABLE users (
+    id                   BIGINT       NOT NULL AUTO_INCREMENT,
+    username             VARCHAR(50)  NOT NULL,
+    email                VARCHAR(100) NOT NULL,
+    password             VARCHAR(255) NOT NULL,
+    email_verified       BIT,
+    verification_token   VARCHAR(255),
+    reset_password_token VARCHAR(255),
+    token_expiry_date    DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE boards (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    name             VARCHAR(100) NOT NULL,
+    owner_id         BIGINT       NOT NULL,
+    target_score     INTEGER,
+    score_condition  ENUM ('HIGHEST_WINS','LOWEST_WINS'),
+    number_of_rounds INTEGER,
+    display_order    INTEGER,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE participants (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    name       VARCHAR(50) NOT NULL,
+    board_id   BIGINT      NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE score_entries (
+    id             BIGINT  NOT NULL AUTO_INCREMENT,
+    score_value    INTEGER NOT NULL,
+    round_number   INTEGER NOT NULL,
+    participant_id BIGINT  NOT NULL,
+    created_at     DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+ALTER TABLE users ADD CONSTRAINT UKr43af9ap4edm43mmtq01oddj6 UNIQUE (username);
+ALTER TABLE users ADD CONSTRAINT UK6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
+ALTER TABLE boards ADD CONSTRAINT FKbng8kmryb5aa0r8p2yq4x2l5l FOREIGN KEY (owner_id) REFERENCES users (id);
+ALTER TABLE participants ADD CONSTRAINT FKq3ab9xs7bmh837859j1r7xrkg FOREIGN KEY (board_id) REFERENCES boards (id);
+ALTER TABLE score_entries ADD CONSTRAINT FKqomm1xy6y0gc30q5uoy9rpjbj FOREIGN KEY (participant_id) REFERENCES participants (id);
@@ -0,0 +1,18 @@
+-- ===================================================================
+-- Index des requêtes les plus fréquentes (vérifiés par RepositoryIndexUsageTest).
+-- ===================================================================
+
+-- Liste des tableaux d'un utilisateur, triée : BoardRepository.findByOwnerOrderByDisplayOrderAsc.
+-- Couvre aussi findByOwner (préfixe owner_id).
+CREATE INDEX idx_boards_owner_display_order ON boards (owner_id, display_order);
+
+-- Scores d'un participant, par tour : chargement de Participant.scoreEntries et recherche du score d'un tour.
+-- Plusieurs scores peuvent exister pour un même tour (ajout simple), l'index n'est donc pas unique.
+CREATE INDEX idx_score_entries_participant_round ON score_entries (participant_id, round_number);
+
+-- Réinitialisation du mot de passe : UserRepository.findByResetPasswordToken.
+-- Un jeton n'identifie qu'un seul compte ; les valeurs NULL (aucune demande en cours) restent autorisées.
+CREATE UNIQUE INDEX uk_users_reset_password_token ON users (reset_password_token);
+
+-- Participants d'un tableau (chargement de Board.participants) : déjà couvert par l'index
+-- que MySQL crée pour la clé étrangère participants.board_id ; pas d'index en double.
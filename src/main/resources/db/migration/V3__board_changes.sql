@@ -0,0 +1,33 @@
+-- ===================================================================
+-- Journal des modifications pour la synchronisation différentielle (GET .../changes?since=).
+-- ===================================================================
+
+-- Compteurs de modifications : change_seq est incrémenté (sous verrou de ligne) à chaque modification,
+-- history_seq est le dernier numéro purgé du journal (un client plus ancien doit tout recharger).
+ALTER TABLE boards ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE boards ADD COLUMN history_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN history_seq BIGINT NOT NULL DEFAULT 0;
+
+-- Une ligne par entité modifiée. Toutes les lignes d'une même modification partagent board_seq et owner_seq.
+-- Pas de clé étrangère vers boards : le journal d'un tableau supprimé sert encore à la synchronisation
+-- de son propriétaire, jusqu'à la purge.
+CREATE TABLE board_changes (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    owner_id    BIGINT      NOT NULL,
+    board_id    BIGINT      NOT NULL,
+    board_seq   BIGINT      NOT NULL,
+    owner_seq   BIGINT      NOT NULL,
+    entity_type ENUM ('BOARD','PARTICIPANT','SCORE') NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    parent_id   BIGINT,
+    operation   ENUM ('INSERT','UPDATE','DELETE') NOT NULL,
+    changed_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- Lecture du journal d'un tableau et de celui d'un propriétaire à partir d'un numéro de séquence.
+CREATE INDEX idx_board_changes_board_seq ON board_changes (board_id, board_seq);
+CREATE INDEX idx_board_changes_owner_seq ON board_changes (owner_id, owner_seq);
+-- Purge des modifications anciennes.
+CREATE INDEX idx_board_changes_changed_at ON board_changes (changed_at);
@@ -0,0 +1,41 @@
+-- ===================================================================
+-- Journal d'événements des scores (ajout seul) et instantanés compacts de l'état des scores d'un tableau.
+-- ===================================================================
+
+-- Un événement par modification de score. Les colonnes utiles dépendent du type :
+--   SCORE_RECORDED      : score_id, participant_id, round_number, score_value (previous_value si le score existait)
+--   SCORE_DELETED       : score_id, participant_id, round_number, score_value (valeur supprimée)
+--   PARTICIPANT_REMOVED : participant_id (ses scores disparaissent avec lui)
+--   BOARD_RESTARTED     : aucune (tous les scores du tableau disparaissent)
+-- Les événements d'un tableau supprimé disparaissent avec lui (ON DELETE CASCADE).
+CREATE TABLE score_events (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    board_id       BIGINT      NOT NULL,
+    event_type     ENUM ('SCORE_RECORDED','SCORE_DELETED','PARTICIPANT_REMOVED','BOARD_RESTARTED') NOT NULL,
+    participant_id BIGINT,
+    score_id       BIGINT,
+    round_number   INT,
+    score_value    INT,
+    previous_value INT,
+    occurred_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_score_events_board FOREIGN KEY (board_id) REFERENCES boards (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- Lecture de la fin du journal d'un tableau (après un instantané) et de son historique, dans l'ordre des id.
+CREATE INDEX idx_score_events_board ON score_events (board_id, id);
+
+-- État des scores d'un tableau après l'événement last_event_id, encodé en binaire.
+CREATE TABLE board_snapshots (
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    board_id      BIGINT      NOT NULL,
+    last_event_id BIGINT      NOT NULL,
+    score_count   INT         NOT NULL,
+    payload       LONGBLOB    NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_board_snapshots_board FOREIGN KEY (board_id) REFERENCES boards (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- Dernier instantané d'un tableau antérieur à un événement donné.
+CREATE UNIQUE INDEX uk_board_snapshots_board_event ON board_snapshots (board_id, last_event_id);
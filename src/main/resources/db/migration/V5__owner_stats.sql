@@ -0,0 +1,49 @@
+-- ===================================================================
+-- Statistiques par propriétaire, tenues à jour à chaque modification (GET /api/users/stats).
+-- Les données antérieures à cette migration sont reprises par OwnerStatsBackfill (profil stats-backfill).
+-- ===================================================================
+
+-- Une ligne par utilisateur : compteurs lus en une requête par clé primaire.
+CREATE TABLE owner_stats (
+    owner_id        BIGINT NOT NULL,
+    boards_created  BIGINT NOT NULL DEFAULT 0,
+    boards_count    INT    NOT NULL DEFAULT 0,
+    boards_finished INT    NOT NULL DEFAULT 0,
+    rounds_played   BIGINT NOT NULL DEFAULT 0,
+    score_count     BIGINT NOT NULL DEFAULT 0,
+    score_sum       BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (owner_id),
+    CONSTRAINT fk_owner_stats_owner FOREIGN KEY (owner_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- Contribution de chaque tableau aux statistiques de son propriétaire : une modification n'applique que
+-- la différence entre l'ancienne et la nouvelle contribution. winners : noms des vainqueurs d'une partie
+-- terminée, séparés par le caractère U+001F.
+CREATE TABLE board_stats (
+    board_id      BIGINT        NOT NULL,
+    owner_id      BIGINT        NOT NULL,
+    rounds_played INT           NOT NULL DEFAULT 0,
+    score_count   BIGINT        NOT NULL DEFAULT 0,
+    score_sum     BIGINT        NOT NULL DEFAULT 0,
+    finished      BOOLEAN       NOT NULL DEFAULT FALSE,
+    winners       VARCHAR(2000),
+    PRIMARY KEY (board_id),
+    CONSTRAINT fk_board_stats_board FOREIGN KEY (board_id) REFERENCES boards (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- Reconstruction des statistiques d'une plage de propriétaires.
+CREATE INDEX idx_board_stats_owner ON board_stats (owner_id);
+
+-- Victoires par nom de participant, pour chaque propriétaire. participant_key est le nom normalisé
+-- (minuscules, sans accents ni espaces superflus) ; participant_name la dernière graphie rencontrée.
+CREATE TABLE owner_participant_stats (
+    owner_id         BIGINT      NOT NULL,
+    participant_key  VARCHAR(50) NOT NULL,
+    participant_name VARCHAR(50) NOT NULL,
+    wins             INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (owner_id, participant_key),
+    CONSTRAINT fk_owner_participant_stats_owner FOREIGN KEY (owner_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- Meilleurs gagnants d'un propriétaire.
+CREATE INDEX idx_owner_participant_stats_wins ON owner_participant_stats (owner_id, wins);
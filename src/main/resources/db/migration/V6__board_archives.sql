@@ -0,0 +1,26 @@
+-- ===================================================================
+-- Archivage des tableaux inactifs : participants et scores sortent des tables principales et sont rangés,
+-- compressés, dans une ligne par tableau. La ligne boards reste (identifiant, propriétaire, ordre d'affichage).
+-- ===================================================================
+
+-- Date de la dernière modification d'un tableau ou de son contenu (mise à jour avec change_seq).
+-- archived_at : date d'archivage, NULL tant que participants et scores sont dans les tables principales.
+ALTER TABLE boards ADD COLUMN last_activity_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+ALTER TABLE boards ADD COLUMN archived_at DATETIME(6);
+UPDATE boards SET last_activity_at = COALESCE(updated_at, created_at, CURRENT_TIMESTAMP(6));
+
+-- Recherche des tableaux à archiver (non archivés, inactifs depuis une date).
+CREATE INDEX idx_boards_archive_candidates ON boards (archived_at, last_activity_at);
+
+-- Contenu d'un tableau archivé, encodé par BoardArchiveCodec (colonnes delta + varint, compressées).
+-- raw_size : taille avant compression. L'archive d'un tableau supprimé disparaît avec lui (ON DELETE CASCADE).
+CREATE TABLE board_archives (
+    board_id          BIGINT      NOT NULL,
+    participant_count INT         NOT NULL,
+    score_count       INT         NOT NULL,
+    raw_size          INT         NOT NULL,
+    payload           LONGBLOB    NOT NULL,
+    archived_at       DATETIME(6) NOT NULL,
+    PRIMARY KEY (board_id),
+    CONSTRAINT fk_board_archives_board FOREIGN KEY (board_id) REFERENCES boards (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
@@ -0,0 +1,21 @@
+-- ===================================================================
+-- Clés d'idempotence des écritures sur les tableaux (en-tête Idempotency-Key) : la réponse de la première
+-- exécution est conservée pour être rejouée telle quelle aux nouvelles tentatives du client.
+-- ===================================================================
+
+-- Une ligne par clé et par utilisateur. request_hash : empreinte SHA-256 de la méthode, de l'URI et du corps,
+-- pour refuser une clé réutilisée sur une autre requête. status_code reste NULL tant que la requête est en
+-- cours d'exécution (la ligne sert alors de verrou entre instances).
+CREATE TABLE idempotency_keys (
+    user_email      VARCHAR(255) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash    CHAR(64)     NOT NULL,
+    status_code     INT,
+    content_type    VARCHAR(255),
+    body            LONGBLOB,
+    created_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_email, idempotency_key)
+) ENGINE = InnoDB;
+
+-- Purge des clés expirées.
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
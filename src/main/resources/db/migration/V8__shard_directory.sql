@@ -0,0 +1,12 @@
+-- ===================================================================
+-- Annuaire des propriétaires pour le partitionnement (gamegauge.sharding) : shard de chaque propriétaire.
+-- La table est créée sur chaque shard mais seule celle du shard 0 est utilisée. Un propriétaire absent de
+-- l'annuaire est antérieur au partitionnement : ses données sont sur le shard 0.
+-- ===================================================================
+
+CREATE TABLE shard_directory (
+    owner_email VARCHAR(100) NOT NULL,
+    shard       INT          NOT NULL,
+    assigned_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (owner_email)
+) ENGINE = InnoDB;
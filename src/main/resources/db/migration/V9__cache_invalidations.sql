@@ -0,0 +1,17 @@
+-- ===================================================================
+-- Bus d'invalidation des caches entre instances (gamegauge.invalidation.transport=jdbc) : chaque instance
+-- y écrit les entrées qu'elle a rendues périmées et lit périodiquement celles écrites par les autres.
+-- Avec le partitionnement, seule la table du shard 0 est utilisée. Les lignes anciennes sont purgées.
+-- ===================================================================
+
+CREATE TABLE cache_invalidations (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    node_id    VARCHAR(36)  NOT NULL,
+    region     VARCHAR(16)  NOT NULL,
+    cache_key  VARCHAR(191) NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- Purge des lignes plus anciennes que la durée de conservation.
+CREATE INDEX idx_cache_invalidations_created_at ON cache_invalidations (created_at);
@@ -0,0 +1,143 @@
+package fr.gamegauge.gamegauge_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardImportRequest;
+import fr.gamegauge.gamegauge_api.dto.response.BoardImportReport;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardBulkImportService;
+import fr.gamegauge.gamegauge_api.service.BoardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mesure le débit de l'import (en tableaux par seconde) sur la base H2 du profil de test : import unitaire
+ * ({@link BoardService#importBoard}, une transaction par tableau, comme {@code POST /api/boards/import})
+ * contre import en masse ({@link BoardBulkImportService}, lignes NDJSON validées en parallèle et enregistrées
+ * par lots). Chaque tableau a 6 participants et 10 tours.
+ * <p>
+ * Lancement : {@code mvn test -Pbenchmark -Dtest=BoardBulkImportBenchmarkTest}
+ * (nombre de tableaux : {@code -Dbench.boards=N}, 2 000 par défaut).
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardBulkImportBenchmarkTest {
+
+    private static final int BOARDS = Integer.getInteger("bench.boards", 2_000);
+    private static final int PARTICIPANTS = 6;
+    private static final int ROUNDS = 10;
+    private static final String EMAIL = "bulk-bench@example.com";
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardBulkImportService boardBulkImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("bulk-bench");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM board_stats");
+        jdbcTemplate.update("DELETE FROM owner_participant_stats");
+        jdbcTemplate.update("DELETE FROM owner_stats");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("Import en masse vs import unitaire : tableaux par seconde")
+    void bulkVersusSingleImport() throws Exception {
+        List<String> lines = new ArrayList<>(BOARDS);
+        for (int b = 0; b < BOARDS; b++) {
+            lines.add(objectMapper.writeValueAsString(request(b)));
+        }
+        // Chauffe : un import de chaque sorte.
+        boardService.importBoard(objectMapper.readValue(lines.get(0), BoardImportRequest.class), EMAIL);
+        boardBulkImportService.importBoards(List.of(reader(lines.subList(0, 200))), EMAIL);
+
+        int singles = Math.max(1, BOARDS / 4);
+        long start = System.nanoTime();
+        for (String line : lines.subList(0, singles)) {
+            // Comme le contrôleur : décodage du JSON, puis une transaction par tableau.
+            boardService.importBoard(objectMapper.readValue(line, BoardImportRequest.class), EMAIL);
+        }
+        double singleRate = singles * 1e9 / (System.nanoTime() - start);
+
+        start = System.nanoTime();
+        BoardImportReport report = boardBulkImportService.importBoards(List.of(reader(lines)), EMAIL);
+        double bulkRate = BOARDS * 1e9 / (System.nanoTime() - start);
+
+        assertThat(report.getImported()).isEqualTo(BOARDS);
+        System.out.println(String.join(System.lineSeparator(),
+                String.format("%d tableaux de %d participants × %d tours (%d scores par tableau)",
+                        BOARDS, PARTICIPANTS, ROUNDS, PARTICIPANTS * ROUNDS),
+                String.format("%-28s %10.0f tableaux/s", "import unitaire (" + singles + ")", singleRate),
+                String.format("%-28s %10.0f tableaux/s (x%.1f)", "import en masse (" + BOARDS + ")", bulkRate,
+                        bulkRate / singleRate)));
+    }
+
+    private static BoardImportRequest request(int index) {
+        BoardImportRequest request = new BoardImportRequest();
+        request.setName("Partie importée " + index);
+        request.setScoreCondition(index % 2 == 0 ? ScoreCondition.HIGHEST_WINS : ScoreCondition.LOWEST_WINS);
+        request.setNumberOfRounds(ROUNDS);
+        List<BoardImportRequest.ParticipantImportDto> participants = new ArrayList<>();
+        for (int p = 0; p < PARTICIPANTS; p++) {
+            BoardImportRequest.ParticipantImportDto participant = new BoardImportRequest.ParticipantImportDto();
+            participant.setName("Joueur " + p);
+            List<BoardImportRequest.ScoreEntryImportDto> scores = new ArrayList<>();
+            for (int round = 1; round <= ROUNDS; round++) {
+                BoardImportRequest.ScoreEntryImportDto score = new BoardImportRequest.ScoreEntryImportDto();
+                score.setRoundNumber(round);
+                score.setScoreValue((index * 7 + p * 13 + round * 31) % 100);
+                scores.add(score);
+            }
+            participant.setScores(scores);
+            participants.add(participant);
+        }
+        request.setParticipants(participants);
+        return request;
+    }
+
+    private static BufferedReader reader(List<String> lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+}
@@ -0,0 +1,169 @@
+package fr.gamegauge.gamegauge_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantSummary;
+import fr.gamegauge.gamegauge_api.dto.projection.ScoreCell;
+import fr.gamegauge.gamegauge_api.mapper.BoardMapper;
+import fr.gamegauge.gamegauge_api.mapper.BoardMapperImpl;
+import fr.gamegauge.gamegauge_api.mapper.BoardMatrixMapper;
+import fr.gamegauge.gamegauge_api.mapper.ParticipantMapperImpl;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compare, pour un même tableau, la vue détaillée ({@code GET /api/boards/{id}}, un objet JSON par score)
+ * et la vue matrice ({@code GET /api/boards/{id}/matrix}, des tableaux d'entiers) :
+ * taille du JSON, temps et allocation de la construction de la réponse, puis de sa sérialisation.
+ * <p>
+ * La vue détaillée part des entités (comme le service) ; la vue matrice part des projections
+ * {@link ParticipantSummary} / {@link ScoreCell} que renvoient ses requêtes. La base n'intervient pas.
+ * Lancement : {@code mvn test -Pbenchmark -Dtest=BoardMatrixBenchmarkTest}
+ * (taille du tableau : {@code -Dbench.participants=N -Dbench.rounds=M}, 8 × 50 par défaut).
+ */
+@Tag("benchmark")
+class BoardMatrixBenchmarkTest {
+
+    private static final int PARTICIPANTS = Integer.getInteger("bench.participants", 8);
+    private static final int ROUNDS = Integer.getInteger("bench.rounds", 50);
+    private static final int ITERATIONS = 20_000;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int WARMUP_ROUNDS = 2;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("Vue détaillée vs vue matrice : taille, construction et sérialisation")
+    void detailedVersusMatrix() throws Exception {
+        Board board = board();
+        BoardMapper boardMapper = new BoardMapperImpl();
+        ReflectionTestUtils.setField(boardMapper, "participantMapper", new ParticipantMapperImpl());
+        List<ParticipantSummary> summaries = board.getParticipants().stream()
+                .map(participant -> new ParticipantSummary(participant.getId(), participant.getName()))
+                .toList();
+        List<ScoreCell> cells = board.getParticipants().stream()
+                .flatMap(participant -> participant.getScoreEntries().stream())
+                .map(entry -> new ScoreCell(entry.getParticipant().getId(), entry.getRoundNumber(), entry.getScoreValue()))
+                .toList();
+
+        Result detailed = measure(() -> boardMapper.toBoardResponse(board));
+        Result matrix = measure(() -> BoardMatrixMapper.toBoardMatrixResponse(board, summaries, cells));
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("Tableau de %d participants × %d tours", PARTICIPANTS, ROUNDS));
+        report.add(String.format("%-10s %10s %16s %18s %16s %18s", "vue", "octets",
+                "construction ns", "construction oct.", "sérialisation ns", "sérialisation oct."));
+        report.add(detailed.format("détaillée"));
+        report.add(matrix.format("matrice"));
+        System.out.println(String.join(System.lineSeparator(), report));
+
+        assertThat(matrix.payloadBytes).isLessThan(detailed.payloadBytes);
+    }
+
+    private Result measure(ResponseFactory factory) throws Exception {
+        int payloadBytes = objectMapper.writeValueAsBytes(factory.create()).length;
+        Phase[] assembly = new Phase[MEASURED_ROUNDS];
+        Phase[] serialization = new Phase[MEASURED_ROUNDS];
+        for (int round = -WARMUP_ROUNDS; round < MEASURED_ROUNDS; round++) {
+            Phase build = time(() -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    factory.create();
+                }
+            });
+            Object response = factory.create();
+            Phase write = time(() -> {
+                for (int i = 0; i < ITERATIONS; i++) {
+                    objectMapper.writeValueAsBytes(response);
+                }
+            });
+            if (round >= 0) {
+                assembly[round] = build;
+                serialization[round] = write;
+            }
+        }
+        return new Result(payloadBytes, median(assembly), median(serialization));
+    }
+
+    private static Phase time(ThrowingRunnable action) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long begin = System.nanoTime();
+        action.run();
+        long nanos = System.nanoTime() - begin;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        return new Phase(nanos / ITERATIONS, bytes / ITERATIONS);
+    }
+
+    private static Phase median(Phase[] phases) {
+        Phase[] sorted = phases.clone();
+        Arrays.sort(sorted, (a, b) -> Long.compare(a.nanos, b.nanos));
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Un tableau complet : chaque participant a un score par tour.
+     */
+    private static Board board() {
+        User owner = new User();
+        owner.setUsername("bench");
+        Board board = new Board();
+        board.setId(1L);
+        board.setName("Partie de référence");
+        board.setOwner(owner);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        board.setNumberOfRounds(ROUNDS);
+        board.setCreatedAt(Instant.EPOCH);
+        board.setUpdatedAt(Instant.EPOCH);
+        long scoreId = 1;
+        for (int p = 0; p < PARTICIPANTS; p++) {
+            Participant participant = new Participant();
+            participant.setId((long) p + 1);
+            participant.setName("Joueur " + (p + 1));
+            for (int r = 1; r <= ROUNDS; r++) {
+                ScoreEntry entry = new ScoreEntry();
+                entry.setId(scoreId++);
+                entry.setRoundNumber(r);
+                entry.setScoreValue((p * 31 + r * 17) % 100);
+                participant.addScoreEntry(entry);
+            }
+            board.addParticipant(participant);
+        }
+        return board;
+    }
+
+    @FunctionalInterface
+    private interface ResponseFactory {
+        Object create();
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    private record Phase(long nanos, long bytes) {
+    }
+
+    private record Result(int payloadBytes, Phase assembly, Phase serialization) {
+
+        String format(String view) {
+            return String.format("%-10s %10d %16d %18d %16d %18d", view, payloadBytes,
+                    assembly.nanos, assembly.bytes, serialization.nanos, serialization.bytes);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package fr.gamegauge.gamegauge_api.benchmark;
+
+import fr.gamegauge.gamegauge_api.service.BoardSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mesure la recherche de tableaux sur un compte volumineux (10 000 tableaux de 4 participants par défaut) :
+ * construction de l'index, puis latence médiane et p99 d'une première page de 20 résultats, pour des recherches
+ * courtes (parcours complet), sélectives (intersection de trigrammes) et sans résultat.
+ * <p>
+ * La base n'intervient pas : côté service, une recherche ajoute la lecture de l'état du journal du propriétaire
+ * (une requête sur l'index unique de {@code users.email}) et, s'il y en a, le rattrapage des modifications.
+ * Lancement : {@code mvn test -Pbenchmark -Dtest=BoardSearchBenchmarkTest}
+ * (taille du compte : {@code -Dbench.boards=N}).
+ */
+@Tag("benchmark")
+class BoardSearchBenchmarkTest {
+
+    private static final int BOARDS = Integer.getInteger("bench.boards", 10_000);
+    private static final int PARTICIPANTS_PER_BOARD = 4;
+    private static final int PAGE_SIZE = 20;
+    private static final int ITERATIONS = 200;
+    private static final int WARMUP_ITERATIONS = 100;
+
+    private static final String[] GAMES = {"Tarot", "Belote", "Yams", "Rami", "Scrabble", "Uno", "Skyjo",
+            "Poker", "Mölkky", "Pétanque", "Fléchettes", "Bowling"};
+    private static final String[] PLAYERS = {"Alice", "Bob", "Chloé", "David", "Éloïse", "François", "Gaëlle",
+            "Hugo", "Inès", "Jules", "Karim", "Léa", "Mathis", "Noémie", "Oscar", "Paul"};
+
+    private static final String[] QUERIES = {"t", "pe", "tarot", "skyjo 42", "eloise", "soiree", "zzz"};
+
+    @Test
+    @DisplayName("Recherche sur 10 000 tableaux : médiane et p99 sous 10 ms")
+    void searchLatency() {
+        long begin = System.nanoTime();
+        BoardSearchIndex index = index();
+        long buildMillis = (System.nanoTime() - begin) / 1_000_000;
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%d tableaux, %d noms indexés, construction en %d ms", BOARDS, index.size(),
+                buildMillis));
+        report.add(String.format("%-10s %8s %10s %10s", "recherche", "trouvés", "p50 µs", "p99 µs"));
+        for (String query : QUERIES) {
+            long[] micros = new long[ITERATIONS];
+            int found = 0;
+            for (int i = -WARMUP_ITERATIONS; i < ITERATIONS; i++) {
+                long start = System.nanoTime();
+                found = index.search(query, 0, PAGE_SIZE).total();
+                if (i >= 0) {
+                    micros[i] = (System.nanoTime() - start) / 1_000;
+                }
+            }
+            Arrays.sort(micros);
+            long p50 = micros[ITERATIONS / 2];
+            long p99 = micros[ITERATIONS * 99 / 100];
+            report.add(String.format("%-10s %8d %10d %10d", query, found, p50, p99));
+            assertThat(p50).as("médiane de '%s'", query).isLessThan(10_000);
+        }
+
+        System.out.println(String.join(System.lineSeparator(), report));
+    }
+
+    private static BoardSearchIndex index() {
+        BoardSearchIndex index = new BoardSearchIndex(0);
+        long participantId = 1;
+        for (int b = 1; b <= BOARDS; b++) {
+            String name = GAMES[b % GAMES.length] + " " + b + (b % 7 == 0 ? " – soirée du vendredi" : "");
+            index.putBoard(b, name);
+            for (int p = 0; p < PARTICIPANTS_PER_BOARD; p++) {
+                index.putParticipant(participantId++, b, PLAYERS[(b * 3 + p * 5) % PLAYERS.length]);
+            }
+        }
+        return index;
+    }
+}
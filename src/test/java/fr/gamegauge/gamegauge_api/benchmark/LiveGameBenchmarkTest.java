@@ -0,0 +1,172 @@
+package fr.gamegauge.gamegauge_api.benchmark;
+
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.dto.response.BoardMatrixResponse;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardService;
+import fr.gamegauge.gamegauge_api.service.LiveGameService;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mesure la latence d'une écriture de score suivie d'une lecture du tableau (vue matrice), sur la base H2 du
+ * profil de test : par la base ({@link BoardService#setScoreForParticipant} puis
+ * {@link BoardService#getBoardMatrix}) contre le moteur de partie en direct ({@link LiveGameService}, écriture en
+ * base en différé). L'écriture des lots pleins, faite par l'appelant quand {@code batch-size} est atteint, est
+ * comptée dans la latence du moteur.
+ * <p>
+ * Lancement : {@code mvn test -Pbenchmark -Dtest=LiveGameBenchmarkTest}
+ * (nombre d'opérations : {@code -Dbench.operations=N}, 2 000 par défaut).
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class LiveGameBenchmarkTest {
+
+    private static final int OPERATIONS = Integer.getInteger("bench.operations", 2_000);
+    private static final int PARTICIPANTS = 8;
+    private static final int ROUNDS = 20;
+    private static final String EMAIL = "live-bench@example.com";
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private LiveGameService liveGameService;
+
+    @Autowired
+    private ScoreWriteBehindService scoreWriteBehindService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("live-bench");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        liveGameService.evictIdle(Duration.ZERO);
+        scoreWriteBehindService.flushAll();
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM board_stats");
+        jdbcTemplate.update("DELETE FROM owner_participant_stats");
+        jdbcTemplate.update("DELETE FROM owner_stats");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("Moteur en direct vs base : latence d'une écriture suivie d'une lecture")
+    void liveVersusDatabase() {
+        Board database = board("Partie en base");
+        Board live = board("Partie en direct");
+        // Chauffe.
+        run(database, false, OPERATIONS / 4);
+        run(live, true, OPERATIONS / 4);
+
+        long[][] db = run(database, false, OPERATIONS);
+        long[][] memory = run(live, true, OPERATIONS);
+        liveGameService.end(live.getId(), EMAIL);
+
+        // Même état final une fois les scores en attente écrits.
+        assertThat(boardService.getBoardMatrix(live.getId(), EMAIL).getTotals())
+                .containsExactly(boardService.getBoardMatrix(database.getId(), EMAIL).getTotals());
+        System.out.println(String.join(System.lineSeparator(),
+                String.format("%d écritures + lectures (%d participants × %d tours)", OPERATIONS, PARTICIPANTS,
+                        ROUNDS),
+                String.format("%-22s %10s %10s %10s", "µs", "médiane", "p99", "moyenne"),
+                line("écriture (base)", db[0]),
+                line("écriture (direct)", memory[0]),
+                line("lecture (base)", db[1]),
+                line("lecture (direct)", memory[1])));
+    }
+
+    /**
+     * @return Les durées (ns) des écritures, puis celles des lectures.
+     */
+    private long[][] run(Board board, boolean live, int operations) {
+        List<Long> participants = board.getParticipants().stream().map(Participant::getId).toList();
+        long[] writes = new long[operations];
+        long[] reads = new long[operations];
+        for (int i = 0; i < operations; i++) {
+            ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+            request.setRoundNumber(1 + (i / PARTICIPANTS) % ROUNDS);
+            request.setScoreValue(i % 97);
+            Long participantId = participants.get(i % PARTICIPANTS);
+
+            long start = System.nanoTime();
+            if (live) {
+                liveGameService.setScore(board.getId(), participantId, request, EMAIL);
+            } else {
+                boardService.setScoreForParticipant(board.getId(), participantId, request, EMAIL);
+            }
+            writes[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            BoardMatrixResponse matrix = live ? liveGameService.getBoard(board.getId(), EMAIL)
+                    : boardService.getBoardMatrix(board.getId(), EMAIL);
+            reads[i] = System.nanoTime() - start;
+            assertThat(matrix.getTotals()).hasSize(PARTICIPANTS);
+        }
+        return new long[][]{writes, reads};
+    }
+
+    private Board board(String name) {
+        Board board = new Board();
+        board.setName(name);
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        for (int p = 0; p < PARTICIPANTS; p++) {
+            Participant participant = new Participant();
+            participant.setName("Joueur " + p);
+            board.addParticipant(participant);
+        }
+        return boardRepository.save(board);
+    }
+
+    private static String line(String label, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return String.format(Locale.ROOT, "%-22s %10.1f %10.1f %10.1f", label,
+                sorted[sorted.length / 2] / 1e3, sorted[(int) (sorted.length * 0.99)] / 1e3,
+                Arrays.stream(sorted).average().orElse(0) / 1e3);
+    }
+}
@@ -0,0 +1,168 @@
+package fr.gamegauge.gamegauge_api.benchmark;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.async.AsyncLoggerContext;
+import org.apache.logging.log4j.core.jmx.RingBufferAdmin;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.ConfigurationFactory;
+import org.apache.logging.log4j.core.config.ConfigurationSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mesure le coût des logs par requête HTTP, vu du thread de la requête, pour chaque mode de log4j2-spring.xml :
+ * <ul>
+ *     <li>{@code sync-pattern} : mode développement (texte, écriture synchrone, niveau DEBUG) ;</li>
+ *     <li>{@code async-json} : mode production (loggers tous asynchrones, JSON ECS, niveau INFO) ;</li>
+ *     <li>{@code async-json-sampled} : production avec échantillonnage des lignes INFO du chemin chaud
+ *     (le filtre s'exécute sur le thread de fond : il réduit les écritures, pas le coût côté requête).</li>
+ * </ul>
+ * Une « requête » reproduit les lignes émises par {@code PUT /api/boards/{id}} : le contrôleur et le service
+ * journalisent trois lignes INFO et une ligne DEBUG, avec le contexte de corrélation.
+ * <p>
+ * Le volume par tour reste sous la taille du ring buffer : on mesure la copie dans le buffer, pas la politique
+ * de débordement. Lancement : {@code mvn test -Pbenchmark -Dtest=LoggingOverheadBenchmarkTest}
+ * (nombre de threads : {@code -Dbench.threads=N}, 4 par défaut).
+ */
+@Tag("benchmark")
+class LoggingOverheadBenchmarkTest {
+
+    private static final int THREADS = Integer.getInteger("bench.threads", 4);
+    private static final int REQUESTS_PER_THREAD = 20_000;
+    private static final int ROUNDS = 5;
+    private static final int WARMUP_ROUNDS = 2;
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    @DisplayName("Coût des logs par requête : synchrone texte vs asynchrone JSON vs asynchrone échantillonné")
+    void loggingCostPerRequest() throws Exception {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-20s %14s %14s %14s %14s", "mode", "ns/requête", "octets/requête", "lignes/tour", "tour (ms)"));
+
+        for (String mode : List.of("sync-pattern", "async-json", "async-json-sampled")) {
+            Result result = measure(mode);
+            report.add(String.format("%-20s %14d %14d %14d %14d",
+                    mode, result.nanosPerRequest, result.bytesPerRequest, result.lines, result.totalMillis));
+            assertThat(result.lines).isPositive();
+        }
+
+        System.out.println(String.join(System.lineSeparator(), report));
+    }
+
+    private Result measure(String mode) throws Exception {
+        Path logFile = workDir.resolve(mode + ".log");
+        System.setProperty("gamegauge.bench.file", logFile.toString());
+        URI config = Objects.requireNonNull(getClass().getResource("/benchmark/log4j2-" + mode + ".xml")).toURI();
+
+        // En production, AsyncLoggerContextSelector crée un AsyncLoggerContext : tous les loggers sont asynchrones.
+        String name = "bench-" + mode;
+        LoggerContext context = mode.startsWith("async") ? new AsyncLoggerContext(name) : new LoggerContext(name);
+        Configuration configuration = ConfigurationFactory.getInstance()
+                .getConfiguration(context, ConfigurationSource.fromUri(config));
+        context.start(configuration);
+        RingBufferAdmin ringBuffer = context instanceof AsyncLoggerContext async ? async.createRingBufferAdmin() : null;
+
+        Round[] rounds = new Round[ROUNDS];
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                rounds[round] = runRound(context, ringBuffer);
+            }
+        } finally {
+            context.stop();
+        }
+
+        // Médiane des tours mesurés : les premiers tours chauffent le JIT et les cases du ring buffer.
+        Round[] measured = Arrays.copyOfRange(rounds, WARMUP_ROUNDS, ROUNDS);
+        Arrays.sort(measured, (a, b) -> Long.compare(a.nanosPerRequest, b.nanosPerRequest));
+        Round median = measured[measured.length / 2];
+        long lines;
+        try (Stream<String> stream = Files.lines(logFile)) {
+            lines = stream.count() / ROUNDS;
+        }
+        return new Result(median.nanosPerRequest, median.bytesPerRequest, lines, median.totalMillis);
+    }
+
+    private Round runRound(LoggerContext context, RingBufferAdmin ringBuffer) throws Exception {
+        Logger controller = context.getLogger("fr.gamegauge.gamegauge_api.controller.BoardController");
+        Logger service = context.getLogger("fr.gamegauge.gamegauge_api.service.BoardService");
+
+        AtomicLong requestNanos = new AtomicLong();
+        AtomicLong allocatedBytes = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int threadIndex = t;
+            Thread worker = new Thread(() -> {
+                com.sun.management.ThreadMXBean threads =
+                        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                String user = "user" + threadIndex + "@bench.gamegauge.fr";
+                awaitQuietly(start);
+                long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+                long begin = System.nanoTime();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long boardId = i;
+                    ThreadContext.put("requestId", "bench-req");
+                    ThreadContext.put("user", user);
+                    controller.info("Requête PUT /api/boards/{} reçue de l'utilisateur {}", boardId, user);
+                    service.info("Tentative de mise à jour du tableau ID {} par l'utilisateur {}", boardId, user);
+                    service.debug("Tableau ID {} chargé pour l'utilisateur {}", boardId, user);
+                    service.info("Tableau ID {} mis à jour avec succès.", boardId);
+                    ThreadContext.remove("requestId");
+                    ThreadContext.remove("user");
+                }
+                requestNanos.addAndGet(System.nanoTime() - begin);
+                allocatedBytes.addAndGet(threads.getCurrentThreadAllocatedBytes() - bytesBefore);
+            }, "bench-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+
+        long wallStart = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        // Le temps total inclut la vidange du ring buffer par le thread d'écriture.
+        while (ringBuffer != null && ringBuffer.getRemainingCapacity() < ringBuffer.getBufferSize()) {
+            Thread.sleep(1);
+        }
+        long totalMillis = (System.nanoTime() - wallStart) / 1_000_000;
+
+        long requests = (long) THREADS * REQUESTS_PER_THREAD;
+        return new Round(requestNanos.get() / requests, allocatedBytes.get() / requests, totalMillis);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Round(long nanosPerRequest, long bytesPerRequest, long totalMillis) {
+    }
+
+    private record Result(long nanosPerRequest, long bytesPerRequest, long lines, long totalMillis) {
+    }
+}
@@ -0,0 +1,194 @@
+package fr.gamegauge.gamegauge_api.benchmark;
+
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.monitoring.RequestQueryStats;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardService;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindService;
+import fr.gamegauge.gamegauge_api.support.QueryCounting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mesure les écritures en base d'une rafale de scores, sur la base H2 du profil de test : écriture immédiate
+ * ({@link BoardService#setScoreForParticipant}, une transaction par score) contre écriture différée
+ * ({@link ScoreWriteBehindService}, scores regroupés par case et écrits par lots). La rafale imite une saisie
+ * au fil de l'eau : chaque case (participant, tour) est corrigée plusieurs fois de suite.
+ * <p>
+ * Lancement : {@code mvn test -Pbenchmark -Dtest=ScoreWriteBehindBenchmarkTest}
+ * (corrections par case : {@code -Dbench.taps=N}, 5 par défaut).
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class ScoreWriteBehindBenchmarkTest {
+
+    private static final int TAPS = Integer.getInteger("bench.taps", 5);
+    private static final int PARTICIPANTS = 8;
+    private static final int ROUNDS = 10;
+    private static final String EMAIL = "write-behind-bench@example.com";
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private ScoreWriteBehindService scoreWriteBehindService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("write-behind-bench");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreWriteBehindService.flushAll();
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM board_stats");
+        jdbcTemplate.update("DELETE FROM owner_participant_stats");
+        jdbcTemplate.update("DELETE FROM owner_stats");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("Écriture différée vs immédiate : requêtes d'écriture pour une rafale de scores")
+    void writeBehindVersusImmediate() throws Exception {
+        // Chauffe : quelques scores par chaque chemin.
+        run(board("Chauffe immédiate"), false);
+        run(board("Chauffe différée"), true);
+
+        Board immediate = board("Partie immédiate");
+        long start = System.nanoTime();
+        Result sync = run(immediate, false);
+        double syncMillis = (System.nanoTime() - start) / 1e6;
+
+        Board deferred = board("Partie différée");
+        start = System.nanoTime();
+        Result behind = run(deferred, true);
+        double behindMillis = (System.nanoTime() - start) / 1e6;
+
+        // Même état final, beaucoup moins d'écritures.
+        assertThat(totals(deferred)).isEqualTo(totals(immediate));
+        // Au plus une écriture par case et par lot (un lot peut couper les corrections d'un tour).
+        assertThat(behind.journalRows()).isLessThan(sync.journalRows());
+        assertThat(behind.writes()).isLessThan(sync.writes());
+
+        int edits = PARTICIPANTS * ROUNDS * TAPS;
+        System.out.println(String.join(System.lineSeparator(),
+                String.format("%d scores (%d participants × %d tours, %d corrections par case)",
+                        edits, PARTICIPANTS, ROUNDS, TAPS),
+                String.format("%-12s %10s %12s %14s %10s", "", "requêtes", "écritures", "journal+evts", "ms"),
+                sync.format("immédiate", syncMillis),
+                behind.format("différée", behindMillis),
+                String.format(Locale.ROOT, "écritures SQL divisées par %.1f",
+                        (double) sync.writes() / behind.writes())));
+    }
+
+    /**
+     * Envoie la rafale sur un tableau, puis écrit les scores en attente s'il y en a.
+     */
+    private Result run(Board board, boolean deferred) throws Exception {
+        List<Long> participants = board.getParticipants().stream().map(Participant::getId).toList();
+        int changesBefore = count("SELECT COUNT(*) FROM board_changes WHERE board_id = ?", board.getId());
+        int eventsBefore = count("SELECT COUNT(*) FROM score_events WHERE board_id = ?", board.getId());
+        RequestQueryStats stats = QueryCounting.capture(() -> {
+            for (int round = 1; round <= ROUNDS; round++) {
+                for (int tap = 1; tap <= TAPS; tap++) {
+                    for (int p = 0; p < participants.size(); p++) {
+                        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+                        request.setRoundNumber(round);
+                        request.setScoreValue(p * 10 + round + tap);
+                        if (!deferred || !scoreWriteBehindService.submit(board.getId(), participants.get(p),
+                                request, EMAIL)) {
+                            boardService.setScoreForParticipant(board.getId(), participants.get(p), request, EMAIL);
+                        }
+                    }
+                }
+            }
+            scoreWriteBehindService.flush(board.getId());
+        });
+        int journalRows = count("SELECT COUNT(*) FROM board_changes WHERE board_id = ?", board.getId())
+                - changesBefore;
+        int events = count("SELECT COUNT(*) FROM score_events WHERE board_id = ?", board.getId()) - eventsBefore;
+        int writes = stats.repeatedStatements(1).entrySet().stream()
+                .filter(e -> isWrite(e.getKey()))
+                .mapToInt(e -> e.getValue())
+                .sum();
+        return new Result(stats.getStatements(), writes, journalRows + events, journalRows);
+    }
+
+    private Board board(String name) {
+        Board board = new Board();
+        board.setName(name);
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        for (int p = 0; p < PARTICIPANTS; p++) {
+            Participant participant = new Participant();
+            participant.setName("Joueur " + p);
+            board.addParticipant(participant);
+        }
+        return boardRepository.save(board);
+    }
+
+    private List<Integer> totals(Board board) {
+        return new ArrayList<>(jdbcTemplate.queryForList("SELECT s.score_value FROM score_entries s "
+                + "JOIN participants p ON p.id = s.participant_id WHERE p.board_id = ? "
+                + "ORDER BY p.name, s.round_number", Integer.class, board.getId()));
+    }
+
+    private int count(String sql, Long boardId) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, boardId);
+        return count != null ? count : 0;
+    }
+
+    private static boolean isWrite(String sql) {
+        String verb = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return verb.startsWith("insert") || verb.startsWith("update") || verb.startsWith("delete")
+                || verb.startsWith("merge");
+    }
+
+    private record Result(int statements, int writes, int appendedRows, int journalRows) {
+
+        private String format(String label, double millis) {
+            return String.format(Locale.ROOT, "%-12s %10d %12d %14d %10.0f", label, statements, writes,
+                    appendedRows, millis);
+        }
+    }
+}
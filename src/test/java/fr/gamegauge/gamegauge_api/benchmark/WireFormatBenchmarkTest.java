@@ -0,0 +1,152 @@
+package fr.gamegauge.gamegauge_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.response.BoardResponse;
+import fr.gamegauge.gamegauge_api.dto.response.ParticipantResponse;
+import fr.gamegauge.gamegauge_api.dto.response.ScoreEntryResponse;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compare les encodages proposés par l'API (JSON, Smile, CBOR) pour des {@link BoardResponse} de tailles typiques :
+ * octets envoyés (bruts et compressés en gzip, comme le fait Tomcat), temps d'encodage, de décodage
+ * et de compression par réponse.
+ * <p>
+ * Le décodage lit l'arbre JSON complet ({@code readTree}), comme le ferait un client générique.
+ * Lancement : {@code mvn test -Pbenchmark -Dtest=WireFormatBenchmarkTest}
+ */
+@Tag("benchmark")
+class WireFormatBenchmarkTest {
+
+    /** Nombre de scores encodés par tour de mesure : le nombre d'itérations s'adapte à la taille du tableau. */
+    private static final int SCORES_PER_ROUND = 200_000;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int WARMUP_ROUNDS = 2;
+
+    /** Tailles de tableaux : nom → {participants, tours}. */
+    private static final Map<String, int[]> SIZES = new LinkedHashMap<>();
+
+    static {
+        SIZES.put("petit 4×10", new int[]{4, 10});
+        SIZES.put("moyen 8×50", new int[]{8, 50});
+        SIZES.put("grand 16×200", new int[]{16, 200});
+    }
+
+    private final Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+
+    WireFormatBenchmarkTest() {
+        formats.put("json", Jackson2ObjectMapperBuilder.json().build());
+        formats.put("smile", Jackson2ObjectMapperBuilder.smile().build());
+        formats.put("cbor", Jackson2ObjectMapperBuilder.cbor().build());
+    }
+
+    @Test
+    @DisplayName("Octets envoyés et coût CPU : JSON vs Smile vs CBOR, avec et sans gzip")
+    void wireFormats() throws Exception {
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-13s %-6s %9s %9s %11s %11s %11s", "tableau", "format",
+                "octets", "gzip", "encode ns", "decode ns", "gzip ns"));
+
+        for (Map.Entry<String, int[]> size : SIZES.entrySet()) {
+            BoardResponse board = board(size.getValue()[0], size.getValue()[1]);
+            int jsonBytes = 0;
+            for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+                int iterations = Math.max(20, SCORES_PER_ROUND / (size.getValue()[0] * size.getValue()[1]));
+                Result result = measure(format.getValue(), board, iterations);
+                report.add(String.format("%-13s %-6s %9d %9d %11d %11d %11d", size.getKey(), format.getKey(),
+                        result.bytes, result.gzipBytes, result.encodeNanos, result.decodeNanos, result.gzipNanos));
+                if (format.getKey().equals("json")) {
+                    jsonBytes = result.bytes;
+                } else {
+                    assertThat(result.bytes).isLessThan(jsonBytes);
+                }
+            }
+        }
+
+        System.out.println(String.join(System.lineSeparator(), report));
+    }
+
+    private Result measure(ObjectMapper mapper, BoardResponse board, int iterations) throws Exception {
+        byte[] encoded = mapper.writeValueAsBytes(board);
+        int gzipBytes = gzip(encoded).length;
+        long[] encode = new long[MEASURED_ROUNDS];
+        long[] decode = new long[MEASURED_ROUNDS];
+        long[] compress = new long[MEASURED_ROUNDS];
+        for (int round = -WARMUP_ROUNDS; round < MEASURED_ROUNDS; round++) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                mapper.writeValueAsBytes(board);
+            }
+            long encodeNanos = (System.nanoTime() - begin) / iterations;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                mapper.readTree(encoded);
+            }
+            long decodeNanos = (System.nanoTime() - begin) / iterations;
+
+            begin = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                gzip(encoded);
+            }
+            long gzipNanos = (System.nanoTime() - begin) / iterations;
+
+            if (round >= 0) {
+                encode[round] = encodeNanos;
+                decode[round] = decodeNanos;
+                compress[round] = gzipNanos;
+            }
+        }
+        return new Result(encoded.length, gzipBytes, median(encode), median(decode), median(compress));
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static BoardResponse board(int participants, int rounds) {
+        List<ParticipantResponse> participantResponses = new ArrayList<>();
+        long scoreId = 1;
+        for (int p = 0; p < participants; p++) {
+            List<ScoreEntryResponse> scores = new ArrayList<>();
+            int total = 0;
+            for (int r = 1; r <= rounds; r++) {
+                int value = (p * 31 + r * 17) % 100;
+                scores.add(new ScoreEntryResponse(scoreId++, value, r));
+                total += value;
+            }
+            participantResponses.add(new ParticipantResponse((long) p + 1, "Joueur " + (p + 1), total, scores));
+        }
+        Instant now = Instant.parse("2025-01-01T20:00:00Z");
+        return new BoardResponse(1L, "Partie de référence", null, ScoreCondition.HIGHEST_WINS, rounds,
+                now, now, "bench", participantResponses);
+    }
+
+    private record Result(int bytes, int gzipBytes, long encodeNanos, long decodeNanos, long gzipNanos) {
+    }
+}
@@ -0,0 +1,68 @@
+package fr.gamegauge.gamegauge_api.config;
+
+import fr.gamegauge.gamegauge_api.dto.projection.BoardVersion;
+import fr.gamegauge.gamegauge_api.dto.response.BoardMatrixResponse;
+import fr.gamegauge.gamegauge_api.dto.response.ChangeSetResponse;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import org.apache.logging.log4j.core.appender.ConsoleAppender;
+import org.apache.logging.log4j.layout.template.json.JsonTemplateLayout;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.data.projection.TargetAware;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour {@link NativeHintsConfig} : les indications déclarées pour l'image native couvrent les DTO,
+ * les entités, les mappers, jjwt et log4j2. Exécutés sur la JVM, sans compiler d'image.
+ */
+class NativeHintsConfigTest {
+
+    private static final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeAll
+    static void registerHints() {
+        new NativeHintsConfig.GameGaugeRuntimeHints().registerHints(hints, NativeHintsConfigTest.class.getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Les DTO sont lisibles par Jackson, classes imbriquées comprises, et les projections sont des proxys")
+    void dtos_shouldBeRegisteredForBinding() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(BoardMatrixResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ChangeSetResponse.Tombstone.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies()
+                .forInterfaces(AopProxyUtils.completeJdkProxyInterfaces(BoardVersion.class, TargetAware.class)))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Les entités, les mappers générés et les implémentations de jjwt sont accessibles par réflexion")
+    void entitiesMappersAndJjwt_shouldBeRegistered() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Board.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ScoreEntry.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("fr.gamegauge.gamegauge_api.mapper.BoardMapperImpl"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Deserializer"))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Les plugins log4j2 de la configuration et ses fichiers sont inclus dans l'image")
+    void log4j2_shouldBeRegistered() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ConsoleAppender.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(JsonTemplateLayout.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("log4j2-spring.xml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("EcsLayout.json")).accepts(hints);
+    }
+}
@@ -0,0 +1,221 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardArchiveService;
+import fr.gamegauge.gamegauge_api.service.LeaderboardService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration de l'archivage des tableaux inactifs : un tableau archivé se lit comme avant, et sa
+ * première modification le remet dans les tables principales avec les mêmes identifiants.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardArchiveTest {
+
+    private static final String EMAIL = "archive@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardArchiveService boardArchiveService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+
+    /**
+     * Alice : 10, 2, 8 (20) ; Bob : 5, 9, 9 (23) ; Chloé : 10, 1 ; David : aucun score.
+     */
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("archive");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Vieille partie");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        board.addParticipant(participant("Alice", 1, 10, 2, 2, 3, 8));
+        board.addParticipant(participant("Bob", 1, 5, 2, 9, 3, 9));
+        board.addParticipant(participant("Chloé", 1, 10, 3, 1));
+        board.addParticipant(participant("David"));
+        board = boardRepository.save(board);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_archives");
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Un tableau archivé quitte les tables principales mais se lit exactement comme avant")
+    void archivedBoard_shouldReadAsBefore() throws Exception {
+        JsonNode full = read(get("/api/boards/{id}", board.getId()));
+        JsonNode matrix = read(get("/api/boards/{id}/matrix", board.getId()));
+        MockHttpServletRequestBuilder windowRequest = get("/api/boards/{id}", board.getId())
+                .param("participantsOffset", "1").param("participantsLimit", "2").param("roundsFrom", "3");
+        JsonNode window = read(windowRequest);
+
+        assertThat(archive()).isEqualTo(1);
+
+        assertThat(count("SELECT COUNT(*) FROM participants WHERE board_id = ?")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM board_archives WHERE board_id = ?")).isEqualTo(1);
+        assertThat(read(get("/api/boards/{id}", board.getId()))).isEqualTo(full);
+        assertThat(read(get("/api/boards/{id}/matrix", board.getId()))).isEqualTo(matrix);
+        assertThat(read(windowRequest)).isEqualTo(window);
+        assertThat(read(get("/api/boards"))).singleElement().isEqualTo(full);
+        assertThat(read(get("/api/boards/search").param("q", "chloe")).get("results"))
+                .singleElement().satisfies(r -> assertThat(r.get("boardId").asLong()).isEqualTo(board.getId()));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("La première modification restaure le tableau avec les mêmes identifiants")
+    void write_shouldRestoreArchivedBoard() throws Exception {
+        JsonNode before = read(get("/api/boards/{id}", board.getId()));
+        archive();
+        long first = before.get("participants").get(0).get("id").asLong();
+
+        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+        request.setRoundNumber(4);
+        request.setScoreValue(7);
+        mockMvc.perform(put("/api/boards/{b}/participants/{p}/scores", board.getId(), first)
+                        .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        assertThat(count("SELECT COUNT(*) FROM board_archives WHERE board_id = ?")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM boards WHERE id = ? AND archived_at IS NULL")).isEqualTo(1);
+        JsonNode after = read(get("/api/boards/{id}", board.getId()));
+        assertThat(after.get("participants")).extracting(p -> p.get("id").asLong())
+                .containsExactlyElementsOf(ids(before.get("participants")));
+        assertThat(after.get("participants").get(0).get("scores")).hasSize(4);
+        assertThat(after.get("participants").get(1)).isEqualTo(before.get("participants").get(1));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Les statistiques, les classements globaux et la suppression fonctionnent sur un tableau archivé")
+    void statsLeaderboardsAndDelete_shouldHandleArchivedBoard() throws Exception {
+        archive();
+
+        leaderboardService.rebuild();
+        JsonNode totals = read(get("/api/leaderboards/totals").param("condition", "HIGHEST_WINS")
+                .param("page", "0").param("size", "100"));
+        assertThat(totals.get("entries")).filteredOn(e -> e.get("boardId").asLong() == board.getId())
+                .extracting(e -> e.get("value").asLong()).containsExactly(23L, 20L, 11L);
+
+        JsonNode stats = read(get("/api/boards/{id}/stats", board.getId()));
+        assertThat(stats.get("rounds")).hasSize(3);
+        assertThat(stats.get("participants").get(0).get("name").asText()).isEqualTo("Bob");
+
+        archive();
+        mockMvc.perform(delete("/api/boards/{id}", board.getId())).andExpect(status().isNoContent());
+        assertThat(count("SELECT COUNT(*) FROM board_archives WHERE board_id = ?")).isZero();
+    }
+
+    @Test
+    @DisplayName("Un tableau modifié récemment n'est pas archivé")
+    void recentBoard_shouldNotBeArchived() {
+        assertThat(boardArchiveService.archiveInactiveSince(Instant.now().minus(Duration.ofDays(1)))).isZero();
+        assertThat(count("SELECT COUNT(*) FROM participants WHERE board_id = ?")).isEqualTo(4);
+    }
+
+    /**
+     * Archive tous les tableaux non archivés (tous inactifs depuis une date à venir).
+     */
+    private int archive() {
+        return boardArchiveService.archiveInactiveSince(Instant.now().plusSeconds(1));
+    }
+
+    private static List<Long> ids(JsonNode nodes) {
+        List<Long> ids = new ArrayList<>();
+        nodes.forEach(node -> ids.add(node.get("id").asLong()));
+        return ids;
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, board.getId());
+        return count != null ? count : 0;
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        String json = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+
+    /**
+     * Crée un participant à partir de couples (tour, score).
+     */
+    private static Participant participant(String name, int... roundsAndScores) {
+        Participant participant = new Participant();
+        participant.setName(name);
+        for (int i = 0; i < roundsAndScores.length; i += 2) {
+            ScoreEntry entry = new ScoreEntry();
+            entry.setRoundNumber(roundsAndScores[i]);
+            entry.setScoreValue(roundsAndScores[i + 1]);
+            participant.addScoreEntry(entry);
+        }
+        return participant;
+    }
+}
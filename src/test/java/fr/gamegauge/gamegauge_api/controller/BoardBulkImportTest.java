@@ -0,0 +1,165 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardImportProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration de l'import de tableaux en masse ({@code POST /api/boards/import/bulk}) : rapport ligne
+ * par ligne, tableaux enregistrés avec leurs journaux, lots multiples et limite par requête.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardBulkImportTest {
+
+    private static final String EMAIL = "bulk@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardImportProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int batchSize;
+    private int maxBoards;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("bulk");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+        batchSize = properties.getBatchSize();
+        maxBoards = properties.getMaxBoards();
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setBatchSize(batchSize);
+        properties.setMaxBoards(maxBoards);
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Les lignes valides sont importées, les autres rejetées une à une dans le rapport")
+    void ndjson_shouldImportValidLinesAndReportFailures() throws Exception {
+        properties.setBatchSize(2);
+        String body = String.join("\n",
+                board("Tarot", "Alice", "Bob"),
+                "{\"name\": \"Belote\", ",
+                "",
+                board("Yams", "Chloé"),
+                "{\"name\": \" \", \"participants\": [{\"name\": \"David\"}]}",
+                board("Skyjo", "Éloïse", "François", "Gaëlle"));
+
+        JsonNode report = read(post("/api/boards/import/bulk")
+                .contentType(BoardController.BULK_IMPORT_MEDIA_TYPE).content(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.get("received").asInt()).isEqualTo(5);
+        assertThat(report.get("imported").asInt()).isEqualTo(3);
+        assertThat(report.get("failed").asInt()).isEqualTo(2);
+        assertThat(report.get("boardsPerSecond").asDouble()).isPositive();
+        JsonNode results = report.get("results");
+        assertThat(results).extracting(r -> r.get("line").asInt()).containsExactly(1, 2, 4, 5, 6);
+        assertThat(results.get(0).get("boardId").asLong()).isPositive();
+        assertThat(results.get(1).get("error").asText()).startsWith("JSON invalide");
+        assertThat(results.get(3).get("error").asText()).contains("name");
+        assertThat(results.get(3).has("boardId")).isFalse();
+
+        JsonNode boards = read(get("/api/boards"));
+        assertThat(boards).extracting(b -> b.get("name").asText())
+                .containsExactlyInAnyOrder("Tarot", "Yams", "Skyjo");
+        JsonNode skyjo = read(get("/api/boards/{id}", results.get(4).get("boardId").asLong()));
+        assertThat(skyjo.get("participants")).hasSize(3);
+        assertThat(skyjo.get("participants").get(0).get("scores")).hasSize(2);
+        Integer journaled = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM board_changes WHERE entity_type = 'BOARD' AND operation = 'INSERT'",
+                Integer.class);
+        assertThat(journaled).isEqualTo(3);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Plusieurs fichiers multipart sont importés à la suite, jusqu'à la limite par requête")
+    void multipart_shouldImportFilesUpToLimit() throws Exception {
+        properties.setMaxBoards(3);
+        MockMultipartFile first = file(board("Uno", "Alice") + "\n" + board("Rami", "Bob") + "\n");
+        MockMultipartFile second = file(board("Poker", "Chloé") + "\n" + board("Mölkky", "David") + "\n");
+
+        JsonNode report = read(multipart("/api/boards/import/bulk").file(first).file(second));
+
+        assertThat(report.get("received").asInt()).isEqualTo(3);
+        assertThat(report.get("imported").asInt()).isEqualTo(3);
+        assertThat(report.get("results")).extracting(r -> r.get("line").asInt()).containsExactly(1, 2, 3, 4);
+        assertThat(report.get("results").get(3).get("error").asText()).startsWith("Limite de 3 tableaux");
+        assertThat(read(get("/api/boards"))).extracting(b -> b.get("name").asText())
+                .containsExactlyInAnyOrder("Uno", "Rami", "Poker");
+    }
+
+    /**
+     * Une ligne NDJSON : un tableau dont chaque participant a deux scores.
+     */
+    private String board(String name, String... participants) throws Exception {
+        var board = objectMapper.createObjectNode().put("name", name).put("scoreCondition", "HIGHEST_WINS");
+        var array = board.putArray("participants");
+        for (String participant : participants) {
+            var scores = array.addObject().put("name", participant).putArray("scores");
+            scores.addObject().put("roundNumber", 1).put("scoreValue", 10);
+            scores.addObject().put("roundNumber", 2).put("scoreValue", 5);
+        }
+        return objectMapper.writeValueAsString(board);
+    }
+
+    private static MockMultipartFile file(String content) {
+        return new MockMultipartFile("file", "boards.ndjson", BoardController.BULK_IMPORT_MEDIA_TYPE,
+                content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        String json = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+}
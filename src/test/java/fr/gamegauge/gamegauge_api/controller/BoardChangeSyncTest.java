@@ -0,0 +1,228 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardChangeService;
+import fr.gamegauge.gamegauge_api.support.BoardApiFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration de la synchronisation différentielle ({@code GET /api/boards/changes} et
+ * {@code GET /api/boards/{id}/changes}) : les modifications passent par les vrais endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardChangeSyncTest {
+
+    private static final String EMAIL = "sync@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardChangeService boardChangeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BoardApiFixture api;
+    private long boardId;
+
+    @BeforeEach
+    void setUp() {
+        api = new BoardApiFixture(mockMvc, objectMapper);
+
+        User user = new User();
+        user.setUsername("sync");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Seules les entités modifiées depuis 'since' sont renvoyées, fusionnées et dans leur état actuel")
+    void changesSince_shouldReturnOnlyNewState() throws Exception {
+        boardId = api.createBoard("Partie synchronisée", ScoreCondition.HIGHEST_WINS);
+        long participantId = api.addParticipant(boardId, "Alice");
+        long afterParticipant = boardChanges(0).get("seq").asLong();
+
+        long scoreId = api.setScore(boardId, participantId, 1, 10).get("id").asLong();
+        api.setScore(boardId, participantId, 1, 15);
+
+        JsonNode changes = boardChanges(afterParticipant);
+        assertThat(changes.get("resyncRequired").asBoolean()).isFalse();
+        assertThat(changes.get("seq").asLong()).isEqualTo(afterParticipant + 2);
+        assertThat(changes.has("participants")).isFalse();
+        assertThat(changes.get("scores")).singleElement().satisfies(score -> {
+            assertThat(score.get("id").asLong()).isEqualTo(scoreId);
+            assertThat(score.get("operation").asText()).isEqualTo("INSERT");
+            assertThat(score.get("scoreValue").asInt()).isEqualTo(15);
+        });
+
+        JsonNode upToDate = boardChanges(changes.get("seq").asLong());
+        assertThat(upToDate.has("scores")).isFalse();
+        assertThat(upToDate.has("deleted")).isFalse();
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Les suppressions sont signalées par des tombstones, une entité créée puis supprimée est omise")
+    void deletions_shouldProduceTombstones() throws Exception {
+        boardId = api.createBoard("Partie synchronisée", ScoreCondition.HIGHEST_WINS);
+        long participantId = api.addParticipant(boardId, "Alice");
+        long kept = api.setScore(boardId, participantId, 1, 10).get("id").asLong();
+        long since = boardChanges(0).get("seq").asLong();
+
+        long discarded = api.setScore(boardId, participantId, 2, 20).get("id").asLong();
+        mockMvc.perform(delete("/api/boards/{b}/participants/{p}/scores/{s}", boardId, participantId, discarded))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(delete("/api/boards/{b}/participants/{p}/scores/{s}", boardId, participantId, kept))
+                .andExpect(status().is2xxSuccessful());
+
+        JsonNode changes = boardChanges(since);
+        assertThat(changes.has("scores")).isFalse();
+        assertThat(changes.get("deleted")).singleElement().satisfies(tombstone -> {
+            assertThat(tombstone.get("entityType").asText()).isEqualTo("SCORE");
+            assertThat(tombstone.get("id").asLong()).isEqualTo(kept);
+            assertThat(tombstone.get("parentId").asLong()).isEqualTo(participantId);
+        });
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("La réinitialisation d'un tableau produit une tombstone par score supprimé")
+    void restart_shouldTombstoneEveryScore() throws Exception {
+        boardId = api.createBoard("Partie synchronisée", ScoreCondition.HIGHEST_WINS);
+        long alice = api.addParticipant(boardId, "Alice");
+        long bob = api.addParticipant(boardId, "Bob");
+        api.setScore(boardId, alice, 1, 10);
+        api.setScore(boardId, bob, 1, 7);
+        api.setScore(boardId, bob, 2, 3);
+        long since = boardChanges(0).get("seq").asLong();
+
+        mockMvc.perform(post("/api/boards/{id}/restart", boardId)).andExpect(status().isOk());
+
+        JsonNode changes = boardChanges(since);
+        assertThat(changes.get("seq").asLong()).isEqualTo(since + 1);
+        assertThat(changes.get("deleted")).hasSize(3)
+                .allSatisfy(tombstone -> assertThat(tombstone.get("entityType").asText()).isEqualTo("SCORE"));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Le flux du propriétaire couvre tous ses tableaux, suppressions de tableaux comprises")
+    void ownerChanges_shouldCoverAllBoards() throws Exception {
+        boardId = api.createBoard("Partie synchronisée", ScoreCondition.HIGHEST_WINS);
+        long first = boardId;
+        long since = ownerChanges(0).get("seq").asLong();
+
+        boardId = api.createBoard("Partie synchronisée", ScoreCondition.HIGHEST_WINS);
+        api.addParticipant(boardId, "Chloé");
+        mockMvc.perform(delete("/api/boards/{id}", first)).andExpect(status().is2xxSuccessful());
+
+        JsonNode changes = ownerChanges(since);
+        assertThat(changes.get("boards")).singleElement().satisfies(board -> {
+            assertThat(board.get("id").asLong()).isEqualTo(boardId);
+            assertThat(board.get("operation").asText()).isEqualTo("INSERT");
+        });
+        assertThat(changes.get("participants")).singleElement()
+                .satisfies(participant -> assertThat(participant.get("boardId").asLong()).isEqualTo(boardId));
+        assertThat(changes.get("deleted")).singleElement().satisfies(tombstone -> {
+            assertThat(tombstone.get("entityType").asText()).isEqualTo("BOARD");
+            assertThat(tombstone.get("id").asLong()).isEqualTo(first);
+        });
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Après une purge du journal, un client trop ancien doit tout recharger")
+    void compactedHistory_shouldRequireResync() throws Exception {
+        boardId = api.createBoard("Partie synchronisée", ScoreCondition.HIGHEST_WINS);
+        long participantId = api.addParticipant(boardId, "Alice");
+        long before = boardChanges(0).get("seq").asLong();
+        api.setScore(boardId, participantId, 1, 10);
+        long current = boardChanges(0).get("seq").asLong();
+
+        boardChangeService.compactHistory(Instant.now().plusSeconds(1));
+
+        JsonNode stale = boardChanges(before);
+        assertThat(stale.get("resyncRequired").asBoolean()).isTrue();
+        assertThat(stale.get("seq").asLong()).isEqualTo(current);
+        assertThat(ownerChanges(0).get("resyncRequired").asBoolean()).isTrue();
+
+        JsonNode fresh = boardChanges(current);
+        assertThat(fresh.get("resyncRequired").asBoolean()).isFalse();
+
+        // Un numéro jamais attribué (base restaurée...) impose aussi une resynchronisation.
+        assertThat(boardChanges(current + 100).get("resyncRequired").asBoolean()).isTrue();
+    }
+
+    @Test
+    @WithMockUser(username = "intruder@example.com")
+    @DisplayName("Le journal d'un tableau n'est pas visible par un autre utilisateur")
+    void otherUser_shouldNotSeeBoardChanges() throws Exception {
+        User intruder = new User();
+        intruder.setUsername("intruder");
+        intruder.setEmail("intruder@example.com");
+        intruder.setPassword("hash");
+        userRepository.save(intruder);
+        Board board = new Board();
+        board.setName("Partie privée");
+        board.setOwner(userRepository.findByEmail(EMAIL).orElseThrow());
+        board = boardRepository.save(board);
+
+        mockMvc.perform(get("/api/boards/{id}/changes", board.getId()).param("since", "0"))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode boardChanges(long since) throws Exception {
+        return api.read(get("/api/boards/{id}/changes", boardId).param("since", Long.toString(since)));
+    }
+
+    private JsonNode ownerChanges(long since) throws Exception {
+        return api.read(get("/api/boards/changes").param("since", Long.toString(since)));
+    }
+}
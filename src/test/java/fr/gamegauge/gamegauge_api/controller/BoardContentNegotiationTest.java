@@ -0,0 +1,207 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.ApplicationUserDetailsService;
+import fr.gamegauge.gamegauge_api.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration de la négociation de contenu (JSON, CBOR, Smile), de la compression gzip et des ETags
+ * des réponses. La compression est faite par Tomcat : ces tests-là passent par un vrai serveur HTTP.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardContentNegotiationTest {
+
+    private static final String EMAIL = "encoding@example.com";
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final int PARTICIPANTS = 3;
+    private static final int ROUNDS = 20;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ApplicationUserDetailsService userDetailsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("encoding");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Partie encodée");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        board.setDisplayOrder(0);
+        for (int p = 0; p < PARTICIPANTS; p++) {
+            Participant participant = new Participant();
+            participant.setName("Joueur " + p);
+            for (int r = 1; r <= ROUNDS; r++) {
+                ScoreEntry entry = new ScoreEntry();
+                entry.setRoundNumber(r);
+                entry.setScoreValue(r + p);
+                participant.addScoreEntry(entry);
+            }
+            board.addParticipant(participant);
+        }
+        board = boardRepository.save(board);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Sans en-tête Accept particulier, la réponse reste en JSON")
+    void defaultAccept_shouldReturnJson() throws Exception {
+        mockMvc.perform(get("/api/boards/{id}", board.getId()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Accept: application/cbor renvoie le tableau encodé en CBOR")
+    void acceptCbor_shouldReturnCbor() throws Exception {
+        JsonNode body = fetch(CBOR, new CBORMapper());
+
+        assertThat(body.get("name").asText()).isEqualTo("Partie encodée");
+        assertThat(body.get("participants")).hasSize(PARTICIPANTS);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Accept: application/x-jackson-smile renvoie le tableau encodé en Smile, dates comprises")
+    void acceptSmile_shouldReturnSmile() throws Exception {
+        JsonNode body = fetch(SMILE, new SmileMapper());
+
+        assertThat(body.get("name").asText()).isEqualTo("Partie encodée");
+        assertThat(body.get("participants").get(0).get("scores")).hasSize(ROUNDS);
+        // Mêmes réglages Jackson que le JSON : les dates restent au format ISO-8601.
+        assertThat(body.get("createdAt").isTextual()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Une réponse de plus de 1 Ko est compressée en gzip, une petite réponse ne l'est pas")
+    void compression_shouldDependOnResponseSize() throws Exception {
+        HttpResponse<byte[]> large = send("/api/boards/" + board.getId(), "application/json");
+        assertThat(large.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        byte[] json;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(large.body()))) {
+            json = gzip.readAllBytes();
+        }
+        assertThat(large.body().length).isLessThan(json.length);
+        assertThat(new ObjectMapper().readTree(json).get("name").asText()).isEqualTo("Partie encodée");
+
+        HttpResponse<byte[]> small = send("/api/boards/" + board.getId() + "/matrix", "application/json");
+        assertThat(small.statusCode()).isEqualTo(200);
+        assertThat(small.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Les réponses CBOR sont aussi compressées")
+    void compression_shouldApplyToCbor() throws Exception {
+        HttpResponse<byte[]> response = send("/api/boards/" + board.getId(), CBOR.toString());
+
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue(CBOR.toString());
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+    }
+
+    @Test
+    @DisplayName("Un tableau inchangé renvoie 304 quand le client présente son ETag")
+    void unchangedBoard_shouldReturnNotModified() throws Exception {
+        HttpResponse<byte[]> first = send("/api/boards/" + board.getId(), "application/json");
+        String etag = first.headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+
+        HttpResponse<byte[]> second = send("/api/boards/" + board.getId(), "application/json",
+                HttpHeaders.IF_NONE_MATCH, etag);
+
+        assertThat(second.statusCode()).isEqualTo(304);
+        assertThat(second.body()).isEmpty();
+    }
+
+    private JsonNode fetch(MediaType mediaType, ObjectMapper decoder) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/boards/{id}", board.getId()).accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(mediaType))
+                .andReturn();
+        return decoder.readTree(result.getResponse().getContentAsByteArray());
+    }
+
+    private HttpResponse<byte[]> send(String path, String accept, String... extraHeaders) throws Exception {
+        String token = jwtService.generateToken(userDetailsService.loadUserByUsername(EMAIL));
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .header(HttpHeaders.ACCEPT, accept)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .GET();
+        if (extraHeaders.length > 0) {
+            request.headers(extraHeaders);
+        }
+        return HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
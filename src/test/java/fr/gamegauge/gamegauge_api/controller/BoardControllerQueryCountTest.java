@@ -0,0 +1,340 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardCreateRequest;
+import fr.gamegauge.gamegauge_api.dto.request.BoardImportRequest;
+import fr.gamegauge.gamegauge_api.dto.request.BoardOrderUpdateRequest;
+import fr.gamegauge.gamegauge_api.dto.request.BoardUpdateRequest;
+import fr.gamegauge.gamegauge_api.dto.request.ParticipantAddRequest;
+import fr.gamegauge.gamegauge_api.dto.request.ParticipantUpdateRequest;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.monitoring.RequestQueryStats;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.support.QueryCounting;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static fr.gamegauge.gamegauge_api.support.QueryCounting.sqlStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration qui figent le nombre de requêtes SQL émises par chaque endpoint de {@link BoardController}.
+ * <p>
+ * Un échec signale une régression du nombre de requêtes (N+1, chargement paresseux inattendu...) :
+ * le message d'erreur liste les requêtes réellement exécutées.
+ * Le jeu de données : un tableau de {@value #PARTICIPANTS} participants avec {@value #ROUNDS} tours chacun.
+ * Chaque modification paie 4 requêtes de journalisation (compteurs du propriétaire et du tableau, lecture des
+ * numéros attribués, écriture du journal). Les modifications qui changent le bilan d'un tableau paient aussi
+ * la mise à jour des statistiques de son propriétaire : le tableau du jeu de données étant écrit directement
+ * en base, sa première modification crée ses statistiques (agrégat, lecture, insertion, compteurs).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardControllerQueryCountTest {
+
+    private static final String EMAIL = "counter@example.com";
+    private static final int PARTICIPANTS = 3;
+    private static final int ROUNDS = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Board board;
+    private Participant participant;
+    private ScoreEntry score;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("counter");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Partie mesurée");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        board.setDisplayOrder(0);
+        for (int p = 0; p < PARTICIPANTS; p++) {
+            Participant newParticipant = new Participant();
+            newParticipant.setName("Joueur " + p);
+            for (int r = 1; r <= ROUNDS; r++) {
+                ScoreEntry entry = new ScoreEntry();
+                entry.setRoundNumber(r);
+                entry.setScoreValue(10 * r + p);
+                newParticipant.addScoreEntry(entry);
+            }
+            board.addParticipant(newParticipant);
+        }
+        board = boardRepository.save(board);
+        participant = board.getParticipants().get(0);
+        score = participant.getScoreEntries().get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void getUserBoards() throws Exception {
+        mockMvc.perform(get("/api/boards"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(6));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void getBoardById() throws Exception {
+        mockMvc.perform(get("/api/boards/{id}", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(6));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void getBoardMatrix() throws Exception {
+        mockMvc.perform(get("/api/boards/{id}/matrix", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.layout").value("DENSE"))
+                .andExpect(jsonPath("$.rounds.length()").value(ROUNDS))
+                .andExpect(jsonPath("$.scores.length()").value(PARTICIPANTS * ROUNDS))
+                .andExpect(jsonPath("$.totals[0]").value(100 + 4 * (PARTICIPANTS - 1)))
+                .andExpect(sqlStatements(4));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void getBoardWindow() throws Exception {
+        mockMvc.perform(get("/api/boards/{id}", board.getId())
+                        .param("participantsOffset", "1").param("participantsLimit", "1")
+                        .param("roundsFrom", "2").param("roundsTo", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participantCount").value(PARTICIPANTS))
+                .andExpect(jsonPath("$.roundsPlayed").value(ROUNDS))
+                .andExpect(jsonPath("$.participants.length()").value(1))
+                .andExpect(jsonPath("$.participants[0].rank").value(2))
+                .andExpect(jsonPath("$.participants[0].scores.length()").value(2))
+                .andExpect(sqlStatements(4));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void getBoardStats() throws Exception {
+        // Version du tableau, puis statistiques calculées en une requête...
+        mockMvc.perform(get("/api/boards/{id}/stats", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rounds.length()").value(ROUNDS))
+                .andExpect(sqlStatements(2));
+        // ... puis servies par le cache tant que la version ne change pas.
+        mockMvc.perform(get("/api/boards/{id}/stats", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void getBoardChanges() throws Exception {
+        mockMvc.perform(get("/api/boards/{id}/changes", board.getId()).param("since", "0"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(4));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void getUserBoardChanges() throws Exception {
+        mockMvc.perform(get("/api/boards/changes").param("since", "0"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(3));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void createBoard() throws Exception {
+        BoardCreateRequest request = new BoardCreateRequest();
+        request.setName("Nouvelle partie");
+        mockMvc.perform(post("/api/boards").contentType(MediaType.APPLICATION_JSON).content(json(request)))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements(9));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void updateBoard() throws Exception {
+        BoardUpdateRequest request = new BoardUpdateRequest();
+        request.setName("Partie renommée");
+        request.setScoreCondition(ScoreCondition.LOWEST_WINS);
+        mockMvc.perform(put("/api/boards/{id}", board.getId()).contentType(MediaType.APPLICATION_JSON).content(json(request)))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(16));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void deleteBoard() throws Exception {
+        mockMvc.perform(delete("/api/boards/{id}", board.getId()))
+                .andExpect(status().isNoContent())
+                .andExpect(sqlStatements(27));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void addParticipant() throws Exception {
+        ParticipantAddRequest request = new ParticipantAddRequest();
+        request.setName("Nouveau");
+        mockMvc.perform(post("/api/boards/{id}/participants", board.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content(json(request)))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements(8));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void removeParticipant() throws Exception {
+        mockMvc.perform(delete("/api/boards/{id}/participants/{pid}", board.getId(), participant.getId()))
+                .andExpect(status().isNoContent())
+                .andExpect(sqlStatements(18));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void updateParticipant() throws Exception {
+        ParticipantUpdateRequest request = new ParticipantUpdateRequest();
+        request.setName("Renommé");
+        mockMvc.perform(put("/api/boards/{id}/participants/{pid}", board.getId(), participant.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content(json(request)))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(14));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void setScore() throws Exception {
+        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+        request.setRoundNumber(2);
+        request.setScoreValue(99);
+        mockMvc.perform(put("/api/boards/{id}/participants/{pid}/scores", board.getId(), participant.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content(json(request)))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(14));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void deleteScore() throws Exception {
+        mockMvc.perform(delete("/api/boards/{id}/participants/{pid}/scores/{sid}",
+                        board.getId(), participant.getId(), score.getId()))
+                .andExpect(status().isNoContent())
+                .andExpect(sqlStatements(14));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void updateBoardsOrder() throws Exception {
+        BoardOrderUpdateRequest request = new BoardOrderUpdateRequest();
+        request.setBoardIds(List.of(board.getId()));
+        mockMvc.perform(put("/api/boards/order").contentType(MediaType.APPLICATION_JSON).content(json(request)))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(3));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void importBoard() throws Exception {
+        BoardImportRequest.ScoreEntryImportDto entry = new BoardImportRequest.ScoreEntryImportDto();
+        entry.setRoundNumber(1);
+        entry.setScoreValue(12);
+        BoardImportRequest.ParticipantImportDto importedParticipant = new BoardImportRequest.ParticipantImportDto();
+        importedParticipant.setName("Importé");
+        importedParticipant.setScores(List.of(entry));
+        BoardImportRequest request = new BoardImportRequest();
+        request.setName("Partie importée");
+        request.setParticipants(List.of(importedParticipant));
+        mockMvc.perform(post("/api/boards/import").contentType(MediaType.APPLICATION_JSON).content(json(request)))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements(13));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void restartBoard() throws Exception {
+        mockMvc.perform(post("/api/boards/{id}/restart", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(12));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void duplicateBoard() throws Exception {
+        mockMvc.perform(post("/api/boards/{id}/duplicate", board.getId()))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements(15));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    void getBoardById_shouldExposeRepeatedScoreQueriesAndMetrics() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/boards/{id}", board.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Une requête de chargement des scores par participant : le N+1 doit être repéré.
+        RequestQueryStats stats = QueryCounting.statsOf(result);
+        assertThat(stats.repeatedStatements(PARTICIPANTS)).hasSize(1);
+        assertThat(stats.getEntitiesLoaded()).isEqualTo(2 + PARTICIPANTS + PARTICIPANTS * ROUNDS);
+        assertThat(meterRegistry.find("gamegauge.request.sql.statements")
+                .tags("method", "GET", "uri", "/api/boards/{boardId}")
+                .summary()).isNotNull();
+    }
+
+    private String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+}
@@ -3,6 +3,13 @@ package fr.gamegauge.gamegauge_api.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import fr.gamegauge.gamegauge_api.config.SecurityConfig;
 import fr.gamegauge.gamegauge_api.dto.response.BoardResponse;
+import fr.gamegauge.gamegauge_api.service.BoardBulkImportService;
+import fr.gamegauge.gamegauge_api.service.BoardChangeService;
+import fr.gamegauge.gamegauge_api.service.BoardSearchService;
+import fr.gamegauge.gamegauge_api.service.BoardStatsService;
+import fr.gamegauge.gamegauge_api.service.ScoreEventService;
+import fr.gamegauge.gamegauge_api.service.LiveGameService;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindService;
 import fr.gamegauge.gamegauge_api.service.BoardService;
 import fr.gamegauge.gamegauge_api.service.JwtService;
 import org.junit.jupiter.api.Test;
@@ -40,6 +47,27 @@ class BoardControllerTest {
     @MockitoBean
     private BoardService boardService;
 
+    @MockitoBean
+    private BoardChangeService boardChangeService;
+
+    @MockitoBean
+    private ScoreEventService scoreEventService;
+
+    @MockitoBean
+    private BoardStatsService boardStatsService;
+
+    @MockitoBean
+    private BoardSearchService boardSearchService;
+
+    @MockitoBean
+    private BoardBulkImportService boardBulkImportService;
+
+    @MockitoBean
+    private ScoreWriteBehindService scoreWriteBehindService;
+
+    @MockitoBean
+    private LiveGameService liveGameService;
+
     @MockitoBean
     private JwtService jwtService;
 
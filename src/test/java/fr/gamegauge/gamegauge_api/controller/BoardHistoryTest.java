@@ -0,0 +1,240 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardImportRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.BoardSnapshotRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.ScoreEventService;
+import fr.gamegauge.gamegauge_api.service.ScoreSnapshotScheduler;
+import fr.gamegauge.gamegauge_api.support.BoardApiFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration du journal des scores ({@code GET /api/boards/{id}/history} et
+ * {@code GET /api/boards/{id}/history/state}) et de ses instantanés.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = "gamegauge.score-events.snapshot-threshold=3")
+class BoardHistoryTest {
+
+    private static final String EMAIL = "history@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardSnapshotRepository boardSnapshotRepository;
+
+    @Autowired
+    private ScoreEventService scoreEventService;
+
+    @Autowired
+    private ScoreSnapshotScheduler scoreSnapshotScheduler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BoardApiFixture api;
+    private long boardId;
+
+    @BeforeEach
+    void setUp() {
+        api = new BoardApiFixture(mockMvc, objectMapper);
+
+        User user = new User();
+        user.setUsername("history");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Chaque modification de score est journalisée, avec la valeur précédente en cas de mise à jour")
+    void scoreChanges_shouldBeAppendedToHistory() throws Exception {
+        boardId = api.createBoard("Partie historisée", ScoreCondition.HIGHEST_WINS);
+        long alice = api.addParticipant(boardId, "Alice");
+        long scoreId = api.setScore(boardId, alice, 1, 10).get("id").asLong();
+        api.setScore(boardId, alice, 1, 15);
+        mockMvc.perform(delete("/api/boards/{b}/participants/{p}/scores/{s}", boardId, alice, scoreId))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(post("/api/boards/{id}/restart", boardId)).andExpect(status().isOk());
+
+        JsonNode history = api.read(get("/api/boards/{id}/history", boardId));
+        assertThat(history).extracting(event -> event.get("eventType").asText())
+                .containsExactly("BOARD_RESTARTED", "SCORE_DELETED", "SCORE_RECORDED", "SCORE_RECORDED");
+        JsonNode update = history.get(2);
+        assertThat(update.get("scoreId").asLong()).isEqualTo(scoreId);
+        assertThat(update.get("scoreValue").asInt()).isEqualTo(15);
+        assertThat(update.get("previousValue").asInt()).isEqualTo(10);
+        assertThat(history.get(3).has("previousValue")).isFalse();
+        assertThat(history.get(1).get("scoreValue").asInt()).isEqualTo(15);
+
+        JsonNode older = api.read(get("/api/boards/{id}/history", boardId)
+                .param("before", history.get(1).get("id").asText()).param("limit", "1"));
+        assertThat(older).singleElement()
+                .satisfies(event -> assertThat(event.get("id").asLong()).isEqualTo(update.get("id").asLong()));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("L'état à un événement passé est reconstruit à partir du journal")
+    void stateAt_shouldReplayHistory() throws Exception {
+        boardId = api.createBoard("Partie historisée", ScoreCondition.HIGHEST_WINS);
+        long alice = api.addParticipant(boardId, "Alice");
+        long bob = api.addParticipant(boardId, "Bob");
+        api.setScore(boardId, alice, 1, 10);
+        api.setScore(boardId, bob, 1, 7);
+        long beforeRemoval = latestEventId();
+        mockMvc.perform(delete("/api/boards/{b}/participants/{p}", boardId, alice))
+                .andExpect(status().is2xxSuccessful());
+        api.setScore(boardId, bob, 1, 9);
+
+        JsonNode past = api.read(get("/api/boards/{id}/history/state", boardId)
+                .param("at", Long.toString(beforeRemoval)));
+        assertThat(past.get("atEventId").asLong()).isEqualTo(beforeRemoval);
+        assertThat(past.get("scores")).extracting(score -> score.get("scoreValue").asInt())
+                .containsExactlyInAnyOrder(10, 7);
+
+        JsonNode current = api.read(get("/api/boards/{id}/history/state", boardId));
+        assertThat(current.get("scores")).singleElement().satisfies(score -> {
+            assertThat(score.get("participantId").asLong()).isEqualTo(bob);
+            assertThat(score.get("scoreValue").asInt()).isEqualTo(9);
+        });
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Un instantané ne change pas l'état reconstruit, avant comme après lui")
+    void snapshot_shouldNotChangeReplayedState() throws Exception {
+        importBoard();
+        long middle = latestEventId();
+        long first = api.read(get("/api/boards/{id}", boardId)).get("participants").get(0).get("id").asLong();
+        api.setScore(boardId, first, 3, 42);
+        JsonNode pastBefore = api.read(get("/api/boards/{id}/history/state", boardId)
+                .param("at", Long.toString(middle)));
+        JsonNode currentBefore = api.read(get("/api/boards/{id}/history/state", boardId));
+
+        assertThat(scoreEventService.takeSnapshot(boardId)).isTrue();
+        assertThat(scoreEventService.takeSnapshot(boardId)).isFalse();
+        assertThat(boardSnapshotRepository.count()).isEqualTo(1);
+
+        assertThat(api.read(get("/api/boards/{id}/history/state", boardId).param("at", Long.toString(middle))))
+                .isEqualTo(pastBefore);
+        assertThat(api.read(get("/api/boards/{id}/history/state", boardId))).isEqualTo(currentBefore);
+        assertThat(currentBefore.get("scores")).hasSize(5);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Le planificateur prend un instantané des seuls tableaux ayant atteint le seuil")
+    void scheduler_shouldSnapshotBoardsAboveThreshold() throws Exception {
+        scoreSnapshotScheduler.snapshotActiveBoards();
+        boardId = api.createBoard("Partie historisée", ScoreCondition.HIGHEST_WINS);
+        long quiet = boardId;
+        api.setScore(boardId, api.addParticipant(boardId, "Alice"), 1, 1);
+        boardId = api.createBoard("Partie historisée", ScoreCondition.HIGHEST_WINS);
+        long busy = api.addParticipant(boardId, "Bob");
+        for (int round = 1; round <= 3; round++) {
+            api.setScore(boardId, busy, round, round);
+        }
+
+        assertThat(scoreSnapshotScheduler.snapshotActiveBoards()).isEqualTo(1);
+        assertThat(boardSnapshotRepository.findAll()).singleElement().satisfies(snapshot -> {
+            assertThat(snapshot.getBoardId()).isEqualTo(boardId);
+            assertThat(snapshot.getScoreCount()).isEqualTo(3);
+        });
+        assertThat(boardSnapshotRepository
+                .findFirstByBoardIdAndLastEventIdLessThanEqualOrderByLastEventIdDesc(quiet, Long.MAX_VALUE)).isEmpty();
+        assertThat(scoreSnapshotScheduler.snapshotActiveBoards()).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = "intruder@example.com")
+    @DisplayName("L'historique d'un tableau n'est pas visible par un autre utilisateur")
+    void otherUser_shouldNotSeeHistory() throws Exception {
+        User intruder = new User();
+        intruder.setUsername("intruder");
+        intruder.setEmail("intruder@example.com");
+        intruder.setPassword("hash");
+        userRepository.save(intruder);
+        Board board = new Board();
+        board.setName("Partie privée");
+        board.setOwner(userRepository.findByEmail(EMAIL).orElseThrow());
+        board = boardRepository.save(board);
+
+        mockMvc.perform(get("/api/boards/{id}/history", board.getId())).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/boards/{id}/history/state", board.getId())).andExpect(status().isNotFound());
+    }
+
+    private long latestEventId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM score_events", Long.class);
+    }
+
+    private void importBoard() throws Exception {
+        BoardImportRequest request = new BoardImportRequest();
+        request.setName("Partie importée");
+        request.setScoreCondition(ScoreCondition.LOWEST_WINS);
+        BoardImportRequest.ParticipantImportDto alice = new BoardImportRequest.ParticipantImportDto();
+        alice.setName("Alice");
+        alice.setScores(List.of(score(1, 4), score(2, 6)));
+        BoardImportRequest.ParticipantImportDto bob = new BoardImportRequest.ParticipantImportDto();
+        bob.setName("Bob");
+        bob.setScores(List.of(score(1, 3), score(2, 8)));
+        request.setParticipants(List.of(alice, bob));
+        boardId = api.perform(post("/api/boards/import"), request).get("id").asLong();
+    }
+
+    private static BoardImportRequest.ScoreEntryImportDto score(int round, int value) {
+        BoardImportRequest.ScoreEntryImportDto score = new BoardImportRequest.ScoreEntryImportDto();
+        score.setRoundNumber(round);
+        score.setScoreValue(value);
+        return score;
+    }
+}
@@ -0,0 +1,178 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardUpdateRequest;
+import fr.gamegauge.gamegauge_api.dto.request.ParticipantUpdateRequest;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardChangeService;
+import fr.gamegauge.gamegauge_api.support.BoardApiFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration de la recherche de tableaux ({@code GET /api/boards/search}) : l'index est construit à la
+ * première recherche, puis rattrapé par le journal des modifications après chaque modification faite par les
+ * vrais endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardSearchTest {
+
+    private static final String EMAIL = "search@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardChangeService boardChangeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BoardApiFixture api;
+
+    @BeforeEach
+    void setUp() {
+        api = new BoardApiFixture(mockMvc, objectMapper);
+
+        createUser("search", EMAIL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Les résultats sont classés, paginés et comptés, participants trouvés compris")
+    void search_shouldRankAndPaginate() throws Exception {
+        api.createBoard("Tarot du vendredi", ScoreCondition.HIGHEST_WINS);
+        long evening = api.createBoard("Soirée tarot", ScoreCondition.HIGHEST_WINS);
+        long belote = api.createBoard("Belote", ScoreCondition.HIGHEST_WINS);
+        api.addParticipant(belote, "Tarotin");
+        api.createBoard("Yams", ScoreCondition.HIGHEST_WINS);
+
+        JsonNode first = search("tarot", 0, 2);
+        assertThat(first.get("total").asInt()).isEqualTo(3);
+        assertThat(first.get("results")).extracting(r -> r.get("name").asText())
+                .containsExactly("Tarot du vendredi", "Soirée tarot");
+        assertThat(first.get("results").get(1).get("boardId").asLong()).isEqualTo(evening);
+
+        JsonNode second = search("tarot", 1, 2);
+        assertThat(second.get("results")).singleElement().satisfies(result -> {
+            assertThat(result.get("boardId").asLong()).isEqualTo(belote);
+            assertThat(result.get("matchType").asText()).isEqualTo("PARTICIPANT");
+            assertThat(result.get("participantNames")).extracting(JsonNode::asText).containsExactly("Tarotin");
+        });
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Renommages, ajouts et suppressions faits après la construction de l'index sont pris en compte")
+    void search_shouldFollowChanges() throws Exception {
+        long yams = api.createBoard("Yams", ScoreCondition.HIGHEST_WINS);
+        long participant = api.addParticipant(yams, "Alice");
+        assertThat(search("yams", 0, 20).get("total").asInt()).isEqualTo(1);
+
+        BoardUpdateRequest rename = new BoardUpdateRequest();
+        rename.setName("Yahtzee");
+        rename.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        api.perform(put("/api/boards/{id}", yams), rename);
+        ParticipantUpdateRequest renameParticipant = new ParticipantUpdateRequest();
+        renameParticipant.setName("Alicia");
+        api.perform(put("/api/boards/{b}/participants/{p}", yams, participant), renameParticipant);
+        long uno = api.createBoard("Uno", ScoreCondition.HIGHEST_WINS);
+        api.addParticipant(uno, "Alice");
+
+        assertThat(search("yams", 0, 20).get("total").asInt()).isZero();
+        assertThat(search("yaht", 0, 20).get("results")).singleElement()
+                .satisfies(result -> assertThat(result.get("boardId").asLong()).isEqualTo(yams));
+        assertThat(search("alic", 0, 20).get("results")).hasSize(2);
+
+        mockMvc.perform(delete("/api/boards/{id}", yams)).andExpect(status().is2xxSuccessful());
+
+        assertThat(search("alic", 0, 20).get("results")).singleElement().satisfies(result -> {
+            assertThat(result.get("boardId").asLong()).isEqualTo(uno);
+            assertThat(result.get("participantNames")).extracting(JsonNode::asText).containsExactly("Alice");
+        });
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Après une purge du journal, un index trop ancien est reconstruit")
+    void compactedHistory_shouldRebuildIndex() throws Exception {
+        long board = api.createBoard("Rami", ScoreCondition.HIGHEST_WINS);
+        assertThat(search("rami", 0, 20).get("total").asInt()).isEqualTo(1);
+
+        BoardUpdateRequest rename = new BoardUpdateRequest();
+        rename.setName("Scrabble");
+        rename.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        api.perform(put("/api/boards/{id}", board), rename);
+        boardChangeService.compactHistory(Instant.now().plusSeconds(1));
+
+        assertThat(search("rami", 0, 20).get("total").asInt()).isZero();
+        assertThat(search("scrab", 0, 20).get("total").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(username = "other@example.com")
+    @DisplayName("La recherche ne porte que sur les tableaux de l'utilisateur connecté")
+    void search_shouldOnlyCoverOwnBoards() throws Exception {
+        createUser("other", "other@example.com");
+        jdbcTemplate.update("INSERT INTO boards (name, owner_id, score_condition, created_at, updated_at) "
+                + "SELECT 'Partie privée', id, 'HIGHEST_WINS', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM users "
+                + "WHERE email = ?", EMAIL);
+
+        assertThat(search("privee", 0, 20).get("total").asInt()).isZero();
+    }
+
+    private void createUser(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword("hash");
+        userRepository.save(user);
+    }
+
+    private JsonNode search(String query, int page, int size) throws Exception {
+        String json = mockMvc.perform(get("/api/boards/search").param("q", query)
+                        .param("page", Integer.toString(page)).param("size", Integer.toString(size)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+}
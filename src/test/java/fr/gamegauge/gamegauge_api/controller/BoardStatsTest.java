@@ -0,0 +1,213 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardUpdateRequest;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration des statistiques d'un tableau ({@code GET /api/boards/{id}/stats}), calculées par
+ * la base H2 du profil de test avec les mêmes fonctions de fenêtrage qu'en production.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardStatsTest {
+
+    private static final String EMAIL = "stats@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+    private long alice;
+    private long bob;
+    private long chloe;
+
+    /**
+     * Alice : 10, 2, 8 ; Bob : 5, 9, 9 ; Chloé : 10, absente au tour 2, 1 (plus un second score de 3 au tour 3).
+     */
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("stats");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Partie statistique");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        board.addParticipant(participant("Alice", 1, 10, 2, 2, 3, 8));
+        board.addParticipant(participant("Bob", 1, 5, 2, 9, 3, 9));
+        board.addParticipant(participant("Chloé", 1, 10, 3, 1, 3, 3));
+        board = boardRepository.save(board);
+        alice = board.getParticipants().get(0).getId();
+        bob = board.getParticipants().get(1).getId();
+        chloe = board.getParticipants().get(2).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Cumuls, classements, vainqueurs et agrégats de chaque tour sont calculés par la base")
+    void stats_shouldComputePerRoundAggregates() throws Exception {
+        JsonNode stats = stats();
+
+        assertThat(stats.get("scoreCondition").asText()).isEqualTo("HIGHEST_WINS");
+        JsonNode rounds = stats.get("rounds");
+        assertThat(rounds).extracting(round -> round.get("roundNumber").asInt()).containsExactly(1, 2, 3);
+
+        JsonNode first = rounds.get(0);
+        assertThat(first.get("winners")).extracting(JsonNode::asLong).containsExactlyInAnyOrder(alice, chloe);
+        assertThat(first.get("mean").asDouble()).isCloseTo(25 / 3.0, offset(1e-6));
+        assertThat(first.get("max").asInt()).isEqualTo(10);
+        assertThat(first.get("min").asInt()).isEqualTo(5);
+        assertThat(standing(first, bob).get("position").asInt()).isEqualTo(3);
+        assertThat(standing(first, bob).get("gapToLeader").asLong()).isEqualTo(5);
+        assertThat(standing(first, bob).has("positionChange")).isFalse();
+
+        // Tour 2 : Chloé n'a pas joué, elle garde son cumul et n'entre pas dans les agrégats.
+        JsonNode second = rounds.get(1);
+        assertThat(second.get("winners")).extracting(JsonNode::asLong).containsExactly(bob);
+        assertThat(second.get("min").asInt()).isEqualTo(2);
+        assertThat(standing(second, chloe).has("score")).isFalse();
+        assertThat(standing(second, chloe).get("cumulative").asLong()).isEqualTo(10);
+        assertThat(standing(second, bob).get("cumulative").asLong()).isEqualTo(14);
+        assertThat(standing(second, bob).get("position").asInt()).isEqualTo(1);
+        assertThat(standing(second, bob).get("positionChange").asInt()).isEqualTo(2);
+
+        // Tour 3 : les deux scores de Chloé sont additionnés.
+        JsonNode third = rounds.get(2);
+        assertThat(standing(third, chloe).get("score").asInt()).isEqualTo(4);
+        assertThat(third.get("standings")).extracting(s -> s.get("participantId").asLong())
+                .containsExactly(bob, alice, chloe);
+        assertThat(stats.get("participants")).extracting(p -> p.get("name").asText())
+                .containsExactly("Bob", "Alice", "Chloé");
+        assertThat(stats.get("participants").get(0).get("total").asLong()).isEqualTo(23);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Quand le plus petit score gagne, classements et vainqueurs s'inversent")
+    void stats_shouldFollowLowestWins() throws Exception {
+        BoardUpdateRequest request = new BoardUpdateRequest();
+        request.setName(board.getName());
+        request.setScoreCondition(ScoreCondition.LOWEST_WINS);
+        mockMvc.perform(put("/api/boards/{id}", board.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        JsonNode stats = stats();
+        assertThat(stats.get("scoreCondition").asText()).isEqualTo("LOWEST_WINS");
+        assertThat(stats.get("rounds").get(0).get("winners")).extracting(JsonNode::asLong).containsExactly(bob);
+        assertThat(stats.get("participants")).extracting(p -> p.get("id").asLong())
+                .containsExactly(chloe, alice, bob);
+        assertThat(standing(stats.get("rounds").get(2), bob).get("gapToLeader").asLong()).isEqualTo(23 - 14);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Une modification du tableau change sa version : les statistiques en cache sont recalculées")
+    void stats_shouldBeRecomputedWhenBoardChanges() throws Exception {
+        JsonNode before = stats();
+        assertThat(stats()).isEqualTo(before);
+
+        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+        request.setRoundNumber(4);
+        request.setScoreValue(50);
+        mockMvc.perform(put("/api/boards/{b}/participants/{p}/scores", board.getId(), chloe)
+                        .contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        JsonNode after = stats();
+        assertThat(after.get("version").asLong()).isGreaterThan(before.get("version").asLong());
+        assertThat(after.get("rounds")).hasSize(4);
+        assertThat(after.get("participants").get(0).get("id").asLong()).isEqualTo(chloe);
+    }
+
+    @Test
+    @WithMockUser(username = "intruder@example.com")
+    @DisplayName("Les statistiques d'un tableau ne sont pas visibles par un autre utilisateur")
+    void otherUser_shouldNotSeeStats() throws Exception {
+        mockMvc.perform(get("/api/boards/{id}/stats", board.getId())).andExpect(status().isNotFound());
+    }
+
+    private JsonNode stats() throws Exception {
+        String json = mockMvc.perform(get("/api/boards/{id}/stats", board.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+
+    private static JsonNode standing(JsonNode round, long participantId) {
+        for (JsonNode standing : round.get("standings")) {
+            if (standing.get("participantId").asLong() == participantId) {
+                return standing;
+            }
+        }
+        throw new AssertionError("Participant " + participantId + " absent du tour " + round.get("roundNumber"));
+    }
+
+    /**
+     * Crée un participant à partir de couples (tour, score).
+     */
+    private static Participant participant(String name, int... roundsAndScores) {
+        Participant participant = new Participant();
+        participant.setName(name);
+        for (int i = 0; i < roundsAndScores.length; i += 2) {
+            ScoreEntry entry = new ScoreEntry();
+            entry.setRoundNumber(roundsAndScores[i]);
+            entry.setScoreValue(roundsAndScores[i + 1]);
+            participant.addScoreEntry(entry);
+        }
+        return participant;
+    }
+}
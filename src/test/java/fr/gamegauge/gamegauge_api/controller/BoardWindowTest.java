@@ -0,0 +1,172 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration de la lecture d'un tableau par fenêtre ({@code GET /api/boards/{id}} avec
+ * {@code participantsOffset}, {@code participantsLimit}, {@code roundsFrom} et {@code roundsTo}) : la fenêtre
+ * doit correspondre à la même tranche du tableau complet.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BoardWindowTest {
+
+    private static final String EMAIL = "window@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+
+    /**
+     * Alice : 10, 2, 8 (20) ; Bob : 5, 9, 9 (23) ; Chloé : 10, 1, 9 (20) ; David : aucun score (0).
+     */
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("window");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Grande partie");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        board.addParticipant(participant("Alice", 1, 10, 2, 2, 3, 8));
+        board.addParticipant(participant("Bob", 1, 5, 2, 9, 3, 9));
+        board.addParticipant(participant("Chloé", 1, 10, 2, 1, 3, 9));
+        board.addParticipant(participant("David"));
+        board = boardRepository.save(board);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("La fenêtre reprend l'ordre du tableau complet, avec les rangs ex aequo et les seuls tours demandés")
+    void window_shouldMatchSliceOfFullBoard() throws Exception {
+        JsonNode full = read(get("/api/boards/{id}", board.getId()));
+        JsonNode window = read(get("/api/boards/{id}", board.getId())
+                .param("participantsOffset", "1").param("participantsLimit", "2")
+                .param("roundsFrom", "2").param("roundsTo", "2"));
+
+        assertThat(window.get("participantCount").asInt()).isEqualTo(4);
+        assertThat(window.get("roundsPlayed").asInt()).isEqualTo(3);
+        assertThat(window.get("participants")).extracting(p -> p.get("id").asLong())
+                .containsExactly(full.get("participants").get(1).get("id").asLong(),
+                        full.get("participants").get(2).get("id").asLong());
+        assertThat(window.get("participants")).extracting(p -> p.get("rank").asInt()).containsExactly(2, 2);
+        assertThat(window.get("participants")).extracting(p -> p.get("totalScore").asInt()).containsExactly(20, 20);
+        assertThat(window.get("participants")).allSatisfy(p -> assertThat(p.get("scores"))
+                .singleElement().satisfies(score -> assertThat(score.get("roundNumber").asInt()).isEqualTo(2)));
+        assertThat(full.has("participantCount")).isFalse();
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Quand le plus petit score gagne, le classement de la fenêtre s'inverse")
+    void window_shouldFollowLowestWins() throws Exception {
+        jdbcTemplate.update("UPDATE boards SET score_condition = 'LOWEST_WINS' WHERE id = ?", board.getId());
+
+        JsonNode window = read(get("/api/boards/{id}", board.getId()).param("participantsLimit", "1"));
+
+        assertThat(window.get("participants")).singleElement().satisfies(p -> {
+            assertThat(p.get("name").asText()).isEqualTo("David");
+            assertThat(p.get("rank").asInt()).isEqualTo(1);
+            assertThat(p.get("scores")).isEmpty();
+        });
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Une fenêtre au-delà du dernier participant est vide mais garde les totaux du tableau")
+    void windowPastEnd_shouldBeEmpty() throws Exception {
+        JsonNode window = read(get("/api/boards/{id}", board.getId()).param("participantsOffset", "10"));
+
+        assertThat(window.get("participants")).isEmpty();
+        assertThat(window.get("participantCount").asInt()).isEqualTo(4);
+        assertThat(window.get("roundsPlayed").asInt()).isEqualTo(3);
+    }
+
+    @Test
+    @WithMockUser(username = "intruder@example.com")
+    @DisplayName("La fenêtre d'un tableau n'est pas visible par un autre utilisateur")
+    void otherUser_shouldNotSeeWindow() throws Exception {
+        User intruder = new User();
+        intruder.setUsername("intruder");
+        intruder.setEmail("intruder@example.com");
+        intruder.setPassword("hash");
+        userRepository.save(intruder);
+
+        mockMvc.perform(get("/api/boards/{id}", board.getId()).param("participantsLimit", "1"))
+                .andExpect(status().isNotFound());
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        String json = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+
+    /**
+     * Crée un participant à partir de couples (tour, score).
+     */
+    private static Participant participant(String name, int... roundsAndScores) {
+        Participant participant = new Participant();
+        participant.setName(name);
+        for (int i = 0; i < roundsAndScores.length; i += 2) {
+            ScoreEntry entry = new ScoreEntry();
+            entry.setRoundNumber(roundsAndScores[i]);
+            entry.setScoreValue(roundsAndScores[i + 1]);
+            participant.addScoreEntry(entry);
+        }
+        return participant;
+    }
+}
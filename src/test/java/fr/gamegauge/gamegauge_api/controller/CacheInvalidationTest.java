@@ -0,0 +1,203 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import fr.gamegauge.gamegauge_api.GameGaugeApplication;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.AuthService;
+import fr.gamegauge.gamegauge_api.service.BoardService;
+import fr.gamegauge.gamegauge_api.service.LeaderboardKind;
+import fr.gamegauge.gamegauge_api.service.LeaderboardService;
+import fr.gamegauge.gamegauge_api.service.LiveGameService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests d'intégration de la cohérence des caches entre deux instances de l'API : le contexte du test (instance A)
+ * et un second contexte (instance B) partagent la base H2 et la table {@code cache_invalidations}. Une modification
+ * faite sur A doit être visible sur B, dont les caches sont déjà remplis, dans l'intervalle de lecture du bus.
+ */
+@SpringBootTest(properties = {
+        "gamegauge.invalidation.transport=jdbc",
+        "gamegauge.invalidation.poll-interval=" + CacheInvalidationTest.POLL_INTERVAL
+})
+@ActiveProfiles("test")
+class CacheInvalidationTest {
+
+    static final String POLL_INTERVAL = "PT0.2S";
+    /** Péremption tolérée : l'intervalle de lecture, plus une marge pour le planificateur. */
+    private static final Duration STALENESS_BOUND = Duration.ofSeconds(2);
+    private static final String EMAIL = "multi-node@example.com";
+
+    private static ConfigurableApplicationContext nodeB;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private LiveGameService liveGameService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+    private Long alice;
+
+    @BeforeAll
+    static void startNodeB() {
+        nodeB = new SpringApplicationBuilder(GameGaugeApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                // En arguments : les propriétés par défaut du builder ne priment pas sur application-test.properties.
+                .run("--gamegauge.invalidation.transport=jdbc",
+                        "--gamegauge.invalidation.poll-interval=" + POLL_INTERVAL,
+                        "--gamegauge.leaderboards.remote-sync-interval=" + POLL_INTERVAL);
+    }
+
+    @AfterAll
+    static void stopNodeB() {
+        nodeB.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("multi-node");
+        user.setEmail(EMAIL);
+        user.setPassword(passwordEncoder.encode("ancien-mot-de-passe"));
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Partie sur deux instances");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        Participant participant = new Participant();
+        participant.setName("Alice");
+        board.addParticipant(participant);
+        board = boardRepository.save(board);
+        alice = board.getParticipants().get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeB.getBean(LiveGameService.class).evictIdle(Duration.ZERO);
+        liveGameService.evictIdle(Duration.ZERO);
+        jdbcTemplate.update("DELETE FROM cache_invalidations");
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("Un mot de passe réinitialisé sur une instance n'est plus accepté par l'autre, passé l'intervalle de lecture")
+    void resetPassword_shouldEvictUserCachedOnOtherNode() {
+        UserDetailsService usersOnB = nodeB.getBean(UserDetailsService.class);
+        assertThat(passwordEncoder.matches("ancien-mot-de-passe",
+                usersOnB.loadUserByUsername(EMAIL).getPassword())).isTrue();
+
+        // L'utilisateur est en cache sur B : la base modifiée directement n'y change rien.
+        jdbcTemplate.update("UPDATE users SET reset_password_token = ?, token_expiry_date = ? WHERE email = ?",
+                "jeton", LocalDateTime.now().plusHours(1), EMAIL);
+        assertThat(passwordEncoder.matches("ancien-mot-de-passe",
+                usersOnB.loadUserByUsername(EMAIL).getPassword())).isTrue();
+
+        authService.resetPassword("jeton", "nouveau-mot-de-passe");
+
+        assertWithinStalenessBound(() -> passwordEncoder.matches("nouveau-mot-de-passe",
+                usersOnB.loadUserByUsername(EMAIL).getPassword()));
+    }
+
+    @Test
+    @DisplayName("Un score écrit sur une instance apparaît dans le tableau en direct de l'autre, passé l'intervalle de lecture")
+    void setScore_shouldEvictLiveBoardOnOtherNode() {
+        LiveGameService liveOnB = nodeB.getBean(LiveGameService.class);
+        assertThat(liveOnB.getBoard(board.getId(), EMAIL).getTotals()).containsExactly(0);
+        assertThat(liveOnB.isLive(board.getId())).isTrue();
+
+        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+        request.setRoundNumber(1);
+        request.setScoreValue(10);
+        boardService.setScoreForParticipant(board.getId(), alice, request, EMAIL);
+
+        assertWithinStalenessBound(() -> liveOnB.getBoard(board.getId(), EMAIL).getTotals()[0] == 10);
+    }
+
+    @Test
+    @DisplayName("Un score écrit sur une instance apparaît dans les classements globaux de l'autre, passé l'intervalle de lecture")
+    void setScore_shouldReachLeaderboardOnOtherNode() {
+        LeaderboardService leaderboardsOnB = nodeB.getBean(LeaderboardService.class);
+        leaderboardsOnB.rebuild();
+        assertThat(leaderboardsOnB.getLeaderboard(LeaderboardKind.TOTALS, ScoreCondition.HIGHEST_WINS, 0, 100)
+                .getEntries()).noneMatch(entry -> entry.getParticipantId() == alice);
+
+        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+        request.setRoundNumber(1);
+        request.setScoreValue(10);
+        boardService.setScoreForParticipant(board.getId(), alice, request, EMAIL);
+
+        assertWithinStalenessBound(() -> leaderboardsOnB
+                .getLeaderboard(LeaderboardKind.TOTALS, ScoreCondition.HIGHEST_WINS, 0, 100).getEntries().stream()
+                .anyMatch(entry -> entry.getParticipantId() == alice && entry.getValue() == 10));
+    }
+
+    /**
+     * Attend qu'une condition soit vraie, en échouant si elle ne l'est pas dans la péremption tolérée.
+     */
+    private static void assertWithinStalenessBound(BooleanSupplier condition) {
+        long start = System.nanoTime();
+        long deadline = start + STALENESS_BOUND.toNanos();
+        boolean satisfied = condition.getAsBoolean();
+        while (!satisfied && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            satisfied = condition.getAsBoolean();
+        }
+        assertThat(satisfied)
+                .as("visible sur l'autre instance en moins de %s (écoulé : %s ms)", STALENESS_BOUND,
+                        Duration.ofNanos(System.nanoTime() - start).toMillis())
+                .isTrue();
+    }
+}
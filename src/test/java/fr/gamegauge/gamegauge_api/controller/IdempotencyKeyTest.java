@@ -0,0 +1,224 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import fr.gamegauge.gamegauge_api.config.IdempotencyFilter;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.IdempotencyService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Tests d'intégration des clés d'idempotence ({@code Idempotency-Key}) sur les écritures des tableaux : une
+ * nouvelle tentative reçoit la réponse de la première sans rien modifier, même après un redémarrage.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyKeyTest {
+
+    private static final String EMAIL = "idempotency@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private Cache<IdempotencyService.Key, IdempotencyService.StoredResponse> idempotencyCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("idempotency");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Partie du soir");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        Participant alice = new Participant();
+        alice.setName("Alice");
+        board.addParticipant(alice);
+        board = boardRepository.save(board);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyCache.invalidateAll();
+        jdbcTemplate.update("DELETE FROM idempotency_keys");
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Un ajout de participant rejoué renvoie la même réponse sans créer de doublon")
+    void addParticipant_shouldReplayFirstResponse() throws Exception {
+        MockHttpServletResponse first = perform(addParticipant("Bob", "cle-1"));
+        MockHttpServletResponse retry = perform(addParticipant("Bob", "cle-1"));
+
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(count("SELECT COUNT(*) FROM participants WHERE board_id = ?")).isEqualTo(2);
+
+        // Sans clé, ou avec une autre clé, la requête est exécutée.
+        assertThat(perform(addParticipant("Bob", "cle-2")).getStatus()).isEqualTo(201);
+        assertThat(count("SELECT COUNT(*) FROM participants WHERE board_id = ?")).isEqualTo(3);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Après un redémarrage (cache vide), la réponse est relue depuis la table")
+    void setScore_shouldReplayFromTableAfterRestart() throws Exception {
+        Long participantId = board.getParticipants().get(0).getId();
+        MockHttpServletResponse first = perform(setScore(participantId, 12, "score-1"));
+        Integer changes = count("SELECT COUNT(*) FROM board_changes WHERE board_id = ?");
+
+        idempotencyCache.invalidateAll();
+        MockHttpServletResponse retry = perform(setScore(participantId, 12, "score-1"));
+
+        assertThat(retry.getStatus()).isEqualTo(200);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(count("SELECT COUNT(*) FROM board_changes WHERE board_id = ?")).isEqualTo(changes);
+
+        // Une fois la clé expirée et purgée, elle est de nouveau disponible.
+        assertThat(idempotencyService.purgeCreatedBefore(Instant.now().plusSeconds(1))).isEqualTo(1);
+        idempotencyCache.invalidateAll();
+        assertThat(perform(setScore(participantId, 12, "score-1")).getHeader(IdempotencyFilter.REPLAYED_HEADER))
+                .isNull();
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Une clé réutilisée pour une autre requête, ou invalide, est refusée")
+    void reusedOrInvalidKey_shouldBeRejected() throws Exception {
+        Long participantId = board.getParticipants().get(0).getId();
+        perform(setScore(participantId, 12, "score-2"));
+
+        assertThat(perform(setScore(participantId, 13, "score-2")).getStatus()).isEqualTo(422);
+        assertThat(perform(addParticipant("Bob", "score-2")).getStatus()).isEqualTo(422);
+        assertThat(perform(addParticipant("Bob", " ")).getStatus()).isEqualTo(400);
+        assertThat(perform(addParticipant("Bob", "x".repeat(256))).getStatus()).isEqualTo(400);
+        assertThat(count("SELECT COUNT(*) FROM participants WHERE board_id = ?")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM score_entries WHERE score_value = 13")).isZero();
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Une clé réservée sans réponse est reprise une fois le délai d'exécution dépassé")
+    void stalePendingClaim_shouldBeTakenOver() throws Exception {
+        // Réservation d'une instance arrêtée avant d'avoir enregistré sa réponse.
+        assertThat(idempotencyService.claim(EMAIL, "cle-3", "empreinte").outcome())
+                .isEqualTo(IdempotencyService.Claim.Outcome.ACQUIRED);
+        assertThat(perform(addParticipant("Bob", "cle-3")).getStatus()).isEqualTo(409);
+
+        jdbcTemplate.update("UPDATE idempotency_keys SET created_at = TIMESTAMPADD(MINUTE, -5, created_at)");
+        MockHttpServletResponse retry = perform(addParticipant("Bob", "cle-3"));
+
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(count("SELECT COUNT(*) FROM participants WHERE board_id = ?")).isEqualTo(2);
+        assertThat(perform(addParticipant("Bob", "cle-3")).getHeader(IdempotencyFilter.REPLAYED_HEADER))
+                .isEqualTo("true");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("La requête dont la clé a été reprise ne modifie plus la réservation de celle qui l'a reprise")
+    void supersededClaim_shouldNotTouchTakeover() throws Exception {
+        IdempotencyService.Claim stale = idempotencyService.claim(EMAIL, "cle-4", "empreinte");
+        jdbcTemplate.update("UPDATE idempotency_keys SET created_at = TIMESTAMPADD(MINUTE, -5, created_at)");
+        IdempotencyService.Claim takeover = idempotencyService.claim(EMAIL, "cle-4", "empreinte");
+        assertThat(takeover.outcome()).isEqualTo(IdempotencyService.Claim.Outcome.ACQUIRED);
+
+        // La requête remplacée termine (en échec, puis en succès) : la reprise reste en cours.
+        idempotencyService.release(EMAIL, "cle-4", stale.claimedAt());
+        idempotencyService.complete(EMAIL, "cle-4", stale.claimedAt(),
+                new IdempotencyService.StoredResponse("empreinte", 200, null, new byte[0]));
+        assertThat(idempotencyService.claim(EMAIL, "cle-4", "empreinte").outcome())
+                .isEqualTo(IdempotencyService.Claim.Outcome.IN_PROGRESS);
+
+        idempotencyService.complete(EMAIL, "cle-4", takeover.claimedAt(),
+                new IdempotencyService.StoredResponse("empreinte", 201, null, new byte[0]));
+        IdempotencyService.Claim replay = idempotencyService.claim(EMAIL, "cle-4", "empreinte");
+        assertThat(replay.outcome()).isEqualTo(IdempotencyService.Claim.Outcome.REPLAY);
+        assertThat(replay.response().status()).isEqualTo(201);
+    }
+
+    private MockHttpServletRequestBuilder addParticipant(String name, String key) {
+        return post("/api/boards/{id}/participants", board.getId())
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"" + name + "\"}");
+    }
+
+    private MockHttpServletRequestBuilder setScore(Long participantId, int value, String key) throws Exception {
+        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+        request.setRoundNumber(1);
+        request.setScoreValue(value);
+        return put("/api/boards/{b}/participants/{p}/scores", board.getId(), participantId)
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request));
+    }
+
+    private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private Integer count(String sql) {
+        return sql.contains("?") ? jdbcTemplate.queryForObject(sql, Integer.class, board.getId())
+                : jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
@@ -0,0 +1,175 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardUpdateRequest;
+import fr.gamegauge.gamegauge_api.dto.request.ParticipantUpdateRequest;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.LeaderboardService;
+import fr.gamegauge.gamegauge_api.support.BoardApiFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration des classements globaux ({@code GET /api/leaderboards/*}), avec des classements de
+ * 4 entrées (reconstruits sous 3) : mises à jour par les vrais endpoints, puis comparaison avec une reconstruction
+ * complète.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"gamegauge.leaderboards.size=4", "gamegauge.leaderboards.refill-threshold=3"})
+class LeaderboardTest {
+
+    private static final String EMAIL = "leader@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BoardApiFixture api;
+
+    @BeforeEach
+    void setUp() {
+        api = new BoardApiFixture(mockMvc, objectMapper);
+
+        User user = new User();
+        user.setUsername("leader");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+        leaderboardService.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Les classements suivent les saisies, par condition de victoire, et sont paginés")
+    void leaderboards_shouldFollowWrites() throws Exception {
+        long high = api.createBoard("Partie classée", ScoreCondition.HIGHEST_WINS);
+        long alice = api.addParticipant(high, "Alice");
+        long bob = api.addParticipant(high, "Bob");
+        api.setScore(high, alice, 1, 30);
+        api.setScore(high, alice, 2, 12);
+        api.setScore(high, bob, 1, 25);
+        api.setScore(high, bob, 2, 30);
+        long low = api.createBoard("Partie classée", ScoreCondition.LOWEST_WINS);
+        api.setScore(low, api.addParticipant(low, "Chloé"), 1, 2);
+
+        JsonNode rounds = leaderboard("rounds", ScoreCondition.HIGHEST_WINS, 0, 3);
+        assertThat(rounds.get("available").asInt()).isEqualTo(4);
+        assertThat(rounds.get("entries")).extracting(e -> e.get("value").asLong()).containsExactly(30L, 30L, 25L);
+        assertThat(rounds.get("entries")).extracting(e -> e.get("rank").asInt()).containsExactly(1, 1, 3);
+        assertThat(rounds.get("entries").get(0).get("participantName").asText()).isEqualTo("Alice");
+        assertThat(rounds.get("entries").get(0).get("roundNumber").asInt()).isEqualTo(1);
+
+        JsonNode secondPage = leaderboard("rounds", ScoreCondition.HIGHEST_WINS, 1, 3);
+        assertThat(secondPage.get("entries")).singleElement().satisfies(e -> {
+            assertThat(e.get("value").asLong()).isEqualTo(12);
+            assertThat(e.get("rank").asInt()).isEqualTo(4);
+        });
+
+        JsonNode totals = leaderboard("totals", ScoreCondition.HIGHEST_WINS, 0, 10);
+        assertThat(totals.get("entries")).extracting(e -> e.get("participantName").asText()).containsExactly("Bob", "Alice");
+        assertThat(totals.get("entries").get(0).has("roundNumber")).isFalse();
+        assertThat(leaderboard("totals", ScoreCondition.LOWEST_WINS, 0, 10).get("entries")).singleElement()
+                .satisfies(e -> assertThat(e.get("value").asLong()).isEqualTo(2));
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Renommages, suppressions et changement de condition sont reportés ; un classement tronqué est reconstruit")
+    void leaderboards_shouldMatchRebuild() throws Exception {
+        long board = api.createBoard("Partie classée", ScoreCondition.HIGHEST_WINS);
+        long alice = api.addParticipant(board, "Alice");
+        long bob = api.addParticipant(board, "Bob");
+        for (int round = 1; round <= 3; round++) {
+            api.setScore(board, alice, round, 10 * round);
+            api.setScore(board, bob, round, 7 * round);
+        }
+        long other = api.createBoard("Partie classée", ScoreCondition.HIGHEST_WINS);
+        long chloe = api.addParticipant(other, "Chloé");
+        api.setScore(other, chloe, 1, 50);
+
+        // Le meilleur score de tour disparaît ; Bob est renommé ; le second tableau passe en LOWEST_WINS.
+        long best = api.setScore(board, alice, 3, 1).get("id").asLong();
+        ParticipantUpdateRequest rename = new ParticipantUpdateRequest();
+        rename.setName("Robert");
+        api.perform(put("/api/boards/{b}/participants/{p}", board, bob), rename);
+        BoardUpdateRequest rules = new BoardUpdateRequest();
+        rules.setName("Partie inversée");
+        rules.setScoreCondition(ScoreCondition.LOWEST_WINS);
+        api.perform(put("/api/boards/{id}", other), rules);
+        mockMvc.perform(delete("/api/boards/{b}/participants/{p}/scores/{s}", board, alice, best))
+                .andExpect(status().is2xxSuccessful());
+
+        // 30 et 50 sont sortis sans pouvoir être remplacés (14 avait été exclu) : le classement reste exact, mais court.
+        JsonNode rounds = leaderboard("rounds", ScoreCondition.HIGHEST_WINS, 0, 4);
+        assertThat(rounds.get("entries")).extracting(e -> e.get("value").asLong()).containsExactly(21L, 20L);
+        assertThat(rounds.get("entries").get(0).get("participantName").asText()).isEqualTo("Robert");
+        JsonNode lowest = leaderboard("rounds", ScoreCondition.LOWEST_WINS, 0, 4);
+        assertThat(lowest.get("entries")).singleElement()
+                .satisfies(e -> assertThat(e.get("participantId").asLong()).isEqualTo(chloe));
+        JsonNode totals = leaderboard("totals", ScoreCondition.HIGHEST_WINS, 0, 4);
+        assertThat(totals.get("entries")).extracting(e -> e.get("value").asLong()).containsExactly(42L, 30L);
+
+        leaderboardService.refresh();
+
+        assertThat(leaderboard("rounds", ScoreCondition.HIGHEST_WINS, 0, 4).get("entries"))
+                .extracting(e -> e.get("value").asLong()).containsExactly(21L, 20L, 14L, 10L);
+        assertThat(leaderboard("rounds", ScoreCondition.LOWEST_WINS, 0, 4)).isEqualTo(lowest);
+        assertThat(leaderboard("totals", ScoreCondition.HIGHEST_WINS, 0, 4)).isEqualTo(totals);
+
+        mockMvc.perform(delete("/api/boards/{id}", board)).andExpect(status().is2xxSuccessful());
+        assertThat(leaderboard("rounds", ScoreCondition.HIGHEST_WINS, 0, 4).get("entries")).isEmpty();
+    }
+
+    private JsonNode leaderboard(String kind, ScoreCondition condition, int page, int size) throws Exception {
+        String json = mockMvc.perform(get("/api/leaderboards/" + kind)
+                        .param("condition", condition.name())
+                        .param("page", Integer.toString(page))
+                        .param("size", Integer.toString(size)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+}
@@ -0,0 +1,217 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.LiveGameService;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+
+import static fr.gamegauge.gamegauge_api.support.QueryCounting.sqlStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration du moteur de partie en direct ({@code /api/boards/{boardId}/live}) : lectures et écritures
+ * servies depuis la mémoire, écriture en base en différé, et cohérence avec les autres requêtes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LiveGameTest {
+
+    private static final String EMAIL = "live@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private LiveGameService liveGameService;
+
+    @Autowired
+    private ScoreWriteBehindService scoreWriteBehindService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+    private Long alice;
+    private Long bob;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("live");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Partie en direct");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        for (String name : new String[]{"Alice", "Bob"}) {
+            Participant participant = new Participant();
+            participant.setName(name);
+            board.addParticipant(participant);
+        }
+        board = boardRepository.save(board);
+        alice = board.getParticipants().get(0).getId();
+        bob = board.getParticipants().get(1).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        liveGameService.evictIdle(Duration.ZERO);
+        scoreWriteBehindService.flushAll();
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Une fois chargé, le tableau est lu et modifié sans requête SQL, puis écrit en différé")
+    void liveBoard_shouldServeFromMemoryAndPersistLater() throws Exception {
+        mockMvc.perform(get("/api/boards/{id}/live", board.getId())).andExpect(status().isOk());
+        assertThat(liveGameService.isLive(board.getId())).isTrue();
+
+        setLiveScore(alice, 1, 10).andExpect(status().isAccepted()).andExpect(sqlStatements(0));
+        setLiveScore(bob, 1, 15).andExpect(status().isAccepted()).andExpect(sqlStatements(0));
+        setLiveScore(alice, 2, 12).andExpect(status().isAccepted()).andExpect(sqlStatements(0));
+        mockMvc.perform(get("/api/boards/{id}/live", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(0))
+                .andExpect(jsonPath("$.participantNames[0]").value("Alice"))
+                .andExpect(jsonPath("$.totals[0]").value(22))
+                .andExpect(jsonPath("$.totals[1]").value(15))
+                .andExpect(jsonPath("$.rounds.length()").value(2));
+        assertThat(count("SELECT COUNT(*) FROM score_entries")).isZero();
+
+        // Une lecture hors direct voit les scores en attente, sans faire sortir le tableau de la mémoire.
+        mockMvc.perform(get("/api/boards/{id}", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants[0].totalScore").value(22));
+        assertThat(count("SELECT COUNT(*) FROM score_entries")).isEqualTo(3);
+        assertThat(liveGameService.isLive(board.getId())).isTrue();
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Une autre écriture sur le tableau le fait recharger ; un tableau inactif sort de la mémoire")
+    void otherWrites_shouldReloadAndIdleBoards_shouldBeEvicted() throws Exception {
+        setLiveScore(alice, 1, 4).andExpect(status().isAccepted());
+
+        mockMvc.perform(post("/api/boards/{id}/participants", board.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Chloé\"}"))
+                .andExpect(status().isCreated());
+        assertThat(liveGameService.isLive(board.getId())).isFalse();
+        mockMvc.perform(get("/api/boards/{id}/live", board.getId()))
+                .andExpect(jsonPath("$.participantNames.length()").value(3))
+                .andExpect(jsonPath("$.totals[0]").value(4));
+
+        setLiveScore(bob, 1, 9).andExpect(status().isAccepted());
+        assertThat(liveGameService.evictIdle(Duration.ZERO)).isEqualTo(1);
+        assertThat(liveGameService.isLive(board.getId())).isFalse();
+        assertThat(count("SELECT COUNT(*) FROM score_entries WHERE score_value = 9")).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Participant inconnu, tableau d'un autre utilisateur et fin de partie")
+    void unknownParticipantOtherOwnerAndEnd() throws Exception {
+        setLiveScore(-1L, 1, 3).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/boards/{id}/live", -1L)).andExpect(status().isNotFound());
+
+        setLiveScore(alice, 1, 6).andExpect(status().isAccepted());
+        mockMvc.perform(get("/api/boards/{id}/live", board.getId()).with(user("intrus@example.com")))
+                .andExpect(status().isNotFound());
+        setLiveScore(alice, 1, 99).andExpect(status().isAccepted());
+        mockMvc.perform(put("/api/boards/{b}/live/participants/{p}/scores", board.getId(), alice)
+                        .with(user("intrus@example.com"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"roundNumber\": 1, \"scoreValue\": 6}"))
+                .andExpect(status().isNotFound());
+        setLiveScore(alice, 1, 6).andExpect(status().isAccepted());
+
+        mockMvc.perform(delete("/api/boards/{id}/live", board.getId())).andExpect(status().isNoContent());
+        assertThat(liveGameService.isLive(board.getId())).isFalse();
+        assertThat(count("SELECT COUNT(*) FROM score_entries WHERE score_value = 6")).isEqualTo(1);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Un tour avec plusieurs scores vaut, une fois défini, la même valeur en direct et en base")
+    void duplicatedRound_shouldCollapseToTheDefinedValue() throws Exception {
+        jdbcTemplate.update("INSERT INTO score_entries (score_value, round_number, participant_id) VALUES (3, 1, ?)", alice);
+        jdbcTemplate.update("INSERT INTO score_entries (score_value, round_number, participant_id) VALUES (4, 1, ?)", alice);
+        mockMvc.perform(get("/api/boards/{id}/live", board.getId()))
+                .andExpect(jsonPath("$.totals[0]").value(7));
+
+        setLiveScore(alice, 1, 10).andExpect(status().isAccepted());
+        mockMvc.perform(get("/api/boards/{id}/live", board.getId()))
+                .andExpect(jsonPath("$.totals[0]").value(10));
+
+        mockMvc.perform(delete("/api/boards/{id}/live", board.getId())).andExpect(status().isNoContent());
+        assertThat(count("SELECT COUNT(*) FROM score_entries WHERE round_number = 1 AND participant_id = " + alice))
+                .isEqualTo(1);
+        mockMvc.perform(get("/api/boards/{id}", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants[0].totalScore").value(10));
+        mockMvc.perform(get("/api/boards/{id}/live", board.getId()))
+                .andExpect(jsonPath("$.totals[0]").value(10));
+    }
+
+    private ResultActions setLiveScore(Long participantId, int round, int value) throws Exception {
+        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+        request.setRoundNumber(round);
+        request.setScoreValue(value);
+        return mockMvc.perform(put("/api/boards/{b}/live/participants/{p}/scores", board.getId(), participantId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,198 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.BoardService;
+import fr.gamegauge.gamegauge_api.service.ScoreJournal;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration du journal des scores en attente d'écriture : un score différé est journalisé jusqu'à son
+ * écriture, et les scores restés dans le journal (arrêt brutal) sont rejoués en base.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ScoreJournalReplayTest {
+
+    private static final String EMAIL = "journal@example.com";
+    private static final Path DIRECTORY = Path.of("target", "score-journal-" + UUID.randomUUID());
+
+    @DynamicPropertySource
+    static void journal(DynamicPropertyRegistry registry) {
+        registry.add("gamegauge.journal.enabled", () -> "true");
+        registry.add("gamegauge.journal.directory", DIRECTORY::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ScoreJournal journal;
+
+    @Autowired
+    private ScoreWriteBehindService scoreWriteBehindService;
+
+    @MockitoSpyBean
+    private BoardService boardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+    private Long alice;
+    private Long bob;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("journal");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Partie journalisée");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        for (String name : new String[]{"Alice", "Bob"}) {
+            Participant participant = new Participant();
+            participant.setName(name);
+            board.addParticipant(participant);
+        }
+        board = boardRepository.save(board);
+        alice = board.getParticipants().get(0).getId();
+        bob = board.getParticipants().get(1).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreWriteBehindService.flushAll();
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Un score différé reste dans le journal jusqu'à son écriture en base")
+    void deferredScore_shouldStayJournaledUntilWritten() throws Exception {
+        mockMvc.perform(put("/api/boards/{b}/participants/{p}/scores", board.getId(), alice)
+                        .header("Prefer", ScoreWriteBehindService.RESPOND_ASYNC)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"roundNumber\": 1, \"scoreValue\": 8}"))
+                .andExpect(status().isAccepted());
+        assertThat(journal.unreleased()).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.boardId()).isEqualTo(board.getId());
+                    assertThat(entry.participantId()).isEqualTo(alice);
+                    assertThat(entry.scoreValue()).isEqualTo(8);
+                });
+
+        mockMvc.perform(get("/api/boards/{id}", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants[0].totalScore").value(8));
+        assertThat(journal.unreleased()).isEmpty();
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Les scores restés dans le journal sont rejoués en base, le dernier de chaque case l'emportant")
+    void unreleasedScores_shouldBeReplayed() throws Exception {
+        // Scores journalisés par un processus arrêté avant leur écriture.
+        journal.append(board.getId(), alice, 1, 10);
+        journal.append(board.getId(), bob, 1, 7);
+        journal.append(board.getId(), alice, 1, 12);
+        journal.append(-1L, alice, 1, 99);
+
+        assertThat(scoreWriteBehindService.recover()).isEqualTo(4);
+
+        assertThat(journal.unreleased()).isEmpty();
+        assertThat(scoreWriteBehindService.recover()).isZero();
+        mockMvc.perform(get("/api/boards/{id}", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants[0].totalScore").value(12))
+                .andExpect(jsonPath("$.participants[1].totalScore").value(7));
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM score_entries", Integer.class);
+        assertThat(rows).isEqualTo(2);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Un score différé dont l'écriture échoue reste dans le journal jusqu'à ce qu'elle réussisse")
+    void failedWrite_shouldKeepScoresJournaled() throws Exception {
+        doThrow(new QueryTimeoutException("base indisponible"))
+                .when(boardService).setScores(anyLong(), anyList(), anyString());
+        doThrow(new QueryTimeoutException("base indisponible"))
+                .when(boardService).setScoreForParticipant(anyLong(), anyLong(), any(), anyString());
+
+        mockMvc.perform(put("/api/boards/{b}/participants/{p}/scores", board.getId(), alice)
+                        .header("Prefer", ScoreWriteBehindService.RESPOND_ASYNC)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"roundNumber\": 1, \"scoreValue\": 8}"))
+                .andExpect(status().isAccepted());
+        scoreWriteBehindService.flush(board.getId());
+        assertThat(journal.unreleased()).singleElement()
+                .satisfies(entry -> assertThat(entry.scoreValue()).isEqualTo(8));
+
+        // Au redémarrage, le rejeu échoue aussi : le journal garde le score.
+        journal.append(board.getId(), bob, 1, 7);
+        scoreWriteBehindService.recover();
+        assertThat(journal.unreleased()).extracting(ScoreJournal.Entry::scoreValue).containsExactly(8, 7);
+        assertThat(scoreWriteBehindService.stats().dropped()).isZero();
+
+        // La base revient : la tentative suivante écrit les scores et libère le journal.
+        Mockito.reset(boardService);
+        scoreWriteBehindService.flush(board.getId());
+        assertThat(journal.unreleased()).isEmpty();
+        mockMvc.perform(get("/api/boards/{id}", board.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants[0].totalScore").value(8))
+                .andExpect(jsonPath("$.participants[1].totalScore").value(7));
+    }
+}
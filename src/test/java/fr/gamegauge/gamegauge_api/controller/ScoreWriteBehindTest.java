@@ -0,0 +1,180 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.ScoreWriteBehindService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration de l'écriture différée des scores ({@code Prefer: respond-async}) : regroupement par case,
+ * écriture avant toute autre requête sur le tableau, et repli sur l'écriture immédiate. L'écriture planifiée
+ * est désactivée par le profil de test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ScoreWriteBehindTest {
+
+    private static final String EMAIL = "write-behind@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ScoreWriteBehindService scoreWriteBehindService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Board board;
+    private Long alice;
+    private Long bob;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("write-behind");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Partie en direct");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        for (String name : new String[]{"Alice", "Bob"}) {
+            Participant participant = new Participant();
+            participant.setName(name);
+            board.addParticipant(participant);
+        }
+        board = boardRepository.save(board);
+        alice = board.getParticipants().get(0).getId();
+        bob = board.getParticipants().get(1).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreWriteBehindService.flushAll();
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Les scores d'une même case sont regroupés et écrits avant la lecture suivante du tableau")
+    void deferredScores_shouldCoalesceAndFlushBeforeNextRead() throws Exception {
+        ScoreWriteBehindService.Stats before = scoreWriteBehindService.stats();
+
+        for (int value : new int[]{10, 11, 10}) {
+            setScore(alice, 1, value, true).andExpect(status().isAccepted())
+                    .andExpect(header().string("Preference-Applied", ScoreWriteBehindService.RESPOND_ASYNC))
+                    .andExpect(jsonPath("$.scoreValue").value(value));
+        }
+        setScore(bob, 1, 5, true).andExpect(status().isAccepted());
+        setScore(bob, 1, 7, true).andExpect(status().isAccepted());
+        assertThat(count("SELECT COUNT(*) FROM score_entries")).isZero();
+
+        JsonNode read = objectMapper.readTree(mockMvc.perform(get("/api/boards/{id}", board.getId()))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString());
+
+        assertThat(read.get("participants")).extracting(p -> p.get("totalScore").asInt())
+                .containsExactlyInAnyOrder(10, 7);
+        assertThat(count("SELECT COUNT(*) FROM board_changes WHERE entity_type = 'SCORE'")).isEqualTo(2);
+        assertThat(count("SELECT COUNT(*) FROM score_events")).isEqualTo(2);
+        ScoreWriteBehindService.Stats after = scoreWriteBehindService.stats();
+        assertThat(after.received() - before.received()).isEqualTo(5);
+        assertThat(after.coalesced() - before.coalesced()).isEqualTo(3);
+        assertThat(after.written() - before.written()).isEqualTo(2);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Un score revenu à sa valeur enregistrée n'est pas réécrit")
+    void deferredScore_backToStoredValue_shouldNotBeWritten() throws Exception {
+        setScore(alice, 1, 10, false).andExpect(status().isOk());
+        int changes = count("SELECT COUNT(*) FROM board_changes");
+
+        setScore(alice, 1, 12, true).andExpect(status().isAccepted());
+        setScore(alice, 1, 10, true).andExpect(status().isAccepted());
+        scoreWriteBehindService.flushAll();
+
+        assertThat(count("SELECT COUNT(*) FROM board_changes")).isEqualTo(changes);
+        assertThat(count("SELECT score_value FROM score_entries")).isEqualTo(10);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Un score non vérifiable est écrit tout de suite ; un score devenu impossible est abandonné seul")
+    void fallback_shouldWriteImmediatelyOrDropOnlyImpossibleScores() throws Exception {
+        setScore(-1L, 1, 3, true).andExpect(status().isNotFound());
+
+        setScore(alice, 1, 4, true).andExpect(status().isAccepted());
+        setScore(bob, 1, 6, true).andExpect(status().isAccepted());
+        // Bob disparaît avant l'écriture du lot (hors API, qui aurait d'abord écrit les scores en attente).
+        jdbcTemplate.update("DELETE FROM participants WHERE id = ?", bob);
+        long dropped = scoreWriteBehindService.stats().dropped();
+        scoreWriteBehindService.flushAll();
+
+        assertThat(scoreWriteBehindService.stats().dropped() - dropped).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM score_entries")).isEqualTo(1);
+        assertThat(count("SELECT score_value FROM score_entries")).isEqualTo(4);
+    }
+
+    private ResultActions setScore(Long participantId, int round, int value, boolean deferred) throws Exception {
+        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+        request.setRoundNumber(round);
+        request.setScoreValue(value);
+        var builder = put("/api/boards/{b}/participants/{p}/scores", board.getId(), participantId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request));
+        if (deferred) {
+            builder.header("Prefer", ScoreWriteBehindService.RESPOND_ASYNC);
+        }
+        return mockMvc.perform(builder);
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count != null ? count : 0;
+    }
+}
@@ -2,6 +2,7 @@ package fr.gamegauge.gamegauge_api.controller;
 
 import fr.gamegauge.gamegauge_api.config.SecurityConfig;
 import fr.gamegauge.gamegauge_api.service.JwtService;
+import fr.gamegauge.gamegauge_api.service.OwnerStatsService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -29,6 +30,9 @@ class UserControllerTest {
     @MockitoBean
     private UserDetailsService userDetailsService;
 
+    @MockitoBean
+    private OwnerStatsService ownerStatsService;
+
     @Test
     @WithMockUser(username = "user@example.com")
     void userProfile_shouldReturnWelcomeMessage_whenAuthenticated() throws Exception {
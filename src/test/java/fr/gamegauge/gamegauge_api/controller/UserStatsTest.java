@@ -0,0 +1,231 @@
+package fr.gamegauge.gamegauge_api.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardCreateRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.service.OwnerStatsBackfill;
+import fr.gamegauge.gamegauge_api.support.BoardApiFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration des statistiques de jeu par utilisateur ({@code GET /api/users/stats}) : mises à jour
+ * incrémentales par les vrais endpoints, puis comparaison avec une reconstruction complète
+ * ({@link OwnerStatsBackfill}, découpée en tranches d'un propriétaire).
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"gamegauge.owner-stats.owners-per-task=1", "gamegauge.owner-stats.parallelism=2"})
+class UserStatsTest {
+
+    private static final String EMAIL = "player@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private OwnerStatsBackfill backfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    private BoardApiFixture api;
+
+    @BeforeEach
+    void setUp() {
+        api = new BoardApiFixture(mockMvc, objectMapper);
+
+        user = user("player", EMAIL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Les statistiques suivent chaque modification et la reconstruction complète donne le même résultat")
+    void stats_shouldBeMaintainedIncrementally() throws Exception {
+        long first = createBoard("Première partie", ScoreCondition.HIGHEST_WINS, null, 2);
+        long alice = api.addParticipant(first, "Alice");
+        long bob = api.addParticipant(first, "Bob");
+        api.setScore(first, alice, 1, 10);
+        api.setScore(first, bob, 1, 5);
+        api.setScore(first, alice, 2, 3);
+        api.setScore(first, bob, 2, 9);
+        assertThat(stats().get("topWinners")).singleElement()
+                .satisfies(winner -> assertThat(winner.get("name").asText()).isEqualTo("Bob"));
+
+        // Bob passe de 14 à 6 : Alice gagne la première partie à sa place.
+        api.setScore(first, bob, 2, 1);
+
+        // Même joueuse, autre graphie : ses victoires sont additionnées.
+        long second = createBoard("Deuxième partie", ScoreCondition.LOWEST_WINS, 20, null);
+        api.setScore(second, api.addParticipant(second, " alice"), 1, 4);
+        api.setScore(second, api.addParticipant(second, "Chloé"), 1, 21);
+
+        long third = createBoard("Partie en cours", null, null, null);
+        api.setScore(third, api.addParticipant(third, "Dana"), 1, 7);
+
+        long discarded = createBoard("Partie supprimée", null, null, null);
+        mockMvc.perform(delete("/api/boards/{id}", discarded)).andExpect(status().is2xxSuccessful());
+
+        JsonNode stats = stats();
+        assertThat(stats.get("boardsCreated").asLong()).isEqualTo(4);
+        assertThat(stats.get("boardsActive").asInt()).isEqualTo(3);
+        assertThat(stats.get("boardsFinished").asInt()).isEqualTo(2);
+        assertThat(stats.get("roundsPlayed").asLong()).isEqualTo(4);
+        assertThat(stats.get("scoresRecorded").asLong()).isEqualTo(7);
+        assertThat(stats.get("averageScore").asDouble()).isCloseTo(51.0 / 7, offset(1e-9));
+        assertThat(stats.get("topWinners")).singleElement().satisfies(winner -> {
+            assertThat(winner.get("name").asText()).isEqualTo("alice");
+            assertThat(winner.get("wins").asInt()).isEqualTo(2);
+        });
+
+        assertThat(backfill.rebuildAll()).isEqualTo(1);
+        assertThat(stats()).isEqualTo(stats);
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Réinitialiser une partie terminée lui retire sa victoire")
+    void restart_shouldRemoveVictory() throws Exception {
+        long boardId = createBoard("Partie courte", ScoreCondition.HIGHEST_WINS, 10, null);
+        api.setScore(boardId, api.addParticipant(boardId, "Alice"), 1, 12);
+        assertThat(stats().get("boardsFinished").asInt()).isEqualTo(1);
+
+        mockMvc.perform(post("/api/boards/{id}/restart", boardId)).andExpect(status().isOk());
+
+        JsonNode stats = stats();
+        assertThat(stats.get("boardsFinished").asInt()).isZero();
+        assertThat(stats.get("scoresRecorded").asLong()).isZero();
+        assertThat(stats.has("averageScore")).isFalse();
+        assertThat(stats.get("topWinners")).isEmpty();
+    }
+
+    @Test
+    @WithMockUser(username = EMAIL)
+    @DisplayName("Les tableaux antérieurs aux statistiques sont repris par la reconstruction, puis suivis normalement")
+    void backfill_shouldCountExistingBoards() throws Exception {
+        Board legacy = legacyBoard(user, "Ancienne partie", participant("Alice", 1, 8, 2, 3), participant("Bob", 1, 4));
+        legacyBoard(user("other", "other@example.com"), "Partie d'un autre", participant("Eve", 1, 50));
+        assertThat(stats().get("boardsCreated").asLong()).isZero();
+
+        assertThat(backfill.rebuildAll()).isEqualTo(2);
+
+        JsonNode stats = stats();
+        assertThat(stats.get("boardsCreated").asLong()).isEqualTo(1);
+        assertThat(stats.get("boardsFinished").asInt()).isEqualTo(1);
+        assertThat(stats.get("scoresRecorded").asLong()).isEqualTo(3);
+        assertThat(stats.get("topWinners")).singleElement()
+                .satisfies(winner -> assertThat(winner.get("name").asText()).isEqualTo("Alice"));
+
+        long bob = legacy.getParticipants().get(1).getId();
+        api.setScore(legacy.getId(), bob, 2, 20);
+
+        stats = stats();
+        assertThat(stats.get("boardsCreated").asLong()).isEqualTo(1);
+        assertThat(stats.get("scoresRecorded").asLong()).isEqualTo(4);
+        assertThat(stats.get("topWinners")).singleElement()
+                .satisfies(winner -> assertThat(winner.get("name").asText()).isEqualTo("Bob"));
+    }
+
+    private long createBoard(String name, ScoreCondition condition, Integer targetScore, Integer numberOfRounds)
+            throws Exception {
+        BoardCreateRequest request = new BoardCreateRequest();
+        request.setName(name);
+        request.setScoreCondition(condition);
+        request.setTargetScore(targetScore);
+        request.setNumberOfRounds(numberOfRounds);
+        return api.createBoard(request);
+    }
+
+    private JsonNode stats() throws Exception {
+        String json = mockMvc.perform(get("/api/users/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+
+    private User user(String username, String email) {
+        User created = new User();
+        created.setUsername(username);
+        created.setEmail(email);
+        created.setPassword("hash");
+        return userRepository.save(created);
+    }
+
+    /**
+     * Tableau écrit directement en base, sans passer par le service : comme ceux créés avant les statistiques.
+     * La partie se joue en deux tours.
+     */
+    private Board legacyBoard(User owner, String name, Participant... participants) {
+        Board board = new Board();
+        board.setName(name);
+        board.setOwner(owner);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        board.setNumberOfRounds(2);
+        for (Participant participant : participants) {
+            board.addParticipant(participant);
+        }
+        return boardRepository.save(board);
+    }
+
+    /**
+     * Crée un participant à partir de couples (tour, score).
+     */
+    private static Participant participant(String name, int... roundsAndScores) {
+        Participant participant = new Participant();
+        participant.setName(name);
+        for (int i = 0; i < roundsAndScores.length; i += 2) {
+            ScoreEntry entry = new ScoreEntry();
+            entry.setRoundNumber(roundsAndScores[i]);
+            entry.setScoreValue(roundsAndScores[i + 1]);
+            participant.addScoreEntry(entry);
+        }
+        return participant;
+    }
+}
@@ -0,0 +1,199 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardCreateRequest;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.BoardRepository;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration du routage lecture/écriture, avec deux bases H2 : la base du profil de test joue
+ * la base principale, une seconde base ({@value #REPLICA_URL}) joue le réplica.
+ * <p>
+ * Aucune réplication n'a lieu entre les deux : chaque base reçoit un tableau au nom différent, ce qui permet
+ * de savoir quelle base a servi une lecture.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String REPLICA_URL =
+            "jdbc:h2:mem:gamegauge_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    private static final long STICKY_WINDOW_MILLIS = 1500;
+    private static final String WRITER = "writer@example.com";
+    private static final String READER = "reader@example.com";
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("gamegauge.datasource.replica.url", () -> REPLICA_URL);
+        registry.add("gamegauge.datasource.replica.username", () -> "sa");
+        registry.add("gamegauge.datasource.replica.password", () -> "");
+        registry.add("gamegauge.datasource.replica.sticky-window", () -> STICKY_WINDOW_MILLIS + "ms");
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").load().migrate();
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private JdbcTemplate replicaJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        for (String email : new String[]{WRITER, READER}) {
+            User user = new User();
+            user.setUsername(email.substring(0, email.indexOf('@')));
+            user.setEmail(email);
+            user.setPassword("hash");
+            userRepository.save(user);
+
+            Board board = new Board();
+            board.setName("Tableau principal");
+            board.setOwner(user);
+            board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+            board.setDisplayOrder(0);
+            boardRepository.save(board);
+
+            replicaJdbcTemplate.update("INSERT INTO users (username, email, password, email_verified) VALUES (?, ?, 'hash', FALSE)",
+                    user.getUsername(), email);
+            replicaJdbcTemplate.update("INSERT INTO boards (name, owner_id, score_condition, display_order) "
+                    + "SELECT 'Tableau réplica', id, 'HIGHEST_WINS', 0 FROM users WHERE email = ?", email);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (JdbcTemplate template : new JdbcTemplate[]{jdbcTemplate, replicaJdbcTemplate}) {
+            template.update("DELETE FROM score_entries");
+            template.update("DELETE FROM participants");
+            template.update("DELETE FROM boards");
+            template.update("DELETE FROM users");
+        }
+    }
+
+    @Test
+    @DisplayName("Les GET sont servis par le réplica")
+    void getBoards_shouldBeServedByReplica() throws Exception {
+        mockMvc.perform(get("/api/boards").with(user(READER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Tableau réplica"));
+    }
+
+    @Test
+    @DisplayName("Après une écriture, les lectures de son auteur restent sur la base principale le temps de la fenêtre")
+    void readAfterWrite_shouldStickToPrimaryForWriterOnly() throws Exception {
+        BoardCreateRequest request = new BoardCreateRequest();
+        request.setName("Nouveau tableau");
+        request.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        mockMvc.perform(post("/api/boards").with(user(WRITER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/boards").with(user(WRITER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].name").value("Tableau principal"));
+        mockMvc.perform(get("/api/boards").with(user(READER)))
+                .andExpect(jsonPath("$[0].name").value("Tableau réplica"));
+
+        Thread.sleep(STICKY_WINDOW_MILLIS + 100);
+
+        mockMvc.perform(get("/api/boards").with(user(WRITER)))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Tableau réplica"));
+    }
+
+    @Test
+    @WithMockUser(username = READER)
+    @DisplayName("Une transaction en lecture seule va au réplica, une transaction en écriture à la base principale")
+    void currentRoute_shouldFollowTransactionReadOnlyFlag() {
+        // Routeur isolé : les écritures de setUp() ne doivent pas rendre READER "collant".
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(new ReadYourWritesTracker(Duration.ofMinutes(1), Clock.systemUTC()));
+        assertThat(routingDataSource.currentRoute()).isEqualTo(ReadWriteRoutingDataSource.Route.PRIMARY);
+
+        transactionTemplate.setReadOnly(true);
+        assertThat(transactionTemplate.<ReadWriteRoutingDataSource.Route>execute(status -> routingDataSource.currentRoute()))
+                .isEqualTo(ReadWriteRoutingDataSource.Route.REPLICA);
+
+        transactionTemplate.setReadOnly(false);
+        assertThat(transactionTemplate.<ReadWriteRoutingDataSource.Route>execute(status -> routingDataSource.currentRoute()))
+                .isEqualTo(ReadWriteRoutingDataSource.Route.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("Une transaction en lecture seule utilise une session Hibernate sans flush et en lecture seule")
+    void readOnlyTransaction_shouldUseManualFlushAndReadOnlySession() {
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.MANUAL);
+            assertThat(session.isDefaultReadOnly()).isTrue();
+        });
+    }
+}
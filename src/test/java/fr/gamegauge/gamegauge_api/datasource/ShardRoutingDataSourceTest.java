@@ -0,0 +1,174 @@
+package fr.gamegauge.gamegauge_api.datasource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import fr.gamegauge.gamegauge_api.support.BoardApiFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests d'intégration du partitionnement par propriétaire, avec deux bases H2 en mémoire comme shards : chaque
+ * propriétaire est servi par son shard, les identifiants ne se recouvrent pas, et un propriétaire déplacé garde
+ * ses identifiants et reste servi sur son nouveau shard.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ShardRoutingDataSourceTest {
+
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    private static final List<String> TABLES = List.of("board_snapshots", "score_events", "board_changes",
+            "board_archives", "score_entries", "participants", "board_stats", "boards", "owner_participant_stats",
+            "owner_stats", "idempotency_keys", "users");
+
+    @DynamicPropertySource
+    static void shards(DynamicPropertyRegistry registry) {
+        registry.add("gamegauge.sharding.enabled", () -> "true");
+        for (int i = 0; i < 2; i++) {
+            String prefix = "gamegauge.sharding.shards[" + i + "].";
+            String url = "jdbc:h2:mem:gamegauge_shard" + i + H2_OPTIONS;
+            registry.add(prefix + "url", () -> url);
+            registry.add(prefix + "username", () -> "sa");
+            registry.add(prefix + "password", () -> "");
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ShardRoutingDataSource dataSource;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardIdScheme idScheme;
+
+    @Autowired
+    private OwnerShardMigrator migrator;
+
+    /** Un propriétaire placé sur chaque shard. */
+    private final String[] owners = new String[2];
+
+    private BoardApiFixture api;
+
+    @BeforeEach
+    void setUp() {
+        api = new BoardApiFixture(mockMvc, objectMapper);
+
+        for (int i = 0; owners[0] == null || owners[1] == null; i++) {
+            String email = "owner" + i + "@example.com";
+            int shard = ShardDirectory.hashShard(email, 2);
+            if (owners[shard] == null) {
+                owners[shard] = email;
+            }
+        }
+        for (String email : owners) {
+            User user = new User();
+            user.setUsername(email.substring(0, email.indexOf('@')));
+            user.setEmail(email);
+            user.setPassword("hash");
+            shardRouter.forNewOwner(email, () -> userRepository.save(user));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < 2; shard++) {
+            JdbcTemplate template = shard(shard);
+            TABLES.forEach(table -> template.update("DELETE FROM " + table));
+        }
+        shard(0).update("DELETE FROM shard_directory");
+    }
+
+    @Test
+    @DisplayName("Chaque propriétaire est servi par son shard, avec des identifiants propres à ce shard")
+    void owners_shouldBeServedByTheirShard() throws Exception {
+        long[] boardIds = new long[2];
+        for (int shard = 0; shard < 2; shard++) {
+            boardIds[shard] = api.as(owners[shard])
+                    .createBoard("Tableau du shard " + shard, ScoreCondition.HIGHEST_WINS);
+            assertThat(idScheme.originShard(boardIds[shard])).isEqualTo(shard);
+            assertThat(countBoards(shard, boardIds[shard])).isEqualTo(1);
+            assertThat(countBoards(1 - shard, boardIds[shard])).isZero();
+        }
+
+        mockMvc.perform(get("/api/boards").with(user(owners[1])))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Tableau du shard 1"));
+        mockMvc.perform(get("/api/boards/{id}", boardIds[0]).with(user(owners[1])))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Un propriétaire déplacé garde ses identifiants et est servi par son nouveau shard")
+    void move_shouldCopyRowsKeepIdsAndReroute() throws Exception {
+        String owner = owners[0];
+        long boardId = api.as(owner).createBoard("Tableau déplacé", ScoreCondition.HIGHEST_WINS);
+        long participantId = api.as(owner).addParticipant(boardId, "Alice");
+        mockMvc.perform(put("/api/boards/{b}/participants/{p}/scores", boardId, participantId).with(user(owner))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"roundNumber\": 1, \"scoreValue\": 8}"))
+                .andExpect(status().isOk());
+
+        OwnerShardMigrator.Result result = migrator.move(owner, 1);
+
+        assertThat(result.source()).isZero();
+        assertThat(result.rows()).containsEntry("users", 1).containsEntry("boards", 1)
+                .containsEntry("participants", 1).containsEntry("score_entries", 1);
+        assertThat(countBoards(0, boardId)).isZero();
+        assertThat(countBoards(1, boardId)).isEqualTo(1);
+        assertThat(shard(0).queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, owner))
+                .isZero();
+        assertThat(dataSource.directory().shardOf(owner)).isEqualTo(1);
+        assertThat(migrator.move(owner, 1).rows()).isEmpty();
+
+        mockMvc.perform(get("/api/boards/{id}", boardId).with(user(owner)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants[0].id").value(participantId))
+                .andExpect(jsonPath("$.participants[0].totalScore").value(8));
+        long newParticipantId = api.as(owner).addParticipant(boardId, "Bob");
+        assertThat(idScheme.originShard(newParticipantId)).isEqualTo(1);
+        assertThat(newParticipantId).isGreaterThan(participantId);
+    }
+
+    // --- MÉTHODES UTILITAIRES ---
+
+    private int countBoards(int shard, long boardId) {
+        return shard(shard).queryForObject("SELECT COUNT(*) FROM boards WHERE id = ?", Integer.class, boardId);
+    }
+
+    private JdbcTemplate shard(int shard) {
+        return new JdbcTemplate(dataSource.shard(shard));
+    }
+}
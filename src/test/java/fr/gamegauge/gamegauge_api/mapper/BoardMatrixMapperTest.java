@@ -0,0 +1,88 @@
+package fr.gamegauge.gamegauge_api.mapper;
+
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantSummary;
+import fr.gamegauge.gamegauge_api.dto.projection.ScoreCell;
+import fr.gamegauge.gamegauge_api.dto.response.BoardMatrixResponse;
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Classe de tests unitaires pour {@link BoardMatrixMapper}.
+ */
+class BoardMatrixMapperTest {
+
+    private static final List<ParticipantSummary> PARTICIPANTS = List.of(
+            new ParticipantSummary(10L, "Alice"),
+            new ParticipantSummary(20L, "Bob"),
+            new ParticipantSummary(30L, "Chloé"));
+
+    @Test
+    @DisplayName("Grille complète : forme dense, participants dans l'ordre du classement")
+    void fullGrid_shouldBeDenseAndRanked() {
+        List<ScoreCell> cells = List.of(
+                new ScoreCell(10L, 1, 5), new ScoreCell(10L, 2, 5),
+                new ScoreCell(20L, 2, 9), new ScoreCell(20L, 1, 8),
+                new ScoreCell(30L, 1, 1), new ScoreCell(30L, 2, 2));
+
+        BoardMatrixResponse matrix = BoardMatrixMapper.toBoardMatrixResponse(
+                board(ScoreCondition.HIGHEST_WINS), PARTICIPANTS, cells);
+
+        assertThat(matrix.getLayout()).isEqualTo(BoardMatrixResponse.Layout.DENSE);
+        assertThat(matrix.getParticipantIds()).containsExactly(20L, 10L, 30L);
+        assertThat(matrix.getParticipantNames()).containsExactly("Bob", "Alice", "Chloé");
+        assertThat(matrix.getRounds()).containsExactly(1, 2);
+        assertThat(matrix.getTotals()).containsExactly(17, 10, 3);
+        assertThat(matrix.getScores()).containsExactly(8, 9, 5, 5, 1, 2);
+        assertThat(matrix.getMissing()).isNull();
+        assertThat(matrix.getCells()).isNull();
+    }
+
+    @Test
+    @DisplayName("Quelques cases vides : forme dense avec la liste des cases manquantes")
+    void mostlyFullGrid_shouldListMissingCells() {
+        List<ScoreCell> cells = List.of(
+                new ScoreCell(10L, 1, 5), new ScoreCell(10L, 2, 5),
+                new ScoreCell(20L, 1, 8), new ScoreCell(20L, 2, 9),
+                new ScoreCell(30L, 1, 1));
+
+        BoardMatrixResponse matrix = BoardMatrixMapper.toBoardMatrixResponse(
+                board(ScoreCondition.LOWEST_WINS), PARTICIPANTS, cells);
+
+        assertThat(matrix.getLayout()).isEqualTo(BoardMatrixResponse.Layout.DENSE);
+        assertThat(matrix.getParticipantIds()).containsExactly(30L, 10L, 20L);
+        assertThat(matrix.getScores()).containsExactly(1, 0, 5, 5, 8, 9);
+        assertThat(matrix.getMissing()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Grille clairsemée : triplets (ligne, colonne, valeur), scores d'un même tour additionnés")
+    void sparseGrid_shouldUseTriplets() {
+        List<ScoreCell> cells = List.of(
+                new ScoreCell(20L, 7, 4), new ScoreCell(20L, 7, 3),
+                new ScoreCell(30L, 1, 2));
+
+        BoardMatrixResponse matrix = BoardMatrixMapper.toBoardMatrixResponse(
+                board(ScoreCondition.HIGHEST_WINS), PARTICIPANTS, cells);
+
+        assertThat(matrix.getLayout()).isEqualTo(BoardMatrixResponse.Layout.SPARSE);
+        assertThat(matrix.getParticipantIds()).containsExactly(20L, 30L, 10L);
+        assertThat(matrix.getRounds()).containsExactly(1, 7);
+        assertThat(matrix.getTotals()).containsExactly(7, 2, 0);
+        assertThat(matrix.getCells()).containsExactly(0, 1, 7, 1, 0, 2);
+        assertThat(matrix.getScores()).isNull();
+    }
+
+    private static Board board(ScoreCondition condition) {
+        Board board = new Board();
+        board.setId(1L);
+        board.setName("Partie");
+        board.setScoreCondition(condition);
+        return board;
+    }
+}
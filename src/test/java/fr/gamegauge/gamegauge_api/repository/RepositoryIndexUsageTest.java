@@ -0,0 +1,363 @@
+package fr.gamegauge.gamegauge_api.repository;
+
+import fr.gamegauge.gamegauge_api.model.Board;
+import fr.gamegauge.gamegauge_api.model.ChangeEntityType;
+import fr.gamegauge.gamegauge_api.model.Participant;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import fr.gamegauge.gamegauge_api.model.ScoreEntry;
+import fr.gamegauge.gamegauge_api.model.User;
+import fr.gamegauge.gamegauge_api.monitoring.RequestQueryStats;
+import fr.gamegauge.gamegauge_api.support.QueryCounting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vérifie, avec {@code EXPLAIN}, que chaque requête des repositories (et les chargements de collections)
+ * s'appuie sur un index du schéma Flyway plutôt que sur un parcours complet de table.
+ * <p>
+ * Les requêtes sont capturées telles que Hibernate les émet, puis expliquées sur la base H2 du profil de test,
+ * dont le schéma est créé par les mêmes migrations que la production.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RepositoryIndexUsageTest {
+
+    private static final String EMAIL = "explain@example.com";
+    private static final String RESET_TOKEN = "reset-token-explain";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ScoreEntryRepository scoreEntryRepository;
+
+    @Autowired
+    private BoardChangeRepository boardChangeRepository;
+
+    @Autowired
+    private ScoreEventRepository scoreEventRepository;
+
+    @Autowired
+    private BoardSnapshotRepository boardSnapshotRepository;
+
+    @Autowired
+    private OwnerStatsRepository ownerStatsRepository;
+
+    @Autowired
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("explain");
+        user.setEmail(EMAIL);
+        user.setPassword("hash");
+        user.setResetPasswordToken(RESET_TOKEN);
+        userRepository.save(user);
+
+        board = new Board();
+        board.setName("Partie expliquée");
+        board.setOwner(user);
+        board.setScoreCondition(ScoreCondition.HIGHEST_WINS);
+        board.setDisplayOrder(0);
+        Participant participant = new Participant();
+        participant.setName("Joueur");
+        ScoreEntry entry = new ScoreEntry();
+        entry.setRoundNumber(1);
+        entry.setScoreValue(10);
+        participant.addScoreEntry(entry);
+        board.addParticipant(participant);
+        board = boardRepository.save(board);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM board_changes");
+        jdbcTemplate.update("DELETE FROM board_snapshots");
+        jdbcTemplate.update("DELETE FROM score_events");
+        jdbcTemplate.update("DELETE FROM score_entries");
+        jdbcTemplate.update("DELETE FROM participants");
+        jdbcTemplate.update("DELETE FROM boards");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    @DisplayName("findByOwnerOrderByDisplayOrderAsc retrouve les tableaux par un index sur owner_id")
+    void findByOwnerOrderByDisplayOrderAsc_shouldUseOwnerIndex() throws Exception {
+        List<String> plans = explain(() -> boardRepository.findByOwnerOrderByDisplayOrderAsc(user));
+
+        assertThat(plans).singleElement().satisfies(plan -> assertIndexLookup(plan, "boards", "owner_id"));
+    }
+
+    @Test
+    @DisplayName("findByOwner retrouve les tableaux par un index sur owner_id")
+    void findByOwner_shouldUseOwnerIndex() throws Exception {
+        List<String> plans = explain(() -> boardRepository.findByOwner(user));
+
+        assertThat(plans).singleElement().satisfies(plan -> assertIndexLookup(plan, "boards", "owner_id"));
+    }
+
+    @Test
+    @DisplayName("findByIdAndOwner utilise la clé primaire")
+    void findByIdAndOwner_shouldUsePrimaryKey() throws Exception {
+        List<String> plans = explain(() -> boardRepository.findByIdAndOwner(board.getId(), user));
+
+        assertThat(plans).singleElement().satisfies(plan -> assertIndexLookup(plan, "boards", "id"));
+    }
+
+    @Test
+    @DisplayName("Le chargement des participants d'un tableau utilise un index sur board_id")
+    void boardParticipants_shouldUseBoardIdIndex() throws Exception {
+        List<String> plans = explain(() -> transactionTemplate.executeWithoutResult(status ->
+                boardRepository.findById(board.getId()).orElseThrow().getParticipants().size()));
+
+        assertThat(plans).hasSize(2);
+        assertIndexLookup(plans.get(1), "participants", "board_id");
+    }
+
+    @Test
+    @DisplayName("Le chargement des scores d'un participant utilise un index sur participant_id")
+    void participantScores_shouldUseParticipantIdIndex() throws Exception {
+        List<String> plans = explain(() -> transactionTemplate.executeWithoutResult(status ->
+                boardRepository.findById(board.getId()).orElseThrow()
+                        .getParticipants().get(0).getScoreEntries().size()));
+
+        assertThat(plans).hasSize(3);
+        assertIndexLookup(plans.get(2), "score_entries", "participant_id");
+    }
+
+    @Test
+    @DisplayName("deleteAllByParticipantBoardId supprime en une requête, par index")
+    void deleteAllByParticipantBoardId_shouldUseIndexes() throws Exception {
+        List<String> plans = explain(() -> transactionTemplate.executeWithoutResult(status ->
+                scoreEntryRepository.deleteAllByParticipantBoardId(board.getId())));
+
+        assertThat(plans).singleElement().satisfies(plan -> {
+            assertIndexLookup(plan, "score_entries", "participant_id");
+            assertIndexLookup(plan, "participants", "board_id");
+        });
+    }
+
+    @Test
+    @DisplayName("findSummariesByBoardId utilise un index sur board_id")
+    void findSummariesByBoardId_shouldUseBoardIdIndex() throws Exception {
+        List<String> plans = explain(() -> participantRepository.findSummariesByBoardId(board.getId()));
+
+        assertThat(plans).singleElement().satisfies(plan -> assertIndexLookup(plan, "participants", "board_id"));
+    }
+
+    @Test
+    @DisplayName("findCellsByBoardId retrouve les participants puis leurs scores par index")
+    void findCellsByBoardId_shouldUseIndexes() throws Exception {
+        List<String> plans = explain(() -> scoreEntryRepository.findCellsByBoardId(board.getId()));
+
+        assertThat(plans).singleElement().satisfies(plan -> {
+            assertIndexLookup(plan, "participants", "board_id");
+            assertIndexLookup(plan, "score_entries", "participant_id");
+        });
+    }
+
+    @Test
+    @DisplayName("findByEmail et findByUsername utilisent leurs contraintes d'unicité")
+    void findByEmailAndUsername_shouldUseUniqueConstraints() throws Exception {
+        assertThat(explain(() -> userRepository.findByEmail(EMAIL)))
+                .singleElement().satisfies(plan -> assertIndexLookup(plan, "users", "email"));
+        assertThat(explain(() -> userRepository.findByUsername("explain")))
+                .singleElement().satisfies(plan -> assertIndexLookup(plan, "users", "username"));
+    }
+
+    @Test
+    @DisplayName("findByResetPasswordToken utilise l'index unique du jeton")
+    void findByResetPasswordToken_shouldUseTokenIndex() throws Exception {
+        List<String> plans = explain(() -> userRepository.findByResetPasswordToken(RESET_TOKEN));
+
+        assertThat(plans).singleElement().satisfies(plan -> {
+            assertIndexLookup(plan, "users", "reset_password_token");
+            assertThat(plan).contains("uk_users_reset_password_token");
+        });
+    }
+
+    @Test
+    @DisplayName("Le journal des modifications est lu par les index (board_id, board_seq) et (owner_id, owner_seq)")
+    void changeLogQueries_shouldUseSequenceIndexes() throws Exception {
+        assertThat(explain(() -> boardChangeRepository.findBoardChanges(board.getId(), 0, 10)))
+                .singleElement().satisfies(plan -> assertThat(plan)
+                        .contains("/* public.idx_board_changes_board_seq:").contains("board_id = ?"));
+        assertThat(explain(() -> boardChangeRepository.findOwnerChanges(user.getId(), 0, 10)))
+                .singleElement().satisfies(plan -> assertThat(plan)
+                        .contains("/* public.idx_board_changes_owner_seq:").contains("owner_id = ?"));
+    }
+
+    @Test
+    @DisplayName("Les compteurs de modifications sont lus par clé primaire, la purge par l'index de changed_at")
+    void changeSequencesAndCompaction_shouldUseIndexes() throws Exception {
+        assertThat(explain(() -> boardRepository.findChangeSequences(board.getId())))
+                .singleElement().satisfies(plan -> {
+                    assertIndexLookup(plan, "boards", "id");
+                    assertIndexLookup(plan, "users", "id");
+                });
+        assertThat(explain(() -> transactionTemplate.executeWithoutResult(status ->
+                boardChangeRepository.deleteChangedBefore(Instant.now()))))
+                .singleElement().satisfies(plan -> assertThat(plan).contains("idx_board_changes_changed_at"));
+    }
+
+    @Test
+    @DisplayName("Les statistiques lisent la version d'un tableau par clé primaire et email")
+    void boardStatsQueries_shouldUseIndexes() throws Exception {
+        assertThat(explain(() -> boardRepository.findVersionByIdAndOwnerEmail(board.getId(), EMAIL)))
+                .singleElement().satisfies(plan -> {
+                    assertIndexLookup(plan, "boards", "id");
+                    assertIndexLookup(plan, "users", "email");
+                });
+        // H2 n'annote pas les index utilisés dans les sous-requêtes WITH : seule l'absence de parcours complet
+        // est vérifiable pour le calcul des statistiques.
+        explain(() -> scoreEntryRepository.findRoundStatsByBoardId(board.getId(), 1));
+    }
+
+    @Test
+    @DisplayName("Le journal des scores est lu par l'index (board_id, id), l'instantané par (board_id, last_event_id)")
+    void scoreEventQueries_shouldUseBoardIndexes() throws Exception {
+        assertThat(explain(() -> scoreEventRepository.findTail(board.getId(), 0, 10)))
+                .singleElement().satisfies(plan -> assertThat(plan)
+                        .contains("/* public.idx_score_events_board:").contains("board_id = ?"));
+        assertThat(explain(() -> scoreEventRepository.findHistory(board.getId(), 10, Limit.of(5))))
+                .singleElement().satisfies(plan -> assertThat(plan)
+                        .contains("/* public.idx_score_events_board:").contains("board_id = ?"));
+        assertThat(explain(() -> boardSnapshotRepository
+                .findFirstByBoardIdAndLastEventIdLessThanEqualOrderByLastEventIdDesc(board.getId(), 10)))
+                .singleElement().satisfies(plan -> assertThat(plan)
+                        .contains("/* public.uk_board_snapshots_board_event:").contains("board_id = ?"));
+        assertThat(explain(() -> scoreEventRepository.countByBoard(0, 10)))
+                .singleElement().satisfies(plan -> assertThat(plan).contains("/* public.primary_key"));
+    }
+
+    @Test
+    @DisplayName("Les statistiques d'un propriétaire sont lues par clé, les totaux d'un tableau par l'index board_id")
+    void ownerStatsQueries_shouldUseKeys() throws Exception {
+        assertThat(explain(() -> participantRepository.findTotalsByBoardId(board.getId())))
+                .singleElement().satisfies(plan -> {
+                    assertIndexLookup(plan, "participants", "board_id");
+                    assertIndexLookup(plan, "score_entries", "participant_id");
+                });
+        assertThat(explain(() -> ownerStatsRepository.findByOwnerEmail(EMAIL)))
+                .singleElement().satisfies(plan -> {
+                    assertIndexLookup(plan, "users", "email");
+                    assertIndexLookup(plan, "owner_stats", "owner_id");
+                });
+        assertThat(explain(() -> ownerStatsRepository.findTopWinners(EMAIL, 10)))
+                .singleElement().satisfies(plan -> assertThat(plan)
+                        .contains("/* public.idx_owner_participant_stats_wins:").contains("owner_id = "));
+    }
+
+    @Test
+    @DisplayName("L'index de recherche est construit et rattrapé par les index owner_id, board_id et owner_seq")
+    void boardSearchQueries_shouldUseKeys() throws Exception {
+        assertThat(explain(() -> userRepository.findChangeLogStateByEmail(EMAIL)))
+                .singleElement().satisfies(plan -> assertIndexLookup(plan, "users", "email"));
+        assertThat(explain(() -> boardRepository.findNamesByOwnerId(user.getId())))
+                .singleElement().satisfies(plan -> assertIndexLookup(plan, "boards", "owner_id"));
+        assertThat(explain(() -> participantRepository.findNamesByOwnerId(user.getId())))
+                .singleElement().satisfies(plan -> {
+                    assertIndexLookup(plan, "boards", "owner_id");
+                    assertIndexLookup(plan, "participants", "board_id");
+                });
+        assertThat(explain(() -> boardRepository.findNamesByOwnerIdAndIdIn(user.getId(), List.of(board.getId()))))
+                .singleElement().satisfies(plan -> assertIndexLookup(plan, "boards", "id"));
+        assertThat(explain(() -> participantRepository.findNamesByOwnerIdAndIdIn(user.getId(), List.of(1L, 2L))))
+                .singleElement().satisfies(plan -> assertIndexLookup(plan, "participants", "id"));
+        assertThat(explain(() -> boardChangeRepository.findOwnerChangesOfTypes(user.getId(), 0, 10,
+                EnumSet.of(ChangeEntityType.BOARD, ChangeEntityType.PARTICIPANT))))
+                .singleElement().satisfies(plan -> assertThat(plan)
+                        .contains("/* public.idx_board_changes_owner_seq:").contains("owner_id = ?"));
+    }
+
+    @Test
+    @DisplayName("La fenêtre d'un tableau lit ses participants par board_id et leurs scores par (participant, tour)")
+    void boardWindowQueries_shouldUseIndexes() throws Exception {
+        // Le plan d'une CTE est affiché sans guillemets : les accès indexés sont cherchés tels quels.
+        assertThat(explain(() -> participantRepository.findRankedByBoardId(board.getId(), 1, 0, 10)))
+                .singleElement().satisfies(plan -> assertThat(plan)
+                        .contains(": board_id = ?").contains(": participant_id = p.id"));
+        assertThat(explain(() -> scoreEntryRepository.findByParticipantsAndRounds(List.of(1L, 2L), 1, 5)))
+                .singleElement().satisfies(plan -> assertThat(plan)
+                        .contains("/* public.idx_score_entries_participant_round:"));
+    }
+
+    @Test
+    @DisplayName("Les archives d'un propriétaire sont lues par l'index owner_id et la clé de board_archives")
+    void boardArchiveQueries_shouldUseKeys() throws Exception {
+        assertThat(explain(() -> boardArchiveRepository.findByOwnerId(user.getId())))
+                .singleElement().satisfies(plan -> {
+                    assertIndexLookup(plan, "boards", "owner_id");
+                    assertIndexLookup(plan, "board_archives", "board_id");
+                });
+    }
+
+    /**
+     * Exécute l'action, puis explique chaque requête SQL émise. Aucune ne doit parcourir une table entière.
+     *
+     * @return Les plans d'exécution (en minuscules), dans l'ordre des requêtes.
+     */
+    private List<String> explain(QueryCounting.ThrowingRunnable action) throws Exception {
+        RequestQueryStats stats = QueryCounting.capture(action);
+        assertThat(stats.getSql()).as("Aucune requête SQL capturée").isNotEmpty();
+
+        List<String> plans = stats.getSql().stream()
+                .map(sql -> {
+                    String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, nulls(sql));
+                    return plan.toLowerCase(Locale.ROOT);
+                })
+                .toList();
+        assertThat(plans).as("Plans d'exécution").noneMatch(plan -> plan.contains("tablescan"));
+        return plans;
+    }
+
+    /**
+     * Vérifie que la table est lue par un index dont la condition porte sur la colonne donnée.
+     * Dans un plan H2, chaque table est suivie d'un commentaire {@code schema.index: colonne = ...}.
+     */
+    private static void assertIndexLookup(String plan, String table, String column) {
+        Pattern lookup = Pattern.compile("\"public\"\\.\"" + table + "\"( \"\\w+\")?\\s+/\\* public\\.\\w+: \"?" + column + "\"? (=|in)");
+        assertThat(lookup.matcher(plan).find())
+                .as("Accès indexé à %s par %s dans le plan :%n%s", table, column, plan)
+                .isTrue();
+    }
+
+    /**
+     * H2 calcule le plan sans regarder la valeur des paramètres : on les lie tous à NULL.
+     */
+    private static Object[] nulls(String sql) {
+        return new Object[(int) sql.chars().filter(c -> c == '?').count()];
+    }
+}
@@ -1,5 +1,6 @@
 package fr.gamegauge.gamegauge_api.service;
 
+import fr.gamegauge.gamegauge_api.datasource.ShardRouter;
 import fr.gamegauge.gamegauge_api.dto.request.LoginRequest;
 import fr.gamegauge.gamegauge_api.dto.request.RegisterRequest;
 import fr.gamegauge.gamegauge_api.dto.response.JwtAuthenticationResponse;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -46,6 +48,11 @@ class AuthServiceTest {
     private AuthenticationManager authenticationManager;
     @Mock
     private RecaptchaService recaptchaService; // Mock du service reCAPTCHA
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(Optional.empty());
 
     @InjectMocks
     private AuthService authService;
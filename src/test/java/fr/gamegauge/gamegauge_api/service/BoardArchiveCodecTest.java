@@ -0,0 +1,72 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.service.BoardArchiveCodec.ArchivedParticipant;
+import fr.gamegauge.gamegauge_api.service.BoardArchiveCodec.ArchivedScore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires pour {@link BoardArchiveCodec} : encodage et relecture du contenu d'un tableau archivé.
+ */
+class BoardArchiveCodecTest {
+
+    private static final Instant START = Instant.parse("2025-03-01T20:15:30.123456Z");
+
+    @Test
+    @DisplayName("Une archive relue redonne exactement le contenu, en quelques octets par score")
+    void encodeDecode_shouldRoundTrip() {
+        List<ArchivedParticipant> participants = new ArrayList<>();
+        long scoreId = 5_000;
+        for (int p = 0; p < 6; p++) {
+            List<ArchivedScore> scores = new ArrayList<>();
+            for (int round = 1; round <= 100; round++) {
+                scores.add(new ArchivedScore(scoreId + round * 6L + p, round, (round * 37 + p * 11) % 200 - 100,
+                        START.plusSeconds(round * 90L + p)));
+            }
+            participants.add(new ArchivedParticipant(300 + p, "Joueur " + p + " é", START, START.plusSeconds(p),
+                    scores));
+        }
+
+        BoardArchiveCodec.Encoded encoded = BoardArchiveCodec.encode(participants);
+
+        assertThat(BoardArchiveCodec.decode(encoded.payload(), encoded.rawSize())).isEqualTo(participants);
+        assertThat(encoded.payload().length).isLessThan(4 * 600);
+        assertThat(encoded.payload().length).isLessThan(encoded.rawSize());
+    }
+
+    @Test
+    @DisplayName("Les dates absentes, les valeurs extrêmes et les tours non triés sont conservés")
+    void encodeDecode_shouldKeepEdgeCases() {
+        List<ArchivedParticipant> participants = List.of(
+                new ArchivedParticipant(1, "", null, null, List.of()),
+                new ArchivedParticipant(Long.MAX_VALUE / 2, "Zoé", START, null, List.of(
+                        new ArchivedScore(90, 3, Integer.MIN_VALUE, null),
+                        new ArchivedScore(12, 1, Integer.MAX_VALUE, START.minusSeconds(86_400)),
+                        new ArchivedScore(Long.MAX_VALUE / 3, -2, 0, START))));
+
+        BoardArchiveCodec.Encoded encoded = BoardArchiveCodec.encode(participants);
+
+        assertThat(BoardArchiveCodec.decode(encoded.payload(), encoded.rawSize())).isEqualTo(participants);
+        BoardArchiveCodec.Encoded empty = BoardArchiveCodec.encode(List.of());
+        assertThat(BoardArchiveCodec.decode(empty.payload(), empty.rawSize())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Une archive tronquée est refusée")
+    void decode_shouldRejectTruncatedPayload() {
+        BoardArchiveCodec.Encoded encoded = BoardArchiveCodec.encode(List.of(
+                new ArchivedParticipant(1, "Alice", START, START, List.of(new ArchivedScore(1, 1, 10, START)))));
+        byte[] truncated = Arrays.copyOf(encoded.payload(), encoded.payload().length / 2);
+
+        assertThatThrownBy(() -> BoardArchiveCodec.decode(truncated, encoded.rawSize()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,63 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.dto.projection.ParticipantTotal;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour {@link BoardOutcome} : fin de partie, vainqueurs et normalisation des noms.
+ */
+class BoardOutcomeTest {
+
+    @Test
+    @DisplayName("Une partie est terminée au dernier tour prévu ; le plus haut total gagne, ex aequo compris")
+    void of_shouldFinishOnLastRound() {
+        List<ParticipantTotal> totals = List.of(
+                new ParticipantTotal(1L, "Alice ", 12L, 3L, 3),
+                new ParticipantTotal(2L, "Bob", 12L, 3L, 3),
+                new ParticipantTotal(3L, "Chloé", 7L, 2L, 2));
+
+        BoardOutcome running = BoardOutcome.of(ScoreCondition.HIGHEST_WINS, null, 4, totals);
+        assertThat(running.finished()).isFalse();
+        assertThat(running.winners()).isEmpty();
+        assertThat(running.roundsPlayed()).isEqualTo(3);
+        assertThat(running.scoreCount()).isEqualTo(8);
+        assertThat(running.scoreSum()).isEqualTo(31);
+
+        BoardOutcome finished = BoardOutcome.of(ScoreCondition.HIGHEST_WINS, null, 3, totals);
+        assertThat(finished.finished()).isTrue();
+        assertThat(finished.winners()).containsExactly("Alice", "Bob");
+    }
+
+    @Test
+    @DisplayName("Le score cible termine la partie ; en LOWEST_WINS le plus bas total gagne, sans compter les absents")
+    void of_shouldFinishOnTargetScore() {
+        List<ParticipantTotal> totals = List.of(
+                new ParticipantTotal(1L, "Alice", 25L, 2L, 2),
+                new ParticipantTotal(2L, "Bob", 9L, 2L, 2),
+                new ParticipantTotal(3L, "Chloé", 0L, 0L, null));
+
+        BoardOutcome outcome = BoardOutcome.of(ScoreCondition.LOWEST_WINS, 20, null, totals);
+
+        assertThat(outcome.finished()).isTrue();
+        assertThat(outcome.winners()).containsExactly("Bob");
+        assertThat(BoardOutcome.of(ScoreCondition.LOWEST_WINS, 30, null, totals).finished()).isFalse();
+        assertThat(BoardOutcome.of(ScoreCondition.HIGHEST_WINS, 0, 1, List.of(
+                new ParticipantTotal(1L, "Alice", 0L, 0L, null)))).isEqualTo(BoardOutcome.NONE);
+    }
+
+    @Test
+    @DisplayName("Les noms sont comparés sans accents, sans casse et sans espaces superflus")
+    void nameKey_shouldNormalizeNames() {
+        assertThat(BoardOutcome.nameKey("  Chloé ")).isEqualTo("chloe");
+        assertThat(BoardOutcome.nameKey("Jean  Émile")).isEqualTo(BoardOutcome.nameKey("jean emile"));
+        assertThat(new BoardOutcome(1, 2, 3, true, Set.of("Zoé")).winnersByKey())
+                .containsEntry("zoe", "Zoé");
+    }
+}
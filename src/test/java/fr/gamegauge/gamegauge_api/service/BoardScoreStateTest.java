@@ -0,0 +1,87 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import fr.gamegauge.gamegauge_api.model.ScoreEvent;
+import fr.gamegauge.gamegauge_api.model.ScoreEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests unitaires pour {@link BoardScoreState} : rejeu des événements et encodage des instantanés.
+ */
+class BoardScoreStateTest {
+
+    private long nextEventId = 1;
+
+    @Test
+    @DisplayName("Le rejeu applique saisies, mises à jour et suppressions dans l'ordre")
+    void apply_shouldFollowEvents() {
+        BoardScoreState state = BoardScoreState.empty();
+
+        state.apply(recorded(10, 1, 1, 5));
+        state.apply(recorded(11, 2, 1, 7));
+        state.apply(recorded(12, 2, 2, -3));
+        state.apply(recorded(10, 1, 1, 8));
+        state.apply(deleted(11));
+
+        assertThat(state.getScores()).containsExactly(
+                new BoardScoreState.Score(10, 1, 1, 8),
+                new BoardScoreState.Score(12, 2, 2, -3));
+        assertThat(state.getLastEventId()).isEqualTo(5);
+
+        state.apply(event(ScoreEventType.PARTICIPANT_REMOVED, null, 2L));
+        assertThat(state.getScores()).extracting(BoardScoreState.Score::id).containsExactly(10L);
+
+        state.apply(event(ScoreEventType.BOARD_RESTARTED, null, null));
+        assertThat(state.size()).isZero();
+        assertThat(state.getLastEventId()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Un instantané relu redonne exactement le même état, en quelques octets par score")
+    void encodeDecode_shouldRoundTrip() {
+        BoardScoreState state = BoardScoreState.empty();
+        for (int round = 1; round <= 50; round++) {
+            for (long participant = 100; participant < 104; participant++) {
+                state.apply(recorded(1_000 + round * 4L + participant, participant, round, (round * 37) % 200 - 100));
+            }
+        }
+        state.apply(recorded(Long.MAX_VALUE / 2, 99, Integer.MAX_VALUE, Integer.MIN_VALUE));
+
+        byte[] payload = state.encode();
+        BoardScoreState decoded = BoardScoreState.decode(payload, state.getLastEventId());
+
+        assertThat(decoded.getScores()).isEqualTo(state.getScores());
+        assertThat(decoded.getLastEventId()).isEqualTo(state.getLastEventId());
+        assertThat(payload.length).isLessThan(6 * 200 + 32);
+        assertThat(BoardScoreState.decode(BoardScoreState.empty().encode(), 0).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Un instantané d'une version inconnue est refusé")
+    void decode_shouldRejectUnknownVersion() {
+        assertThatThrownBy(() -> BoardScoreState.decode(new byte[]{9, 0}, 1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ScoreEvent recorded(long scoreId, long participantId, int round, int value) {
+        ScoreEvent event = event(ScoreEventType.SCORE_RECORDED, scoreId, participantId);
+        event.setRoundNumber(round);
+        event.setScoreValue(value);
+        return event;
+    }
+
+    private ScoreEvent deleted(long scoreId) {
+        return event(ScoreEventType.SCORE_DELETED, scoreId, null);
+    }
+
+    private ScoreEvent event(ScoreEventType type, Long scoreId, Long participantId) {
+        ScoreEvent event = new ScoreEvent(1L, type);
+        event.setId(nextEventId++);
+        event.setScoreId(scoreId);
+        event.setParticipantId(participantId);
+        return event;
+    }
+}
@@ -0,0 +1,114 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires de l'index de recherche des tableaux d'un propriétaire.
+ */
+class BoardSearchIndexTest {
+
+    @Test
+    @DisplayName("Les tableaux sont classés : début du nom, début d'un mot, nom, puis participants seuls")
+    void search_shouldRankByMatchType() {
+        BoardSearchIndex index = new BoardSearchIndex(0);
+        index.putBoard(1, "Soirée Tarot");
+        index.putBoard(2, "Tarot du dimanche");
+        index.putBoard(3, "Apéro-tarot");
+        index.putBoard(4, "Belote");
+        index.putBoard(5, "Montarotte");
+        index.putParticipant(10, 4, "Tarotiste");
+
+        assertThat(search(index, "TAROT")).extracting(BoardSearchIndex.Hit::boardId)
+                .containsExactly(2L, 3L, 1L, 5L, 4L);
+        assertThat(search(index, "tarot")).last().satisfies(hit -> {
+            assertThat(hit.matchType()).isEqualTo(BoardSearchIndex.MatchType.PARTICIPANT);
+            assertThat(hit.participantNames()).containsExactly("Tarotiste");
+        });
+    }
+
+    @Test
+    @DisplayName("La recherche ignore accents et casse, y compris pour les recherches de moins de trois caractères")
+    void search_shouldNormalizeAndHandleShortQueries() {
+        BoardSearchIndex index = new BoardSearchIndex(0);
+        index.putBoard(1, "Partie chez Chloé");
+        index.putParticipant(10, 1, "Éloïse");
+        index.putBoard(2, "Uno");
+
+        assertThat(search(index, "CHLOE")).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1L);
+        assertThat(search(index, "eloi")).singleElement()
+                .satisfies(hit -> assertThat(hit.participantNames()).containsExactly("Éloïse"));
+        assertThat(search(index, "uN")).extracting(BoardSearchIndex.Hit::boardId).containsExactly(2L);
+        assertThat(search(index, "o")).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1L, 2L);
+        assertThat(search(index, "  ")).isEmpty();
+        assertThat(search(index, "xyz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Renommer ou retirer un nom met l'index à jour, et rejouer une opération est sans effet")
+    void updates_shouldBeIdempotent() {
+        BoardSearchIndex index = new BoardSearchIndex(0);
+        index.putBoard(1, "Yams");
+        index.putParticipant(10, 1, "Alice");
+        index.putParticipant(11, 1, "Bob");
+
+        index.putBoard(1, "Yahtzee");
+        index.putBoard(1, "Yahtzee");
+        index.putParticipant(10, 1, "Alicia");
+        index.removeParticipant(11);
+        index.removeParticipant(11);
+
+        assertThat(search(index, "yams")).isEmpty();
+        assertThat(search(index, "yaht")).singleElement()
+                .satisfies(hit -> assertThat(hit.boardName()).isEqualTo("Yahtzee"));
+        assertThat(search(index, "alicia")).hasSize(1);
+        assertThat(search(index, "bob")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+
+        index.removeBoard(1);
+        assertThat(search(index, "alicia")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Après de nombreux renommages, l'index est compacté sans perdre de nom")
+    void manyRenames_shouldCompactIndex() {
+        BoardSearchIndex index = new BoardSearchIndex(0);
+        for (long id = 1; id <= 10; id++) {
+            index.putBoard(id, "Partie " + id);
+        }
+        for (int round = 0; round < 50; round++) {
+            for (long id = 1; id <= 10; id++) {
+                index.putBoard(id, "Partie " + id + " version " + round);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(10);
+        List<BoardSearchIndex.Hit> hits = search(index, "version 49");
+        assertThat(hits).hasSize(10);
+        assertThat(search(index, "version 48")).isEmpty();
+        assertThat(search(index, "partie 1 v")).extracting(BoardSearchIndex.Hit::boardId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Seule la page demandée est renvoyée, avec le nombre total de tableaux trouvés")
+    void search_shouldReturnRequestedPage() {
+        BoardSearchIndex index = new BoardSearchIndex(0);
+        for (long id = 1; id <= 5; id++) {
+            index.putBoard(id, "Partie " + id);
+        }
+
+        BoardSearchIndex.Page page = index.search("partie", 2, 2);
+        assertThat(page.total()).isEqualTo(5);
+        assertThat(page.hits()).extracting(BoardSearchIndex.Hit::boardId).containsExactly(3L, 4L);
+        assertThat(index.search("partie", 10, 2).hits()).isEmpty();
+    }
+
+    private static List<BoardSearchIndex.Hit> search(BoardSearchIndex index, String query) {
+        return index.search(query, 0, Integer.MAX_VALUE).hits();
+    }
+}
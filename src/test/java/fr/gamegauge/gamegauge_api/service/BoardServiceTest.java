@@ -18,6 +18,7 @@ import fr.gamegauge.gamegauge_api.repository.BoardRepository;
 import fr.gamegauge.gamegauge_api.repository.ParticipantRepository;
 import fr.gamegauge.gamegauge_api.repository.ScoreEntryRepository;
 import fr.gamegauge.gamegauge_api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,12 @@ class BoardServiceTest {
     @Mock private ScoreEntryRepository scoreEntryRepository;
     @Mock private BoardMapper boardMapper;
     @Mock private ParticipantMapper participantMapper; // Nécessaire pour certains tests de mappage
+    @Mock private BoardChangeService boardChangeService;
+    @Mock private ScoreEventService scoreEventService;
+    @Mock private OwnerStatsService ownerStatsService;
+    @Mock private LeaderboardService leaderboardService;
+    @Mock private BoardArchiveService boardArchiveService;
+    @Mock private EntityManager entityManager;
 
     @InjectMocks
     private BoardService boardService;
@@ -0,0 +1,188 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests du journal des scores ({@link ScoreJournal}) : relecture après l'arrêt brutal d'un processus en pleine
+ * écriture, enregistrement interrompu, rotation et libération des segments, trou de séquences.
+ */
+class ScoreJournalTest {
+
+    /** 100 enregistrements par segment : de nombreuses rotations pendant le test d'arrêt brutal. */
+    private static final long SEGMENT_SIZE = 100L * ScoreJournal.RECORD_SIZE;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Un processus tué en pleine écriture ne perd aucun score confirmé")
+    void killedWriter_shouldKeepEveryAcknowledgedRecord() throws Exception {
+        Process writer = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"), CrashWriter.class.getName(), directory.toString(),
+                Long.toString(SEGMENT_SIZE))
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        long lastAcknowledged = 0;
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(writer.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int acknowledged = 0;
+            while (acknowledged < 20_000 && (line = output.readLine()) != null) {
+                if (line.startsWith("ack ")) {
+                    lastAcknowledged = Long.parseLong(line.substring(4));
+                    acknowledged++;
+                }
+            }
+            // Arrêt brutal (SIGKILL) : le processus écrit toujours.
+            writer.destroyForcibly();
+            assertThat(writer.waitFor(30, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(lastAcknowledged).isGreaterThan(0);
+
+        try (ScoreJournal journal = ScoreJournal.open(directory, SEGMENT_SIZE)) {
+            List<ScoreJournal.Entry> entries = journal.unreleased();
+            assertThat(entries).isNotEmpty();
+            // Séquences contiguës jusqu'au dernier score confirmé au moins, contenu intact.
+            long first = entries.getFirst().sequence();
+            assertThat(first).isLessThanOrEqualTo(lastAcknowledged);
+            for (int i = 0; i < entries.size(); i++) {
+                ScoreJournal.Entry entry = entries.get(i);
+                assertThat(entry.sequence()).isEqualTo(first + i);
+                assertThat(entry).isEqualTo(CrashWriter.entry(entry.sequence()));
+            }
+            assertThat(entries.getLast().sequence()).isGreaterThanOrEqualTo(lastAcknowledged);
+            // Les segments libérés par l'écrivain ont été supprimés.
+            assertThat(segments()).hasSizeLessThan((int) (lastAcknowledged / 100));
+
+            long next = journal.nextSequence();
+            assertThat(journal.append(1, 2, 3, 4)).isEqualTo(next);
+        }
+    }
+
+    @Test
+    @DisplayName("Un enregistrement interrompu (CRC invalide) marque la fin du journal et est réécrit")
+    void tornRecord_shouldBeIgnoredAndOverwritten() throws IOException {
+        try (ScoreJournal journal = ScoreJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append(7, 1, 1, 10);
+            journal.append(7, 2, 1, 20);
+            journal.append(7, 1, 2, 30);
+        }
+        // Un octet du CRC du dernier enregistrement inversé.
+        try (FileChannel segment = FileChannel.open(segments().getFirst(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer crc = ByteBuffer.allocate(1);
+            long position = 3L * ScoreJournal.RECORD_SIZE - 1;
+            segment.read(crc, position);
+            crc.put(0, (byte) ~crc.get(0)).rewind();
+            segment.write(crc, position);
+        }
+
+        try (ScoreJournal journal = ScoreJournal.open(directory, SEGMENT_SIZE)) {
+            assertThat(journal.unreleased()).extracting(ScoreJournal.Entry::scoreValue).containsExactly(10, 20);
+            assertThat(journal.append(7, 1, 2, 31)).isEqualTo(3);
+        }
+        try (ScoreJournal journal = ScoreJournal.open(directory, SEGMENT_SIZE)) {
+            assertThat(journal.unreleased()).extracting(ScoreJournal.Entry::scoreValue).containsExactly(10, 20, 31);
+        }
+    }
+
+    @Test
+    @DisplayName("La libération supprime les segments écrits et n'est pas rejouée ; un seul processus par répertoire")
+    void release_shouldTruncateAndSurviveReopen() throws IOException {
+        try (ScoreJournal journal = ScoreJournal.open(directory, SEGMENT_SIZE)) {
+            for (int i = 1; i <= 250; i++) {
+                journal.append(1, i, 1, i);
+            }
+            assertThat(segments()).hasSize(3);
+            assertThrows(IllegalStateException.class, () -> ScoreJournal.open(directory, SEGMENT_SIZE));
+
+            journal.release(201);
+            assertThat(segments()).hasSize(1);
+            assertThat(journal.unreleased()).hasSize(50);
+        }
+        try (ScoreJournal journal = ScoreJournal.open(directory, SEGMENT_SIZE)) {
+            assertThat(journal.unreleased()).extracting(ScoreJournal.Entry::sequence).startsWith(201L).endsWith(250L);
+            journal.release(journal.nextSequence());
+            assertThat(journal.unreleased()).isEmpty();
+            assertThat(journal.append(1, 1, 1, 1)).isEqualTo(251);
+        }
+    }
+
+    @Test
+    @DisplayName("Les segments qui précèdent un trou sont mis en quarantaine, une seule fois")
+    void sequenceGap_shouldQuarantineEarlierSegments() throws IOException {
+        try (ScoreJournal journal = ScoreJournal.open(directory, SEGMENT_SIZE)) {
+            for (int i = 1; i <= 250; i++) {
+                journal.append(1, i, 1, i);
+            }
+        }
+        List<Path> written = segments();
+        assertThat(written).hasSize(3);
+        // Segment du milieu perdu : trou entre les séquences 100 et 201.
+        Files.delete(written.get(1));
+
+        try (ScoreJournal journal = ScoreJournal.open(directory, SEGMENT_SIZE)) {
+            assertThat(journal.unreleased()).extracting(ScoreJournal.Entry::sequence).startsWith(201L).endsWith(250L);
+        }
+        assertThat(segments()).containsExactly(written.get(2));
+        assertThat(directory.resolve("quarantine").resolve(written.get(0).getFileName())).exists();
+
+        try (ScoreJournal journal = ScoreJournal.open(directory, SEGMENT_SIZE)) {
+            assertThat(journal.unreleased()).hasSize(50);
+            assertThat(journal.append(1, 1, 1, 1)).isEqualTo(251);
+        }
+        assertThat(segments()).containsExactly(written.get(2));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-")).sorted().toList();
+        }
+    }
+
+    /**
+     * Processus écrivain du test d'arrêt brutal : ajoute des scores sans fin, confirme chacun sur la sortie
+     * standard une fois ajouté, et libère régulièrement les plus anciens.
+     */
+    static final class CrashWriter {
+
+        public static void main(String[] args) throws IOException {
+            ScoreJournal journal = ScoreJournal.open(Path.of(args[0]), Long.parseLong(args[1]));
+            journal.startGroupCommit(Duration.ofMillis(5));
+            for (long sequence = journal.nextSequence(); ; sequence++) {
+                ScoreJournal.Entry entry = entry(sequence);
+                journal.append(entry.boardId(), entry.participantId(), entry.roundNumber(), entry.scoreValue());
+                System.out.println("ack " + sequence);
+                if (sequence % 1000 == 0) {
+                    journal.release(sequence - 500);
+                }
+            }
+        }
+
+        /**
+         * Le score ajouté pour une séquence, pour vérifier le contenu relu.
+         */
+        static ScoreJournal.Entry entry(long sequence) {
+            return new ScoreJournal.Entry(sequence, sequence, sequence * 3, (int) (sequence % 20), (int) sequence);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package fr.gamegauge.gamegauge_api.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires pour {@link TopKLeaderboard} : tas borné, suppressions et reconstruction nécessaire.
+ */
+class TopKLeaderboardTest {
+
+    @Test
+    @DisplayName("Seules les K meilleures valeurs sont gardées, ex aequo départagés par l'ID le plus ancien")
+    void offer_shouldKeepBestEntries() {
+        TopKLeaderboard highest = new TopKLeaderboard(3, 1, false);
+        TopKLeaderboard lowest = new TopKLeaderboard(3, 1, true);
+        long[] values = {5, 42, -3, 17, 42, 8, 0};
+        for (int i = 0; i < values.length; i++) {
+            highest.offer(entry(i + 1, values[i]));
+            lowest.offer(entry(i + 1, values[i]));
+        }
+
+        assertThat(highest.ranked()).extracting(LeaderboardEntry::id).containsExactly(2L, 5L, 4L);
+        assertThat(lowest.ranked()).extracting(LeaderboardEntry::value).containsExactly(-3L, 0L, 5L);
+        assertThat(highest.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Une entrée retirée n'est pas remplacée par une valeur déjà exclue ; le tas reste exact")
+    void remove_shouldShrinkUntilRefill() {
+        TopKLeaderboard leaderboard = new TopKLeaderboard(3, 3, false);
+        IntStream.rangeClosed(1, 5).forEach(i -> leaderboard.offer(entry(i, i * 10)));
+        assertThat(leaderboard.needsRefill()).isFalse();
+
+        leaderboard.remove(5);
+        // 20 (ID 2) a été exclu : une valeur inférieure ne peut plus entrer sans fausser le classement.
+        leaderboard.offer(entry(6, 15));
+        assertThat(leaderboard.ranked()).extracting(LeaderboardEntry::value).containsExactly(40L, 30L);
+        assertThat(leaderboard.needsRefill()).isTrue();
+
+        // Une valeur meilleure que toutes les exclues entre toujours.
+        leaderboard.offer(entry(7, 25));
+        assertThat(leaderboard.ranked()).extracting(LeaderboardEntry::value).containsExactly(40L, 30L, 25L);
+        assertThat(leaderboard.needsRefill()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Une entrée dont la valeur change est repositionnée, ou sort si elle passe sous les exclues")
+    void offer_shouldUpdateExistingEntry() {
+        TopKLeaderboard leaderboard = new TopKLeaderboard(2, 1, false);
+        leaderboard.offer(entry(1, 10));
+        leaderboard.offer(entry(2, 20));
+        leaderboard.offer(entry(3, 5));
+
+        leaderboard.offer(entry(1, 30));
+        assertThat(leaderboard.ranked()).extracting(LeaderboardEntry::id).containsExactly(1L, 2L);
+
+        leaderboard.offer(entry(2, 1));
+        assertThat(leaderboard.ranked()).extracting(LeaderboardEntry::id).containsExactly(1L);
+
+        leaderboard.update(e -> e.id() == 1, e -> e.withParticipantName("Renommé"));
+        assertThat(leaderboard.ranked()).singleElement()
+                .satisfies(e -> assertThat(e.participantName()).isEqualTo("Renommé"));
+    }
+
+    @Test
+    @DisplayName("Après des mises à jour aléatoires, le tas contient exactement les meilleures valeurs restantes")
+    void randomUpdates_shouldMatchFullSort() {
+        Random random = new Random(7);
+        TopKLeaderboard leaderboard = new TopKLeaderboard(10, 0, false);
+        long[] current = new long[500];
+        for (int i = 0; i < current.length; i++) {
+            current[i] = random.nextInt(1_000);
+            leaderboard.offer(entry(i, current[i]));
+        }
+        for (int step = 0; step < 2_000; step++) {
+            int id = random.nextInt(current.length);
+            current[id] = random.nextInt(1_000);
+            leaderboard.offer(entry(id, current[id]));
+        }
+
+        int size = leaderboard.size();
+        long[] expected = IntStream.range(0, current.length).boxed()
+                .sorted((a, b) -> current[a] != current[b] ? Long.compare(current[b], current[a]) : Integer.compare(a, b))
+                .limit(size)
+                .mapToLong(i -> current[i])
+                .toArray();
+        assertThat(leaderboard.ranked()).extracting(LeaderboardEntry::value).containsExactly(
+                Arrays.stream(expected).boxed().toArray(Long[]::new));
+    }
+
+    private static LeaderboardEntry entry(long id, long value) {
+        return new LeaderboardEntry(id, value, 1, id, "Joueur " + id, null);
+    }
+}
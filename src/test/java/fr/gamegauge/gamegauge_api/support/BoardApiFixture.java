@@ -0,0 +1,121 @@
+package fr.gamegauge.gamegauge_api.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.gamegauge.gamegauge_api.dto.request.BoardCreateRequest;
+import fr.gamegauge.gamegauge_api.dto.request.ParticipantAddRequest;
+import fr.gamegauge.gamegauge_api.dto.request.ScoreEntryAddRequest;
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Outils de test pour préparer des tableaux par l'API, comme un client : création, participants, scores.
+ * <p>
+ * Les requêtes partent avec l'utilisateur du test ({@code @WithMockUser}), ou celui choisi par {@link #as} :
+ * <pre>
+ * BoardApiFixture api = new BoardApiFixture(mockMvc, objectMapper);
+ * long boardId = api.createBoard("Partie", ScoreCondition.HIGHEST_WINS);
+ * long aliceId = api.addParticipant(boardId, "Alice");
+ * api.setScore(boardId, aliceId, 1, 10);
+ * JsonNode board = api.read(get("/api/boards/{id}", boardId));
+ * </pre>
+ * Chaque requête doit réussir (2xx, ou 201 pour une création) ; la réponse est rendue en JSON.
+ */
+public final class BoardApiFixture {
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+    private final RequestPostProcessor user;
+
+    public BoardApiFixture(MockMvc mockMvc, ObjectMapper objectMapper) {
+        this(mockMvc, objectMapper, request -> request);
+    }
+
+    private BoardApiFixture(MockMvc mockMvc, ObjectMapper objectMapper, RequestPostProcessor user) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+        this.user = user;
+    }
+
+    /**
+     * @return Les mêmes outils, pour les requêtes d'un autre utilisateur authentifié.
+     */
+    public BoardApiFixture as(String email) {
+        return new BoardApiFixture(mockMvc, objectMapper, user(email));
+    }
+
+    /**
+     * Crée un tableau et renvoie son ID.
+     */
+    public long createBoard(String name, ScoreCondition condition) throws Exception {
+        BoardCreateRequest request = new BoardCreateRequest();
+        request.setName(name);
+        request.setScoreCondition(condition);
+        return createBoard(request);
+    }
+
+    /**
+     * Crée un tableau et renvoie son ID.
+     */
+    public long createBoard(BoardCreateRequest request) throws Exception {
+        return created(post("/api/boards"), request).get("id").asLong();
+    }
+
+    /**
+     * Ajoute un participant à un tableau et renvoie son ID.
+     */
+    public long addParticipant(long boardId, String name) throws Exception {
+        ParticipantAddRequest request = new ParticipantAddRequest();
+        request.setName(name);
+        return created(post("/api/boards/{id}/participants", boardId), request).get("id").asLong();
+    }
+
+    /**
+     * Saisit le score d'un participant pour un tour.
+     *
+     * @return Le score enregistré.
+     */
+    public JsonNode setScore(long boardId, long participantId, int round, int value) throws Exception {
+        ScoreEntryAddRequest request = new ScoreEntryAddRequest();
+        request.setRoundNumber(round);
+        request.setScoreValue(value);
+        return perform(put("/api/boards/{b}/participants/{p}/scores", boardId, participantId), request);
+    }
+
+    /**
+     * Envoie une requête avec un corps JSON.
+     */
+    public JsonNode perform(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        return read(withBody(request, body));
+    }
+
+    /**
+     * Envoie une requête sans corps.
+     */
+    public JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        String json = mockMvc.perform(request.with(user))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+
+    private JsonNode created(MockHttpServletRequestBuilder request, Object body) throws Exception {
+        String json = mockMvc.perform(withBody(request, body).with(user))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(json);
+    }
+
+    private MockHttpServletRequestBuilder withBody(MockHttpServletRequestBuilder request, Object body)
+            throws Exception {
+        return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+    }
+}
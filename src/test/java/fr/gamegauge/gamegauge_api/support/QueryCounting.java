@@ -0,0 +1,72 @@
+package fr.gamegauge.gamegauge_api.support;
+
+import fr.gamegauge.gamegauge_api.monitoring.RequestQueryStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outils de test pour vérifier le nombre exact de requêtes SQL émises par un endpoint ou un bloc de code.
+ * <p>
+ * Avec MockMvc :
+ * <pre>
+ * mockMvc.perform(get("/api/boards/{id}", id))
+ *        .andExpect(status().isOk())
+ *        .andExpect(QueryCounting.sqlStatements(3));
+ * </pre>
+ * Hors MockMvc :
+ * <pre>
+ * RequestQueryStats stats = QueryCounting.capture(() -> boardRepository.findById(id));
+ * </pre>
+ */
+public final class QueryCounting {
+
+    private QueryCounting() {
+    }
+
+    /**
+     * Vérifie le nombre de requêtes SQL émises pendant la requête MockMvc.
+     *
+     * @param expected Le nombre exact de requêtes attendu.
+     */
+    public static ResultMatcher sqlStatements(int expected) {
+        return result -> {
+            RequestQueryStats stats = statsOf(result);
+            assertThat(stats.getStatements())
+                    .as("Requêtes SQL pour %s %s :%n%s", result.getRequest().getMethod(),
+                            result.getRequest().getRequestURI(), String.join(System.lineSeparator(), stats.getSql()))
+                    .isEqualTo(expected);
+        };
+    }
+
+    /**
+     * @return Les statistiques SQL publiées par le filtre de mesure pour cette requête MockMvc.
+     */
+    public static RequestQueryStats statsOf(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(RequestQueryStats.REQUEST_ATTRIBUTE);
+        assertThat(stats).as("Le filtre de mesure SQL n'a pas été appliqué à cette requête").isNotNull();
+        return (RequestQueryStats) stats;
+    }
+
+    /**
+     * Exécute un bloc de code en mesurant ses accès à la base de données.
+     *
+     * @param action Le code à mesurer.
+     * @return Les statistiques SQL du bloc.
+     */
+    public static RequestQueryStats capture(ThrowingRunnable action) throws Exception {
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            action.run();
+            return stats;
+        } finally {
+            RequestQueryStats.stop();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,134 @@
+package fr.gamegauge.gamegauge_api.tools;
+
+import fr.gamegauge.gamegauge_api.model.ScoreCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests unitaires du {@link DatasetGenerator} : déterminisme et cohérence des identifiants.
+ */
+class DatasetGeneratorTest {
+
+    private DatasetGeneratorProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DatasetGeneratorProperties();
+        properties.setSeed(1234L);
+        properties.setMeanBoardsPerUser(5.0);
+    }
+
+    @Test
+    @DisplayName("Devrait produire exactement les mêmes lignes pour la même graine, quel que soit l'ordre des utilisateurs")
+    void generateUser_shouldBeDeterministic_whenSameSeed() {
+        DatasetGenerator generator = new DatasetGenerator(properties);
+
+        RecordingSink forward = new RecordingSink();
+        for (int u = 0; u < 50; u++) {
+            generator.generateUser(u, forward);
+        }
+
+        // Ordre inverse, comme le ferait un autre entrelacement de threads.
+        List<List<String>> perUser = new ArrayList<>();
+        for (int u = 49; u >= 0; u--) {
+            RecordingSink single = new RecordingSink();
+            new DatasetGenerator(properties).generateUser(u, single);
+            perUser.add(0, single.rows);
+        }
+        List<String> reassembled = perUser.stream().flatMap(List::stream).toList();
+
+        assertThat(reassembled).isEqualTo(forward.rows);
+    }
+
+    @Test
+    @DisplayName("Devrait produire des données différentes pour une autre graine")
+    void generateUser_shouldDiffer_whenSeedChanges() {
+        RecordingSink first = new RecordingSink();
+        new DatasetGenerator(properties).generateUser(0, first);
+
+        properties.setSeed(4321L);
+        RecordingSink second = new RecordingSink();
+        new DatasetGenerator(properties).generateUser(0, second);
+
+        assertThat(second.rows).isNotEqualTo(first.rows);
+    }
+
+    @Test
+    @DisplayName("Devrait générer des identifiants uniques, dans leurs plages, et des parents avant les enfants")
+    void generateUser_shouldProduceUniqueIdsWithinStrides() {
+        DatasetGenerator generator = new DatasetGenerator(properties);
+        RecordingSink sink = new RecordingSink();
+        for (int u = 0; u < 200; u++) {
+            generator.generateUser(u, sink);
+        }
+
+        assertThat(sink.users).hasSize(200);
+        assertThat(sink.scoreIds).doesNotHaveDuplicates();
+        assertThat(sink.participantIds).doesNotHaveDuplicates();
+        assertThat(sink.boardIds).doesNotHaveDuplicates();
+        assertThat(sink.orphans).isZero();
+        assertThat(sink.maxRound).isLessThanOrEqualTo(properties.getMaxRoundsPerBoard());
+    }
+
+    /**
+     * Collecteur de lignes en mémoire, qui vérifie au passage l'ordre parent → enfant.
+     */
+    private static final class RecordingSink implements DatasetGenerator.RowSink {
+        private final List<String> rows = new ArrayList<>();
+        private final Set<Long> users = new HashSet<>();
+        private final List<Long> boardIds = new ArrayList<>();
+        private final List<Long> participantIds = new ArrayList<>();
+        private final List<Long> scoreIds = new ArrayList<>();
+        private final Set<Long> knownBoards = new HashSet<>();
+        private final Set<Long> knownParticipants = new HashSet<>();
+        private int orphans;
+        private int maxRound;
+
+        @Override
+        public void user(long id, String username, String email, String passwordHash) {
+            users.add(id);
+            rows.add("U|" + id + "|" + username + "|" + email);
+        }
+
+        @Override
+        public void board(long id, long ownerId, String name, Integer targetScore, ScoreCondition scoreCondition,
+                          int numberOfRounds, int displayOrder, Instant createdAt, Instant updatedAt) {
+            if (!users.contains(ownerId)) {
+                orphans++;
+            }
+            knownBoards.add(id);
+            boardIds.add(id);
+            rows.add("B|" + id + "|" + ownerId + "|" + name + "|" + targetScore + "|" + scoreCondition + "|"
+                    + numberOfRounds + "|" + displayOrder + "|" + createdAt + "|" + updatedAt);
+        }
+
+        @Override
+        public void participant(long id, long boardId, String name, Instant createdAt) {
+            if (!knownBoards.contains(boardId)) {
+                orphans++;
+            }
+            knownParticipants.add(id);
+            participantIds.add(id);
+            rows.add("P|" + id + "|" + boardId + "|" + name);
+        }
+
+        @Override
+        public void score(long id, long participantId, int roundNumber, int scoreValue, Instant createdAt) {
+            if (!knownParticipants.contains(participantId)) {
+                orphans++;
+            }
+            maxRound = Math.max(maxRound, roundNumber);
+            scoreIds.add(id);
+            rows.add("S|" + id + "|" + participantId + "|" + roundNumber + "|" + scoreValue);
+        }
+    }
+}